@@ -47,6 +47,7 @@ import io.quarkus.arc.processor.BytecodeTransformer;
 import io.quarkus.arc.processor.ContextConfigurator;
 import io.quarkus.arc.processor.ContextRegistrar;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.arc.processor.InterceptorInfo;
 import io.quarkus.arc.processor.ObserverConfigurator;
 import io.quarkus.arc.processor.ObserverRegistrar;
 import io.quarkus.arc.processor.ReflectionRegistration;
@@ -148,6 +149,7 @@ public class ArcProcessor {
             List<BeanDeploymentValidatorBuildItem> beanDeploymentValidators,
             List<ResourceAnnotationBuildItem> resourceAnnotations,
             List<BeanDefiningAnnotationBuildItem> additionalBeanDefiningAnnotations,
+            List<SynchronousInterceptorBuildItem> synchronousInterceptors,
             Optional<TestClassPredicateBuildItem> testClassPredicate,
             Capabilities capabilities,
             CustomScopeAnnotationsBuildItem customScopes,
@@ -313,6 +315,18 @@ public class ArcProcessor {
                 }
             });
         }
+        if (!synchronousInterceptors.isEmpty()) {
+            Set<DotName> synchronousInterceptorClasses = new HashSet<>();
+            for (SynchronousInterceptorBuildItem item : synchronousInterceptors) {
+                synchronousInterceptorClasses.add(item.getInterceptorClass());
+            }
+            builder.addSynchronousInterceptor(new Predicate<InterceptorInfo>() {
+                @Override
+                public boolean test(InterceptorInfo interceptor) {
+                    return synchronousInterceptorClasses.contains(interceptor.getBeanClass());
+                }
+            });
+        }
         builder.setTransformUnproxyableClasses(arcConfig.transformUnproxyableClasses);
         builder.setJtaCapabilities(capabilities.isPresent(Capability.TRANSACTIONS));
         builder.setGenerateSources(BootstrapDebug.DEBUG_SOURCES_DIR != null);
@@ -0,0 +1,30 @@
+package io.quarkus.arc.deployment;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * This build item is used to specify an interceptor that never continues the interceptor chain asynchronously, i.e. only
+ * calls {@link javax.interceptor.InvocationContext#proceed()} before the around invoke method returns, and on the same
+ * thread.
+ * <p>
+ * The interceptors of the chain of an intercepted method share a single invocation context per invocation if all of them
+ * are registered with this build item. Otherwise a new invocation context is created for each interceptor in the chain.
+ */
+public final class SynchronousInterceptorBuildItem extends MultiBuildItem {
+
+    private final DotName interceptorClass;
+
+    public SynchronousInterceptorBuildItem(String interceptorClass) {
+        this(DotName.createSimple(interceptorClass));
+    }
+
+    public SynchronousInterceptorBuildItem(DotName interceptorClass) {
+        this.interceptorClass = interceptorClass;
+    }
+
+    public DotName getInterceptorClass() {
+        return interceptorClass;
+    }
+}
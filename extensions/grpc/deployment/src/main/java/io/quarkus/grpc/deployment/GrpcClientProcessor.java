@@ -30,13 +30,18 @@ import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.grpc.runtime.GrpcClientInterceptorContainer;
+import io.quarkus.grpc.runtime.GrpcClientRecorder;
 import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.supports.Channels;
 import io.quarkus.grpc.runtime.supports.GrpcClientConfigProvider;
 import io.quarkus.grpc.runtime.supports.IOThreadClientInterceptor;
@@ -169,6 +174,16 @@ public class GrpcClientProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerLoadBalancingMetrics(GrpcClientRecorder recorder, GrpcConfiguration config,
+            List<GrpcServiceBuildItem> services, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        for (GrpcServiceBuildItem svc : services) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerLoadBalancingMetrics(svc.getServiceName(), config)));
+        }
+    }
+
     @BuildStep
     void registerSslResources(BuildProducer<NativeImageResourceBuildItem> resourceBuildItem) {
         Config config = ConfigProvider.getConfig();
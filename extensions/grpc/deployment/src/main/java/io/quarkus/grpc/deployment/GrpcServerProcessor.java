@@ -31,6 +31,7 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.grpc.deployment.devmode.FieldDefinalizingVisitor;
 import io.quarkus.grpc.runtime.GrpcContainer;
 import io.quarkus.grpc.runtime.GrpcServerRecorder;
@@ -112,6 +113,18 @@ public class GrpcServerProcessor {
         return null;
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerBlockingCallMetrics(GrpcServerRecorder recorder, List<BindableServiceBuildItem> bindables,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        for (BindableServiceBuildItem bindable : bindables) {
+            if (bindable.hasBlockingMethods()) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(
+                        recorder.registerBlockingCallMetrics(bindable.serviceClass.toString())));
+            }
+        }
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     void definializeGrpcFieldsForDevMode(BuildProducer<BytecodeTransformerBuildItem> transformers) {
         transformers.produce(new BytecodeTransformerBuildItem("io.grpc.internal.InternalHandlerRegistry",
@@ -0,0 +1,103 @@
+package io.quarkus.grpc.client.lb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.runtime.supports.ClientLoadBalancer;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Ejects the connection to a server failing all the calls.
+ */
+public class ClientLoadBalancingEjectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyConsumer.class, GreeterGrpc.class, GreeterGrpc.GreeterBlockingStub.class,
+                            HelloService.class, HelloRequest.class, HelloReply.class,
+                            HelloReplyOrBuilder.class, HelloRequestOrBuilder.class))
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.hosts", "localhost:9000,localhost:9001")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.load-balancing.policy", "least-request")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.load-balancing.consecutive-failures", "2");
+
+    static Server replica;
+
+    @BeforeAll
+    static void startReplica() throws Exception {
+        replica = NettyServerBuilder.forPort(9001).addService(new GreeterGrpc.GreeterImplBase() {
+            @Override
+            public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+                responseObserver.onError(Status.INTERNAL.withDescription("broken replica").asRuntimeException());
+            }
+        }).build().start();
+    }
+
+    @AfterAll
+    static void stopReplica() {
+        replica.shutdownNow();
+    }
+
+    @Inject
+    MyConsumer service;
+
+    @Test
+    public void testFailingServerIsEjected() {
+        AtomicInteger failures = new AtomicInteger();
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            try {
+                service.invoke("neo");
+            } catch (StatusRuntimeException e) {
+                assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL);
+                failures.incrementAndGet();
+            }
+            return failures.get() == 2;
+        });
+
+        ClientLoadBalancer balancer = ClientLoadBalancer.get("hello-service");
+        await().atMost(Duration.ofSeconds(10)).until(() -> balancer.getEjectedConnections() == 1);
+        assertThat(balancer.getEjectedConnections("localhost:9001")).isEqualTo(1);
+        for (int i = 0; i < 20; i++) {
+            assertThat(service.invoke("neo")).isEqualTo("Hello neo");
+        }
+    }
+
+    @ApplicationScoped
+    static class MyConsumer {
+
+        @Inject
+        @GrpcService("hello-service")
+        GreeterGrpc.GreeterBlockingStub service;
+
+        public String invoke(String s) {
+            return service.sayHello(HelloRequest.newBuilder().setName(s).build())
+                    .getMessage();
+        }
+
+    }
+}
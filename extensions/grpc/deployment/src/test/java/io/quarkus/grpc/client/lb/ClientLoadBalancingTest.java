@@ -0,0 +1,99 @@
+package io.quarkus.grpc.client.lb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Server;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.runtime.supports.ClientLoadBalancer;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Distributes the calls between the Quarkus gRPC server and a second server.
+ */
+public class ClientLoadBalancingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyConsumer.class, GreeterGrpc.class, GreeterGrpc.GreeterBlockingStub.class,
+                            HelloService.class, HelloRequest.class, HelloReply.class,
+                            HelloReplyOrBuilder.class, HelloRequestOrBuilder.class))
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.hosts", "localhost:9000,localhost:9001")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.load-balancing.policy", "round-robin")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.load-balancing.connections-per-address", "2");
+
+    static Server replica;
+
+    @BeforeAll
+    static void startReplica() throws Exception {
+        replica = NettyServerBuilder.forPort(9001).addService(new GreeterGrpc.GreeterImplBase() {
+            @Override
+            public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+                responseObserver.onNext(HelloReply.newBuilder().setMessage("Bonjour " + request.getName()).build());
+                responseObserver.onCompleted();
+            }
+        }).build().start();
+    }
+
+    @AfterAll
+    static void stopReplica() {
+        replica.shutdownNow();
+    }
+
+    @Inject
+    MyConsumer service;
+
+    @Test
+    public void testCallsAreDistributed() {
+        Set<String> replies = new HashSet<>();
+        // wait for the connections to both servers
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            replies.add(service.invoke("neo"));
+            return replies.size() == 2;
+        });
+        assertThat(replies).containsOnly("Hello neo", "Bonjour neo");
+
+        ClientLoadBalancer balancer = ClientLoadBalancer.get("hello-service");
+        assertThat(balancer).isNotNull();
+        await().atMost(Duration.ofSeconds(10)).until(() -> balancer.getReadyConnections() == 4);
+        assertThat(balancer.getEjectedConnections()).isZero();
+        assertThat(balancer.getActiveCalls("localhost:9001")).isZero();
+    }
+
+    @ApplicationScoped
+    static class MyConsumer {
+
+        @Inject
+        @GrpcService("hello-service")
+        GreeterGrpc.GreeterBlockingStub service;
+
+        public String invoke(String s) {
+            return service.sayHello(HelloRequest.newBuilder().setName(s).build())
+                    .getMessage();
+        }
+
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.grpc.server.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.EmptyProtos;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.MutinyGreeterGrpc;
+import io.grpc.testing.integration.Messages;
+import io.quarkus.grpc.blocking.BlockingTestServiceGrpc;
+import io.quarkus.grpc.blocking.MutinyBlockingTestServiceGrpc;
+import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.grpc.server.services.AssertHelper;
+import io.quarkus.grpc.server.services.BlockingTestService;
+import io.quarkus.grpc.server.services.SlowBlockingHelloService;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class BlockingPerCallOrderingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addPackage(EmptyProtos.class.getPackage())
+                    .addPackage(Messages.class.getPackage())
+                    .addPackage(BlockingTestServiceGrpc.class.getPackage())
+                    .addPackage(GreeterGrpc.class.getPackage())
+                    .addClasses(BlockingTestService.class, SlowBlockingHelloService.class, AssertHelper.class))
+            .withConfigurationResource("blocking-per-call-config.properties");
+
+    protected static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Inject
+    @GrpcService("blocking-test")
+    MutinyBlockingTestServiceGrpc.MutinyBlockingTestServiceStub mutiny;
+
+    @Inject
+    @GrpcService("greeter-service")
+    MutinyGreeterGrpc.MutinyGreeterStub greeter;
+
+    @Inject
+    SlowBlockingHelloService slowService;
+
+    @Inject
+    BlockingTestService blockingService;
+
+    @Test
+    @Timeout(5)
+    public void testCallsRunInParallelUpToTheLimit() {
+        List<Uni<HelloReply>> replies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            replies.add(greeter.sayHello(HelloRequest.newBuilder().setName("neo-" + i).build()));
+        }
+        List<String> messages = new ArrayList<>();
+        for (Object reply : Uni.combine().all().unis(replies).combinedWith(l -> l).await().atMost(TIMEOUT)) {
+            messages.add(((HelloReply) reply).getMessage());
+        }
+        assertThat(messages).hasSize(6).allSatisfy(s -> assertThat(s).startsWith("Hello neo-"));
+        assertThat(slowService.getMaxRunning()).isEqualTo(2);
+    }
+
+    @Test
+    @Timeout(5)
+    public void testStreamingInMethodBlockingKeepsTheOrder() {
+        Multi<Messages.StreamingInputCallRequest> input = Multi.createFrom().items("a", "b", "c", "d")
+                .map(s -> Messages.Payload.newBuilder().setBody(ByteString.copyFromUtf8(s)).build())
+                .map(p -> Messages.StreamingInputCallRequest.newBuilder().setPayload(p).build());
+        Uni<Messages.StreamingInputCallResponse> done = mutiny.streamingInputCallBlocking(input);
+        assertThat(done).isNotNull();
+        done.await().atMost(TIMEOUT);
+        assertThat(blockingService.getLastStreamingInput()).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    @Timeout(5)
+    public void testFullDuplexMethodBlocking() {
+        Multi<Messages.StreamingOutputCallRequest> input = Multi.createFrom().items("a", "b", "c", "d")
+                .map(s -> Messages.Payload.newBuilder().setBody(ByteString.copyFromUtf8(s)).build())
+                .map(p -> Messages.StreamingOutputCallRequest.newBuilder().setPayload(p).build());
+        List<String> response = mutiny.fullDuplexCallBlocking(input)
+                .map(o -> o.getPayload().getBody().toStringUtf8())
+                .collectItems().asList()
+                .await().atMost(TIMEOUT);
+        assertThat(response).isNotNull().hasSize(4)
+                .allSatisfy(s -> {
+                    assertThat(s).contains("worker");
+                });
+    }
+}
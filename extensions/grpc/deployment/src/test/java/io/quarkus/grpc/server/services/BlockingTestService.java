@@ -21,6 +21,8 @@ import io.smallrye.common.annotation.Blocking;
 @Singleton
 public class BlockingTestService extends BlockingTestServiceGrpc.BlockingTestServiceImplBase {
 
+    private volatile List<String> lastStreamingInput;
+
     @Override
     public void emptyCall(EmptyProtos.Empty request, StreamObserver<EmptyProtos.Empty> responseObserver) {
         assertThat(request).isNotNull();
@@ -103,6 +105,7 @@ public class BlockingTestService extends BlockingTestServiceGrpc.BlockingTestSer
 
             @Override
             public void onCompleted() {
+                lastStreamingInput = list;
                 assertThat(list).containsExactly("a", "b", "c", "d");
                 assertRunOnEventLoop();
                 responseObserver.onNext(Messages.StreamingInputCallResponse.newBuilder().build());
@@ -131,6 +134,7 @@ public class BlockingTestService extends BlockingTestServiceGrpc.BlockingTestSer
 
             @Override
             public void onCompleted() {
+                lastStreamingInput = list;
                 assertThat(list).containsExactly("a", "b", "c", "d");
                 assertRunOnWorker();
                 responseObserver.onNext(Messages.StreamingInputCallResponse.newBuilder().build());
@@ -266,4 +270,11 @@ public class BlockingTestService extends BlockingTestServiceGrpc.BlockingTestSer
             }
         };
     }
+
+    /**
+     * @return the messages received by the last completed {@code streamingInputCallBlocking} call, in order
+     */
+    public List<String> getLastStreamingInput() {
+        return lastStreamingInput;
+    }
 }
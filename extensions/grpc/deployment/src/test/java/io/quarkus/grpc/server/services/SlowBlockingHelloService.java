@@ -0,0 +1,38 @@
+package io.quarkus.grpc.server.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.stub.StreamObserver;
+import io.smallrye.common.annotation.Blocking;
+
+@Singleton
+public class SlowBlockingHelloService extends GreeterGrpc.GreeterImplBase {
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Override
+    @Blocking
+    public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+        AssertHelper.assertRunOnWorker();
+        int current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        responseObserver.onNext(HelloReply.newBuilder().setMessage("Hello " + request.getName()).build());
+        responseObserver.onCompleted();
+    }
+
+    public int getMaxRunning() {
+        return maxRunning.get();
+    }
+}
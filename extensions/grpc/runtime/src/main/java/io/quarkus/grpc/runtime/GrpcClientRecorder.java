@@ -0,0 +1,84 @@
+package io.quarkus.grpc.runtime;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.quarkus.grpc.runtime.config.GrpcClientConfiguration;
+import io.quarkus.grpc.runtime.config.GrpcConfiguration;
+import io.quarkus.grpc.runtime.supports.ClientLoadBalancer;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class GrpcClientRecorder {
+
+    public Consumer<MetricsFactory> registerLoadBalancingMetrics(String client, GrpcConfiguration configuration) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                GrpcClientConfiguration config = configuration.clients != null ? configuration.clients.get(client) : null;
+                if (config == null || "pick-first".equalsIgnoreCase(config.loadBalancing.policy)) {
+                    return;
+                }
+                metricsFactory.builder("grpc.client.connections.ready")
+                        .description("Number of connections of the gRPC client ready to receive calls.")
+                        .tag("client", client)
+                        .buildGauge(gauge(client, new Function<ClientLoadBalancer, Number>() {
+                            @Override
+                            public Number apply(ClientLoadBalancer balancer) {
+                                return balancer.getReadyConnections();
+                            }
+                        }));
+                metricsFactory.builder("grpc.client.connections.ejected")
+                        .description("Number of connections of the gRPC client ejected after consecutive failed calls.")
+                        .tag("client", client)
+                        .buildGauge(gauge(client, new Function<ClientLoadBalancer, Number>() {
+                            @Override
+                            public Number apply(ClientLoadBalancer balancer) {
+                                return balancer.getEjectedConnections();
+                            }
+                        }));
+                if (!config.hosts.isPresent()) {
+                    return;
+                }
+                // the addresses resolved with DNS are not known in advance, only the configured ones get their metrics
+                List<String> hosts = config.hosts.get();
+                for (String host : hosts) {
+                    String address = host.trim();
+                    metricsFactory.builder("grpc.client.address.calls.active")
+                            .description("Number of active calls on the connections to the address.")
+                            .tag("client", client)
+                            .tag("address", address)
+                            .buildGauge(gauge(client, new Function<ClientLoadBalancer, Number>() {
+                                @Override
+                                public Number apply(ClientLoadBalancer balancer) {
+                                    return balancer.getActiveCalls(address);
+                                }
+                            }));
+                    metricsFactory.builder("grpc.client.address.connections.ejected")
+                            .description("Number of ejected connections to the address.")
+                            .tag("client", client)
+                            .tag("address", address)
+                            .buildGauge(gauge(client, new Function<ClientLoadBalancer, Number>() {
+                                @Override
+                                public Number apply(ClientLoadBalancer balancer) {
+                                    return balancer.getEjectedConnections(address);
+                                }
+                            }));
+                }
+            }
+        };
+    }
+
+    private static Supplier<Number> gauge(String client, Function<ClientLoadBalancer, Number> value) {
+        return new Supplier<Number>() {
+            @Override
+            public Number get() {
+                ClientLoadBalancer balancer = ClientLoadBalancer.get(client);
+                return balancer != null ? value.apply(balancer) : 0;
+            }
+        };
+    }
+}
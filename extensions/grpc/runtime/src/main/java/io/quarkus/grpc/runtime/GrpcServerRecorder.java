@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -40,13 +41,16 @@ import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
+import io.quarkus.grpc.runtime.supports.BlockingCallScheduler;
 import io.quarkus.grpc.runtime.supports.BlockingServerInterceptor;
+import io.quarkus.grpc.runtime.supports.ReusableBufferMarshaller;
 import io.quarkus.grpc.runtime.supports.RequestScopeHandlerInterceptor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ProfileManager;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.DeploymentOptions;
@@ -63,6 +67,7 @@ public class GrpcServerRecorder {
     private static final Logger LOGGER = Logger.getLogger(GrpcServerRecorder.class.getName());
 
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
+    private static final Map<String, BlockingCallScheduler> blockingCallSchedulers = new ConcurrentHashMap<>();
     private Map<String, List<String>> blockingMethodsPerService = Collections.emptyMap();
 
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
@@ -99,6 +104,7 @@ public class GrpcServerRecorder {
 
     private void prodStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration) {
         CompletableFuture<Void> startResult = new CompletableFuture<>();
+        blockingCallSchedulers.clear();
 
         vertx.deployVerticle(
                 new Supplier<Verticle>() {
@@ -157,6 +163,7 @@ public class GrpcServerRecorder {
     private void devModeStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
             ShutdownContext shutdown) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
+        blockingCallSchedulers.clear();
 
         VertxServer vertxServer = buildServer(vertx, configuration, grpcContainer, true)
                 .start(new Handler<AsyncResult<Void>>() { // NOSONAR
@@ -275,6 +282,41 @@ public class GrpcServerRecorder {
         GrpcServerReloader.reinitialize(definitions, methods, grpcContainer.getSortedInterceptors());
     }
 
+    /**
+     * @return the scheduler shared by the server instances for the blocking calls of the service, or {@code null} if the
+     *         events of the blocking calls are not ordered per call
+     */
+    private static BlockingCallScheduler getBlockingCallScheduler(String serviceClassName,
+            GrpcServerConfiguration configuration) {
+        if (!configuration.blocking.perCallOrdering) {
+            return null;
+        }
+        return blockingCallSchedulers.computeIfAbsent(serviceClassName, new Function<String, BlockingCallScheduler>() {
+            @Override
+            public BlockingCallScheduler apply(String name) {
+                return new BlockingCallScheduler(configuration.blocking.maxConcurrency.orElse(Integer.MAX_VALUE));
+            }
+        });
+    }
+
+    public Consumer<MetricsFactory> registerBlockingCallMetrics(String serviceClassName) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("grpc.server.blocking.queue.depth")
+                        .description("Number of events of the blocking calls waiting for a worker thread.")
+                        .tag("service", serviceClassName)
+                        .buildGauge(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                BlockingCallScheduler scheduler = blockingCallSchedulers.get(serviceClassName);
+                                return scheduler != null ? scheduler.getQueueDepth() : 0;
+                            }
+                        });
+            }
+        };
+    }
+
     public static int getVerticleCount() {
         return grpcVerticleCount.get();
     }
@@ -321,19 +363,25 @@ public class GrpcServerRecorder {
         RequestScopeHandlerInterceptor requestScopeHandlerInterceptor = new RequestScopeHandlerInterceptor();
 
         for (GrpcServiceDefinition service : toBeRegistered) {
+            ServerServiceDefinition definition = service.definition;
+            if (configuration.reuseResponseBuffers) {
+                definition = ReusableBufferMarshaller.wrapResponseMarshallers(definition);
+            }
             // We only register the blocking interceptor if needed by at least one method of the service.
             if (blockingMethodsPerService.isEmpty()) {
                 // Fast track - no usage of @Blocking
-                builder.addService(ServerInterceptors.intercept(service.definition, requestScopeHandlerInterceptor));
+                builder.addService(ServerInterceptors.intercept(definition, requestScopeHandlerInterceptor));
             } else {
                 List<String> list = blockingMethodsPerService.get(service.getImplementationClassName());
                 if (list == null) {
                     // The service does not contain any methods annotated with @Blocking - no need for the itcp
-                    builder.addService(ServerInterceptors.intercept(service.definition, requestScopeHandlerInterceptor));
+                    builder.addService(ServerInterceptors.intercept(definition, requestScopeHandlerInterceptor));
                 } else {
                     // Order matter! Request scope must be called first (on the event loop) and so should be last in the list...
                     builder.addService(
-                            ServerInterceptors.intercept(service.definition, new BlockingServerInterceptor(vertx, list),
+                            ServerInterceptors.intercept(definition,
+                                    new BlockingServerInterceptor(vertx, list,
+                                            getBlockingCallScheduler(service.getImplementationClassName(), configuration)),
                                     requestScopeHandlerInterceptor));
                 }
             }
@@ -1,6 +1,7 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -21,9 +22,23 @@ public class GrpcClientConfiguration {
     /**
      * The host name / IP on which the service is exposed.
      */
-    @ConfigItem
+    @ConfigItem(defaultValue = "localhost")
     public String host;
 
+    /**
+     * The addresses of the replicas of the service, as {@code host:port} entries.
+     * When set, {@code host} and {@code port} are ignored, and the calls are distributed between these addresses
+     * according to the load balancing policy.
+     */
+    @ConfigItem
+    public Optional<List<String>> hosts;
+
+    /**
+     * The load balancing config.
+     */
+    @ConfigItem
+    public GrpcClientLoadBalancingConfig loadBalancing;
+
     /**
      * The SSL/TLS config.
      */
@@ -0,0 +1,44 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class GrpcClientLoadBalancingConfig {
+
+    /**
+     * The load balancing policy used to distribute the calls between the addresses of the service.
+     * Accepted values are: {@code pick-first}, {@code round-robin}, {@code least-request}.
+     * <p>
+     * With {@code pick-first}, all the calls are sent to the first address that can be connected to, and the other
+     * load balancing properties are ignored.
+     * With {@code least-request}, a call is sent to the connection with the fewest active calls among two connections
+     * picked at random.
+     */
+    @ConfigItem(defaultValue = "pick-first")
+    public String policy;
+
+    /**
+     * The number of connections opened to each address, to go beyond the limit of concurrent streams of a single
+     * HTTP/2 connection.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int connectionsPerAddress;
+
+    /**
+     * The number of consecutive failed calls after which a connection is ejected, and no longer receives calls.
+     * A call fails if it completes with the {@code UNAVAILABLE}, {@code INTERNAL}, {@code UNKNOWN} or
+     * {@code DATA_LOSS} status. Set to {@code 0} to never eject the connections.
+     */
+    @ConfigItem(defaultValue = "5")
+    public int consecutiveFailures;
+
+    /**
+     * The duration during which an ejected connection does not receive calls.
+     */
+    @ConfigItem(defaultValue = "30S")
+    public Duration ejectionTime;
+
+}
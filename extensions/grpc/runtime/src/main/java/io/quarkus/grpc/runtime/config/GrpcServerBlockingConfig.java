@@ -0,0 +1,28 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class GrpcServerBlockingConfig {
+
+    /**
+     * Whether the events of the calls to the methods annotated with `@Blocking` are only ordered per call.
+     * If enabled, the events of a call are executed in order on a worker thread, and different calls are executed in
+     * parallel. Otherwise, the events of all the blocking calls received by an event loop are executed in order, one at
+     * a time.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean perCallOrdering;
+
+    /**
+     * The maximum number of blocking calls of a service which are executed concurrently when `per-call-ordering` is
+     * enabled. The other calls wait for a worker thread to be released by the service.
+     * By default, the number of calls is only limited by the size of the worker pool.
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrency;
+}
@@ -85,4 +85,18 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem
     public GrpcServerNettyConfig netty;
+
+    /**
+     * Whether the protobuf response messages of up to 8 KiB are serialized into a buffer reused by the calling thread,
+     * instead of a buffer allocated for each message. This reduces the allocation rate of the services sending many
+     * messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean reuseResponseBuffers;
+
+    /**
+     * Configures the execution of the methods annotated with `@Blocking`.
+     */
+    @ConfigItem
+    public GrpcServerBlockingConfig blocking;
 }
@@ -0,0 +1,129 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+/**
+ * Executes the events of the blocking calls of a gRPC service on worker threads.
+ * <p>
+ * Each call gets its own {@link Lane}: the events of a call are executed in order, while the events of different calls
+ * are executed in parallel, on at most {@code maxConcurrency} worker threads. A lane only holds a worker thread while it
+ * has events to execute.
+ */
+public final class BlockingCallScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(BlockingCallScheduler.class);
+
+    private final int maxConcurrency;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Lane> ready = new ConcurrentLinkedQueue<>();
+
+    public BlockingCallScheduler(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @param context the Vert.x context of the call, the events are executed on its worker threads
+     * @return a new lane for a call
+     */
+    Lane newLane(Context context) {
+        return new Lane(context);
+    }
+
+    /**
+     * @return the number of events waiting for a worker thread
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    private void dispatch() {
+        for (;;) {
+            if (ready.isEmpty()) {
+                return;
+            }
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                // the lane is dispatched when a running lane completes
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Lane lane = ready.poll();
+            if (lane == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            lane.submit();
+        }
+    }
+
+    /**
+     * The events of a call, executed in order.
+     */
+    final class Lane implements Handler<Promise<Object>> {
+
+        private final Context context;
+        private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(Context context) {
+            this.context = context;
+        }
+
+        void execute(Runnable event) {
+            queued.incrementAndGet();
+            events.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                ready.add(this);
+                dispatch();
+            }
+        }
+
+        private void submit() {
+            // unordered, the ordering is kept by the lane
+            context.executeBlocking(this, false, null);
+        }
+
+        @Override
+        public void handle(Promise<Object> promise) {
+            try {
+                Runnable event;
+                while ((event = events.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        event.run();
+                    } catch (Throwable t) {
+                        LOGGER.error("Unable to execute the blocking gRPC call event", t);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                running.decrementAndGet();
+                if (!events.isEmpty()) {
+                    // an event was added after the last poll
+                    schedule();
+                }
+                dispatch();
+                promise.complete();
+            }
+        }
+    }
+}
@@ -28,9 +28,19 @@ public class BlockingServerInterceptor implements ServerInterceptor {
     private final Vertx vertx;
     private final List<String> blockingMethods;
     private final Map<String, Boolean> cache = new HashMap<>();
+    private final BlockingCallScheduler scheduler;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods) {
+        this(vertx, blockingMethods, null);
+    }
+
+    /**
+     * @param scheduler the scheduler executing the events of each call in order, and the different calls in parallel, or
+     *        {@code null} to execute the events of all the calls in order
+     */
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, BlockingCallScheduler scheduler) {
         this.vertx = vertx;
+        this.scheduler = scheduler;
         this.blockingMethods = new ArrayList<>();
         for (String method : blockingMethods) {
             this.blockingMethods.add(method.toLowerCase());
@@ -59,7 +69,16 @@ public class BlockingServerInterceptor implements ServerInterceptor {
             }
         });
 
-        if (isBlocking) {
+        if (isBlocking && scheduler != null) {
+            LaneListener<ReqT> listener = new LaneListener<>(scheduler.newLane(vertx.getOrCreateContext()));
+            listener.start(new Runnable() {
+                @Override
+                public void run() {
+                    listener.delegate = next.startCall(call, headers);
+                }
+            });
+            return listener;
+        } else if (isBlocking) {
             ReplayListener<ReqT> replay = new ReplayListener<>();
 
             vertx.executeBlocking(new Handler<Promise<Object>>() {
@@ -147,4 +166,74 @@ public class BlockingServerInterceptor implements ServerInterceptor {
         }
     }
 
+    /**
+     * Executes the events of a call in order on its lane, which starts with the call itself.
+     */
+    private static class LaneListener<ReqT> extends ServerCall.Listener<ReqT> {
+        private final BlockingCallScheduler.Lane lane;
+        // only accessed on the lane
+        private ServerCall.Listener<ReqT> delegate;
+
+        LaneListener(BlockingCallScheduler.Lane lane) {
+            this.lane = lane;
+        }
+
+        void start(Runnable startCall) {
+            executeInContext(startCall);
+        }
+
+        private void execute(Consumer<ServerCall.Listener<ReqT>> consumer) {
+            executeInContext(new Runnable() {
+                @Override
+                public void run() {
+                    consumer.accept(delegate);
+                }
+            });
+        }
+
+        private void executeInContext(Runnable event) {
+            final Context grpcContext = Context.current();
+            lane.execute(new Runnable() {
+                @Override
+                public void run() {
+                    final Context previous = grpcContext.attach();
+                    try {
+                        event.run();
+                    } finally {
+                        grpcContext.detach(previous);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            execute(new Consumer<ServerCall.Listener<ReqT>>() {
+                @Override
+                public void accept(ServerCall.Listener<ReqT> t) {
+                    t.onMessage(message);
+                }
+            });
+        }
+
+        @Override
+        public void onHalfClose() {
+            execute(ServerCall.Listener::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            execute(ServerCall.Listener::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            execute(ServerCall.Listener::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            execute(ServerCall.Listener::onReady);
+        }
+    }
 }
@@ -10,6 +10,9 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +42,10 @@ public class Channels {
 
     private static final Logger LOGGER = Logger.getLogger(Channels.class.getName());
 
+    private static final String PICK_FIRST = "pick-first";
+    private static final String ROUND_ROBIN = "round-robin";
+    private static final String LEAST_REQUEST = "least-request";
+
     private Channels() {
         // Avoid direct instantiation
     }
@@ -85,8 +92,16 @@ public class Channels {
             context = sslContextBuilder.build();
         }
 
-        NettyChannelBuilder builder = NettyChannelBuilder.forAddress(host, port)
-                .flowControlWindow(config.flowControlWindow.orElse(DEFAULT_FLOW_CONTROL_WINDOW))
+        NettyChannelBuilder builder;
+        Optional<List<String>> hosts = config.hosts;
+        if (hosts.isPresent() && !hosts.get().isEmpty()) {
+            builder = NettyChannelBuilder.forTarget(StaticNameResolverFactory.SCHEME + ":///" + name)
+                    .nameResolverFactory(new StaticNameResolverFactory(hosts.get()));
+        } else {
+            // resolved with DNS, all the addresses of the host are used by the round-robin and least-request policies
+            builder = NettyChannelBuilder.forAddress(host, port);
+        }
+        builder.flowControlWindow(config.flowControlWindow.orElse(DEFAULT_FLOW_CONTROL_WINDOW))
                 .keepAliveWithoutCalls(config.keepAliveWithoutCalls)
                 .maxHedgedAttempts(config.maxHedgedAttempts)
                 .maxRetryAttempts(config.maxRetryAttempts)
@@ -130,6 +145,16 @@ public class Channels {
             builder.keepAliveTimeout(idleTimeout.get().toMillis(), TimeUnit.MILLISECONDS);
         }
 
+        String policy = config.loadBalancing.policy;
+        if (!PICK_FIRST.equalsIgnoreCase(policy)) {
+            if (!ROUND_ROBIN.equalsIgnoreCase(policy) && !LEAST_REQUEST.equalsIgnoreCase(policy)) {
+                throw new IllegalArgumentException("Unsupported gRPC load balancing policy for " + name + ": " + policy
+                        + ", expected one of " + PICK_FIRST + ", " + ROUND_ROBIN + ", " + LEAST_REQUEST);
+            }
+            ClientLoadBalancerProvider.register();
+            builder.defaultServiceConfig(serviceConfig(name, config));
+        }
+
         if (plainText) {
             builder.usePlaintext();
         }
@@ -147,6 +172,27 @@ public class Channels {
         return builder.build();
     }
 
+    private static Map<String, ?> serviceConfig(String name, GrpcClientConfiguration config) {
+        Map<String, Object> serviceConfig = new HashMap<>();
+        serviceConfig.put("loadBalancingConfig",
+                Collections.singletonList(ClientLoadBalancerProvider.loadBalancingConfig(name, config.loadBalancing)));
+        if (config.retry && config.maxRetryAttempts > 0) {
+            // the calls failing on an unavailable replica are retried, and balanced like new calls
+            Map<String, Object> retryPolicy = new HashMap<>();
+            retryPolicy.put("maxAttempts", (double) (config.maxRetryAttempts + 1));
+            retryPolicy.put("initialBackoff", "0.1s");
+            retryPolicy.put("maxBackoff", "1s");
+            retryPolicy.put("backoffMultiplier", 2.0);
+            retryPolicy.put("retryableStatusCodes", Collections.singletonList("UNAVAILABLE"));
+            Map<String, Object> methodConfig = new HashMap<>();
+            // an empty name applies to all the methods
+            methodConfig.put("name", Collections.singletonList(Collections.emptyMap()));
+            methodConfig.put("retryPolicy", retryPolicy);
+            serviceConfig.put("methodConfig", Collections.singletonList(methodConfig));
+        }
+        return serviceConfig;
+    }
+
     private static InputStream streamFor(Path path, String resourceName) {
         final InputStream resource = Thread.currentThread().getContextClassLoader()
                 .getResourceAsStream(path.toString());
@@ -0,0 +1,435 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static io.grpc.ConnectivityState.CONNECTING;
+import static io.grpc.ConnectivityState.IDLE;
+import static io.grpc.ConnectivityState.READY;
+import static io.grpc.ConnectivityState.TRANSIENT_FAILURE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.Attributes;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+
+/**
+ * Load balancer of the gRPC clients configured with the {@code round-robin} or {@code least-request} policy.
+ * <p>
+ * It opens {@code connections-per-address} connections (subchannels) to each resolved address, and distributes the
+ * calls between the ready connections. A connection is ejected for {@code ejection-time} after
+ * {@code consecutive-failures} consecutive failed calls, unless all the ready connections are ejected.
+ * <p>
+ * Except for the statistics, the state is only accessed from the synchronization context of the channel.
+ */
+public class ClientLoadBalancer extends LoadBalancer {
+
+    static final String POLICY_NAME = "quarkus_client_balancer";
+
+    private static final Map<String, ClientLoadBalancer> BALANCERS = new ConcurrentHashMap<>();
+
+    private final Helper helper;
+    private final Map<EndpointKey, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private Config config;
+    private ConnectivityState currentState;
+
+    ClientLoadBalancer(Helper helper) {
+        this.helper = Objects.requireNonNull(helper);
+    }
+
+    /**
+     * @return the load balancer of the given client, {@code null} if the client does not use this load balancer or its
+     *         channel is not created yet
+     */
+    public static ClientLoadBalancer get(String client) {
+        return BALANCERS.get(client);
+    }
+
+    @Override
+    public void handleResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+        Config newConfig = (Config) resolvedAddresses.getLoadBalancingPolicyConfig();
+        if (newConfig == null) {
+            newConfig = Config.DEFAULT;
+        }
+        if (config == null && newConfig.client != null) {
+            BALANCERS.put(newConfig.client, this);
+        }
+        config = newConfig;
+
+        Set<EndpointKey> current = new HashSet<>();
+        for (EquivalentAddressGroup group : resolvedAddresses.getAddresses()) {
+            // the endpoints are identified by their socket addresses only
+            EquivalentAddressGroup addresses = new EquivalentAddressGroup(group.getAddresses());
+            String name = group.getAttributes().get(StaticNameResolverFactory.ADDRESS_NAME);
+            if (name == null) {
+                name = group.getAddresses().get(0).toString();
+            }
+            for (int i = 0; i < config.connectionsPerAddress; i++) {
+                EndpointKey key = new EndpointKey(addresses, i);
+                current.add(key);
+                Endpoint endpoint = endpoints.get(key);
+                if (endpoint != null) {
+                    endpoint.subchannel.updateAddresses(Collections.singletonList(group));
+                    continue;
+                }
+                Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                        .setAddresses(group)
+                        .setAttributes(Attributes.EMPTY)
+                        .build());
+                endpoint = new Endpoint(key, name, subchannel);
+                endpoints.put(key, endpoint);
+                subchannel.start(endpoint);
+                subchannel.requestConnection();
+            }
+        }
+        for (Endpoint endpoint : new ArrayList<>(endpoints.values())) {
+            if (!current.contains(endpoint.key)) {
+                endpoints.remove(endpoint.key);
+                endpoint.shutdown();
+            }
+        }
+        updateBalancingState();
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+        if (currentState != READY) {
+            updateBalancingState(TRANSIENT_FAILURE, new EmptyPicker(error));
+        }
+    }
+
+    @Override
+    public void requestConnection() {
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.state.getState() == IDLE) {
+                endpoint.subchannel.requestConnection();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (Endpoint endpoint : endpoints.values()) {
+            endpoint.shutdown();
+        }
+        endpoints.clear();
+        if (config != null && config.client != null) {
+            BALANCERS.remove(config.client, this);
+        }
+    }
+
+    /**
+     * @return the number of connections ready to receive calls, including the ejected connections
+     */
+    public int getReadyConnections() {
+        int count = 0;
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.state.getState() == READY) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of ejected connections
+     */
+    public int getEjectedConnections() {
+        int count = 0;
+        long now = System.nanoTime();
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.isEjected(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param address the address, as configured in {@code hosts}
+     * @return the number of active calls on the connections to this address
+     */
+    public int getActiveCalls(String address) {
+        int count = 0;
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.name.equals(address)) {
+                count += endpoint.activeCalls.get();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param address the address, as configured in {@code hosts}
+     * @return the number of ejected connections to this address
+     */
+    public int getEjectedConnections(String address) {
+        int count = 0;
+        long now = System.nanoTime();
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.name.equals(address) && endpoint.isEjected(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void updateBalancingState() {
+        List<Endpoint> ready = new ArrayList<>();
+        List<Endpoint> healthy = new ArrayList<>();
+        boolean connecting = false;
+        Status error = null;
+        long now = System.nanoTime();
+        for (Endpoint endpoint : endpoints.values()) {
+            ConnectivityStateInfo info = endpoint.state;
+            if (info.getState() == READY) {
+                ready.add(endpoint);
+                if (!endpoint.isEjected(now)) {
+                    healthy.add(endpoint);
+                }
+            } else if (info.getState() == CONNECTING || info.getState() == IDLE) {
+                connecting = true;
+            } else if (info.getState() == TRANSIENT_FAILURE) {
+                error = info.getStatus();
+            }
+        }
+        if (!ready.isEmpty()) {
+            // never eject all the connections
+            updateBalancingState(READY, new Picker(healthy.isEmpty() ? ready : healthy, config.leastRequest));
+        } else if (connecting) {
+            updateBalancingState(CONNECTING, new EmptyPicker(null));
+        } else {
+            updateBalancingState(TRANSIENT_FAILURE,
+                    new EmptyPicker(error != null ? error : Status.UNAVAILABLE.withDescription("No address resolved")));
+        }
+    }
+
+    private void updateBalancingState(ConnectivityState state, SubchannelPicker picker) {
+        currentState = state;
+        helper.updateBalancingState(state, picker);
+    }
+
+    private static boolean isFailure(Status status) {
+        switch (status.getCode()) {
+            case UNAVAILABLE:
+            case INTERNAL:
+            case UNKNOWN:
+            case DATA_LOSS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * A connection to an address.
+     */
+    final class Endpoint extends ClientStreamTracer.Factory implements SubchannelStateListener {
+
+        final EndpointKey key;
+        final String name;
+        final Subchannel subchannel;
+        final AtomicInteger activeCalls = new AtomicInteger();
+        final AtomicInteger consecutiveFailures = new AtomicInteger();
+        volatile ConnectivityStateInfo state = ConnectivityStateInfo.forNonError(IDLE);
+        volatile long ejectedUntil;
+        private SynchronizationContext.ScheduledHandle readmission;
+
+        Endpoint(EndpointKey key, String name, Subchannel subchannel) {
+            this.key = key;
+            this.name = name;
+            this.subchannel = subchannel;
+        }
+
+        boolean isEjected(long now) {
+            long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+
+        @Override
+        public void onSubchannelState(ConnectivityStateInfo newState) {
+            if (endpoints.get(key) != this) {
+                // removed
+                return;
+            }
+            if (newState.getState() == TRANSIENT_FAILURE || newState.getState() == IDLE) {
+                helper.refreshNameResolution();
+            }
+            if (newState.getState() == IDLE) {
+                subchannel.requestConnection();
+            }
+            state = newState;
+            updateBalancingState();
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            activeCalls.incrementAndGet();
+            return new ClientStreamTracer() {
+                @Override
+                public void streamClosed(Status status) {
+                    activeCalls.decrementAndGet();
+
+                    onCallCompleted(status);
+                }
+            };
+        }
+
+        private void onCallCompleted(Status status) {
+            if (status.isOk()) {
+                consecutiveFailures.set(0);
+            } else if (isFailure(status) && config.consecutiveFailures > 0
+                    && consecutiveFailures.incrementAndGet() == config.consecutiveFailures) {
+                helper.getSynchronizationContext().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        eject();
+                    }
+                });
+            }
+        }
+
+        private void eject() {
+            if (endpoints.get(key) != this) {
+                return;
+            }
+            ejectedUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.ejectionTimeMillis);
+            consecutiveFailures.set(0);
+            if (readmission != null) {
+                readmission.cancel();
+            }
+            readmission = helper.getSynchronizationContext().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    readmission = null;
+                    ejectedUntil = 0;
+                    updateBalancingState();
+                }
+            }, config.ejectionTimeMillis, TimeUnit.MILLISECONDS, helper.getScheduledExecutorService());
+            updateBalancingState();
+        }
+
+        void shutdown() {
+            if (readmission != null) {
+                readmission.cancel();
+                readmission = null;
+            }
+            subchannel.shutdown();
+        }
+    }
+
+    static final class EndpointKey {
+
+        private final EquivalentAddressGroup addresses;
+        private final int index;
+
+        EndpointKey(EquivalentAddressGroup addresses, int index) {
+            this.addresses = addresses;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EndpointKey)) {
+                return false;
+            }
+            EndpointKey that = (EndpointKey) o;
+            return index == that.index && addresses.equals(that.addresses);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * addresses.hashCode() + index;
+        }
+    }
+
+    static final class Picker extends SubchannelPicker {
+
+        private final List<Endpoint> endpoints;
+        private final boolean leastRequest;
+        private final AtomicInteger index;
+
+        Picker(List<Endpoint> endpoints, boolean leastRequest) {
+            this.endpoints = endpoints;
+            this.leastRequest = leastRequest;
+            this.index = new AtomicInteger(ThreadLocalRandom.current().nextInt(endpoints.size()));
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            Endpoint endpoint;
+            int size = endpoints.size();
+            if (size == 1) {
+                endpoint = endpoints.get(0);
+            } else if (leastRequest) {
+                // power of two choices
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int first = random.nextInt(size);
+                int second = random.nextInt(size - 1);
+                if (second >= first) {
+                    second++;
+                }
+                Endpoint a = endpoints.get(first);
+                Endpoint b = endpoints.get(second);
+                endpoint = a.activeCalls.get() <= b.activeCalls.get() ? a : b;
+            } else {
+                endpoint = endpoints.get((index.getAndIncrement() & Integer.MAX_VALUE) % size);
+            }
+            return PickResult.withSubchannel(endpoint.subchannel, endpoint);
+        }
+    }
+
+    static final class EmptyPicker extends SubchannelPicker {
+
+        private final Status error;
+
+        EmptyPicker(Status error) {
+            this.error = error;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            return error == null ? PickResult.withNoResult() : PickResult.withError(error);
+        }
+    }
+
+    /**
+     * The parsed {@code loadBalancingConfig} of the service config.
+     */
+    static final class Config {
+
+        static final Config DEFAULT = new Config(null, false, 1, 5, 30000);
+
+        final String client;
+        final boolean leastRequest;
+        final int connectionsPerAddress;
+        final int consecutiveFailures;
+        final long ejectionTimeMillis;
+
+        Config(String client, boolean leastRequest, int connectionsPerAddress, int consecutiveFailures,
+                long ejectionTimeMillis) {
+            this.client = client;
+            this.leastRequest = leastRequest;
+            this.connectionsPerAddress = connectionsPerAddress;
+            this.consecutiveFailures = consecutiveFailures;
+            this.ejectionTimeMillis = ejectionTimeMillis;
+        }
+    }
+}
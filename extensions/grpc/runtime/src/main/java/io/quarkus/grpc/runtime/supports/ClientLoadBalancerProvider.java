@@ -0,0 +1,108 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.LoadBalancerRegistry;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.quarkus.grpc.runtime.config.GrpcClientLoadBalancingConfig;
+
+/**
+ * Provides the {@link ClientLoadBalancer}, configured with the {@code loadBalancingConfig} of the service config built
+ * by {@link #loadBalancingConfig(String, GrpcClientLoadBalancingConfig)}.
+ */
+public class ClientLoadBalancerProvider extends LoadBalancerProvider {
+
+    private static final String CLIENT = "client";
+    private static final String LEAST_REQUEST = "leastRequest";
+    private static final String CONNECTIONS_PER_ADDRESS = "connectionsPerAddress";
+    private static final String CONSECUTIVE_FAILURES = "consecutiveFailures";
+    private static final String EJECTION_TIME = "ejectionTimeMillis";
+
+    private static volatile boolean registered;
+
+    /**
+     * Registers the provider in the default registry, the channels find the load balancers there.
+     */
+    static void register() {
+        if (!registered) {
+            synchronized (ClientLoadBalancerProvider.class) {
+                if (!registered) {
+                    LoadBalancerRegistry.getDefaultRegistry().register(new ClientLoadBalancerProvider());
+                    registered = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the {@code loadBalancingConfig} entry of the service config of the given client, the numbers are doubles
+     *         as required by the service config
+     */
+    static Map<String, ?> loadBalancingConfig(String client, GrpcClientLoadBalancingConfig config) {
+        if (config.connectionsPerAddress < 1) {
+            throw new IllegalArgumentException(
+                    "The number of connections per address must be positive: " + config.connectionsPerAddress);
+        }
+        Map<String, Object> values = new HashMap<>();
+        values.put(CLIENT, client);
+        values.put(LEAST_REQUEST, "least-request".equalsIgnoreCase(config.policy));
+        values.put(CONNECTIONS_PER_ADDRESS, (double) config.connectionsPerAddress);
+        values.put(CONSECUTIVE_FAILURES, (double) config.consecutiveFailures);
+        values.put(EJECTION_TIME, (double) config.ejectionTime.toMillis());
+        Map<String, Object> entry = new HashMap<>();
+        entry.put(ClientLoadBalancer.POLICY_NAME, values);
+        return entry;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return ClientLoadBalancer.POLICY_NAME;
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new ClientLoadBalancer(helper);
+    }
+
+    @Override
+    public NameResolver.ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+        try {
+            ClientLoadBalancer.Config defaults = ClientLoadBalancer.Config.DEFAULT;
+            Object client = rawConfig.get(CLIENT);
+            Object leastRequest = rawConfig.get(LEAST_REQUEST);
+            return NameResolver.ConfigOrError.fromConfig(new ClientLoadBalancer.Config(
+                    client != null ? client.toString() : null,
+                    leastRequest != null ? (Boolean) leastRequest : defaults.leastRequest,
+                    getInt(rawConfig, CONNECTIONS_PER_ADDRESS, defaults.connectionsPerAddress),
+                    getInt(rawConfig, CONSECUTIVE_FAILURES, defaults.consecutiveFailures),
+                    getLong(rawConfig, EJECTION_TIME, defaults.ejectionTimeMillis)));
+        } catch (RuntimeException e) {
+            return NameResolver.ConfigOrError.fromError(
+                    Status.UNAVAILABLE.withCause(e).withDescription("Invalid load balancing config: " + rawConfig));
+        }
+    }
+
+    private static int getInt(Map<String, ?> rawConfig, String key, int defaultValue) {
+        Object value = rawConfig.get(key);
+        return value != null ? ((Number) value).intValue() : defaultValue;
+    }
+
+    private static long getLong(Map<String, ?> rawConfig, String key, long defaultValue) {
+        Object value = rawConfig.get(key);
+        return value != null ? ((Number) value).longValue() : defaultValue;
+    }
+}
@@ -0,0 +1,152 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * Marshaller serializing the protobuf messages into a buffer reused by the current thread, instead of the buffer allocated
+ * for each message by the default protobuf marshaller.
+ * <p>
+ * The message is drained into the gRPC framer with a single write, the framer copies it into the transport buffer before
+ * the buffer is reused. The messages larger than the buffer, and parsing, are delegated to the default marshaller.
+ */
+public final class ReusableBufferMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+
+    static final int MAX_BUFFERED_SIZE = 8192;
+
+    private static final FastThreadLocal<byte[]> BUFFER = new FastThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[MAX_BUFFERED_SIZE];
+        }
+    };
+
+    private final MethodDescriptor.Marshaller<T> delegate;
+
+    ReusableBufferMarshaller(MethodDescriptor.Marshaller<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return the service definition, with the responses of the methods serialized into reused buffers
+     */
+    public static ServerServiceDefinition wrapResponseMarshallers(ServerServiceDefinition definition) {
+        ServiceDescriptor service = definition.getServiceDescriptor();
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(service.getName())
+                .setSchemaDescriptor(service.getSchemaDescriptor());
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> wrapped = wrapResponseMarshaller(method);
+            serviceBuilder.addMethod(wrapped.getMethodDescriptor());
+            methods.add(wrapped);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> wrapResponseMarshaller(
+            ServerMethodDefinition<ReqT, RespT> method) {
+        MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+        MethodDescriptor<ReqT, RespT> wrapped = descriptor.toBuilder()
+                .setResponseMarshaller(new ReusableBufferMarshaller<>(descriptor.getResponseMarshaller()))
+                .build();
+        return ServerMethodDefinition.create(wrapped, method.getServerCallHandler());
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        if (value instanceof MessageLite && ((MessageLite) value).getSerializedSize() <= MAX_BUFFERED_SIZE) {
+            return new MessageStream((MessageLite) value);
+        }
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        return delegate.parse(stream);
+    }
+
+    /**
+     * The serialized message. The transport drains it, the other streams read it from a copy.
+     */
+    static final class MessageStream extends InputStream implements Drainable, KnownLength {
+
+        private MessageLite message;
+        private ByteArrayInputStream partial;
+
+        MessageStream(MessageLite message) {
+            this.message = message;
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            if (message != null) {
+                int size = message.getSerializedSize();
+                if (size > 0) {
+                    byte[] buffer = BUFFER.get();
+                    CodedOutputStream output = CodedOutputStream.newInstance(buffer, 0, size);
+                    message.writeTo(output);
+                    output.checkNoSpaceLeft();
+                    target.write(buffer, 0, size);
+                }
+                message = null;
+                return size;
+            }
+            if (partial != null) {
+                int size = partial.available();
+                byte[] remaining = new byte[size];
+                partial.read(remaining, 0, size);
+                target.write(remaining);
+                partial = null;
+                return size;
+            }
+            return 0;
+        }
+
+        @Override
+        public int read() {
+            ByteArrayInputStream stream = readable();
+            return stream != null ? stream.read() : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            ByteArrayInputStream stream = readable();
+            return stream != null ? stream.read(b, off, len) : -1;
+        }
+
+        @Override
+        public int available() {
+            if (message != null) {
+                return message.getSerializedSize();
+            }
+            return partial != null ? partial.available() : 0;
+        }
+
+        private ByteArrayInputStream readable() {
+            if (message != null) {
+                partial = new ByteArrayInputStream(message.toByteArray());
+                message = null;
+            }
+            return partial;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+
+/**
+ * Resolves the target of a gRPC client to the configured list of {@code host:port} addresses.
+ * <p>
+ * The host names are resolved again each time the load balancer requests a refresh, for example when a connection
+ * fails.
+ */
+public class StaticNameResolverFactory extends NameResolver.Factory {
+
+    static final String SCHEME = "static";
+
+    /**
+     * The address, as configured, of the resolved {@link EquivalentAddressGroup}.
+     */
+    static final Attributes.Key<String> ADDRESS_NAME = Attributes.Key.create("quarkus-grpc-address-name");
+
+    private final List<String> addresses;
+
+    public StaticNameResolverFactory(List<String> addresses) {
+        if (addresses.isEmpty()) {
+            throw new IllegalArgumentException("At least one address must be configured");
+        }
+        for (String address : addresses) {
+            parse(address);
+        }
+        this.addresses = Collections.unmodifiableList(new ArrayList<>(addresses));
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        return new StaticNameResolver(args);
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    private static HostAndPort parse(String address) {
+        String value = address.trim();
+        int index = value.lastIndexOf(':');
+        if (index <= 0 || index == value.length() - 1) {
+            throw new IllegalArgumentException("Invalid gRPC address, expected host:port: " + address);
+        }
+        String host = value.substring(0, index);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            // IPv6 literal
+            host = host.substring(1, host.length() - 1);
+        }
+        try {
+            return new HostAndPort(host, Integer.parseInt(value.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid gRPC address port: " + address, e);
+        }
+    }
+
+    private class StaticNameResolver extends NameResolver {
+
+        private final NameResolver.Args args;
+        private Listener2 listener;
+
+        StaticNameResolver(NameResolver.Args args) {
+            this.args = args;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            // used for TLS and virtual hosting, override-authority should be set if the replicas use different names
+            return addresses.get(0).trim();
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            this.listener = listener;
+            resolve();
+        }
+
+        @Override
+        public void refresh() {
+            // the load balancer calls refresh() from the synchronization context, resolve the names outside of it
+            args.getOffloadExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    resolve();
+                }
+            });
+        }
+
+        private void resolve() {
+            List<EquivalentAddressGroup> groups = new ArrayList<>(addresses.size());
+            for (String address : addresses) {
+                HostAndPort hostAndPort = parse(address);
+                InetSocketAddress socketAddress = new InetSocketAddress(hostAndPort.host, hostAndPort.port);
+                if (socketAddress.isUnresolved()) {
+                    continue;
+                }
+                groups.add(new EquivalentAddressGroup(socketAddress,
+                        Attributes.newBuilder().set(ADDRESS_NAME, address.trim()).build()));
+            }
+            if (groups.isEmpty()) {
+                listener.onError(Status.UNAVAILABLE.withDescription("Unable to resolve any of the addresses " + addresses));
+            } else {
+                listener.onResult(ResolutionResult.newBuilder().setAddresses(groups).build());
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            // nothing to release
+        }
+    }
+
+    private static final class HostAndPort {
+        final String host;
+        final int port;
+
+        HostAndPort(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+    }
+}
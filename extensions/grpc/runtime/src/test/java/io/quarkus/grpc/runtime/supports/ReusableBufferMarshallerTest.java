@@ -0,0 +1,91 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.protobuf.ProtoUtils;
+
+class ReusableBufferMarshallerTest {
+
+    final ReusableBufferMarshaller<StringValue> marshaller = new ReusableBufferMarshaller<>(
+            ProtoUtils.marshaller(StringValue.getDefaultInstance()));
+
+    @Test
+    void testDrain() throws Exception {
+        StringValue message = StringValue.of("hello reused buffers");
+        InputStream stream = marshaller.stream(message);
+        assertThat(stream).isInstanceOf(Drainable.class).isInstanceOf(KnownLength.class);
+        assertThat(stream.available()).isEqualTo(message.getSerializedSize());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(((Drainable) stream).drainTo(out)).isEqualTo(message.getSerializedSize());
+        assertThat(out.toByteArray()).isEqualTo(message.toByteArray());
+        assertThat(stream.available()).isZero();
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void testDrainEmptyMessage() throws Exception {
+        InputStream stream = marshaller.stream(StringValue.getDefaultInstance());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(((Drainable) stream).drainTo(out)).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void testReadAndDrainRemaining() throws Exception {
+        StringValue message = StringValue.of("hello reused buffers");
+        byte[] expected = message.toByteArray();
+        InputStream stream = marshaller.stream(message);
+
+        byte[] head = new byte[2];
+        assertThat(stream.read(head, 0, 2)).isEqualTo(2);
+        assertThat(stream.available()).isEqualTo(expected.length - 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(head);
+        ((Drainable) stream).drainTo(out);
+        assertThat(out.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void testDrainConsecutiveMessages() throws Exception {
+        StringValue first = StringValue.of("a longer first message");
+        StringValue second = StringValue.of("second");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((Drainable) marshaller.stream(first)).drainTo(out);
+        assertThat(out.toByteArray()).isEqualTo(first.toByteArray());
+
+        out.reset();
+        ((Drainable) marshaller.stream(second)).drainTo(out);
+        assertThat(out.toByteArray()).isEqualTo(second.toByteArray());
+    }
+
+    @Test
+    void testLargeMessageDelegated() throws Exception {
+        char[] chars = new char[ReusableBufferMarshaller.MAX_BUFFERED_SIZE];
+        Arrays.fill(chars, 'a');
+        StringValue message = StringValue.of(new String(chars));
+        InputStream stream = marshaller.stream(message);
+        assertThat(stream).isNotInstanceOf(ReusableBufferMarshaller.MessageStream.class);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((Drainable) stream).drainTo(out);
+        assertThat(out.toByteArray()).isEqualTo(message.toByteArray());
+    }
+
+    @Test
+    void testParse() {
+        StringValue message = StringValue.of("hello");
+        assertThat(marshaller.parse(marshaller.stream(message))).isEqualTo(message);
+    }
+}
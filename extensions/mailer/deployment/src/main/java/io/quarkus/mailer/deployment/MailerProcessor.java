@@ -21,6 +21,7 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.mailer.MailTemplate;
 import io.quarkus.mailer.runtime.BlockingMailerImpl;
+import io.quarkus.mailer.runtime.BulkMailSender;
 import io.quarkus.mailer.runtime.MailClientProducer;
 import io.quarkus.mailer.runtime.MailTemplateProducer;
 import io.quarkus.mailer.runtime.MailerSupportProducer;
@@ -45,7 +46,7 @@ public class MailerProcessor {
     AdditionalBeanBuildItem registerMailers() {
         return AdditionalBeanBuildItem.builder()
                 .addBeanClasses(ReactiveMailerImpl.class, MutinyMailerImpl.class, BlockingMailerImpl.class,
-                        MockMailboxImpl.class, MailTemplateProducer.class)
+                        MockMailboxImpl.class, MailTemplateProducer.class, BulkMailSender.class)
                 .build();
     }
 
@@ -54,6 +54,16 @@ public interface MailTemplate {
 
         MailTemplateInstance data(String key, Object value);
 
+        /**
+         * Renders the template variants concurrently without sending the email.
+         * <p>
+         * Implementations must render the template, {@link io.quarkus.mailer.reactive.ReactiveMailer#sendAllTemplates}
+         * relies on this method to send the emails.
+         *
+         * @return a {@link Uni} emitting the email with the rendered text and HTML bodies
+         */
+        Uni<Mail> render();
+
         Uni<Void> send();
     }
 
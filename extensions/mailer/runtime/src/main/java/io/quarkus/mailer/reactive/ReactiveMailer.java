@@ -1,6 +1,13 @@
 package io.quarkus.mailer.reactive;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.MailTemplate.MailTemplateInstance;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -16,4 +23,82 @@ public interface ReactiveMailer {
      *         emails cannot be sent.
      */
     Uni<Void> send(Mail... mails);
+
+    /**
+     * Sends a large number of emails, e.g. a newsletter.
+     * <p>
+     * The emails are sent through a fixed number of SMTP connections that are reused for many emails, and the number of
+     * emails sent per second can be limited, see the {@code quarkus.mailer.bulk} configuration. Unlike
+     * {@link #send(Mail...)}, an email that cannot be sent does not fail the whole operation; the failure is logged and the
+     * email is skipped.
+     *
+     * <p>
+     * The default implementation sends the emails one after another with {@link #send(Mail...)}.
+     *
+     * @param mails the emails to send, must not be {@code null}
+     * @return a {@link Uni} emitting the number of emails sent once the stream has been consumed
+     */
+    default Uni<Long> sendAll(Multi<Mail> mails) {
+        if (mails == null) {
+            throw new IllegalArgumentException("The `mails` parameter must not be `null`");
+        }
+        return mails.onItem().transformToUni(new Function<Mail, Uni<? extends Long>>() {
+            @Override
+            public Uni<? extends Long> apply(Mail mail) {
+                return send(mail).onItem().transform(new Function<Void, Long>() {
+                    @Override
+                    public Long apply(Void ignored) {
+                        return 1L;
+                    }
+                }).onFailure().recoverWithItem(0L);
+            }
+        }).concatenate()
+                .collectItems().in(new Supplier<AtomicLong>() {
+                    @Override
+                    public AtomicLong get() {
+                        return new AtomicLong();
+                    }
+                }, new BiConsumer<AtomicLong, Long>() {
+                    @Override
+                    public void accept(AtomicLong sent, Long count) {
+                        sent.addAndGet(count);
+                    }
+                })
+                .onItem().transform(new Function<AtomicLong, Long>() {
+                    @Override
+                    public Long apply(AtomicLong sent) {
+                        return sent.get();
+                    }
+                });
+    }
+
+    /**
+     * Renders and sends a large number of template-based emails, e.g. a newsletter.
+     * <p>
+     * The templates are rendered concurrently, see {@code quarkus.mailer.bulk.render-concurrency}. Otherwise, this method
+     * behaves like {@link #sendAll(Multi)}.
+     *
+     * <p>
+     * The default implementation renders the templates one after another and passes the emails to {@link #sendAll(Multi)}.
+     *
+     * @param templates the template instances to render and send, must not be {@code null}
+     * @return a {@link Uni} emitting the number of emails sent once the stream has been consumed
+     */
+    default Uni<Long> sendAllTemplates(Multi<MailTemplateInstance> templates) {
+        if (templates == null) {
+            throw new IllegalArgumentException("The `templates` parameter must not be `null`");
+        }
+        return sendAll(templates.onItem().transformToUni(new Function<MailTemplateInstance, Uni<? extends Mail>>() {
+            @Override
+            public Uni<? extends Mail> apply(MailTemplateInstance template) {
+                // A template that cannot be rendered is skipped
+                return Uni.createFrom().deferred(new Supplier<Uni<? extends Mail>>() {
+                    @Override
+                    public Uni<? extends Mail> get() {
+                        return template.render();
+                    }
+                }).onFailure().recoverWithNull();
+            }
+        }).concatenate());
+    }
 }
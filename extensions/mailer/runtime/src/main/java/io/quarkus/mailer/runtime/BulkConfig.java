@@ -0,0 +1,39 @@
+package io.quarkus.mailer.runtime;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class BulkConfig {
+
+    /**
+     * The number of SMTP connections used to send the emails of a bulk send.
+     * Each connection is kept open and sends the emails one after another.
+     */
+    @ConfigItem(defaultValue = "4")
+    public int connections;
+
+    /**
+     * The maximum number of emails sent through a single SMTP connection.
+     * Once reached, the connection is closed and a new one is opened.
+     * {@code 0} means no limit.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int maxMailsPerConnection;
+
+    /**
+     * The maximum number of templates rendered concurrently during a bulk send.
+     */
+    @ConfigItem(defaultValue = "16")
+    public int renderConcurrency;
+
+    /**
+     * The maximum number of emails sent per second during a bulk send.
+     * If not set, the emails are sent as fast as the connections allow.
+     */
+    @ConfigItem
+    public OptionalInt rateLimit;
+
+}
@@ -0,0 +1,248 @@
+package io.quarkus.mailer.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.mailer.Mail;
+import io.quarkus.runtime.TlsConfig;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.ext.mail.MailConfig;
+import io.vertx.ext.mail.MailMessage;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.ext.mail.MailClient;
+
+/**
+ * Sends a stream of emails.
+ * <p>
+ * The emails are rendered concurrently and sent through a fixed number of dedicated SMTP connections. Each connection is
+ * kept open and sends the emails one after another, and it is replaced once it has sent the configured maximum number of
+ * emails. Optionally, the number of emails sent per second is limited.
+ * <p>
+ * A failure to render or send an email does not stop the bulk send, it is logged and the email is skipped.
+ */
+@ApplicationScoped
+public class BulkMailSender {
+
+    private static final Logger LOGGER = Logger.getLogger("quarkus-mailer");
+
+    private final Vertx vertx;
+    private final MailConfig clientConfig;
+    private final int connections;
+    private final int maxMailsPerConnection;
+    private final int renderConcurrency;
+    private final long intervalNanos;
+
+    @Inject
+    public BulkMailSender(Vertx vertx, io.quarkus.mailer.runtime.MailConfig config, TlsConfig tlsConfig) {
+        this(vertx, MailClientProducer.toVertxMailConfig(config, tlsConfig), config.bulk.connections,
+                config.bulk.maxMailsPerConnection, config.bulk.renderConcurrency,
+                config.bulk.rateLimit.isPresent() ? config.bulk.rateLimit.getAsInt() : 0);
+    }
+
+    BulkMailSender(Vertx vertx, MailConfig clientConfig, int connections, int maxMailsPerConnection,
+            int renderConcurrency, int rateLimit) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("The number of connections must be greater than zero");
+        }
+        if (renderConcurrency < 1) {
+            throw new IllegalArgumentException("The render concurrency must be greater than zero");
+        }
+        this.vertx = vertx;
+        // A dedicated client per connection
+        this.clientConfig = new MailConfig(clientConfig).setMaxPoolSize(1).setKeepAlive(true);
+        this.connections = connections;
+        this.maxMailsPerConnection = maxMailsPerConnection;
+        this.renderConcurrency = renderConcurrency;
+        this.intervalNanos = rateLimit > 0 ? TimeUnit.SECONDS.toNanos(1) / rateLimit : 0;
+    }
+
+    /**
+     *
+     * @param mails the emails to send, each one may still need to be rendered
+     * @param converter converts an email to a Vert.x mail message
+     * @param mock if not {@code null}, the emails are passed to this function instead of being sent
+     * @return the number of emails sent
+     */
+    Uni<Long> send(Multi<Uni<Mail>> mails, Function<Mail, Uni<MailMessage>> converter,
+            Function<Mail, Uni<Void>> mock) {
+        Connections pool = new Connections();
+        RateLimiter rateLimiter = new RateLimiter();
+        AtomicLong sent = new AtomicLong();
+        return mails
+                .onItem().transformToUni(new Function<Uni<Mail>, Uni<? extends Mail>>() {
+                    @Override
+                    public Uni<? extends Mail> apply(Uni<Mail> mail) {
+                        return mail.onFailure().recoverWithItem(new Function<Throwable, Mail>() {
+                            @Override
+                            public Mail apply(Throwable failure) {
+                                LOGGER.warnf(failure, "Unable to render an email of a bulk send, the email is skipped");
+                                return null;
+                            }
+                        });
+                    }
+                }).merge(renderConcurrency)
+                .onItem().transformToUni(new Function<Mail, Uni<? extends Boolean>>() {
+                    @Override
+                    public Uni<? extends Boolean> apply(Mail mail) {
+                        Uni<Void> send;
+                        if (mock != null) {
+                            send = mock.apply(mail);
+                        } else {
+                            send = rateLimiter.acquire()
+                                    .chain(new Function<Void, Uni<? extends MailMessage>>() {
+                                        @Override
+                                        public Uni<? extends MailMessage> apply(Void ignored) {
+                                            return converter.apply(mail);
+                                        }
+                                    })
+                                    .chain(new Function<MailMessage, Uni<? extends Void>>() {
+                                        @Override
+                                        public Uni<? extends Void> apply(MailMessage message) {
+                                            return pool.send(message);
+                                        }
+                                    });
+                        }
+                        return send.onItem().transform(new Function<Void, Boolean>() {
+                            @Override
+                            public Boolean apply(Void ignored) {
+                                sent.incrementAndGet();
+                                return Boolean.TRUE;
+                            }
+                        }).onFailure().recoverWithItem(new Function<Throwable, Boolean>() {
+                            @Override
+                            public Boolean apply(Throwable failure) {
+                                LOGGER.warnf(failure, "Unable to send email %s to %s, the email is skipped",
+                                        mail.getSubject(), mail.getTo());
+                                return Boolean.FALSE;
+                            }
+                        });
+                    }
+                }).merge(connections)
+                .collectItems().last()
+                .onItem().transform(new Function<Boolean, Long>() {
+                    @Override
+                    public Long apply(Boolean ignored) {
+                        return sent.get();
+                    }
+                })
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        pool.close();
+                    }
+                });
+    }
+
+    /**
+     * The connections of a single bulk send. There are never more than {@link #connections} concurrent sends, so an idle
+     * connection is always available.
+     */
+    private final class Connections {
+
+        private final Queue<Connection> idle = new ConcurrentLinkedQueue<>();
+        private final Queue<Connection> all = new ConcurrentLinkedQueue<>();
+
+        Uni<Void> send(MailMessage message) {
+            Connection connection = idle.poll();
+            if (connection == null) {
+                connection = new Connection();
+                all.add(connection);
+            }
+            Connection used = connection;
+            return used.send(message).onTermination().invoke(new Runnable() {
+                @Override
+                public void run() {
+                    idle.add(used);
+                }
+            });
+        }
+
+        void close() {
+            for (Connection connection : all) {
+                connection.close();
+            }
+            all.clear();
+            idle.clear();
+        }
+
+    }
+
+    private final class Connection {
+
+        private MailClient client;
+        private int sent;
+
+        Uni<Void> send(MailMessage message) {
+            if (client == null) {
+                client = MailClient.create(vertx, clientConfig);
+                sent = 0;
+            }
+            return client.sendMail(message).onItem().transform(new Function<Object, Void>() {
+                @Override
+                public Void apply(Object result) {
+                    if (maxMailsPerConnection > 0 && ++sent >= maxMailsPerConnection) {
+                        close();
+                    }
+                    return null;
+                }
+            });
+        }
+
+        void close() {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        }
+
+    }
+
+    /**
+     * Assigns a time slot to every email, the slots are {@link #intervalNanos} apart.
+     */
+    private final class RateLimiter {
+
+        private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+        Uni<Void> acquire() {
+            if (intervalNanos == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            long now = System.nanoTime();
+            long slot;
+            long next;
+            do {
+                slot = nextSlot.get();
+                next = Math.max(slot, now) + intervalNanos;
+            } while (!nextSlot.compareAndSet(slot, next));
+            long delay = TimeUnit.NANOSECONDS.toMillis(Math.max(slot, now) - now);
+            if (delay <= 0) {
+                return Uni.createFrom().voidItem();
+            }
+            return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+                @Override
+                public void accept(UniEmitter<? super Void> emitter) {
+                    vertx.setTimer(delay, new Consumer<Long>() {
+                        @Override
+                        public void accept(Long timerId) {
+                            emitter.complete(null);
+                        }
+                    });
+                }
+            });
+        }
+
+    }
+
+}
@@ -132,4 +132,10 @@ public class MailConfig {
      */
     @ConfigItem
     public Optional<String> keyStorePassword;
+
+    /**
+     * Configure the bulk sending of emails.
+     */
+    @ConfigItem
+    public BulkConfig bulk;
 }
@@ -93,6 +93,16 @@ class MailTemplateInstanceImpl implements MailTemplate.MailTemplateInstance {
 
     @Override
     public Uni<Void> send() {
+        return render().chain(new Function<Mail, Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> apply(Mail m) {
+                return mailer.send(m);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Mail> render() {
         Object variantsAttr = templateInstance.getAttribute(TemplateInstance.VARIANTS);
         if (variantsAttr != null) {
             List<Result> results = new ArrayList<>();
@@ -117,13 +127,7 @@ class MailTemplateInstanceImpl implements MailTemplate.MailTemplateInstance {
             }
             List<Uni<String>> unis = results.stream().map(Result::resolve).collect(Collectors.toList());
             return Uni.combine().all().unis(unis)
-                    .combinedWith(combine(results))
-                    .chain(new Function<Mail, Uni<? extends Void>>() {
-                        @Override
-                        public Uni<? extends Void> apply(Mail m) {
-                            return mailer.send(m);
-                        }
-                    });
+                    .combinedWith(combine(results));
         } else {
             throw new IllegalStateException("No template variant found");
         }
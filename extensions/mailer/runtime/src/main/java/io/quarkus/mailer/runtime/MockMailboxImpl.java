@@ -39,7 +39,7 @@ public class MockMailboxImpl implements MockMailbox {
         return Uni.createFrom().item(() -> null);
     }
 
-    private void send(Mail sentMail, String to) {
+    private synchronized void send(Mail sentMail, String to) {
         List<Mail> mails = sentMessages
                 .computeIfAbsent(to, k -> new LinkedList<>());
         sentMessagesCount++;
@@ -47,18 +47,18 @@ public class MockMailboxImpl implements MockMailbox {
     }
 
     @Override
-    public List<Mail> getMessagesSentTo(String address) {
+    public synchronized List<Mail> getMessagesSentTo(String address) {
         return sentMessages.get(address);
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         sentMessagesCount = 0;
         sentMessages.clear();
     }
 
     @Override
-    public int getTotalMessagesSent() {
+    public synchronized int getTotalMessagesSent() {
         return sentMessagesCount;
     }
 }
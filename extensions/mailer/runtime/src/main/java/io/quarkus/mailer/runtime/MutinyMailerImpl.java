@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -17,6 +18,7 @@ import org.reactivestreams.Publisher;
 
 import io.quarkus.mailer.Attachment;
 import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.MailTemplate.MailTemplateInstance;
 import io.quarkus.mailer.reactive.ReactiveMailer;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -46,6 +48,9 @@ public class MutinyMailerImpl implements ReactiveMailer {
     @Inject
     MailerSupport mailerSupport;
 
+    @Inject
+    BulkMailSender bulkSender;
+
     private static final Function<List<?>, Void> ignore = new Function<List<?>, Void>() {
         @Override
         public Void apply(List<?> results) {
@@ -77,6 +82,61 @@ public class MutinyMailerImpl implements ReactiveMailer {
         return Uni.combine().all().unis(unis).combinedWith(ignore);
     }
 
+    @Override
+    public Uni<Long> sendAll(Multi<Mail> mails) {
+        if (mails == null) {
+            throw new IllegalArgumentException("The `mails` parameter must not be `null`");
+        }
+        return bulkSend(mails.onItem().transform(new Function<Mail, Uni<Mail>>() {
+            @Override
+            public Uni<Mail> apply(Mail mail) {
+                return Uni.createFrom().item(mail);
+            }
+        }));
+    }
+
+    @Override
+    public Uni<Long> sendAllTemplates(Multi<MailTemplateInstance> templates) {
+        if (templates == null) {
+            throw new IllegalArgumentException("The `templates` parameter must not be `null`");
+        }
+        return bulkSend(templates.onItem().transform(new Function<MailTemplateInstance, Uni<Mail>>() {
+            @Override
+            public Uni<Mail> apply(MailTemplateInstance template) {
+                // The rendering may fail synchronously, e.g. if there is no template variant
+                return Uni.createFrom().deferred(new Supplier<Uni<? extends Mail>>() {
+                    @Override
+                    public Uni<? extends Mail> get() {
+                        return template.render();
+                    }
+                });
+            }
+        }));
+    }
+
+    private Uni<Long> bulkSend(Multi<Uni<Mail>> mails) {
+        Function<Mail, Uni<Void>> mock = null;
+        if (mailerSupport.isMock()) {
+            mock = new Function<Mail, Uni<Void>>() {
+                @Override
+                public Uni<Void> apply(Mail mail) {
+                    return toMailMessage(mail).chain(new Function<MailMessage, Uni<? extends Void>>() {
+                        @Override
+                        public Uni<? extends Void> apply(MailMessage message) {
+                            return send(mail, message);
+                        }
+                    });
+                }
+            };
+        }
+        return bulkSender.send(mails, new Function<Mail, Uni<MailMessage>>() {
+            @Override
+            public Uni<MailMessage> apply(Mail mail) {
+                return toMailMessage(mail);
+            }
+        }, mock);
+    }
+
     private Uni<Void> send(Mail mail, MailMessage message) {
         if (mailerSupport.isMock()) {
             LOGGER.infof("Sending email %s from %s to %s, text body: \n%s\nhtml body: \n%s",
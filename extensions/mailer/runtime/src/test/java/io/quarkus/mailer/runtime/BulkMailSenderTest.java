@@ -0,0 +1,183 @@
+package io.quarkus.mailer.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.subethamail.smtp.MessageContext;
+import org.subethamail.smtp.MessageHandler;
+import org.subethamail.smtp.MessageHandlerFactory;
+import org.subethamail.wiser.Wiser;
+import org.subethamail.wiser.WiserMessage;
+
+import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.MailTemplate.MailTemplateInstance;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Variant;
+import io.smallrye.mutiny.Multi;
+import io.vertx.ext.mail.MailConfig;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.ext.mail.MailClient;
+
+class BulkMailSenderTest {
+
+    private static final String FROM = "test@test.org";
+    private static final String TO = "foo@quarkus.io";
+
+    private static Wiser wiser;
+    private static Vertx vertx;
+    private MutinyMailerImpl mailer;
+
+    @BeforeAll
+    static void startWiser() {
+        wiser = new Wiser();
+        wiser.setPort(0);
+        wiser.start();
+
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    static void stopWiser() {
+        wiser.stop();
+        vertx.close().await().indefinitely();
+    }
+
+    @BeforeEach
+    void init() {
+        MailConfig config = new MailConfig().setPort(wiser.getServer().getPort());
+        mailer = new MutinyMailerImpl();
+        mailer.mailerSupport = new MailerSupport(FROM, null, false);
+        mailer.vertx = vertx;
+        mailer.client = MailClient.createShared(vertx, config);
+        mailer.bulkSender = new BulkMailSender(vertx, config, 2, 10, 4, 0);
+
+        wiser.getMessages().clear();
+    }
+
+    @Test
+    void testBulkSend() throws MessagingException {
+        Long sent = mailer.sendAll(Multi.createFrom().iterable(mails(50))).await().atMost(Duration.ofSeconds(30));
+        assertThat(sent).isEqualTo(50);
+        assertThat(wiser.getMessages()).hasSize(50);
+        List<String> subjects = new ArrayList<>();
+        for (WiserMessage message : wiser.getMessages()) {
+            subjects.add(message.getMimeMessage().getSubject());
+        }
+        assertThat(subjects).containsExactlyInAnyOrderElementsOf(subjects(50));
+    }
+
+    @Test
+    void testBulkSendSkipsInvalidMails() {
+        List<Mail> mails = mails(4);
+        // No recipient
+        mails.add(2, new Mail().setSubject("invalid").setText("invalid"));
+        Long sent = mailer.sendAll(Multi.createFrom().iterable(mails)).await().atMost(Duration.ofSeconds(30));
+        assertThat(sent).isEqualTo(4);
+        assertThat(wiser.getMessages()).hasSize(4);
+    }
+
+    @Test
+    void testBulkSendTemplates() throws MessagingException {
+        Template template = Engine.builder().addDefaults().build().parse("Hello {name}");
+        List<MailTemplateInstance> templates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            templates.add(new MailTemplateInstanceImpl(mailer, template.instance()
+                    .setAttribute(TemplateInstance.VARIANTS,
+                            Collections.singletonList(Variant.forContentType(Variant.TEXT_PLAIN))))
+                                    .to(TO).subject("Mail " + i).data("name", "name" + i));
+        }
+        // No template variant - render() fails synchronously
+        templates.add(3, new MailTemplateInstanceImpl(mailer, template.instance()).to(TO).subject("invalid"));
+        Long sent = mailer.sendAllTemplates(Multi.createFrom().iterable(templates)).await().atMost(Duration.ofSeconds(30));
+        assertThat(sent).isEqualTo(10);
+        assertThat(wiser.getMessages()).hasSize(10);
+        List<String> subjects = new ArrayList<>();
+        for (WiserMessage message : wiser.getMessages()) {
+            MimeMessage mimeMessage = message.getMimeMessage();
+            subjects.add(mimeMessage.getSubject());
+            assertThat(new String(message.getData(), StandardCharsets.UTF_8))
+                    .contains("Hello name" + mimeMessage.getSubject().substring(5));
+        }
+        assertThat(subjects).containsExactlyInAnyOrderElementsOf(subjects(10));
+    }
+
+    @Test
+    void testConnectionsAreReusedAndReplaced() {
+        // Every email is delivered to a new message handler, the remote address identifies the connection
+        Map<SocketAddress, Integer> connections = new ConcurrentHashMap<>();
+        MessageHandlerFactory factory = wiser.getServer().getMessageHandlerFactory();
+        wiser.getServer().setMessageHandlerFactory(new MessageHandlerFactory() {
+            @Override
+            public MessageHandler create(MessageContext ctx) {
+                connections.merge(ctx.getRemoteAddress(), 1, Integer::sum);
+                return factory.create(ctx);
+            }
+        });
+        try {
+            Long sent = mailer.sendAll(Multi.createFrom().iterable(mails(50))).await().atMost(Duration.ofSeconds(30));
+            assertThat(sent).isEqualTo(50);
+        } finally {
+            wiser.getServer().setMessageHandlerFactory(factory);
+        }
+        // Each connection sends 10 emails at most before it is replaced; the 2 concurrent connections do not necessarily
+        // send the same number of emails
+        assertThat(connections.values()).allMatch(count -> count <= 10);
+        assertThat(connections.size()).isBetween(5, 6);
+    }
+
+    @Test
+    void testRateLimit() {
+        mailer.bulkSender = new BulkMailSender(vertx, new MailConfig().setPort(wiser.getServer().getPort()), 2, 0, 4, 10);
+        long start = System.nanoTime();
+        Long sent = mailer.sendAll(Multi.createFrom().iterable(mails(6))).await().atMost(Duration.ofSeconds(30));
+        // 10 mails per second - the 6th mail cannot be sent before 500ms
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(450));
+        assertThat(sent).isEqualTo(6);
+        assertThat(wiser.getMessages()).hasSize(6);
+    }
+
+    @Test
+    void testMockBulkSend() {
+        mailer.mailerSupport = new MailerSupport(FROM, null, true);
+        mailer.mockMailbox = new MockMailboxImpl();
+        Long sent = mailer.sendAll(Multi.createFrom().iterable(mails(20))).await().atMost(Duration.ofSeconds(30));
+        assertThat(sent).isEqualTo(20);
+        assertThat(mailer.mockMailbox.getTotalMessagesSent()).isEqualTo(20);
+        assertThat(mailer.mockMailbox.getMessagesSentTo(TO)).hasSize(20);
+        assertThat(wiser.getMessages()).isEmpty();
+    }
+
+    private static List<Mail> mails(int count) {
+        List<Mail> mails = new ArrayList<>();
+        for (String subject : subjects(count)) {
+            mails.add(Mail.withText(TO, subject, "Hello " + subject));
+        }
+        return mails;
+    }
+
+    private static List<String> subjects(int count) {
+        List<String> subjects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            subjects.add("Mail " + i);
+        }
+        return subjects;
+    }
+
+}
@@ -26,6 +26,7 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.SynchronousInterceptorBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.arc.processor.DotNames;
@@ -125,6 +126,13 @@ public class MicrometerProcessor {
                 nonApplicationRootPathBuildItem.adjustPath(mConfig.export.prometheus.path));
     }
 
+    @BuildStep(onlyIf = MicrometerEnabled.class)
+    void synchronousInterceptors(BuildProducer<SynchronousInterceptorBuildItem> synchronousInterceptors) {
+        // the interceptors proceed before they return, completion stages are only observed
+        synchronousInterceptors.produce(new SynchronousInterceptorBuildItem(TIMED_INTERCEPTOR));
+        synchronousInterceptors.produce(new SynchronousInterceptorBuildItem(COUNTED_INTERCEPTOR));
+    }
+
     @BuildStep(onlyIf = MicrometerEnabled.class)
     UnremovableBeanBuildItem registerAdditionalBeans(CombinedIndexBuildItem indexBuildItem,
             BuildProducer<MicrometerRegistryProviderBuildItem> providerClasses,
@@ -0,0 +1,39 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import java.util.function.BooleanSupplier;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.micrometer.runtime.binder.arc.LockMeterBinder;
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+
+/**
+ * Add support for the container-managed concurrency metrics, if {@code @Lock} is used.
+ */
+public class LockBinderProcessor {
+
+    static final DotName LOCK = DotName.createSimple(Lock.class.getName());
+
+    static class LockBinderEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return mConfig.checkBinderEnabledWithDefault(mConfig.binder.lock);
+        }
+    }
+
+    @BuildStep(onlyIf = LockBinderEnabled.class)
+    void createLockMeterBinder(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (!indexBuildItem.getIndex().getAnnotations(LOCK).isEmpty()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(LockMeterBinder.class)
+                    .setUnremovable().build());
+        }
+    }
+}
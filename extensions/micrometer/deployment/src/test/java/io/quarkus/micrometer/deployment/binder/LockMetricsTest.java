@@ -0,0 +1,115 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.arc.Lock;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LockMetricsTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.lock.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(LockedBean.class, OtherBean.class));
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    LockedBean bean;
+
+    @Inject
+    OtherBean other;
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testLockMetrics() throws Exception {
+        Assertions.assertEquals(0, other.ping());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch held = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<?> holder = executor.submit(() -> bean.hold(held, release));
+            Assertions.assertTrue(held.await(5, TimeUnit.SECONDS));
+
+            Gauge holders = registry.find("arc.lock.holders").tag("bean", LockedBean.class.getName()).gauge();
+            Assertions.assertNotNull(holders);
+            Assertions.assertEquals(1, holders.value());
+
+            Future<Integer> waiter = executor.submit(() -> bean.ping());
+            // the waiter blocks on the write lock
+            Thread.sleep(100);
+            Assertions.assertFalse(waiter.isDone());
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(0, waiter.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(0, holders.value());
+
+            FunctionTimer wait = registry.find("arc.lock.wait").tag("bean", LockedBean.class.getName()).functionTimer();
+            Assertions.assertNotNull(wait);
+            Assertions.assertEquals(1, wait.count());
+            Assertions.assertTrue(wait.totalTime(TimeUnit.MILLISECONDS) >= 50,
+                    "waited " + wait.totalTime(TimeUnit.MILLISECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the statistics of another bean class are separate
+        FunctionTimer otherWait = registry.find("arc.lock.wait").tag("bean", OtherBean.class.getName()).functionTimer();
+        Assertions.assertNotNull(otherWait);
+        Assertions.assertEquals(0, otherWait.count());
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class LockedBean {
+
+        void hold(CountDownLatch held, CountDownLatch release) {
+            held.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int ping() {
+            return 0;
+        }
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class OtherBean {
+
+        int ping() {
+            return 0;
+        }
+    }
+}
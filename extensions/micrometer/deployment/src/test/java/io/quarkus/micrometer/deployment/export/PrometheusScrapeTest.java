@@ -0,0 +1,99 @@
+package io.quarkus.micrometer.deployment.export;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+
+public class PrometheusScrapeTest {
+    static final RestAssuredConfig NO_COMPRESSION = RestAssured.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PrometheusRegistryProcessor.REGISTRY_CLASS));
+
+    @Inject
+    PrometheusMeterRegistry promRegistry;
+
+    @Test
+    public void testSmallScrape() {
+        Counter.builder("scrape.small").register(promRegistry).increment();
+
+        RestAssured.given()
+                .config(NO_COMPRESSION)
+                .when().get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("Vary", "Accept-Encoding")
+                .body(Matchers.containsString("scrape_small_total 1.0"));
+    }
+
+    @Test
+    public void testGzipRefused() {
+        Counter.builder("scrape.refused").register(promRegistry).increment();
+
+        RestAssured.given()
+                .config(NO_COMPRESSION)
+                .header("Accept-Encoding", "gzip;q=0, identity")
+                .when().get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .body(Matchers.containsString("scrape_refused_total 1.0"));
+    }
+
+    @Test
+    public void testChunkedScrape() {
+        // large enough to be written in several chunks
+        for (int i = 0; i < 2000; i++) {
+            Counter.builder("scrape.large").tag("index", Integer.toString(i)).register(promRegistry).increment(i);
+        }
+
+        String identity = RestAssured.given()
+                .config(NO_COMPRESSION)
+                .when().get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .extract().asString();
+        Assertions.assertTrue(identity.contains("scrape_large_total{index=\"1999\",} 1999.0"));
+
+        // RestAssured accepts gzip by default, and decompresses the content transparently
+        Response gzip = RestAssured.given()
+                .when().get("/q/metrics");
+        Assertions.assertEquals(200, gzip.statusCode());
+        Assertions.assertEquals("gzip", gzip.header("Content-Encoding"));
+        Assertions.assertEquals("Accept-Encoding", gzip.header("Vary"));
+        Assertions.assertEquals(largeCounters(identity), largeCounters(gzip.asString()));
+    }
+
+    private static List<String> largeCounters(String scrape) {
+        // other meters, such as the JVM ones, change between the scrapes
+        return Arrays.stream(scrape.split("\n"))
+                .filter(line -> line.startsWith("scrape_large"))
+                .collect(Collectors.toList());
+    }
+}
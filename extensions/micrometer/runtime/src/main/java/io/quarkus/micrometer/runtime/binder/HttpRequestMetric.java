@@ -9,6 +9,7 @@ import org.jboss.logging.Logger;
 
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 
 public class HttpRequestMetric {
@@ -41,6 +42,15 @@ public class HttpRequestMetric {
      */
     Tags tags = Tags.empty();
 
+    /** Method of a server request, assigned @ requestBegin */
+    HttpMethod method;
+
+    /** Monotonic start time (ns) of a server request, assigned @ requestBegin */
+    long startTime;
+
+    /** True IFF a server request has been started (and not yet ended) */
+    boolean started;
+
     /**
      * Extract the path out of the uri. Return null if the path should be
      * ignored.
@@ -61,8 +71,15 @@ public class HttpRequestMetric {
             finalPath = "/";
         } else {
             // Label value consistency: result should begin with a '/' and should not end with one
-            workingPath = HttpMetricsCommon.MULTIPLE_SLASH_PATTERN.matcher('/' + workingPath).replaceAll("/");
-            workingPath = HttpMetricsCommon.TRAILING_SLASH_PATTERN.matcher(workingPath).replaceAll("");
+            if (workingPath.indexOf("//") < 0 && workingPath.charAt(workingPath.length() - 1) != '/') {
+                // Most paths are already well-formed
+                if (workingPath.charAt(0) != '/') {
+                    workingPath = '/' + workingPath;
+                }
+            } else {
+                workingPath = HttpMetricsCommon.MULTIPLE_SLASH_PATTERN.matcher('/' + workingPath).replaceAll("/");
+                workingPath = HttpMetricsCommon.TRAILING_SLASH_PATTERN.matcher(workingPath).replaceAll("");
+            }
             if (workingPath.isEmpty()) {
                 finalPath = "/";
             } else {
@@ -107,6 +124,33 @@ public class HttpRequestMetric {
         this.tags = tags;
     }
 
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Remember the method and start time of a server request, the timer
+     * is only looked up when the request ends.
+     */
+    public void setStart(HttpMethod method, long startTime) {
+        this.method = method;
+        this.startTime = startTime;
+        this.started = true;
+    }
+
+    /**
+     * @return true the first time it is called after {@link #setStart}
+     */
+    public boolean end() {
+        boolean wasStarted = started;
+        started = false;
+        return wasStarted;
+    }
+
     public String getPath() {
         return path;
     }
@@ -190,6 +234,7 @@ public class HttpRequestMetric {
                 + ",pathMatched=" + pathMatched
                 + ",measure=" + measure
                 + ",tags=" + tags
+                + ",method=" + method
                 + '}';
     }
 }
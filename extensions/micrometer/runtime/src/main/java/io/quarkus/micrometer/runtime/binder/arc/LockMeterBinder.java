@@ -0,0 +1,40 @@
+package io.quarkus.micrometer.runtime.binder.arc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.arc.impl.LockStatistics;
+
+/**
+ * Binds the contention statistics of the container-managed locks, i.e. {@code @io.quarkus.arc.Lock}.
+ * <p>
+ * The meters of a bean class are tagged with its name, and registered once a lock of the bean class is used.
+ */
+@Singleton
+public class LockMeterBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        LockStatistics.setListener(new Consumer<LockStatistics>() {
+            @Override
+            public void accept(LockStatistics statistics) {
+                Gauge.builder("arc.lock.holders", statistics, LockStatistics::getHolders)
+                        .description("The number of business method invocations currently holding a container-managed lock")
+                        .tag("bean", statistics.getBeanClass())
+                        .register(registry);
+                FunctionTimer.builder("arc.lock.wait", statistics,
+                        LockStatistics::getContendedAcquisitions, s -> s.getWaitTime(TimeUnit.NANOSECONDS),
+                        TimeUnit.NANOSECONDS)
+                        .description("The time spent waiting for a container-managed lock")
+                        .tag("bean", statistics.getBeanClass())
+                        .register(registry);
+            }
+        });
+    }
+}
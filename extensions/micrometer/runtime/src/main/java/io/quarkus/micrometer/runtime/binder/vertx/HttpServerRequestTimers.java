@@ -0,0 +1,159 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.micrometer.core.instrument.noop.NoopTimer;
+import io.quarkus.micrometer.runtime.binder.HttpMetricsCommon;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Registered http server request timers, indexed by uri tag value, then by
+ * method and status code.
+ * <p>
+ * The timer used by a request is registered once, and then looked up with no
+ * allocation: the uri (route template) selects a small copy-on-write table,
+ * which is scanned for an {@code int} key combining the method and the status.
+ */
+final class HttpServerRequestTimers {
+    /** Pseudo status code used for requests that have been reset */
+    static final int RESET = 1000;
+
+    private static final int STATUS_BITS = 10;
+
+    final MeterRegistry registry;
+    final String name;
+    final ConcurrentHashMap<String, RouteTimers> routes = new ConcurrentHashMap<>();
+
+    HttpServerRequestTimers(MeterRegistry registry, String name) {
+        this.registry = registry;
+        this.name = name;
+        // Forget removed timers, a request will register them again
+        registry.config().onMeterRemoved(this::removed);
+    }
+
+    /**
+     * @param path the request path, as returned by {@code HttpRequestMetric#getHttpRequestPath()}
+     * @param method the request method
+     * @param status the response status code, or {@link #RESET}
+     * @return the timer for this request
+     */
+    Timer get(String path, HttpMethod method, int status) {
+        if (status < 0 || status > RESET) {
+            return register(path, method, status);
+        }
+        String uri = uri(path, status);
+        int key = (method == null ? 0 : method.ordinal() + 1) << STATUS_BITS | status;
+
+        RouteTimers route = routes.get(uri);
+        if (route != null) {
+            Timer timer = route.find(key);
+            if (timer != null) {
+                return timer;
+            }
+        } else {
+            Timer timer = register(path, method, status);
+            if (timer instanceof NoopTimer) {
+                // denied by a meter filter: do not hold on to it
+                return timer;
+            }
+            route = routes.computeIfAbsent(uri, k -> new RouteTimers());
+        }
+        return route.add(key, path, method, status);
+    }
+
+    int size() {
+        int size = 0;
+        for (RouteTimers route : routes.values()) {
+            size += route.keys.length;
+        }
+        return size;
+    }
+
+    Timer register(String path, HttpMethod method, int status) {
+        Tags tags;
+        if (status == RESET) {
+            tags = Tags.of(VertxMetricsTags.method(method),
+                    HttpMetricsCommon.uri(path, 0),
+                    Outcome.CLIENT_ERROR.asTag(),
+                    HttpMetricsCommon.STATUS_RESET);
+        } else {
+            tags = Tags.of(VertxMetricsTags.method(method),
+                    HttpMetricsCommon.uri(path, status),
+                    HttpMetricsCommon.outcome(status),
+                    HttpMetricsCommon.status(status));
+        }
+        return Timer.builder(name).tags(tags).register(registry);
+    }
+
+    private void removed(Meter meter) {
+        if (name.equals(meter.getId().getName())) {
+            String uri = meter.getId().getTag("uri");
+            if (uri != null) {
+                routes.remove(uri);
+            }
+        }
+    }
+
+    /**
+     * The value of the uri tag (see {@link HttpMetricsCommon#uri(String, int)}),
+     * computed without allocating the tag itself
+     */
+    static String uri(String path, int status) {
+        if (status > 0 && status != RESET) {
+            if (status / 100 == 3) {
+                return HttpMetricsCommon.URI_REDIRECTION.getValue();
+            } else if (status == 404) {
+                return HttpMetricsCommon.URI_NOT_FOUND.getValue();
+            }
+        }
+        if (path == null) {
+            return HttpMetricsCommon.URI_UNKNOWN.getValue();
+        }
+        if (path.isEmpty() || "/".equals(path)) {
+            return HttpMetricsCommon.URI_ROOT.getValue();
+        }
+        return path;
+    }
+
+    final class RouteTimers {
+        volatile int[] keys = new int[0];
+        volatile Timer[] timers = new Timer[0];
+
+        Timer find(int key) {
+            // timers is written before keys, so it is at least as long
+            int[] keys = this.keys;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return timers[i];
+                }
+            }
+            return null;
+        }
+
+        synchronized Timer add(int key, String path, HttpMethod method, int status) {
+            Timer timer = find(key);
+            if (timer != null) {
+                return timer;
+            }
+            timer = register(path, method, status);
+            if (timer instanceof NoopTimer) {
+                // denied by a meter filter: do not hold on to it
+                return timer;
+            }
+            int length = keys.length;
+            Timer[] newTimers = Arrays.copyOf(timers, length + 1);
+            newTimers[length] = timer;
+            int[] newKeys = Arrays.copyOf(keys, length + 1);
+            newKeys[length] = key;
+            timers = newTimers;
+            keys = newKeys;
+            return timer;
+        }
+    }
+}
@@ -2,15 +2,15 @@ package io.quarkus.micrometer.runtime.binder.vertx;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.jboss.logging.Logger;
 
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
-import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.binder.http.Outcome;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.HttpMetricsCommon;
 import io.quarkus.micrometer.runtime.binder.HttpRequestMetric;
@@ -42,6 +42,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     final String nameHttpServerPush;
     final String nameHttpServerRequests;
 
+    final Clock clock;
+    final HttpServerRequestTimers requestTimers;
+
     VertxHttpServerMetrics(MeterRegistry registry, HttpBinderConfiguration config) {
         super(registry, "http.server");
         nameWebsocketConnections = "http.server.websocket.connections";
@@ -50,6 +53,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
 
         ignorePatterns = config.getServerIgnorePatterns();
         matchPatterns = config.getServerMatchPatterns();
+
+        clock = registry.config().clock();
+        requestTimers = new HttpServerRequestTimers(registry, nameHttpServerRequests);
     }
 
     /**
@@ -122,9 +128,8 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         setRequestMetric(Vertx.currentContext(), requestMetric);
 
         if (requestMetric.isMeasure()) {
-            // If we're measuring this request, create/remember the sample
-            requestMetric.setSample(Timer.start(registry));
-            requestMetric.setTags(Tags.of(VertxMetricsTags.method(request.method())));
+            // If we're measuring this request, remember when it started
+            requestMetric.setStart(request.method(), clock.monotonicTime());
 
             log.debugf("requestBegin %s: %s, %s", requestMetric.getPath(), socketMetric, requestMetric);
         }
@@ -141,17 +146,7 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     @Override
     public void requestReset(HttpRequestMetric requestMetric) {
         log.debugf("requestReset: %s", requestMetric);
-        Timer.Sample sample = getRequestSample(requestMetric);
-        if (sample != null) {
-            String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.getTags())
-                    .tags(Tags.of(
-                            HttpMetricsCommon.uri(requestPath, 0),
-                            Outcome.CLIENT_ERROR.asTag(),
-                            HttpMetricsCommon.STATUS_RESET));
-            sample.stop(builder.register(registry));
-        }
+        stop(requestMetric, HttpServerRequestTimers.RESET);
     }
 
     /**
@@ -163,19 +158,7 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     @Override
     public void responseEnd(HttpRequestMetric requestMetric, HttpServerResponse response) {
         log.debugf("responseEnd: %s, %s", requestMetric, response);
-
-        Timer.Sample sample = getRequestSample(requestMetric);
-        if (sample != null) {
-            String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.getTags())
-                    .tags(Tags.of(
-                            HttpMetricsCommon.uri(requestPath, response.getStatusCode()),
-                            VertxMetricsTags.outcome(response),
-                            HttpMetricsCommon.status(response.getStatusCode())));
-
-            sample.stop(builder.register(registry));
-        }
+        stop(requestMetric, response.getStatusCode());
     }
 
     /**
@@ -213,11 +196,16 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         }
     }
 
-    private Timer.Sample getRequestSample(HttpRequestMetric metricsContext) {
-        if (metricsContext == null) {
-            return null;
+    /**
+     * Record the request duration into the (pre-registered) timer for its
+     * route, method and status.
+     */
+    private void stop(HttpRequestMetric requestMetric, int status) {
+        if (requestMetric != null && requestMetric.end()) {
+            long duration = clock.monotonicTime() - requestMetric.getStartTime();
+            requestTimers.get(requestMetric.getHttpRequestPath(), requestMetric.getMethod(), status)
+                    .record(duration, TimeUnit.NANOSECONDS);
         }
-        return metricsContext.getSample();
     }
 
     private String getServerRequestPath(HttpRequestMetric metricsContext) {
@@ -0,0 +1,35 @@
+package io.quarkus.micrometer.runtime.config;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Build / static runtime config for the container-managed concurrency binder
+ */
+@ConfigGroup
+public class LockConfigGroup implements MicrometerConfig.CapabilityEnabled {
+    /**
+     * Container-managed concurrency metrics support.
+     * <p>
+     * Support for the metrics of the {@code @Lock} interceptor will be enabled if Micrometer support is enabled,
+     * {@code @Lock} is used by the application
+     * and either this value is true, or this value is unset and
+     * {@code quarkus.micrometer.binder-enabled-default} is true.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    @Override
+    public Optional<Boolean> getEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName()
+                + "{enabled=" + enabled
+                + '}';
+    }
+}
@@ -103,6 +103,7 @@ public final class MicrometerConfig {
         public boolean jvm;
 
         public KafkaConfigGroup kafka;
+        public LockConfigGroup lock;
         public MPMetricsConfigGroup mpMetrics;
 
         /**
@@ -0,0 +1,76 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import java.io.OutputStream;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes to a chunked response, in chunks of at most {@link #CHUNK_SIZE} bytes.
+ * <p>
+ * The writes never block, the chunks are queued by the response. The caller must stop writing while the write queue of the
+ * response is full, and resume from a drain handler, so that only the chunks waiting to be written to the socket are kept in
+ * memory, rather than the whole content.
+ */
+class ChunkedResponseOutputStream extends OutputStream {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private final HttpServerResponse response;
+    private Buffer chunk = Buffer.buffer(CHUNK_SIZE);
+    private boolean written;
+
+    ChunkedResponseOutputStream(HttpServerResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void write(int b) {
+        chunk.appendByte((byte) b);
+        if (chunk.length() >= CHUNK_SIZE) {
+            writeChunk();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            int n = Math.min(len, CHUNK_SIZE - chunk.length());
+            chunk.appendBytes(b, off, n);
+            off += n;
+            len -= n;
+            if (chunk.length() >= CHUNK_SIZE) {
+                writeChunk();
+            }
+        }
+    }
+
+    /**
+     * @return whether some content was already sent, along with the headers
+     */
+    boolean isWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() {
+        if (written) {
+            if (chunk.length() > 0) {
+                response.write(chunk);
+            }
+            response.end();
+        } else {
+            // everything fits in a single chunk: send it with a content length
+            response.end(chunk);
+        }
+    }
+
+    private void writeChunk() {
+        if (!written) {
+            response.setChunked(true);
+            written = true;
+        }
+        response.write(chunk);
+        chunk = Buffer.buffer(CHUNK_SIZE);
+    }
+}
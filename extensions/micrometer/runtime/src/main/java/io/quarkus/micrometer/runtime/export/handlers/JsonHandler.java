@@ -8,7 +8,6 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.micrometer.runtime.registry.json.JsonMeterRegistry;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
@@ -31,7 +30,7 @@ public class JsonHandler implements Handler<RoutingContext> {
                     .setStatusMessage("Unable to resolve JSON registry instance");
         } else {
             response.putHeader("Content-Type", "application/json")
-                    .end(Buffer.buffer(registry.scrape()));
+                    .end(registry.scrapeToBuffer());
         }
     }
 
@@ -1,5 +1,14 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPOutputStream;
+
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
@@ -7,9 +16,11 @@ import javax.enterprise.inject.spi.CDI;
 import org.jboss.logging.Logger;
 
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.Collector;
 import io.prometheus.client.exporter.common.TextFormat;
+import io.quarkus.vertx.http.runtime.AcceptEncoding;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
@@ -31,8 +42,87 @@ public class PrometheusHandler implements Handler<RoutingContext> {
             response.setStatusCode(500)
                     .setStatusMessage("Unable to resolve Prometheus registry instance");
         } else {
-            response.putHeader("Content-Type", TextFormat.CONTENT_TYPE_004)
-                    .end(Buffer.buffer(registry.scrape()));
+            response.putHeader(HttpHeaders.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004);
+            scrape(routingContext, response);
+        }
+    }
+
+    /**
+     * Writes the metric families as they are collected, rather than building the whole exposition text first.
+     * <p>
+     * The scrape runs on the event loop, one metric family at a time. It pauses while the write queue of the response is
+     * full, and resumes once the queue is drained.
+     */
+    private void scrape(RoutingContext routingContext, HttpServerResponse response) {
+        ChunkedResponseOutputStream out = new ChunkedResponseOutputStream(response);
+        // the content depends on the Accept-Encoding header of the request
+        response.putHeader("Vary", "Accept-Encoding");
+        OutputStream stream = out;
+        try {
+            if (AcceptEncoding.acceptsGzip(routingContext.request().getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                stream = new GZIPOutputStream(out, 8192);
+            }
+        } catch (IOException e) {
+            response.headers().remove(HttpHeaders.CONTENT_ENCODING);
+            routingContext.fail(e);
+            return;
+        }
+        new Scrape(routingContext, out, new OutputStreamWriter(stream, StandardCharsets.UTF_8),
+                registry.getPrometheusRegistry().metricFamilySamples()).run();
+    }
+
+    /**
+     * The metric families left to write. A family is written as a whole, in chunks, so a family with many samples may
+     * still be queued entirely by the response.
+     */
+    private static final class Scrape implements Handler<Void> {
+
+        private final RoutingContext routingContext;
+        private final HttpServerResponse response;
+        private final ChunkedResponseOutputStream out;
+        private final Writer writer;
+        private final Enumeration<Collector.MetricFamilySamples> families;
+
+        Scrape(RoutingContext routingContext, ChunkedResponseOutputStream out, Writer writer,
+                Enumeration<Collector.MetricFamilySamples> families) {
+            this.routingContext = routingContext;
+            this.response = routingContext.response();
+            this.out = out;
+            this.writer = writer;
+            this.families = families;
+        }
+
+        @Override
+        public void handle(Void drained) {
+            run();
+        }
+
+        void run() {
+            try {
+                while (families.hasMoreElements()) {
+                    if (response.closed()) {
+                        return;
+                    }
+                    if (response.writeQueueFull()) {
+                        response.drainHandler(this);
+                        return;
+                    }
+                    TextFormat.write004(writer,
+                            Collections.enumeration(Collections.singletonList(families.nextElement())));
+                }
+                // ends the response
+                writer.close();
+            } catch (Exception e) {
+                if (out.isWritten()) {
+                    // the status was already sent
+                    log.error("Unable to write the Prometheus metrics", e);
+                    response.close();
+                } else {
+                    response.headers().remove(HttpHeaders.CONTENT_ENCODING);
+                    routingContext.fail(e);
+                }
+            }
         }
     }
 
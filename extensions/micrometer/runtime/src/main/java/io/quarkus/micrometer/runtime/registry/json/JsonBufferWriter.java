@@ -0,0 +1,144 @@
+package io.quarkus.micrometer.runtime.registry.json;
+
+import io.micrometer.core.instrument.Tag;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A minimal streaming JSON writer, appending UTF-8 directly to a Vert.x {@link Buffer}.
+ * <p>
+ * Keys and numbers are written without intermediate strings, so that the cost of an export only depends on the
+ * number of series. The output is indented like the pretty printed output of the JSON-P writer.
+ */
+class JsonBufferWriter {
+
+    private static final int INDENT = 4;
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+    private final Buffer buffer;
+    private final byte[] digits = new byte[20];
+    // whether an element was already written in the object at each depth
+    private boolean[] notEmpty = new boolean[4];
+    private int depth;
+
+    JsonBufferWriter(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    JsonBufferWriter startObject() {
+        buffer.appendByte((byte) '{');
+        if (++depth == notEmpty.length) {
+            boolean[] grown = new boolean[depth * 2];
+            System.arraycopy(notEmpty, 0, grown, 0, depth);
+            notEmpty = grown;
+        }
+        notEmpty[depth] = false;
+        return this;
+    }
+
+    JsonBufferWriter endObject() {
+        boolean hadElements = notEmpty[depth--];
+        if (hadElements) {
+            newLine();
+        }
+        buffer.appendByte((byte) '}');
+        if (depth == 0) {
+            buffer.appendByte((byte) '\n');
+        }
+        return this;
+    }
+
+    /**
+     * Writes the key {@code name;tag1=value1;tag2=value2}, {@code ;} being replaced by {@code _} in the tag values.
+     */
+    JsonBufferWriter key(String name, Iterable<Tag> tags) {
+        if (notEmpty[depth]) {
+            buffer.appendByte((byte) ',');
+        } else {
+            notEmpty[depth] = true;
+        }
+        newLine();
+        buffer.appendByte((byte) '"');
+        appendEscaped(name, false);
+        if (tags != null) {
+            for (Tag tag : tags) {
+                buffer.appendByte((byte) ';');
+                appendEscaped(tag.getKey(), false);
+                buffer.appendByte((byte) '=');
+                appendEscaped(tag.getValue(), true);
+            }
+        }
+        buffer.appendByte((byte) '"').appendByte((byte) ':').appendByte((byte) ' ');
+        return this;
+    }
+
+    JsonBufferWriter key(String name) {
+        return key(name, null);
+    }
+
+    JsonBufferWriter value(long value) {
+        if (value == Long.MIN_VALUE) {
+            buffer.appendString(Long.toString(value));
+            return this;
+        }
+        if (value < 0) {
+            buffer.appendByte((byte) '-');
+            value = -value;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        buffer.appendBytes(digits, pos, digits.length - pos);
+        return this;
+    }
+
+    JsonBufferWriter value(double value) {
+        if (!Double.isFinite(value)) {
+            // not representable in JSON
+            buffer.appendBytes(NULL);
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            // integral values are the most common ones (counts, durations in ms...): avoid Double.toString
+            value((long) value);
+            buffer.appendByte((byte) '.').appendByte((byte) '0');
+        } else {
+            buffer.appendString(Double.toString(value));
+        }
+        return this;
+    }
+
+    private void newLine() {
+        buffer.appendByte((byte) '\n');
+        for (int i = 0; i < depth * INDENT; i++) {
+            buffer.appendByte((byte) ' ');
+        }
+    }
+
+    private void appendEscaped(String s, boolean replaceSemicolons) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.appendByte((byte) '\\').appendByte((byte) c);
+            } else if (c == ';' && replaceSemicolons) {
+                buffer.appendByte((byte) '_');
+            } else if (c < 0x20) {
+                buffer.appendByte((byte) '\\').appendByte((byte) 'u').appendByte((byte) '0').appendByte((byte) '0')
+                        .appendByte((byte) Character.forDigit(c >> 4, 16)).appendByte((byte) Character.forDigit(c & 0xF, 16));
+            } else if (c < 0x80) {
+                buffer.appendByte((byte) c);
+            } else if (c < 0x800) {
+                buffer.appendByte((byte) (0xC0 | (c >> 6))).appendByte((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                buffer.appendByte((byte) (0xF0 | (cp >> 18)))
+                        .appendByte((byte) (0x80 | ((cp >> 12) & 0x3F)))
+                        .appendByte((byte) (0x80 | ((cp >> 6) & 0x3F)))
+                        .appendByte((byte) (0x80 | (cp & 0x3F)));
+            } else {
+                buffer.appendByte((byte) (0xE0 | (c >> 12)))
+                        .appendByte((byte) (0x80 | ((c >> 6) & 0x3F)))
+                        .appendByte((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
@@ -17,21 +17,11 @@
 
 package io.quarkus.micrometer.runtime.registry.json;
 
-import java.io.StringWriter;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import javax.json.JsonObject;
-import javax.json.JsonObjectBuilder;
-import javax.json.JsonValue;
-import javax.json.JsonWriter;
-import javax.json.spi.JsonProvider;
-import javax.json.stream.JsonGenerator;
+import java.util.function.Consumer;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
@@ -40,187 +30,130 @@ import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.Meter;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.distribution.HistogramSnapshot;
 import io.micrometer.core.instrument.distribution.ValueAtPercentile;
-
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Writes the meters of a registry as a single JSON object.
+ * <p>
+ * The meters are visited once: counters and gauges are written as they are found, while timers and summaries are
+ * grouped by name, each group being written as a nested object. The output is streamed to a {@link Buffer}, no
+ * intermediate JSON tree is built.
+ */
 public class JsonExporter {
 
-    private static final Map<String, ?> JSON_CONFIG = Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true);
-    private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
-
     public JsonExporter() {
     }
 
     public StringBuilder exportEverything(JsonMeterRegistry meterRegistry) {
-        JsonObjectBuilder root = JSON_PROVIDER.createObjectBuilder();
-        List<Gauge> gauges = new ArrayList<>();
-        List<Counter> counters = new ArrayList<>();
-        List<TimeGauge> timeGauges = new ArrayList<>();
-        List<FunctionCounter> functionCounters = new ArrayList<>();
-        List<Timer> timers = new ArrayList<>();
-        List<LongTaskTimer> longTaskTimers = new ArrayList<>();
-        List<FunctionTimer> functionTimers = new ArrayList<>();
-        List<DistributionSummary> distributionSummaries = new ArrayList<>();
-        List<Meter> meters = new ArrayList<>();
-        meterRegistry.getMeters().forEach(meter -> meter.match(gauges::add,
-                counters::add,
-                timers::add,
-                distributionSummaries::add,
-                longTaskTimers::add,
-                timeGauges::add,
-                functionCounters::add,
-                functionTimers::add,
-                meters::add));
-        exportCounters(counters).forEach(root::add);
-        exportGauges(gauges).forEach(root::add);
-        exportTimeGauges(timeGauges).forEach(root::add);
-        exportFunctionCounters(functionCounters).forEach(root::add);
-        exportTimers(timers).forEach(root::add);
-        exportLongTaskTimers(longTaskTimers).forEach(root::add);
-        exportFunctionTimers(functionTimers).forEach(root::add);
-        exportDistributionSummaries(distributionSummaries).forEach(root::add);
-        return stringify(root.build());
+        Buffer buffer = Buffer.buffer();
+        exportEverything(meterRegistry, buffer);
+        return new StringBuilder(buffer.toString());
     }
 
-    private Map<String, JsonValue> exportGauges(Collection<Gauge> gauges) {
-        Map<String, JsonValue> result = new HashMap<String, JsonValue>(gauges.size());
-        for (Gauge g : gauges) {
-            double value = g.value();
-            if (Double.isFinite(value)) {
-                result.put(createExportKey(g.getId()), JSON_PROVIDER.createValue(value));
-            }
-        }
-        return result;
-    }
+    public void exportEverything(JsonMeterRegistry meterRegistry, Buffer buffer) {
+        JsonBufferWriter writer = new JsonBufferWriter(buffer);
+        Map<String, List<Meter>> timers = new HashMap<>();
+        Map<String, List<Meter>> longTaskTimers = new HashMap<>();
+        Map<String, List<Meter>> distributionSummaries = new HashMap<>();
 
-    private Map<String, JsonValue> exportTimeGauges(Collection<TimeGauge> timeGauges) {
-        Map<String, JsonValue> result = new HashMap<String, JsonValue>(timeGauges.size());
-        for (TimeGauge g : timeGauges) {
+        writer.startObject();
+        Consumer<Gauge> gauge = g -> {
             double value = g.value();
             if (Double.isFinite(value)) {
-                result.put(createExportKey(g.getId()), JSON_PROVIDER.createValue(value));
+                writer.key(g.getId().getName(), g.getId().getTagsAsIterable()).value(value);
             }
+        };
+        Consumer<Counter> counter = c -> writer.key(c.getId().getName(), c.getId().getTagsAsIterable()).value(c.count());
+        Consumer<TimeGauge> timeGauge = gauge::accept;
+        Consumer<FunctionCounter> functionCounter = c -> writer.key(c.getId().getName(), c.getId().getTagsAsIterable())
+                .value(c.count());
+        Consumer<Timer> timer = t -> group(timers, t);
+        Consumer<FunctionTimer> functionTimer = t -> group(timers, t);
+        Consumer<LongTaskTimer> longTaskTimer = t -> group(longTaskTimers, t);
+        Consumer<DistributionSummary> distributionSummary = s -> group(distributionSummaries, s);
+        Consumer<Meter> ignored = m -> {
+        };
+        for (Meter meter : meterRegistry.getMeters()) {
+            meter.use(gauge, counter, timer, distributionSummary, longTaskTimer, timeGauge, functionCounter,
+                    functionTimer, ignored);
         }
-        return result;
-    }
-
-    private Map<String, JsonValue> exportCounters(Collection<Counter> counters) {
-        return counters.stream()
-                .collect(Collectors.toMap(counter -> createExportKey(counter.getId()),
-                        counter -> JSON_PROVIDER.createValue(counter.count())));
-    }
-
-    private Map<String, JsonValue> exportFunctionCounters(Collection<FunctionCounter> counters) {
-        return counters.stream()
-                .collect(Collectors.toMap(counter -> createExportKey(counter.getId()),
-                        counter -> JSON_PROVIDER.createValue(counter.count())));
-    }
 
-    private Map<String, JsonValue> exportTimers(Collection<Timer> timers) {
-        Map<String, List<Timer>> groups = timers.stream().collect(Collectors.groupingBy(timer -> timer.getId().getName()));
-        Map<String, JsonValue> result = new HashMap<>();
-        for (Map.Entry<String, List<Timer>> group : groups.entrySet()) {
-            JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
-            for (Timer timer : group.getValue()) {
-                builder.add(createExportKey("count", timer.getId()), timer.count());
-                builder.add(createExportKey("elapsedTime", timer.getId()), timer.totalTime(timer.baseTimeUnit()));
-            }
-            result.put(group.getKey(), builder.build());
-        }
-        return result;
-    }
-
-    private Map<String, JsonValue> exportLongTaskTimers(Collection<LongTaskTimer> timers) {
-        Map<String, List<LongTaskTimer>> groups = timers.stream()
-                .collect(Collectors.groupingBy(timer -> timer.getId().getName()));
-        Map<String, JsonValue> result = new HashMap<>();
-        for (Map.Entry<String, List<LongTaskTimer>> group : groups.entrySet()) {
-            JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
-            for (LongTaskTimer timer : group.getValue()) {
-                builder.add(createExportKey("activeTasks", timer.getId()), timer.activeTasks());
-                builder.add(createExportKey("duration", timer.getId()), timer.duration(timer.baseTimeUnit()));
-                builder.add(createExportKey("max", timer.getId()), timer.max(timer.baseTimeUnit()));
-                builder.add(createExportKey("mean", timer.getId()), timer.mean(timer.baseTimeUnit()));
+        for (Map.Entry<String, List<Meter>> group : timers.entrySet()) {
+            writer.key(group.getKey()).startObject();
+            for (Meter meter : group.getValue()) {
+                if (meter instanceof Timer) {
+                    Timer t = (Timer) meter;
+                    writer.key("count", t.getId().getTagsAsIterable()).value(t.count());
+                    writer.key("elapsedTime", t.getId().getTagsAsIterable()).value(t.totalTime(t.baseTimeUnit()));
+                } else {
+                    FunctionTimer t = (FunctionTimer) meter;
+                    writer.key("count", t.getId().getTagsAsIterable()).value(t.count());
+                    writer.key("elapsedTime", t.getId().getTagsAsIterable()).value(t.totalTime(t.baseTimeUnit()));
+                }
             }
-            result.put(group.getKey(), builder.build());
+            writer.endObject();
         }
-        return result;
-    }
 
-    private Map<String, JsonValue> exportFunctionTimers(Collection<FunctionTimer> timers) {
-        Map<String, List<FunctionTimer>> groups = timers.stream()
-                .collect(Collectors.groupingBy(timer -> timer.getId().getName()));
-        Map<String, JsonValue> result = new HashMap<>();
-        for (Map.Entry<String, List<FunctionTimer>> group : groups.entrySet()) {
-            JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
-            for (FunctionTimer timer : group.getValue()) {
-                builder.add(createExportKey("count", timer.getId()), timer.count());
-                builder.add(createExportKey("elapsedTime", timer.getId()), timer.totalTime(timer.baseTimeUnit()));
+        for (Map.Entry<String, List<Meter>> group : longTaskTimers.entrySet()) {
+            writer.key(group.getKey()).startObject();
+            for (Meter meter : group.getValue()) {
+                LongTaskTimer t = (LongTaskTimer) meter;
+                writer.key("activeTasks", t.getId().getTagsAsIterable()).value(t.activeTasks());
+                writer.key("duration", t.getId().getTagsAsIterable()).value(t.duration(t.baseTimeUnit()));
+                writer.key("max", t.getId().getTagsAsIterable()).value(t.max(t.baseTimeUnit()));
+                writer.key("mean", t.getId().getTagsAsIterable()).value(t.mean(t.baseTimeUnit()));
             }
-            result.put(group.getKey(), builder.build());
+            writer.endObject();
         }
-        return result;
-    }
 
-    private Map<String, JsonValue> exportDistributionSummaries(Collection<DistributionSummary> distributionSummaries) {
-        Map<String, List<DistributionSummary>> groups = distributionSummaries.stream()
-                .collect(Collectors.groupingBy(summary -> summary.getId().getName()));
-        Map<String, JsonValue> result = new HashMap<>();
-        for (Map.Entry<String, List<DistributionSummary>> group : groups.entrySet()) {
-            JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
-            for (DistributionSummary summary : group.getValue()) {
+        for (Map.Entry<String, List<Meter>> group : distributionSummaries.entrySet()) {
+            writer.key(group.getKey()).startObject();
+            for (Meter meter : group.getValue()) {
+                DistributionSummary summary = (DistributionSummary) meter;
                 HistogramSnapshot snapshot = summary.takeSnapshot();
                 if (summary instanceof JsonDistributionSummary) {
                     double min = ((JsonDistributionSummary) summary).min();
                     // if there are no samples yet, show 0 as the min
-                    builder.add(createExportKey("min", summary.getId()), !Double.isNaN(min) ? min : 0);
+                    writer.key("min", summary.getId().getTagsAsIterable()).value(!Double.isNaN(min) ? min : 0);
                 }
-                builder.add(createExportKey("count", summary.getId()), snapshot.count());
-                builder.add(createExportKey("max", summary.getId()), snapshot.max());
-                builder.add(createExportKey("mean", summary.getId()), snapshot.mean());
+                writer.key("count", summary.getId().getTagsAsIterable()).value(snapshot.count());
+                writer.key("max", summary.getId().getTagsAsIterable()).value(snapshot.max());
+                writer.key("mean", summary.getId().getTagsAsIterable()).value(snapshot.mean());
                 for (ValueAtPercentile valueAtPercentile : snapshot.percentileValues()) {
-                    if (Math.abs(valueAtPercentile.percentile() - 0.999) < 0.000001) {
-                        builder.add(createExportKey("p999", summary.getId()),
-                                valueAtPercentile.value());
-                    } else {
-                        builder.add(
-                                createExportKey("p" + (int) Math.floor(valueAtPercentile.percentile() * 100), summary.getId()),
-                                valueAtPercentile.value());
-                    }
+                    writer.key(percentileKey(valueAtPercentile.percentile()), summary.getId().getTagsAsIterable())
+                            .value(valueAtPercentile.value());
                 }
             }
-            result.put(group.getKey(), builder.build());
+            writer.endObject();
         }
-        return result;
+        writer.endObject();
     }
 
-    private StringBuilder stringify(JsonObject obj) {
-        StringWriter out = new StringWriter();
-        try (JsonWriter writer = JSON_PROVIDER.createWriterFactory(JSON_CONFIG).createWriter(out)) {
-            writer.writeObject(obj);
-        }
-        return new StringBuilder(out.toString());
-    }
-
-    private String createExportKey(Meter.Id id) {
-        return id.getName() + createTagsString(id.getTags());
+    private static void group(Map<String, List<Meter>> groups, Meter meter) {
+        groups.computeIfAbsent(meter.getId().getName(), k -> new ArrayList<>()).add(meter);
     }
 
-    private String createExportKey(String componentKey, Meter.Id id) {
-        return componentKey + createTagsString(id.getTags());
-    }
-
-    private String createTagsString(List<Tag> tags) {
-        if (tags == null || tags.isEmpty()) {
-            return "";
-        } else {
-            return ";" + tags.stream()
-                    .map(tag -> tag.getKey() + "=" + tag.getValue()
-                            .replace(";", "_"))
-                    .collect(Collectors.joining(";"));
+    private static String percentileKey(double percentile) {
+        if (Math.abs(percentile - 0.999) < 0.000001) {
+            return "p999";
+        }
+        switch ((int) Math.floor(percentile * 100)) {
+            case 50:
+                return "p50";
+            case 75:
+                return "p75";
+            case 95:
+                return "p95";
+            case 98:
+                return "p98";
+            case 99:
+                return "p99";
+            default:
+                return "p" + (int) Math.floor(percentile * 100);
         }
     }
 
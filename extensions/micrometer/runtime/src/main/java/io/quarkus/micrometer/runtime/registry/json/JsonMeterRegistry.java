@@ -20,10 +20,12 @@ import io.micrometer.core.instrument.cumulative.CumulativeCounter;
 import io.micrometer.core.instrument.cumulative.CumulativeFunctionCounter;
 import io.micrometer.core.instrument.cumulative.CumulativeFunctionTimer;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.pause.NoPauseDetector;
 import io.micrometer.core.instrument.distribution.pause.PauseDetector;
 import io.micrometer.core.instrument.internal.DefaultGauge;
 import io.micrometer.core.instrument.internal.DefaultMeter;
 import io.micrometer.core.instrument.noop.NoopLongTaskTimer;
+import io.vertx.core.buffer.Buffer;
 
 /**
  * A registry that, when exported, mimics the JSON exporter from MP Metrics 3.0
@@ -31,9 +33,13 @@ import io.micrometer.core.instrument.noop.NoopLongTaskTimer;
  */
 public class JsonMeterRegistry extends MeterRegistry {
 
+    private static final int INITIAL_SCRAPE_SIZE = 4096;
+    private static final PauseDetector NO_PAUSE_DETECTOR = new NoPauseDetector();
+
     private final JsonExporter jsonExporter;
     private final Integer bufferLength;
     private final Duration expiry;
+    private volatile int lastScrapeSize = INITIAL_SCRAPE_SIZE;
 
     public JsonMeterRegistry(Clock clock, Integer bufferLength, Duration expiry) {
         super(clock);
@@ -61,7 +67,8 @@ public class JsonMeterRegistry extends MeterRegistry {
                 .percentiles(new double[0])
                 .build()
                 .merge(distributionStatisticConfig);
-        return new JsonTimer(id, clock, distributionStatisticConfig, pauseDetector, getBaseTimeUnit());
+        // pauses only affect the histogram, which is disabled: skip the pause detection on each recording
+        return new JsonTimer(id, clock, distributionStatisticConfig, NO_PAUSE_DETECTOR, getBaseTimeUnit());
     }
 
     @Override
@@ -111,8 +118,16 @@ public class JsonMeterRegistry extends MeterRegistry {
     }
 
     public String scrape() {
-        return jsonExporter
-                .exportEverything(this)
-                .toString();
+        return scrapeToBuffer().toString();
+    }
+
+    /**
+     * Exports the meters to a new buffer, sized after the previous export to avoid growing it while writing.
+     */
+    public Buffer scrapeToBuffer() {
+        Buffer buffer = Buffer.buffer(lastScrapeSize);
+        jsonExporter.exportEverything(this, buffer);
+        lastScrapeSize = Math.max(buffer.length() + buffer.length() / 8, INITIAL_SCRAPE_SIZE);
+        return buffer;
     }
 }
@@ -72,6 +72,15 @@ public class HttpRequestMetricTest {
         Assertions.assertFalse(requestMetric.pathMatched, "Path should not be marked as matched");
     }
 
+    @Test
+    public void testParsePathRepeatedAndTrailingSlash() {
+        HttpRequestMetric requestMetric = new HttpRequestMetric(NO_MATCH_PATTERNS, NO_IGNORE_PATTERNS,
+                "/path//with///slashes/");
+        Assertions.assertEquals("/path/with/slashes", requestMetric.path);
+        Assertions.assertTrue(requestMetric.measure, "Path should be measured");
+        Assertions.assertFalse(requestMetric.pathMatched, "Path should not be marked as matched");
+    }
+
     @Test
     public void testParseEmptyPath() {
         HttpRequestMetric requestMetric = new HttpRequestMetric(NO_MATCH_PATTERNS, NO_IGNORE_PATTERNS, "");
@@ -0,0 +1,68 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+public class HttpServerRequestTimersTest {
+
+    @Test
+    public void testTimersAreRegisteredOnce() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpServerRequestTimers timers = new HttpServerRequestTimers(registry, "http.server.requests");
+
+        Timer timer = timers.get("/item/{id}", HttpMethod.GET, 200);
+        Assertions.assertSame(timer, timers.get("/item/{id}", HttpMethod.GET, 200));
+        Assertions.assertNotSame(timer, timers.get("/item/{id}", HttpMethod.POST, 200));
+        Assertions.assertNotSame(timer, timers.get("/item/{id}", HttpMethod.GET, 201));
+        Assertions.assertEquals(3, timers.size());
+
+        Assertions.assertEquals("GET", timer.getId().getTag("method"));
+        Assertions.assertEquals("/item/{id}", timer.getId().getTag("uri"));
+        Assertions.assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+        Assertions.assertEquals("200", timer.getId().getTag("status"));
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tag("method", "GET").tag("status", "200").timer());
+    }
+
+    @Test
+    public void testTagsDependOnStatus() {
+        HttpServerRequestTimers timers = new HttpServerRequestTimers(new SimpleMeterRegistry(), "http.server.requests");
+
+        Timer notFound = timers.get("/a", HttpMethod.GET, 404);
+        Assertions.assertSame(notFound, timers.get("/b", HttpMethod.GET, 404));
+        Assertions.assertEquals("NOT_FOUND", notFound.getId().getTag("uri"));
+
+        Timer redirect = timers.get("/a", HttpMethod.GET, 302);
+        Assertions.assertEquals("REDIRECTION", redirect.getId().getTag("uri"));
+        Assertions.assertEquals("302", redirect.getId().getTag("status"));
+
+        Timer root = timers.get("/", HttpMethod.GET, 200);
+        Assertions.assertEquals("root", root.getId().getTag("uri"));
+
+        Timer reset = timers.get("/a", HttpMethod.GET, HttpServerRequestTimers.RESET);
+        Assertions.assertEquals("/a", reset.getId().getTag("uri"));
+        Assertions.assertEquals("CLIENT_ERROR", reset.getId().getTag("outcome"));
+        Assertions.assertEquals("RESET", reset.getId().getTag("status"));
+    }
+
+    @Test
+    public void testRemovedAndDeniedTimersAreNotKept() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(MeterFilter.deny(id -> "/denied".equals(id.getTag("uri"))));
+        HttpServerRequestTimers timers = new HttpServerRequestTimers(registry, "http.server.requests");
+
+        timers.get("/denied", HttpMethod.GET, 200);
+        Assertions.assertEquals(0, timers.size());
+
+        Timer timer = timers.get("/item", HttpMethod.GET, 200);
+        registry.remove(timer);
+        Assertions.assertEquals(0, timers.size());
+        Assertions.assertNotSame(timer, timers.get("/item", HttpMethod.GET, 200));
+    }
+}
@@ -0,0 +1,85 @@
+package io.quarkus.micrometer.runtime.registry.json;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Test the streamed JSON export
+ */
+public class JsonExporterTest {
+
+    @Test
+    public void testExport() {
+        JsonMeterRegistry registry = new JsonMeterRegistry(Clock.SYSTEM, 3, Duration.ofMinutes(1));
+        Counter.builder("requests").tag("uri", "/a;b").register(registry).increment(3);
+        Gauge.builder("queue", new AtomicInteger(7), AtomicInteger::get).register(registry);
+        Gauge.builder("nan", () -> Double.NaN).register(registry);
+        Timer timer = Timer.builder("calls").tag("method", "get").register(registry);
+        timer.record(2, TimeUnit.MILLISECONDS);
+        timer.record(4, TimeUnit.MILLISECONDS);
+        DistributionSummary summary = DistributionSummary.builder("sizes").register(registry);
+        summary.record(1.5);
+        summary.record(2.5);
+
+        JsonObject json = new JsonObject(registry.scrapeToBuffer());
+
+        Assertions.assertEquals(3.0, json.getDouble("requests;uri=/a_b"));
+        Assertions.assertEquals(7.0, json.getDouble("queue"));
+        Assertions.assertFalse(json.containsKey("nan"));
+        JsonObject calls = json.getJsonObject("calls");
+        Assertions.assertEquals(2, calls.getLong("count;method=get"));
+        Assertions.assertEquals(6.0, calls.getDouble("elapsedTime;method=get"));
+        JsonObject sizes = json.getJsonObject("sizes");
+        Assertions.assertEquals(2, sizes.getLong("count"));
+        Assertions.assertEquals(1.5, sizes.getDouble("min"));
+        Assertions.assertEquals(2.5, sizes.getDouble("max"));
+        Assertions.assertEquals(2.0, sizes.getDouble("mean"));
+        Assertions.assertTrue(sizes.containsKey("p999"));
+    }
+
+    @Test
+    public void testEscaping() {
+        JsonMeterRegistry registry = new JsonMeterRegistry(Clock.SYSTEM, 3, Duration.ofMinutes(1));
+        Counter.builder("quote\"d").tag("path", "c:\\tmp\u00e9\u20ac").register(registry).increment();
+
+        JsonObject json = new JsonObject(registry.scrapeToBuffer());
+
+        Assertions.assertEquals(1.0, json.getDouble("quote\"d;path=c:\\tmp\u00e9\u20ac"));
+    }
+
+    @Test
+    public void testNumbers() {
+        Buffer buffer = Buffer.buffer();
+        new JsonBufferWriter(buffer).startObject()
+                .key("zero").value(0L)
+                .key("negative").value(-42L)
+                .key("min").value(Long.MIN_VALUE)
+                .key("integral").value(-3.0)
+                .key("fraction").value(0.25)
+                .key("large").value(1e20)
+                .key("infinite").value(Double.POSITIVE_INFINITY)
+                .endObject();
+
+        JsonObject json = new JsonObject(buffer);
+
+        Assertions.assertEquals(0L, json.getLong("zero"));
+        Assertions.assertEquals(-42L, json.getLong("negative"));
+        Assertions.assertEquals(Long.MIN_VALUE, json.getLong("min"));
+        Assertions.assertEquals(-3.0, json.getDouble("integral"));
+        Assertions.assertEquals(0.25, json.getDouble("fraction"));
+        Assertions.assertEquals(1e20, json.getDouble("large"));
+        Assertions.assertNull(json.getValue("infinite"));
+    }
+}
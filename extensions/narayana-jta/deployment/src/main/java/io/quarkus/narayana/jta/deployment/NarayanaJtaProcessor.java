@@ -24,6 +24,7 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.ContextRegistrarBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
+import io.quarkus.arc.deployment.SynchronousInterceptorBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.ContextRegistrar;
 import io.quarkus.deployment.Capability;
@@ -117,6 +118,19 @@ class NarayanaJtaProcessor {
         recorder.setConfig(transactions);
     }
 
+    @BuildStep
+    void synchronousInterceptors(BuildProducer<SynchronousInterceptorBuildItem> synchronousInterceptors) {
+        // the transactional interceptors always proceed before they return
+        synchronousInterceptors.produce(new SynchronousInterceptorBuildItem(TransactionalInterceptorSupports.class.getName()));
+        synchronousInterceptors.produce(new SynchronousInterceptorBuildItem(TransactionalInterceptorNever.class.getName()));
+        synchronousInterceptors.produce(new SynchronousInterceptorBuildItem(TransactionalInterceptorRequired.class.getName()));
+        synchronousInterceptors
+                .produce(new SynchronousInterceptorBuildItem(TransactionalInterceptorRequiresNew.class.getName()));
+        synchronousInterceptors.produce(new SynchronousInterceptorBuildItem(TransactionalInterceptorMandatory.class.getName()));
+        synchronousInterceptors
+                .produce(new SynchronousInterceptorBuildItem(TransactionalInterceptorNotSupported.class.getName()));
+    }
+
     @BuildStep(onlyIf = IsTest.class)
     void testTx(BuildProducer<GeneratedBeanBuildItem> generatedBeanBuildItemBuildProducer,
             BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
@@ -166,4 +166,8 @@ public class DefaultTenantConfigResolver {
     public Executor getBlockingExecutor() {
         return tenantConfigBean.getBlockingExecutor();
     }
+
+    TokenCache getTokenCache() {
+        return tenantConfigBean.getTokenCache();
+    }
 }
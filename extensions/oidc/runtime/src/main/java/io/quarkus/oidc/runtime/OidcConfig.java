@@ -1,10 +1,12 @@
 package io.quarkus.oidc.runtime;
 
+import java.time.Duration;
 import java.util.Map;
 
 import io.quarkus.oidc.OidcTenantConfig;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -25,4 +27,28 @@ public class OidcConfig {
     @ConfigDocMapKey("tenant")
     @ConfigItem(name = ConfigItem.PARENT)
     public Map<String, OidcTenantConfig> namedTenants;
+
+    /**
+     * Token verification and UserInfo cache, shared by all the tenants.
+     */
+    @ConfigItem
+    public TokenCache tokenCache;
+
+    @ConfigGroup
+    public static class TokenCache {
+
+        /**
+         * Maximum number of tokens whose verification and UserInfo results are kept.
+         * The cache is disabled by default, set it to a positive value to enable it.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize;
+
+        /**
+         * Maximum amount of time the verification and UserInfo results of a token are kept for.
+         * The results are never kept once the token has expired.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive;
+    }
 }
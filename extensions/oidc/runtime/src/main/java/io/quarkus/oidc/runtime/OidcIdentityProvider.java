@@ -242,6 +242,18 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private Uni<TokenVerificationResult> verifyTokenUni(
             TenantConfigContext resolvedContext,
             String token) {
+        return tenantResolver.getTokenCache().getVerificationResult(getTenantId(resolvedContext), token,
+                new Supplier<Uni<TokenVerificationResult>>() {
+                    @Override
+                    public Uni<TokenVerificationResult> get() {
+                        return verifyTokenWithOidcServerUni(resolvedContext, token);
+                    }
+                });
+    }
+
+    private Uni<TokenVerificationResult> verifyTokenWithOidcServerUni(
+            TenantConfigContext resolvedContext,
+            String token) {
         if (OidcUtils.isOpaqueToken(token)) {
             // remote introspection is required, a blocking call
             return Uni.createFrom().emitter(
@@ -292,20 +304,15 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private Uni<JsonObject> getUserInfoUni(RoutingContext vertxContext, TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
         if (resolvedContext.oidcConfig.authentication.isUserInfoRequired()) {
-            return Uni.createFrom().emitter(
-                    new Consumer<UniEmitter<? super JsonObject>>() {
+            String accessToken = vertxContext.get(CODE_FLOW_ACCESS_TOKEN);
+            if (accessToken == null) {
+                accessToken = request.getToken().getToken();
+            }
+            return tenantResolver.getTokenCache().getUserInfo(getTenantId(resolvedContext), accessToken,
+                    new Supplier<Uni<JsonObject>>() {
                         @Override
-                        public void accept(UniEmitter<? super JsonObject> uniEmitter) {
-                            if (BlockingOperationControl.isBlockingAllowed()) {
-                                resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
-                            } else {
-                                tenantResolver.getBlockingExecutor().execute(new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
-                                    }
-                                });
-                            }
+                        public Uni<JsonObject> get() {
+                            return requestUserInfoUni(vertxContext, request, resolvedContext);
                         }
                     });
         } else {
@@ -313,4 +320,27 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
         }
     }
 
+    private Uni<JsonObject> requestUserInfoUni(RoutingContext vertxContext, TokenAuthenticationRequest request,
+            TenantConfigContext resolvedContext) {
+        return Uni.createFrom().emitter(
+                new Consumer<UniEmitter<? super JsonObject>>() {
+                    @Override
+                    public void accept(UniEmitter<? super JsonObject> uniEmitter) {
+                        if (BlockingOperationControl.isBlockingAllowed()) {
+                            resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
+                        } else {
+                            tenantResolver.getBlockingExecutor().execute(new Runnable() {
+                                @Override
+                                public void run() {
+                                    resolvedContext.client.createUserInfoToken(uniEmitter, vertxContext, request);
+                                }
+                            });
+                        }
+                    }
+                });
+    }
+
+    private static String getTenantId(TenantConfigContext resolvedContext) {
+        return resolvedContext.oidcConfig.tenantId.orElse("Default");
+    }
 }
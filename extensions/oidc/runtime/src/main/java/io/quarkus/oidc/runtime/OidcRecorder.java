@@ -54,6 +54,8 @@ public class OidcRecorder {
                     createTenantContext(vertxValue, tenant.getValue(), tlsConfig, tenant.getKey()));
         }
 
+        TokenCache tokenCache = new TokenCache(config.tokenCache);
+
         return new Supplier<TenantConfigBean>() {
             @Override
             public TenantConfigBean get() {
@@ -82,7 +84,8 @@ public class OidcRecorder {
 
                             }
                         },
-                        ExecutorRecorder.getCurrent());
+                        ExecutorRecorder.getCurrent(),
+                        tokenCache);
             }
         };
     }
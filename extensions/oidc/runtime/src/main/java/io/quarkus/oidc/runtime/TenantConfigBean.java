@@ -14,18 +14,21 @@ public class TenantConfigBean {
     private final TenantConfigContext defaultTenant;
     private final Function<OidcTenantConfig, Uni<TenantConfigContext>> tenantConfigContextFactory;
     private final Executor blockingExecutor;
+    private final TokenCache tokenCache;
 
     public TenantConfigBean(
             Map<String, TenantConfigContext> staticTenantsConfig,
             Map<String, TenantConfigContext> dynamicTenantsConfig,
             TenantConfigContext defaultTenant,
             Function<OidcTenantConfig, Uni<TenantConfigContext>> tenantConfigContextFactory,
-            Executor blockingExecutor) {
+            Executor blockingExecutor,
+            TokenCache tokenCache) {
         this.staticTenantsConfig = staticTenantsConfig;
         this.dynamicTenantsConfig = dynamicTenantsConfig;
         this.defaultTenant = defaultTenant;
         this.tenantConfigContextFactory = tenantConfigContextFactory;
         this.blockingExecutor = blockingExecutor;
+        this.tokenCache = tokenCache;
     }
 
     public Map<String, TenantConfigContext> getStaticTenantsConfig() {
@@ -47,4 +50,8 @@ public class TenantConfigBean {
     public Executor getBlockingExecutor() {
         return blockingExecutor;
     }
+
+    TokenCache getTokenCache() {
+        return tokenCache;
+    }
 }
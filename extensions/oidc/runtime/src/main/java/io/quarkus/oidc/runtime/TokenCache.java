@@ -0,0 +1,201 @@
+package io.quarkus.oidc.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Keeps the token verification and UserInfo results, so that a token which is presented again is neither verified again
+ * nor used to request UserInfo again.
+ * <p>
+ * The results are keyed by the tenant id and a hash of the token. They are discarded once the token has expired, or once
+ * the configured time-to-live has elapsed. Concurrent requests presenting the same token share a single verification or
+ * UserInfo request. A token is only cached once it has been successfully verified, or once its UserInfo has been
+ * returned, so that invalid tokens do not take the place of valid ones. The least recently used token is evicted when the
+ * cache is full.
+ */
+final class TokenCache {
+
+    private static final String EXP = "exp";
+
+    // guarded by itself
+    private final Map<String, CachedToken> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<TokenVerificationResult>> pendingVerifications = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<JsonObject>> pendingUserInfos = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long timeToLive;
+
+    TokenCache(OidcConfig.TokenCache config) {
+        this(config.maxSize, config.timeToLive.toMillis());
+    }
+
+    TokenCache(int maxSize, long timeToLiveMillis) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLiveMillis;
+        this.entries = new LinkedHashMap<String, CachedToken>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+                return size() > TokenCache.this.maxSize;
+            }
+        };
+    }
+
+    Uni<TokenVerificationResult> getVerificationResult(String tenantId, String token,
+            Supplier<Uni<TokenVerificationResult>> verifier) {
+        if (maxSize <= 0) {
+            return verifier.get();
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends TokenVerificationResult>>() {
+            @Override
+            public Uni<? extends TokenVerificationResult> get() {
+                String key = key(tenantId, token);
+                CachedToken entry = getEntry(key);
+                if (entry != null && entry.verification != null) {
+                    return Uni.createFrom().item(entry.verification);
+                }
+                return load(key, pendingVerifications, verifier, new Consumer<TokenVerificationResult>() {
+                    @Override
+                    public void accept(TokenVerificationResult result) {
+                        CachedToken entry = putEntry(key);
+                        // the result must not outlive the token
+                        entry.expireAt(getExpiry(result.localVerificationResult));
+                        entry.expireAt(getExpiry(result.introspectionResult));
+                        entry.verification = result;
+                    }
+                });
+            }
+        });
+    }
+
+    Uni<JsonObject> getUserInfo(String tenantId, String token, Supplier<Uni<JsonObject>> loader) {
+        if (maxSize <= 0) {
+            return loader.get();
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends JsonObject>>() {
+            @Override
+            public Uni<? extends JsonObject> get() {
+                String key = key(tenantId, token);
+                CachedToken entry = getEntry(key);
+                if (entry != null && entry.userInfo != null) {
+                    return Uni.createFrom().item(entry.userInfo);
+                }
+                return load(key, pendingUserInfos, loader, new Consumer<JsonObject>() {
+                    @Override
+                    public void accept(JsonObject userInfo) {
+                        putEntry(key).userInfo = userInfo;
+                    }
+                });
+            }
+        });
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Loads a result, unless the same result is already being loaded. The result is only cached if it is successfully
+     * loaded, the pending loads are not kept in the bounded cache.
+     */
+    private static <T> Uni<T> load(String key, ConcurrentHashMap<String, CompletableFuture<T>> pending,
+            Supplier<Uni<T>> loader, Consumer<T> onLoaded) {
+        CompletableFuture<T> loading = new CompletableFuture<>();
+        CompletableFuture<T> current = pending.putIfAbsent(key, loading);
+        if (current != null) {
+            return Uni.createFrom().completionStage(current);
+        }
+        loader.get().subscribe().with(new Consumer<T>() {
+            @Override
+            public void accept(T item) {
+                if (item != null) {
+                    onLoaded.accept(item);
+                }
+                pending.remove(key, loading);
+                loading.complete(item);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                // failures are not kept, the next request tries again
+                pending.remove(key, loading);
+                loading.completeExceptionally(failure);
+            }
+        });
+        return Uni.createFrom().completionStage(loading);
+    }
+
+    private CachedToken getEntry(String key) {
+        synchronized (entries) {
+            CachedToken entry = entries.get(key);
+            if (entry != null && System.currentTimeMillis() >= entry.expiresAt) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private CachedToken putEntry(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedToken entry = entries.get(key);
+            if (entry == null || now >= entry.expiresAt) {
+                entry = new CachedToken(now + timeToLive);
+                // evicts the least recently used entry if the cache is full
+                entries.put(key, entry);
+            }
+            return entry;
+        }
+    }
+
+    private static String key(String tenantId, String token) {
+        return tenantId + ':' + hash(token);
+    }
+
+    private static long getExpiry(JsonObject token) {
+        if (token != null) {
+            Object exp = token.getValue(EXP);
+            if (exp instanceof Number) {
+                return ((Number) exp).longValue() * 1000;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static final class CachedToken {
+        volatile TokenVerificationResult verification;
+        volatile JsonObject userInfo;
+        volatile long expiresAt;
+
+        CachedToken(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        synchronized void expireAt(long time) {
+            if (time < expiresAt) {
+                expiresAt = time;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+
+public class TokenCacheTest {
+
+    @Test
+    public void testConcurrentVerificationsAreCoalesced() throws Exception {
+        TokenCache cache = new TokenCache(10, TimeUnit.MINUTES.toMillis(3));
+        AtomicInteger verifications = new AtomicInteger();
+        CompletableFuture<TokenVerificationResult> pending = new CompletableFuture<>();
+        Supplier<Uni<TokenVerificationResult>> verifier = () -> {
+            verifications.incrementAndGet();
+            return Uni.createFrom().completionStage(pending);
+        };
+
+        CompletableFuture<TokenVerificationResult> first = cache.getVerificationResult("Default", "token", verifier)
+                .subscribeAsCompletionStage();
+        CompletableFuture<TokenVerificationResult> second = cache.getVerificationResult("Default", "token", verifier)
+                .subscribeAsCompletionStage();
+        assertEquals(1, verifications.get());
+        // the token is only cached once verified
+        assertEquals(0, cache.size());
+
+        TokenVerificationResult result = new TokenVerificationResult(new JsonObject().put("exp", expiresIn(60)), null);
+        pending.complete(result);
+        assertSame(result, first.get());
+        assertSame(result, second.get());
+
+        assertSame(result, cache.getVerificationResult("Default", "token", verifier).await().indefinitely());
+        assertEquals(1, verifications.get());
+
+        // another tenant verifies the token again
+        cache.getVerificationResult("tenant", "token", verifier).await().indefinitely();
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    public void testResultExpiresWithToken() {
+        TokenCache cache = new TokenCache(10, TimeUnit.MINUTES.toMillis(3));
+        AtomicInteger verifications = new AtomicInteger();
+        Supplier<Uni<TokenVerificationResult>> verifier = () -> {
+            verifications.incrementAndGet();
+            return Uni.createFrom().item(new TokenVerificationResult(null, new JsonObject().put("exp", expiresIn(-1))));
+        };
+
+        cache.getVerificationResult("Default", "token", verifier).await().indefinitely();
+        cache.getVerificationResult("Default", "token", verifier).await().indefinitely();
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    public void testResultExpiresAfterTimeToLive() throws Exception {
+        TokenCache cache = new TokenCache(10, 50);
+        AtomicInteger requests = new AtomicInteger();
+        Supplier<Uni<JsonObject>> loader = () -> {
+            requests.incrementAndGet();
+            return Uni.createFrom().item(new JsonObject());
+        };
+
+        cache.getUserInfo("Default", "token", loader).await().indefinitely();
+        cache.getUserInfo("Default", "token", loader).await().indefinitely();
+        assertEquals(1, requests.get());
+
+        Thread.sleep(100);
+        cache.getUserInfo("Default", "token", loader).await().indefinitely();
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testFailureIsNotKept() {
+        TokenCache cache = new TokenCache(10, TimeUnit.MINUTES.toMillis(3));
+        AtomicInteger verifications = new AtomicInteger();
+        Supplier<Uni<TokenVerificationResult>> verifier = () -> {
+            verifications.incrementAndGet();
+            return Uni.createFrom().failure(new AuthenticationFailedException());
+        };
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(AuthenticationFailedException.class,
+                    () -> cache.getVerificationResult("Default", "token", verifier).await().indefinitely());
+        }
+        assertEquals(2, verifications.get());
+        // invalid tokens do not take the place of valid ones
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTokenIsEvicted() {
+        TokenCache cache = new TokenCache(2, TimeUnit.MINUTES.toMillis(3));
+        AtomicInteger requests = new AtomicInteger();
+        Supplier<Uni<JsonObject>> loader = () -> {
+            requests.incrementAndGet();
+            return Uni.createFrom().item(new JsonObject());
+        };
+
+        cache.getUserInfo("Default", "token1", loader).await().indefinitely();
+        cache.getUserInfo("Default", "token2", loader).await().indefinitely();
+        // token1 is now the most recently used token
+        cache.getUserInfo("Default", "token1", loader).await().indefinitely();
+        assertEquals(2, requests.get());
+
+        // token2 is evicted
+        cache.getUserInfo("Default", "token3", loader).await().indefinitely();
+        assertEquals(2, cache.size());
+        assertEquals(3, requests.get());
+        cache.getUserInfo("Default", "token1", loader).await().indefinitely();
+        assertEquals(3, requests.get());
+        cache.getUserInfo("Default", "token2", loader).await().indefinitely();
+        assertEquals(4, requests.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        TokenCache cache = new TokenCache(0, TimeUnit.MINUTES.toMillis(3));
+        AtomicInteger requests = new AtomicInteger();
+        Supplier<Uni<JsonObject>> loader = () -> {
+            requests.incrementAndGet();
+            return Uni.createFrom().item(new JsonObject());
+        };
+
+        cache.getUserInfo("Default", "token", loader).await().indefinitely();
+        cache.getUserInfo("Default", "token", loader).await().indefinitely();
+        assertEquals(0, cache.size());
+        assertEquals(2, requests.get());
+    }
+
+    private static long expiresIn(long seconds) {
+        return System.currentTimeMillis() / 1000 + seconds;
+    }
+}
@@ -7,6 +7,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Default;
@@ -26,9 +28,14 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.client.RedisLocks;
+import io.quarkus.redis.client.RedisRateLimiter;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisLocks;
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
 import io.quarkus.redis.client.runtime.MutinyRedis;
 import io.quarkus.redis.client.runtime.MutinyRedisAPI;
 import io.quarkus.redis.client.runtime.RedisClientRecorder;
@@ -43,6 +50,22 @@ public class RedisClientProcessor {
 
     private static final DotName REDIS_CLIENT_ANNOTATION = DotName.createSimple(RedisClientName.class.getName());
 
+    // avoid imports as the Vert.x HTTP extension is optional
+    private static final String FILTERS_CLASS_NAME = "io.quarkus.vertx.http.runtime.filters.Filters";
+    private static final String RATE_LIMIT_FILTER_CLASS_NAME = "io.quarkus.redis.client.runtime.RedisRateLimitFilter";
+
+    static class HttpPresent implements BooleanSupplier {
+        @Override
+        public boolean getAsBoolean() {
+            try {
+                Class.forName(FILTERS_CLASS_NAME, false, Thread.currentThread().getContextClassLoader());
+                return true;
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+    }
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.REDIS_CLIENT);
@@ -68,6 +91,11 @@ public class RedisClientProcessor {
                         .build());
     }
 
+    @BuildStep(onlyIf = HttpPresent.class)
+    AdditionalBeanBuildItem registerRateLimitFilter() {
+        return AdditionalBeanBuildItem.unremovableOf(RATE_LIMIT_FILTER_CLASS_NAME);
+    }
+
     @BuildStep
     HealthBuildItem addHealthCheck(RedisBuildTimeConfig buildTimeConfig) {
         return new HealthBuildItem("io.quarkus.redis.client.runtime.health.RedisHealthCheck", buildTimeConfig.healthEnabled);
@@ -82,6 +110,8 @@ public class RedisClientProcessor {
     @Record(ExecutionTime.RUNTIME_INIT)
     public void produceRedisClient(RedisClientRecorder recorder, ApplicationArchivesBuildItem applicationArchives,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics,
+            RedisBuildTimeConfig buildTimeConfig,
             VertxBuildItem vertxBuildItem) {
         Set<String> clientNames = new HashSet<>();
         clientNames.add(RedisClientUtil.DEFAULT_CLIENT);
@@ -99,9 +129,30 @@ public class RedisClientProcessor {
             syntheticBeans.produce(createMutinyRedisSyntheticBean(recorder, clientName));
             syntheticBeans.produce(createRedisSyntheticBean(recorder, clientName));
             syntheticBeans.produce(createRedisAPISyntheticBean(recorder, clientName));
+            syntheticBeans.produce(createSyntheticBean(RedisRateLimiter.class,
+                    recorder.redisRateLimiterSupplier(clientName), clientName));
+            syntheticBeans.produce(createSyntheticBean(ReactiveRedisRateLimiter.class,
+                    recorder.reactiveRedisRateLimiterSupplier(clientName), clientName));
+            syntheticBeans.produce(createSyntheticBean(RedisLocks.class,
+                    recorder.redisLocksSupplier(clientName), clientName));
+            syntheticBeans.produce(createSyntheticBean(ReactiveRedisLocks.class,
+                    recorder.reactiveRedisLocksSupplier(clientName), clientName));
+            if (buildTimeConfig.metricsEnabled) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(clientName)));
+            }
         }
     }
 
+    private <T> SyntheticBeanBuildItem createSyntheticBean(Class<T> type, Supplier<T> supplier, String clientName) {
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
+                .configure(type)
+                .scope(ApplicationScoped.class)
+                .supplier(supplier)
+                .setRuntimeInit();
+
+        return applyCommonBeanConfig(clientName, configurator);
+    }
+
     private SyntheticBeanBuildItem createRedisClientSyntheticBean(RedisClientRecorder recorder, String clientName) {
         SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
                 .configure(RedisClient.class)
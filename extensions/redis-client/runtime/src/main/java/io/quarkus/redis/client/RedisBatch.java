@@ -0,0 +1,57 @@
+package io.quarkus.redis.client;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Response;
+
+/**
+ * A batch of Redis commands sent to the server in a single write (pipelining).
+ * <p>
+ * Commands are only queued locally until {@link #execute()} is called. Each queued command returns a
+ * {@link CompletionStage} completed with its own response once the batch has been executed.
+ * <p>
+ * A batch is not a transaction: the commands of other clients may be interleaved with the commands of the batch.
+ * A batch can only be executed once.
+ *
+ * <pre>
+ * RedisBatch batch = redisClient.batch();
+ * CompletionStage&lt;Response&gt; name = batch.get("user:1:name");
+ * CompletionStage&lt;Response&gt; visits = batch.incr("user:1:visits");
+ * batch.execute();
+ * </pre>
+ */
+public interface RedisBatch {
+
+    /**
+     * Queues an arbitrary command.
+     */
+    CompletionStage<Response> send(Command command, String... args);
+
+    CompletionStage<Response> get(String key);
+
+    CompletionStage<Response> hget(String key, String field);
+
+    CompletionStage<Response> set(List<String> args);
+
+    CompletionStage<Response> hset(List<String> args);
+
+    CompletionStage<Response> del(List<String> args);
+
+    CompletionStage<Response> incr(String key);
+
+    CompletionStage<Response> expire(String key, String seconds);
+
+    /**
+     * @return the number of queued commands
+     */
+    int size();
+
+    /**
+     * Sends all the queued commands in a single write and waits for their responses.
+     *
+     * @return the responses, in the order the commands were queued
+     */
+    List<Response> execute();
+}
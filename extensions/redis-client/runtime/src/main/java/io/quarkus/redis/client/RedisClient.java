@@ -15,6 +15,13 @@ import io.vertx.redis.client.Response;
 public interface RedisClient {
     void close();
 
+    /**
+     * Creates a new batch of commands which are sent to the server in a single write.
+     *
+     * @return a new batch
+     */
+    RedisBatch batch();
+
     Response append(String arg0, String arg1);
 
     Response asking();
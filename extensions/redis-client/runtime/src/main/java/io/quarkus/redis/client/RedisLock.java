@@ -0,0 +1,46 @@
+package io.quarkus.redis.client;
+
+/**
+ * A lock held in Redis.
+ * <p>
+ * Each successful acquisition of a given lock is associated with a fencing token, strictly greater than the tokens of
+ * the previous acquisitions. The token can be passed along to the protected resource, so that it can reject the
+ * requests of a client whose lock has expired in the meantime.
+ */
+public final class RedisLock {
+    private final String name;
+    private final String owner;
+    private final long token;
+
+    public RedisLock(String name, String owner, long token) {
+        this.name = name;
+        this.owner = owner;
+        this.token = token;
+    }
+
+    /**
+     * @return the name of the lock, i.e. the Redis key
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the unique identifier of this acquisition
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * @return the fencing token
+     */
+    public long getToken() {
+        return token;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisLock[name=" + name + ", token=" + token + "]";
+    }
+}
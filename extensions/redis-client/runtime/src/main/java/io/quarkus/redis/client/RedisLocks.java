@@ -0,0 +1,36 @@
+package io.quarkus.redis.client;
+
+import java.time.Duration;
+
+/**
+ * Distributed locks with fencing tokens, backed by Redis.
+ * <p>
+ * A lock is automatically released once its time-to-live has elapsed, unless it has been extended.
+ *
+ * @see RedisLock
+ */
+public interface RedisLocks {
+
+    /**
+     * Attempts to acquire the given lock, without waiting.
+     *
+     * @param name the name of the lock
+     * @param ttl the time after which the lock is automatically released
+     * @return the acquired lock, or {@code null} if the lock is currently held
+     */
+    RedisLock tryLock(String name, Duration ttl);
+
+    /**
+     * Releases the given lock.
+     *
+     * @return {@code true} if the lock was released, {@code false} if it was not held anymore
+     */
+    boolean unlock(RedisLock lock);
+
+    /**
+     * Sets the time-to-live of the given lock.
+     *
+     * @return {@code true} if the lock was extended, {@code false} if it was not held anymore
+     */
+    boolean extend(RedisLock lock, Duration ttl);
+}
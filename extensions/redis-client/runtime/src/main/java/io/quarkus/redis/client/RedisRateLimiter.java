@@ -0,0 +1,22 @@
+package io.quarkus.redis.client;
+
+import java.time.Duration;
+
+/**
+ * A sliding window rate limiter backed by Redis, which can be shared by several applications.
+ * <p>
+ * Each check is a single round trip to the server.
+ */
+public interface RedisRateLimiter {
+
+    /**
+     * Grants a permit for the given key if less than {@code limit} permits were granted for this key during the last
+     * {@code window}.
+     *
+     * @param key the key, e.g. an user or client identifier
+     * @param limit the maximum number of permits granted during the window
+     * @param window the duration of the sliding window
+     * @return {@code true} if the permit was granted
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+}
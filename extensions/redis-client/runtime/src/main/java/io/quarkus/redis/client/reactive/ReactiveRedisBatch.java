@@ -0,0 +1,52 @@
+package io.quarkus.redis.client.reactive;
+
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A batch of Redis commands sent to the server in a single write (pipelining).
+ * <p>
+ * Commands are only queued locally until {@link #execute()} is called. Each queued command returns a {@link Uni}
+ * emitting its own response once the batch has been executed.
+ * <p>
+ * A batch is not a transaction: the commands of other clients may be interleaved with the commands of the batch.
+ * A batch can only be executed once.
+ */
+public interface ReactiveRedisBatch {
+
+    /**
+     * Queues an arbitrary command.
+     */
+    Uni<Response> send(Command command, String... args);
+
+    Uni<Response> get(String key);
+
+    Uni<Response> hget(String key, String field);
+
+    Uni<Response> set(List<String> args);
+
+    Uni<Response> hset(List<String> args);
+
+    Uni<Response> del(List<String> args);
+
+    Uni<Response> incr(String key);
+
+    Uni<Response> expire(String key, String seconds);
+
+    /**
+     * @return the number of queued commands
+     */
+    int size();
+
+    /**
+     * Sends all the queued commands in a single write.
+     *
+     * @return the responses, in the order the commands were queued
+     */
+    Uni<List<Response>> execute();
+
+    List<Response> executeAndAwait();
+}
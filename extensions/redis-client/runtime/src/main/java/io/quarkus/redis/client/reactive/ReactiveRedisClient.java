@@ -14,6 +14,13 @@ import io.vertx.mutiny.redis.client.Response;
 public interface ReactiveRedisClient {
     void close();
 
+    /**
+     * Creates a new batch of commands which are sent to the server in a single write.
+     *
+     * @return a new batch
+     */
+    ReactiveRedisBatch batch();
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
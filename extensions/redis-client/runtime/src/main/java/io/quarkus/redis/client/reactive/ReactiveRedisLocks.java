@@ -0,0 +1,45 @@
+package io.quarkus.redis.client.reactive;
+
+import java.time.Duration;
+
+import io.quarkus.redis.client.RedisLock;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Distributed locks with fencing tokens, backed by Redis.
+ * <p>
+ * A lock is automatically released once its time-to-live has elapsed, unless it has been extended.
+ *
+ * @see RedisLock
+ */
+public interface ReactiveRedisLocks {
+
+    /**
+     * Attempts to acquire the given lock, without waiting.
+     *
+     * @param name the name of the lock
+     * @param ttl the time after which the lock is automatically released
+     * @return the acquired lock, or {@code null} if the lock is currently held
+     */
+    Uni<RedisLock> tryLock(String name, Duration ttl);
+
+    RedisLock tryLockAndAwait(String name, Duration ttl);
+
+    /**
+     * Releases the given lock.
+     *
+     * @return {@code true} if the lock was released, {@code false} if it was not held anymore
+     */
+    Uni<Boolean> unlock(RedisLock lock);
+
+    boolean unlockAndAwait(RedisLock lock);
+
+    /**
+     * Sets the time-to-live of the given lock.
+     *
+     * @return {@code true} if the lock was extended, {@code false} if it was not held anymore
+     */
+    Uni<Boolean> extend(RedisLock lock, Duration ttl);
+
+    boolean extendAndAwait(RedisLock lock, Duration ttl);
+}
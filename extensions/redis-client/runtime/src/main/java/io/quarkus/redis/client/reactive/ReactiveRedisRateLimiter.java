@@ -0,0 +1,26 @@
+package io.quarkus.redis.client.reactive;
+
+import java.time.Duration;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A sliding window rate limiter backed by Redis, which can be shared by several applications.
+ * <p>
+ * Each check is a single round trip to the server.
+ */
+public interface ReactiveRedisRateLimiter {
+
+    /**
+     * Grants a permit for the given key if less than {@code limit} permits were granted for this key during the last
+     * {@code window}.
+     *
+     * @param key the key, e.g. an user or client identifier
+     * @param limit the maximum number of permits granted during the window
+     * @param window the duration of the sliding window
+     * @return {@code true} if the permit was granted
+     */
+    Uni<Boolean> tryAcquire(String key, int limit, Duration window);
+
+    boolean tryAcquireAndAwait(String key, int limit, Duration window);
+}
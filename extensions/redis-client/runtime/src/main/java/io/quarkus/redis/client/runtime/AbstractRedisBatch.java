@@ -0,0 +1,91 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Queues commands and sends them to the server using a single {@code batch} call, i.e. in a single write.
+ */
+abstract class AbstractRedisBatch {
+    private final MutinyRedis redis;
+    private final List<Request> requests = new ArrayList<>();
+    private final List<CompletableFuture<Response>> responses = new ArrayList<>();
+    private boolean executed;
+
+    AbstractRedisBatch(MutinyRedis redis) {
+        this.redis = redis;
+    }
+
+    protected CompletableFuture<Response> queue(Command command, List<String> args) {
+        Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        return queue(request);
+    }
+
+    protected CompletableFuture<Response> queue(Command command, String... args) {
+        Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        return queue(request);
+    }
+
+    private synchronized CompletableFuture<Response> queue(Request request) {
+        if (executed) {
+            throw new IllegalStateException("The batch has already been executed");
+        }
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        requests.add(request);
+        responses.add(response);
+        return response;
+    }
+
+    public synchronized int size() {
+        return requests.size();
+    }
+
+    protected Uni<List<Response>> send() {
+        List<io.vertx.mutiny.redis.client.Request> batch;
+        List<CompletableFuture<Response>> pending;
+        synchronized (this) {
+            if (executed) {
+                throw new IllegalStateException("The batch has already been executed");
+            }
+            executed = true;
+            batch = new ArrayList<>(requests.size());
+            for (Request request : requests) {
+                batch.add(io.vertx.mutiny.redis.client.Request.newInstance(request));
+            }
+            pending = new ArrayList<>(responses);
+        }
+
+        if (batch.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        return redis.batch(batch)
+                .map(results -> {
+                    List<Response> list = new ArrayList<>(results.size());
+                    for (int i = 0; i < results.size(); i++) {
+                        io.vertx.mutiny.redis.client.Response result = results.get(i);
+                        Response response = result == null ? null : result.getDelegate();
+                        list.add(response);
+                        pending.get(i).complete(response);
+                    }
+                    return list;
+                })
+                .onFailure().invoke(failure -> {
+                    for (CompletableFuture<Response> response : pending) {
+                        response.completeExceptionally(failure);
+                    }
+                });
+    }
+}
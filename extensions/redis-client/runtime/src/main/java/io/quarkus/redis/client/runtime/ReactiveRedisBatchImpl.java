@@ -0,0 +1,81 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.redis.client.reactive.ReactiveRedisBatch;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Response;
+
+class ReactiveRedisBatchImpl extends AbstractRedisBatch implements ReactiveRedisBatch {
+
+    ReactiveRedisBatchImpl(MutinyRedis redis) {
+        super(redis);
+    }
+
+    @Override
+    public Uni<Response> send(Command command, String... args) {
+        return toUni(queue(command.getDelegate(), args));
+    }
+
+    @Override
+    public Uni<Response> get(String key) {
+        return send(Command.GET, key);
+    }
+
+    @Override
+    public Uni<Response> hget(String key, String field) {
+        return send(Command.HGET, key, field);
+    }
+
+    @Override
+    public Uni<Response> set(List<String> args) {
+        return toUni(queue(Command.SET.getDelegate(), args));
+    }
+
+    @Override
+    public Uni<Response> hset(List<String> args) {
+        return toUni(queue(Command.HSET.getDelegate(), args));
+    }
+
+    @Override
+    public Uni<Response> del(List<String> args) {
+        return toUni(queue(Command.DEL.getDelegate(), args));
+    }
+
+    @Override
+    public Uni<Response> incr(String key) {
+        return send(Command.INCR, key);
+    }
+
+    @Override
+    public Uni<Response> expire(String key, String seconds) {
+        return send(Command.EXPIRE, key, seconds);
+    }
+
+    @Override
+    public Uni<List<Response>> execute() {
+        return send().map(responses -> {
+            List<Response> list = new ArrayList<>(responses.size());
+            for (io.vertx.redis.client.Response response : responses) {
+                list.add(toMutiny(response));
+            }
+            return list;
+        });
+    }
+
+    @Override
+    public List<Response> executeAndAwait() {
+        return execute().await().indefinitely();
+    }
+
+    private static Uni<Response> toUni(CompletionStage<io.vertx.redis.client.Response> response) {
+        return Uni.createFrom().completionStage(response).map(ReactiveRedisBatchImpl::toMutiny);
+    }
+
+    private static Response toMutiny(io.vertx.redis.client.Response response) {
+        return response == null ? null : Response.newInstance(response);
+    }
+}
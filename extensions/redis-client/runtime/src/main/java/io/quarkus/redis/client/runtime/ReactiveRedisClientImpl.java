@@ -2,6 +2,7 @@ package io.quarkus.redis.client.runtime;
 
 import java.util.List;
 
+import io.quarkus.redis.client.reactive.ReactiveRedisBatch;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.RedisAPI;
@@ -9,9 +10,18 @@ import io.vertx.mutiny.redis.client.Response;
 
 class ReactiveRedisClientImpl implements ReactiveRedisClient {
     private final RedisAPI redisAPI;
+    private final MutinyRedis redis;
+    private final RedisNearCache nearCache;
 
-    public ReactiveRedisClientImpl(RedisAPI redisAPI) {
+    public ReactiveRedisClientImpl(RedisAPI redisAPI, MutinyRedis redis, RedisNearCache nearCache) {
         this.redisAPI = redisAPI;
+        this.redis = redis;
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public ReactiveRedisBatch batch() {
+        return new ReactiveRedisBatchImpl(redis);
     }
 
     @Override
@@ -441,11 +451,17 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> get(String arg0) {
+        if (nearCache != null) {
+            return nearCache.get(arg0);
+        }
         return redisAPI.get(arg0);
     }
 
     @Override
     public Response getAndAwait(String arg0) {
+        if (nearCache != null) {
+            return nearCache.get(arg0).await().indefinitely();
+        }
         return redisAPI.getAndAwait(arg0);
     }
 
@@ -501,11 +517,17 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> hget(String arg0, String arg1) {
+        if (nearCache != null) {
+            return nearCache.hget(arg0, arg1);
+        }
         return redisAPI.hget(arg0, arg1);
     }
 
     @Override
     public Response hgetAndAwait(String arg0, String arg1) {
+        if (nearCache != null) {
+            return nearCache.hget(arg0, arg1).await().indefinitely();
+        }
         return redisAPI.hgetAndAwait(arg0, arg1);
     }
 
@@ -0,0 +1,70 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import io.quarkus.redis.client.RedisLock;
+import io.quarkus.redis.client.reactive.ReactiveRedisLocks;
+import io.smallrye.mutiny.Uni;
+
+class ReactiveRedisLocksImpl implements ReactiveRedisLocks {
+    private final RedisScripts scripts;
+    private final RedisMetrics metrics;
+
+    ReactiveRedisLocksImpl(RedisScripts scripts, RedisMetrics metrics) {
+        this.scripts = scripts;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Uni<RedisLock> tryLock(String name, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        // the hash tag keeps both keys on the same slot when using a cluster
+        List<String> keys = Arrays.asList(lockKey(name), "{" + name + "}:fencing");
+        return scripts.eval(RedisScript.LOCK, keys, owner, Long.toString(ttl.toMillis()))
+                .map(response -> {
+                    long token = response.toLong();
+                    if (token == 0) {
+                        metrics.locksContended.increment();
+                        return null;
+                    }
+                    metrics.locksAcquired.increment();
+                    return new RedisLock(name, owner, token);
+                });
+    }
+
+    @Override
+    public RedisLock tryLockAndAwait(String name, Duration ttl) {
+        return tryLock(name, ttl).await().indefinitely();
+    }
+
+    @Override
+    public Uni<Boolean> unlock(RedisLock lock) {
+        return scripts.eval(RedisScript.UNLOCK, Collections.singletonList(lockKey(lock.getName())), lock.getOwner())
+                .map(response -> response.toInteger() == 1);
+    }
+
+    @Override
+    public boolean unlockAndAwait(RedisLock lock) {
+        return unlock(lock).await().indefinitely();
+    }
+
+    @Override
+    public Uni<Boolean> extend(RedisLock lock, Duration ttl) {
+        return scripts.eval(RedisScript.EXTEND, Collections.singletonList(lockKey(lock.getName())), lock.getOwner(),
+                Long.toString(ttl.toMillis()))
+                .map(response -> response.toInteger() == 1);
+    }
+
+    @Override
+    public boolean extendAndAwait(RedisLock lock, Duration ttl) {
+        return extend(lock, ttl).await().indefinitely();
+    }
+
+    private static String lockKey(String name) {
+        return "{" + name + "}:lock";
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
+import io.smallrye.mutiny.Uni;
+
+class ReactiveRedisRateLimiterImpl implements ReactiveRedisRateLimiter {
+    private final RedisScripts scripts;
+    private final RedisMetrics metrics;
+    // members of the sorted sets must be unique across all the applications sharing a limiter
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+
+    ReactiveRedisRateLimiterImpl(RedisScripts scripts, RedisMetrics metrics) {
+        this.scripts = scripts;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Uni<Boolean> tryAcquire(String key, int limit, Duration window) {
+        if (limit <= 0) {
+            return Uni.createFrom().failure(new IllegalArgumentException("The limit must be greater than 0"));
+        }
+        return scripts.eval(RedisScript.RATE_LIMIT, Collections.singletonList(key),
+                Long.toString(window.toMillis()), Integer.toString(limit), instanceId + ":" + sequence.incrementAndGet())
+                .map(response -> {
+                    if (response.toInteger() == 1) {
+                        metrics.permitsGranted.increment();
+                        return true;
+                    }
+                    metrics.permitsRejected.increment();
+                    return false;
+                });
+    }
+
+    @Override
+    public boolean tryAcquireAndAwait(String key, int limit, Duration window) {
+        return tryAcquire(key, limit, window).await().indefinitely();
+    }
+}
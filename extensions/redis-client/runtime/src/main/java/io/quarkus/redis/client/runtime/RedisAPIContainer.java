@@ -1,7 +1,11 @@
 package io.quarkus.redis.client.runtime;
 
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.RedisLocks;
+import io.quarkus.redis.client.RedisRateLimiter;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisLocks;
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 
@@ -18,15 +22,31 @@ class RedisAPIContainer {
 
     private final MutinyRedisAPI mutinyRedisAPI;
 
+    private final RedisNearCache nearCache;
+
+    private final RedisRateLimiter rateLimiter;
+
+    private final ReactiveRedisRateLimiter reactiveRateLimiter;
+
+    private final RedisLocks locks;
+
+    private final ReactiveRedisLocks reactiveLocks;
+
     public RedisAPIContainer(Redis redis, RedisAPI redisAPI, RedisClient redisClient,
             ReactiveRedisClient reactiveClient, MutinyRedis mutinyRedis,
-            MutinyRedisAPI mutinyRedisAPI) {
+            MutinyRedisAPI mutinyRedisAPI, RedisNearCache nearCache, RedisRateLimiter rateLimiter,
+            ReactiveRedisRateLimiter reactiveRateLimiter, RedisLocks locks, ReactiveRedisLocks reactiveLocks) {
         this.redis = redis;
         this.redisAPI = redisAPI;
         this.redisClient = redisClient;
         this.reactiveClient = reactiveClient;
         this.mutinyRedis = mutinyRedis;
         this.mutinyRedisAPI = mutinyRedisAPI;
+        this.nearCache = nearCache;
+        this.rateLimiter = rateLimiter;
+        this.reactiveRateLimiter = reactiveRateLimiter;
+        this.locks = locks;
+        this.reactiveLocks = reactiveLocks;
     }
 
     public Redis getRedis() {
@@ -53,7 +73,26 @@ class RedisAPIContainer {
         return mutinyRedisAPI;
     }
 
+    public RedisRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public ReactiveRedisRateLimiter getReactiveRateLimiter() {
+        return reactiveRateLimiter;
+    }
+
+    public RedisLocks getLocks() {
+        return locks;
+    }
+
+    public ReactiveRedisLocks getReactiveLocks() {
+        return reactiveLocks;
+    }
+
     public void close() {
+        if (this.nearCache != null) {
+            this.nearCache.close();
+        }
         this.redisAPI.close();
         this.redis.close();
         this.redisAPI.close();
@@ -9,10 +9,14 @@ import javax.annotation.PreDestroy;
 
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisLocks;
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
 import io.quarkus.redis.client.runtime.RedisConfig.RedisConfiguration;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.vertx.core.Vertx;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisClientType;
 import io.vertx.redis.client.RedisOptions;
 
 class RedisAPIProducer {
@@ -41,9 +45,24 @@ class RedisAPIProducer {
                 RedisAPI redisAPI = RedisAPI.api(redis);
                 MutinyRedis mutinyRedis = new MutinyRedis(redis);
                 MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
-                return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI);
+                RedisNearCache nearCache = null;
+                if (redisConfiguration.nearCache.enabled) {
+                    if (redisConfiguration.clientType != RedisClientType.STANDALONE) {
+                        throw new ConfigurationException(
+                                "The Redis near cache is only supported by the standalone client type");
+                    }
+                    nearCache = new RedisNearCache(mutinyRedis, redisConfiguration.nearCache.maxSize);
+                }
+                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, mutinyRedis, nearCache, timeout);
+                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI, mutinyRedis, nearCache);
+                RedisScripts scripts = new RedisScripts(mutinyRedisAPI);
+                scripts.load();
+                RedisMetrics metrics = RedisMetrics.forClient(name);
+                ReactiveRedisRateLimiter reactiveRateLimiter = new ReactiveRedisRateLimiterImpl(scripts, metrics);
+                ReactiveRedisLocks reactiveLocks = new ReactiveRedisLocksImpl(scripts, metrics);
+                return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI,
+                        nearCache, new RedisRateLimiterImpl(reactiveRateLimiter, timeout), reactiveRateLimiter,
+                        new RedisLocksImpl(reactiveLocks, timeout), reactiveLocks);
             }
         });
     }
@@ -0,0 +1,63 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.redis.client.RedisBatch;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Response;
+
+class RedisBatchImpl extends AbstractRedisBatch implements RedisBatch {
+    private final Duration timeout;
+
+    RedisBatchImpl(MutinyRedis redis, Duration timeout) {
+        super(redis);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public CompletionStage<Response> send(Command command, String... args) {
+        return queue(command, args);
+    }
+
+    @Override
+    public CompletionStage<Response> get(String key) {
+        return queue(Command.GET, key);
+    }
+
+    @Override
+    public CompletionStage<Response> hget(String key, String field) {
+        return queue(Command.HGET, key, field);
+    }
+
+    @Override
+    public CompletionStage<Response> set(List<String> args) {
+        return queue(Command.SET, args);
+    }
+
+    @Override
+    public CompletionStage<Response> hset(List<String> args) {
+        return queue(Command.HSET, args);
+    }
+
+    @Override
+    public CompletionStage<Response> del(List<String> args) {
+        return queue(Command.DEL, args);
+    }
+
+    @Override
+    public CompletionStage<Response> incr(String key) {
+        return queue(Command.INCR, key);
+    }
+
+    @Override
+    public CompletionStage<Response> expire(String key, String seconds) {
+        return queue(Command.EXPIRE, key, seconds);
+    }
+
+    @Override
+    public List<Response> execute() {
+        return send().await().atMost(timeout);
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkus.redis.client.runtime;
 import java.time.Duration;
 import java.util.List;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.RedisClient;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.RedisAPI;
@@ -10,13 +11,22 @@ import io.vertx.redis.client.Response;
 
 class RedisClientImpl implements RedisClient {
     private final RedisAPI redisAPI;
+    private final MutinyRedis redis;
+    private final RedisNearCache nearCache;
     private final Duration timeout;
 
-    public RedisClientImpl(RedisAPI redisAPI, Duration timeout) {
+    public RedisClientImpl(RedisAPI redisAPI, MutinyRedis redis, RedisNearCache nearCache, Duration timeout) {
         this.redisAPI = redisAPI;
+        this.redis = redis;
+        this.nearCache = nearCache;
         this.timeout = timeout;
     }
 
+    @Override
+    public RedisBatch batch() {
+        return new RedisBatchImpl(redis, timeout);
+    }
+
     @Override
     public void close() {
         redisAPI.close();
@@ -234,6 +244,9 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response get(String arg0) {
+        if (nearCache != null) {
+            return await(nearCache.get(arg0));
+        }
         return await(redisAPI.get(arg0));
     }
 
@@ -264,6 +277,9 @@ class RedisClientImpl implements RedisClient {
 
     @Override
     public Response hget(String arg0, String arg1) {
+        if (nearCache != null) {
+            return await(nearCache.hget(arg0, arg1));
+        }
         return await(redisAPI.hget(arg0, arg1));
     }
 
@@ -1,11 +1,17 @@
 package io.quarkus.redis.client.runtime;
 
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.RedisLocks;
+import io.quarkus.redis.client.RedisRateLimiter;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisLocks;
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 
@@ -72,6 +78,77 @@ public class RedisClientRecorder {
         };
     }
 
+    public Supplier<RedisRateLimiter> redisRateLimiterSupplier(String clientName) {
+        return new Supplier<RedisRateLimiter>() {
+            @Override
+            public RedisRateLimiter get() {
+                RedisAPIContainer redisAPIContainer = getRedisAPIContainer(clientName);
+                return redisAPIContainer.getRateLimiter();
+            }
+        };
+    }
+
+    public Supplier<ReactiveRedisRateLimiter> reactiveRedisRateLimiterSupplier(String clientName) {
+        return new Supplier<ReactiveRedisRateLimiter>() {
+            @Override
+            public ReactiveRedisRateLimiter get() {
+                RedisAPIContainer redisAPIContainer = getRedisAPIContainer(clientName);
+                return redisAPIContainer.getReactiveRateLimiter();
+            }
+        };
+    }
+
+    public Supplier<RedisLocks> redisLocksSupplier(String clientName) {
+        return new Supplier<RedisLocks>() {
+            @Override
+            public RedisLocks get() {
+                RedisAPIContainer redisAPIContainer = getRedisAPIContainer(clientName);
+                return redisAPIContainer.getLocks();
+            }
+        };
+    }
+
+    public Supplier<ReactiveRedisLocks> reactiveRedisLocksSupplier(String clientName) {
+        return new Supplier<ReactiveRedisLocks>() {
+            @Override
+            public ReactiveRedisLocks get() {
+                RedisAPIContainer redisAPIContainer = getRedisAPIContainer(clientName);
+                return redisAPIContainer.getReactiveLocks();
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerMetrics(String clientName) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                String tagValue = RedisClientUtil.isDefault(clientName) ? "default" : clientName;
+                RedisMetrics metrics = RedisMetrics.forClient(clientName);
+
+                metricsFactory.builder("redis.ratelimiter.permits")
+                        .description("Number of permits granted by the rate limiter.")
+                        .tag("client", tagValue)
+                        .tag("result", "granted")
+                        .buildCounter(metrics.permitsGranted::sum);
+                metricsFactory.builder("redis.ratelimiter.permits")
+                        .description("Number of permits rejected by the rate limiter.")
+                        .tag("client", tagValue)
+                        .tag("result", "rejected")
+                        .buildCounter(metrics.permitsRejected::sum);
+                metricsFactory.builder("redis.lock.acquisitions")
+                        .description("Number of successful lock acquisitions.")
+                        .tag("client", tagValue)
+                        .tag("result", "acquired")
+                        .buildCounter(metrics.locksAcquired::sum);
+                metricsFactory.builder("redis.lock.acquisitions")
+                        .description("Number of lock acquisitions that failed because the lock was held.")
+                        .tag("client", tagValue)
+                        .tag("result", "contended")
+                        .buildCounter(metrics.locksContended::sum);
+            }
+        };
+    }
+
     private RedisAPIContainer getRedisAPIContainer(String clientName) {
         RedisAPIProducer redisAPIProducer = Arc.container().instance(RedisAPIProducer.class).get();
         return redisAPIProducer.getRedisAPIContainer(clientName);
@@ -2,6 +2,7 @@ package io.quarkus.redis.client.runtime;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -135,5 +136,61 @@ public class RedisConfig {
          */
         @ConfigItem(defaultValue = "32")
         public int maxNestedArrays;
+
+        /**
+         * Near cache configuration.
+         */
+        @ConfigItem
+        public NearCacheConfiguration nearCache;
+
+        /**
+         * HTTP rate limiting configuration.
+         */
+        @ConfigItem
+        public RateLimitConfiguration rateLimit;
+    }
+
+    @ConfigGroup
+    public static class NearCacheConfiguration {
+        /**
+         * Whether the results of the {@code GET} and {@code HGET} commands are cached in memory.
+         * <p>
+         * The cached entries are invalidated by the server using client side caching ({@code CLIENT TRACKING}),
+         * which requires Redis 6 or later. The near cache is only available for the standalone client type.
+         */
+        @ConfigItem
+        public boolean enabled;
+
+        /**
+         * The maximum number of entries kept in the near cache. Each cached value and each cached hash field is one
+         * entry. When the cache is full, the least recently used entry is evicted.
+         */
+        @ConfigItem(defaultValue = "10000")
+        public int maxSize;
+    }
+
+    @ConfigGroup
+    public static class RateLimitConfiguration {
+        /**
+         * The HTTP paths which are rate limited using this client. A path ending with {@code *} matches all the
+         * paths starting with the given prefix.
+         * <p>
+         * The limit applies to each path and client address: the requests exceeding the limit are rejected with a
+         * {@code 429} status.
+         */
+        @ConfigItem
+        public Optional<List<String>> paths;
+
+        /**
+         * The maximum number of requests accepted during the window, for each path and client address.
+         */
+        @ConfigItem(defaultValue = "100")
+        public int limit;
+
+        /**
+         * The duration of the sliding window.
+         */
+        @ConfigItem(defaultValue = "1M")
+        public Duration window;
     }
 }
@@ -0,0 +1,32 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.redis.client.RedisLock;
+import io.quarkus.redis.client.RedisLocks;
+import io.quarkus.redis.client.reactive.ReactiveRedisLocks;
+
+class RedisLocksImpl implements RedisLocks {
+    private final ReactiveRedisLocks delegate;
+    private final Duration timeout;
+
+    RedisLocksImpl(ReactiveRedisLocks delegate, Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public RedisLock tryLock(String name, Duration ttl) {
+        return delegate.tryLock(name, ttl).await().atMost(timeout);
+    }
+
+    @Override
+    public boolean unlock(RedisLock lock) {
+        return delegate.unlock(lock).await().atMost(timeout);
+    }
+
+    @Override
+    public boolean extend(RedisLock lock, Duration ttl) {
+        return delegate.extend(lock, ttl).await().atMost(timeout);
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the rate limiter and lock outcomes of a Redis client.
+ * <p>
+ * They are always maintained, and exposed through the {@link io.quarkus.runtime.metrics.MetricsFactory} when
+ * {@code quarkus.redis.metrics.enabled} is set.
+ */
+final class RedisMetrics {
+    private static final Map<String, RedisMetrics> METRICS = new ConcurrentHashMap<>();
+
+    final LongAdder permitsGranted = new LongAdder();
+    final LongAdder permitsRejected = new LongAdder();
+    final LongAdder locksAcquired = new LongAdder();
+    final LongAdder locksContended = new LongAdder();
+
+    static RedisMetrics forClient(String clientName) {
+        return METRICS.computeIfAbsent(clientName, n -> new RedisMetrics());
+    }
+
+    private RedisMetrics() {
+    }
+}
@@ -0,0 +1,255 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * An in-memory cache of {@code GET} and {@code HGET} results, kept consistent using Redis server-assisted client side
+ * caching.
+ * <p>
+ * The cached reads are sent over a dedicated connection on which {@code CLIENT TRACKING} is enabled. The server then
+ * pushes the keys to invalidate to a second connection subscribed to the {@code __redis__:invalidate} channel
+ * ({@code REDIRECT} mode, which also works with RESP2 connections). Whenever one of these connections is lost, the whole
+ * cache is dropped as invalidation messages may have been missed.
+ */
+class RedisNearCache {
+    private static final Logger LOGGER = Logger.getLogger(RedisNearCache.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+    private final MutinyRedis redis;
+    private final int maxSize;
+
+    /**
+     * The cached responses in access order, the least recently used entry is evicted first. A {@code GET} result is one
+     * entry, a {@code HGET} result is one entry per hash field. Guarded by itself, as is {@link #entriesByKey}.
+     */
+    private final LinkedHashMap<CacheKey, Response> entries;
+    /**
+     * The cached entries of each Redis key, used to invalidate all the fields of a hash.
+     */
+    private final Map<String, Set<CacheKey>> entriesByKey = new HashMap<>();
+
+    /**
+     * Incremented on every invalidation, used to avoid caching a response read concurrently with an invalidation.
+     */
+    private final AtomicLong epoch = new AtomicLong();
+
+    private CompletableFuture<RedisConnection> tracking;
+    private RedisConnection subscriber;
+
+    RedisNearCache(MutinyRedis redis, int maxSize) {
+        this.redis = redis;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<CacheKey, Response>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Response> eldest) {
+                if (size() > RedisNearCache.this.maxSize) {
+                    unindex(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    Uni<Response> get(String key) {
+        return cached(new CacheKey(key, null), Request.cmd(Command.GET).arg(key));
+    }
+
+    Uni<Response> hget(String key, String field) {
+        return cached(new CacheKey(key, field), Request.cmd(Command.HGET).arg(key).arg(field));
+    }
+
+    /**
+     *
+     * @return the number of cached entries, i.e. values and hash fields
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Uni<Response> cached(CacheKey entry, Request request) {
+        Response cached;
+        synchronized (entries) {
+            cached = entries.get(entry);
+        }
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return read(request, response -> store(entry, response));
+    }
+
+    private void store(CacheKey entry, Response response) {
+        synchronized (entries) {
+            if (entries.put(entry, response) == null) {
+                entriesByKey.computeIfAbsent(entry.key, k -> new HashSet<>()).add(entry);
+            }
+        }
+    }
+
+    private void unindex(CacheKey entry) {
+        Set<CacheKey> keyEntries = entriesByKey.get(entry.key);
+        if (keyEntries != null) {
+            keyEntries.remove(entry);
+            if (keyEntries.isEmpty()) {
+                entriesByKey.remove(entry.key);
+            }
+        }
+    }
+
+    private Uni<Response> read(Request request, Consumer<Response> store) {
+        return Uni.createFrom().completionStage(this::tracking)
+                .flatMap(connection -> {
+                    long observed = epoch.get();
+                    return connection.send(request)
+                            .invoke(response -> {
+                                // missing keys are not cached, the server does not track them
+                                if (response != null && epoch.get() == observed) {
+                                    store.accept(response);
+                                }
+                            });
+                });
+    }
+
+    private synchronized CompletableFuture<RedisConnection> tracking() {
+        if (tracking == null || tracking.isCompletedExceptionally()) {
+            tracking = connect().subscribeAsCompletionStage();
+        }
+        return tracking;
+    }
+
+    private Uni<RedisConnection> connect() {
+        return redis.connect()
+                .flatMap(connection -> {
+                    synchronized (this) {
+                        subscriber = connection;
+                    }
+                    connection.handler(this::onMessage)
+                            .exceptionHandler(this::onFailure)
+                            .endHandler(ignored -> reset());
+                    return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                            .flatMap(id -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL))
+                                    .map(ignored -> id.toLong()));
+                })
+                .flatMap(clientId -> redis.connect()
+                        .flatMap(connection -> {
+                            connection.exceptionHandler(this::onFailure)
+                                    .endHandler(ignored -> reset());
+                            return connection
+                                    .send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("on").arg("REDIRECT").arg(clientId))
+                                    .map(ignored -> connection);
+                        }))
+                .onFailure().invoke(this::onFailure);
+    }
+
+    private void onMessage(Response message) {
+        if (message == null || message.type() != ResponseType.MULTI || message.size() < 3
+                || !"message".equals(message.get(0).toString())
+                || !INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        epoch.incrementAndGet();
+        Response keys = message.get(2);
+        if (keys == null) {
+            // the database was flushed
+            clear();
+        } else if (keys.type() == ResponseType.MULTI) {
+            for (Response key : keys) {
+                invalidate(key.toString());
+            }
+        } else {
+            invalidate(keys.toString());
+        }
+    }
+
+    private void invalidate(String key) {
+        synchronized (entries) {
+            Set<CacheKey> keyEntries = entriesByKey.remove(key);
+            if (keyEntries != null) {
+                for (CacheKey entry : keyEntries) {
+                    entries.remove(entry);
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            entries.clear();
+            entriesByKey.clear();
+        }
+    }
+
+    private void onFailure(Throwable failure) {
+        LOGGER.warnf(failure, "Redis near cache invalidation failed, dropping all cached entries");
+        reset();
+    }
+
+    private void reset() {
+        epoch.incrementAndGet();
+        clear();
+        close();
+    }
+
+    /**
+     * A cached value, or a cached field of a hash.
+     */
+    private static final class CacheKey {
+        final String key;
+        final String field;
+
+        CacheKey(String key, String field) {
+            this.key = key;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return key.equals(other.key) && Objects.equals(field, other.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Objects.hashCode(field);
+        }
+    }
+
+    synchronized void close() {
+        CompletableFuture<RedisConnection> current = tracking;
+        tracking = null;
+        if (current != null) {
+            current.thenAccept(RedisConnection::close);
+        }
+        RedisConnection currentSubscriber = subscriber;
+        subscriber = null;
+        if (currentSubscriber != null) {
+            currentSubscriber.close();
+        }
+    }
+}
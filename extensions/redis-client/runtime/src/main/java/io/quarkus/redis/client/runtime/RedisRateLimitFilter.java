@@ -0,0 +1,141 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
+import io.quarkus.redis.client.runtime.RedisConfig.RateLimitConfiguration;
+import io.quarkus.vertx.http.runtime.filters.Filters;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Rejects the HTTP requests exceeding the limits configured with {@code quarkus.redis.rate-limit}.
+ * <p>
+ * This bean is only registered when the Vert.x HTTP extension is present.
+ */
+@Singleton
+class RedisRateLimitFilter {
+    private static final Logger LOGGER = Logger.getLogger(RedisRateLimitFilter.class);
+
+    // run before the authentication and the application routes
+    private static final int PRIORITY = 1000;
+
+    private final RedisConfig redisConfig;
+    private final RedisAPIProducer producer;
+
+    public RedisRateLimitFilter(RedisConfig redisConfig, RedisAPIProducer producer) {
+        this.redisConfig = redisConfig;
+        this.producer = producer;
+    }
+
+    void register(@Observes Filters filters) {
+        List<Rule> rules = new ArrayList<>();
+        addRules(rules, RedisClientUtil.DEFAULT_CLIENT, redisConfig.defaultClient.rateLimit);
+        for (Map.Entry<String, RedisConfig.RedisConfiguration> entry : redisConfig.additionalRedisClients.entrySet()) {
+            addRules(rules, entry.getKey(), entry.getValue().rateLimit);
+        }
+        if (!rules.isEmpty()) {
+            filters.register(new RateLimitHandler(rules), PRIORITY);
+        }
+    }
+
+    private void addRules(List<Rule> rules, String clientName, RateLimitConfiguration config) {
+        if (!config.paths.isPresent()) {
+            return;
+        }
+        if (config.limit <= 0) {
+            throw new IllegalArgumentException("quarkus.redis.rate-limit.limit must be greater than 0");
+        }
+        for (String path : config.paths.get()) {
+            rules.add(new Rule(path, clientName, config));
+        }
+    }
+
+    private final class Rule {
+        final String path;
+        final boolean prefix;
+        final String clientName;
+        final int limit;
+        final Duration window;
+        volatile ReactiveRedisRateLimiter rateLimiter;
+
+        Rule(String path, String clientName, RateLimitConfiguration config) {
+            this.prefix = path.endsWith("*");
+            this.path = prefix ? path.substring(0, path.length() - 1) : path;
+            this.clientName = clientName;
+            this.limit = config.limit;
+            this.window = config.window;
+        }
+
+        boolean matches(String requestPath) {
+            return prefix ? requestPath.startsWith(path) : requestPath.equals(path);
+        }
+
+        ReactiveRedisRateLimiter rateLimiter() {
+            ReactiveRedisRateLimiter result = rateLimiter;
+            if (result == null) {
+                result = rateLimiter = producer.getRedisAPIContainer(clientName).getReactiveRateLimiter();
+            }
+            return result;
+        }
+    }
+
+    private static final class RateLimitHandler implements Handler<RoutingContext> {
+        private final Rule[] rules;
+
+        RateLimitHandler(List<Rule> rules) {
+            this.rules = rules.toArray(new Rule[0]);
+        }
+
+        @Override
+        public void handle(RoutingContext ctx) {
+            String requestPath = ctx.normalisedPath();
+            Rule rule = null;
+            for (Rule r : rules) {
+                if (r.matches(requestPath)) {
+                    rule = r;
+                    break;
+                }
+            }
+            if (rule == null) {
+                ctx.next();
+                return;
+            }
+            SocketAddress remoteAddress = ctx.request().remoteAddress();
+            String key = "rate-limit:" + (rule.prefix ? rule.path + "*" : rule.path) + ":"
+                    + (remoteAddress == null ? "unknown" : remoteAddress.host());
+            Context context = Vertx.currentContext();
+            rule.rateLimiter().tryAcquire(key, rule.limit, rule.window)
+                    .subscribe().with(granted -> onContext(context, () -> {
+                        if (granted) {
+                            ctx.next();
+                        } else {
+                            ctx.response().setStatusCode(429).end();
+                        }
+                    }), failure -> onContext(context, () -> {
+                        // a Redis outage must not make the application unavailable
+                        LOGGER.debugf(failure, "Unable to check the rate limit of %s, the request is accepted", key);
+                        ctx.next();
+                    }));
+        }
+
+        private static void onContext(Context context, Runnable action) {
+            if (context == null || Vertx.currentContext() == context) {
+                action.run();
+            } else {
+                context.runOnContext(v -> action.run());
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.redis.client.RedisRateLimiter;
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
+
+class RedisRateLimiterImpl implements RedisRateLimiter {
+    private final ReactiveRedisRateLimiter delegate;
+    private final Duration timeout;
+
+    RedisRateLimiterImpl(ReactiveRedisRateLimiter delegate, Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        return delegate.tryAcquire(key, limit, window).await().atMost(timeout);
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.redis.client.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A Lua script, identified by the SHA1 digest of its source as expected by {@code EVALSHA}.
+ */
+final class RedisScript {
+
+    static final RedisScript RATE_LIMIT = new RedisScript(
+            "redis.replicate_commands()\n"
+                    + "local time = redis.call('TIME')\n"
+                    + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)\n"
+                    + "local window = tonumber(ARGV[1])\n"
+                    + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)\n"
+                    + "if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then\n"
+                    + "  redis.call('ZADD', KEYS[1], now, ARGV[3])\n"
+                    + "  redis.call('PEXPIRE', KEYS[1], window)\n"
+                    + "  return 1\n"
+                    + "end\n"
+                    + "return 0\n");
+
+    static final RedisScript LOCK = new RedisScript(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then\n"
+                    + "  return redis.call('INCR', KEYS[2])\n"
+                    + "end\n"
+                    + "return 0\n");
+
+    static final RedisScript UNLOCK = new RedisScript(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+                    + "  return redis.call('DEL', KEYS[1])\n"
+                    + "end\n"
+                    + "return 0\n");
+
+    static final RedisScript EXTEND = new RedisScript(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+                    + "  return redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+                    + "end\n"
+                    + "return 0\n");
+
+    static final RedisScript[] ALL = { RATE_LIMIT, LOCK, UNLOCK, EXTEND };
+
+    private final String source;
+    private final String sha;
+
+    RedisScript(String source) {
+        this.source = source;
+        this.sha = sha1(source);
+    }
+
+    String getSource() {
+        return source;
+    }
+
+    String getSha() {
+        return sha;
+    }
+
+    private static String sha1(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
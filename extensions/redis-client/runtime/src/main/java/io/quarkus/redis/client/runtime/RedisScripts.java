@@ -0,0 +1,62 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Runs the {@link RedisScript}s with {@code EVALSHA}, so that only the digest of the script is sent on each call.
+ * <p>
+ * The scripts are loaded when the client is created. If the server does not know a script anymore (restart,
+ * {@code SCRIPT FLUSH}, fail-over...), it is loaded again and the call is retried once.
+ */
+class RedisScripts {
+    private static final Logger LOGGER = Logger.getLogger(RedisScripts.class);
+
+    private static final Predicate<Throwable> NO_SCRIPT = new Predicate<Throwable>() {
+        @Override
+        public boolean test(Throwable t) {
+            return t.getMessage() != null && t.getMessage().startsWith("NOSCRIPT");
+        }
+    };
+
+    private final RedisAPI redisAPI;
+
+    RedisScripts(RedisAPI redisAPI) {
+        this.redisAPI = redisAPI;
+    }
+
+    void load() {
+        for (RedisScript script : RedisScript.ALL) {
+            load(script).subscribe().with(r -> {
+            }, t -> LOGGER.debugf(t, "Unable to load the Redis script %s, it will be loaded on first use", script.getSha()));
+        }
+    }
+
+    Uni<Response> eval(RedisScript script, List<String> keys, String... args) {
+        List<String> evalArgs = new ArrayList<>(2 + keys.size() + args.length);
+        evalArgs.add(script.getSha());
+        evalArgs.add(Integer.toString(keys.size()));
+        evalArgs.addAll(keys);
+        evalArgs.addAll(Arrays.asList(args));
+        return redisAPI.evalsha(evalArgs)
+                .onFailure(NO_SCRIPT).recoverWithUni(new Function<Throwable, Uni<? extends Response>>() {
+                    @Override
+                    public Uni<? extends Response> apply(Throwable t) {
+                        return load(script).onItem().transformToUni(r -> redisAPI.evalsha(evalArgs));
+                    }
+                });
+    }
+
+    private Uni<Response> load(RedisScript script) {
+        return redisAPI.script(Arrays.asList("LOAD", script.getSource()));
+    }
+}
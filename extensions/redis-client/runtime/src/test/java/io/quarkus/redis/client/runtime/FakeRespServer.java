@@ -0,0 +1,204 @@
+package io.quarkus.redis.client.runtime;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process server speaking RESP, that runs the {@link RedisScript}s by their digest.
+ * <p>
+ * The scripts are emulated in Java, with a clock controlled by the tests. The server answers {@code NOSCRIPT} until a
+ * script is loaded with {@code SCRIPT LOAD}, like a real server after a restart.
+ */
+class FakeRespServer implements AutoCloseable {
+
+    final AtomicLong now = new AtomicLong(1_000_000);
+    final AtomicInteger scriptLoads = new AtomicInteger();
+    final AtomicInteger evals = new AtomicInteger();
+
+    private final ServerSocket serverSocket;
+    private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+    private final Map<String, TreeMap<Long, List<String>>> sortedSets = new HashMap<>();
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, Long> expirations = new HashMap<>();
+    private final Map<String, Long> counters = new HashMap<>();
+
+    FakeRespServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "fake-resp-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    String connectionString() {
+        return "redis://localhost:" + serverSocket.getLocalPort();
+    }
+
+    void flushScripts() {
+        loaded.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread connection = new Thread(() -> serve(socket), "fake-resp-connection");
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                // Closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = s.getOutputStream();
+            for (;;) {
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Connection closed
+        }
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (header.charAt(0) != '*') {
+            throw new IOException("Unexpected command " + header);
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = new byte[length + 2];
+            int read = 0;
+            while (read < bytes.length) {
+                int n = in.read(bytes, read, bytes.length - read);
+                if (n < 0) {
+                    return null;
+                }
+                read += n;
+            }
+            command.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) {
+                return null;
+            }
+            line.write(c);
+        }
+        in.read();
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private synchronized String execute(List<String> command) {
+        String name = command.get(0).toUpperCase();
+        if (name.equals("SCRIPT") && command.get(1).equalsIgnoreCase("LOAD")) {
+            scriptLoads.incrementAndGet();
+            String sha = new RedisScript(command.get(2)).getSha();
+            loaded.add(sha);
+            return bulk(sha);
+        }
+        if (name.equals("EVALSHA")) {
+            String sha = command.get(1);
+            if (!loaded.contains(sha)) {
+                return "-NOSCRIPT No matching script. Please use EVAL.\r\n";
+            }
+            evals.incrementAndGet();
+            int keyCount = Integer.parseInt(command.get(2));
+            List<String> keys = command.subList(3, 3 + keyCount);
+            List<String> args = command.subList(3 + keyCount, command.size());
+            return integer(eval(sha, keys, args));
+        }
+        return "-ERR unknown command '" + command.get(0) + "'\r\n";
+    }
+
+    private long eval(String sha, List<String> keys, List<String> args) {
+        long time = now.get();
+        if (sha.equals(RedisScript.RATE_LIMIT.getSha())) {
+            TreeMap<Long, List<String>> set = sortedSets.computeIfAbsent(keys.get(0), k -> new TreeMap<>());
+            set.headMap(time - Long.parseLong(args.get(0)), true).clear();
+            int size = 0;
+            for (List<String> members : set.values()) {
+                size += members.size();
+            }
+            if (size < Integer.parseInt(args.get(1))) {
+                set.computeIfAbsent(time, t -> new ArrayList<>()).add(args.get(2));
+                return 1;
+            }
+            return 0;
+        }
+        String key = keys.get(0);
+        Long expiration = expirations.get(key);
+        if (expiration != null && expiration <= time) {
+            values.remove(key);
+            expirations.remove(key);
+        }
+        String owner = values.get(key);
+        if (sha.equals(RedisScript.LOCK.getSha())) {
+            if (owner != null) {
+                return 0;
+            }
+            values.put(key, args.get(0));
+            expirations.put(key, time + Long.parseLong(args.get(1)));
+            return counters.merge(keys.get(1), 1L, Long::sum);
+        }
+        if (!args.get(0).equals(owner)) {
+            return 0;
+        }
+        if (sha.equals(RedisScript.UNLOCK.getSha())) {
+            values.remove(key);
+            expirations.remove(key);
+            return 1;
+        }
+        if (sha.equals(RedisScript.EXTEND.getSha())) {
+            expirations.put(key, time + Long.parseLong(args.get(1)));
+            return 1;
+        }
+        throw new IllegalArgumentException("Unknown script " + sha);
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    private static String integer(long value) {
+        return ":" + value + "\r\n";
+    }
+}
@@ -0,0 +1,101 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.client.RedisLock;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisOptions;
+
+class RedisLocksTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private FakeRespServer server;
+    private Vertx vertx;
+    private RedisMetrics metrics;
+    private RedisLocksImpl locks;
+
+    @BeforeEach
+    void init() throws Exception {
+        server = new FakeRespServer();
+        vertx = Vertx.vertx();
+        RedisAPI api = RedisAPI.api(Redis.createClient(vertx,
+                new RedisOptions().setConnectionString(server.connectionString())));
+        metrics = RedisMetrics.forClient(getClass().getName() + "-" + System.nanoTime());
+        locks = new RedisLocksImpl(new ReactiveRedisLocksImpl(new RedisScripts(api), metrics), TIMEOUT);
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        vertx.closeAndAwait();
+        server.close();
+    }
+
+    @Test
+    void testLockIsExclusive() {
+        RedisLock lock = locks.tryLock("resource", TTL);
+        assertThat(lock).isNotNull();
+        assertThat(lock.getName()).isEqualTo("resource");
+        assertThat(lock.getToken()).isEqualTo(1);
+        assertThat(locks.tryLock("resource", TTL)).isNull();
+        // another lock is independent
+        assertThat(locks.tryLock("other", TTL)).isNotNull();
+
+        assertThat(metrics.locksAcquired.sum()).isEqualTo(2);
+        assertThat(metrics.locksContended.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void testFencingTokenIncreases() {
+        RedisLock first = locks.tryLock("resource", TTL);
+        assertThat(locks.unlock(first)).isTrue();
+        RedisLock second = locks.tryLock("resource", TTL);
+        assertThat(second.getToken()).isGreaterThan(first.getToken());
+    }
+
+    @Test
+    void testOnlyOwnerUnlocks() {
+        RedisLock lock = locks.tryLock("resource", TTL);
+        RedisLock impostor = new RedisLock("resource", "someone-else", lock.getToken());
+        assertThat(locks.unlock(impostor)).isFalse();
+        assertThat(locks.extend(impostor, TTL)).isFalse();
+        assertThat(locks.tryLock("resource", TTL)).isNull();
+
+        assertThat(locks.unlock(lock)).isTrue();
+        // already released
+        assertThat(locks.unlock(lock)).isFalse();
+    }
+
+    @Test
+    void testExpiredLock() {
+        RedisLock expired = locks.tryLock("resource", TTL);
+        server.now.addAndGet(TTL.toMillis());
+
+        RedisLock lock = locks.tryLock("resource", TTL);
+        assertThat(lock).isNotNull();
+        // the token fences the writes of the previous owner
+        assertThat(lock.getToken()).isGreaterThan(expired.getToken());
+        assertThat(locks.unlock(expired)).isFalse();
+        assertThat(locks.extend(expired, TTL)).isFalse();
+    }
+
+    @Test
+    void testExtend() {
+        RedisLock lock = locks.tryLock("resource", TTL);
+        server.now.addAndGet(TTL.toMillis() - 1);
+        assertThat(locks.extend(lock, TTL)).isTrue();
+        server.now.addAndGet(TTL.toMillis() - 1);
+        // still held
+        assertThat(locks.tryLock("resource", TTL)).isNull();
+        assertThat(locks.unlock(lock)).isTrue();
+    }
+}
@@ -0,0 +1,219 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.types.BulkType;
+import io.vertx.redis.client.impl.types.IntegerType;
+import io.vertx.redis.client.impl.types.MultiType;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+class RedisNearCacheTest {
+
+    private FakeRedis server;
+    private RedisNearCache cache;
+
+    @BeforeEach
+    void init() {
+        server = new FakeRedis();
+        cache = new RedisNearCache(new MutinyRedis(server), 3);
+    }
+
+    @Test
+    void testValuesAreCached() {
+        assertThat(get("a")).isEqualTo("value-1");
+        assertThat(get("a")).isEqualTo("value-1");
+        assertThat(server.reads.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testHashFieldsAreCachedIndividually() {
+        assertThat(hget("h", "f1")).isEqualTo("value-1");
+        assertThat(hget("h", "f2")).isEqualTo("value-2");
+        assertThat(hget("h", "f1")).isEqualTo("value-1");
+        assertThat(hget("h", "f2")).isEqualTo("value-2");
+        assertThat(server.reads.get()).isEqualTo(2);
+        // each field is an entry
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        get("a");
+        get("b");
+        hget("h", "f1");
+        // a is now the most recently used entry
+        get("a");
+        hget("h", "f2");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(server.reads.get()).isEqualTo(4);
+
+        // b was evicted
+        get("b");
+        assertThat(server.reads.get()).isEqualTo(5);
+        // the field f1 was evicted by b
+        get("a");
+        hget("h", "f2");
+        assertThat(server.reads.get()).isEqualTo(5);
+        hget("h", "f1");
+        assertThat(server.reads.get()).isEqualTo(6);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testInvalidation() {
+        cache = new RedisNearCache(new MutinyRedis(server), 10);
+        get("a");
+        get("b");
+        hget("h", "f1");
+        hget("h", "f2");
+        assertThat(server.reads.get()).isEqualTo(4);
+
+        server.invalidate("a", "h");
+        assertThat(cache.size()).isEqualTo(1);
+        get("b");
+        assertThat(server.reads.get()).isEqualTo(4);
+        get("a");
+        hget("h", "f1");
+        hget("h", "f2");
+        assertThat(server.reads.get()).isEqualTo(7);
+    }
+
+    @Test
+    void testFlushClearsTheCache() {
+        get("a");
+        hget("h", "f1");
+        server.invalidate((String[]) null);
+        assertThat(cache.size()).isEqualTo(0);
+        get("a");
+        assertThat(server.reads.get()).isEqualTo(3);
+    }
+
+    private String get(String key) {
+        return cache.get(key).await().atMost(Duration.ofSeconds(5)).toString();
+    }
+
+    private String hget(String key, String field) {
+        return cache.hget(key, field).await().atMost(Duration.ofSeconds(5)).toString();
+    }
+
+    /**
+     * Answers the near cache commands, and pushes the invalidation messages to the subscribed connection.
+     */
+    static class FakeRedis implements Redis {
+
+        final AtomicInteger reads = new AtomicInteger();
+        FakeConnection subscriber;
+
+        @Override
+        public Redis connect(Handler<AsyncResult<RedisConnection>> handler) {
+            handler.handle(Future.succeededFuture(new FakeConnection()));
+            return this;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        void invalidate(String... keys) {
+            MultiType message = MultiType.create(3);
+            message.add(BulkType.create(Buffer.buffer("message")));
+            message.add(BulkType.create(Buffer.buffer(RedisNearCache.INVALIDATION_CHANNEL)));
+            if (keys == null) {
+                message.add(null);
+            } else {
+                MultiType invalidated = MultiType.create(keys.length);
+                for (String key : keys) {
+                    invalidated.add(BulkType.create(Buffer.buffer(key)));
+                }
+                message.add(invalidated);
+            }
+            subscriber.handler.handle(message);
+        }
+
+        class FakeConnection implements RedisConnection {
+
+            Handler<Response> handler;
+
+            @Override
+            public RedisConnection send(Request request, Handler<AsyncResult<Response>> onSend) {
+                Response response;
+                Command command = request.command();
+                if (command == Command.GET || command == Command.HGET) {
+                    response = BulkType.create(Buffer.buffer("value-" + reads.incrementAndGet()));
+                } else if (command == Command.CLIENT) {
+                    // CLIENT ID, CLIENT TRACKING
+                    response = IntegerType.create(42L);
+                } else if (command == Command.SUBSCRIBE) {
+                    subscriber = this;
+                    response = SimpleStringType.create("OK");
+                } else {
+                    throw new IllegalArgumentException("Unexpected command " + command);
+                }
+                onSend.handle(Future.succeededFuture(response));
+                return this;
+            }
+
+            @Override
+            public RedisConnection handler(Handler<Response> handler) {
+                this.handler = handler;
+                return this;
+            }
+
+            @Override
+            public RedisConnection exceptionHandler(Handler<Throwable> handler) {
+                return this;
+            }
+
+            @Override
+            public RedisConnection endHandler(Handler<Void> endHandler) {
+                return this;
+            }
+
+            @Override
+            public RedisConnection pause() {
+                return this;
+            }
+
+            @Override
+            public RedisConnection resume() {
+                return this;
+            }
+
+            @Override
+            public RedisConnection fetch(long amount) {
+                return this;
+            }
+
+            @Override
+            public RedisConnection batch(List<Request> commands, Handler<AsyncResult<List<Response>>> onSend) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public boolean pendingQueueFull() {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisOptions;
+
+class RedisRateLimiterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+
+    private FakeRespServer server;
+    private Vertx vertx;
+    private RedisScripts scripts;
+    private RedisMetrics metrics;
+    private ReactiveRedisRateLimiterImpl limiter;
+
+    @BeforeEach
+    void init() throws Exception {
+        server = new FakeRespServer();
+        vertx = Vertx.vertx();
+        RedisAPI api = RedisAPI.api(Redis.createClient(vertx,
+                new RedisOptions().setConnectionString(server.connectionString())));
+        scripts = new RedisScripts(api);
+        metrics = RedisMetrics.forClient(getClass().getName() + "-" + System.nanoTime());
+        limiter = new ReactiveRedisRateLimiterImpl(scripts, metrics);
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        vertx.closeAndAwait();
+        server.close();
+    }
+
+    @Test
+    void testPermitsInWindow() {
+        assertThat(tryAcquire("a", 2)).isTrue();
+        assertThat(tryAcquire("a", 2)).isTrue();
+        assertThat(tryAcquire("a", 2)).isFalse();
+        // the keys are limited independently
+        assertThat(tryAcquire("b", 2)).isTrue();
+
+        assertThat(metrics.permitsGranted.sum()).isEqualTo(3);
+        assertThat(metrics.permitsRejected.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void testWindowSlides() {
+        assertThat(tryAcquire("a", 2)).isTrue();
+        server.now.addAndGet(600);
+        assertThat(tryAcquire("a", 2)).isTrue();
+        assertThat(tryAcquire("a", 2)).isFalse();
+
+        // the first permit leaves the window
+        server.now.addAndGet(500);
+        assertThat(tryAcquire("a", 2)).isTrue();
+        assertThat(tryAcquire("a", 2)).isFalse();
+    }
+
+    @Test
+    void testScriptsLoadedOnce() throws InterruptedException {
+        // loaded asynchronously at startup
+        scripts.load();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (server.scriptLoads.get() < RedisScript.ALL.length && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        for (int i = 0; i < 5; i++) {
+            tryAcquire("a", 10);
+        }
+        assertThat(server.scriptLoads.get()).isEqualTo(RedisScript.ALL.length);
+        assertThat(server.evals.get()).isEqualTo(5);
+    }
+
+    @Test
+    void testScriptLoadedAgainWhenUnknown() {
+        // not loaded at startup, or flushed by the server
+        assertThat(tryAcquire("a", 1)).isTrue();
+        assertThat(server.scriptLoads.get()).isEqualTo(1);
+
+        server.flushScripts();
+        assertThat(tryAcquire("a", 1)).isFalse();
+        assertThat(server.scriptLoads.get()).isEqualTo(2);
+        assertThat(server.evals.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidLimit() {
+        assertThatThrownBy(() -> limiter.tryAcquire("a", 0, WINDOW).await().atMost(TIMEOUT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(server.evals.get()).isZero();
+    }
+
+    @Test
+    void testBlockingVariant() {
+        RedisRateLimiterImpl blocking = new RedisRateLimiterImpl(limiter, TIMEOUT);
+        assertThat(blocking.tryAcquire("a", 1, WINDOW)).isTrue();
+        assertThat(blocking.tryAcquire("a", 1, WINDOW)).isFalse();
+    }
+
+    private boolean tryAcquire(String key, int limit) {
+        return limiter.tryAcquire(key, limit, WINDOW).await().atMost(TIMEOUT);
+    }
+}
@@ -3,7 +3,21 @@ package io.quarkus.resteasy.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -14,12 +28,15 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyDotNames;
 import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
+import io.quarkus.resteasy.runtime.standalone.VertxRequestHandler;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
@@ -34,6 +51,14 @@ import io.vertx.ext.web.RoutingContext;
 
 public class ResteasyStandaloneBuildStep {
 
+    private static final DotName BLOCKING = DotName.createSimple("io.smallrye.common.annotation.Blocking");
+    private static final DotName NON_BLOCKING = DotName.createSimple("io.smallrye.common.annotation.NonBlocking");
+    private static final List<DotName> ASYNC_RETURN_TYPES = Arrays.asList(
+            DotName.createSimple("java.util.concurrent.CompletionStage"),
+            DotName.createSimple("java.util.concurrent.CompletableFuture"),
+            DotName.createSimple("io.smallrye.mutiny.Uni"),
+            DotName.createSimple("io.smallrye.mutiny.Multi"));
+
     public static final class ResteasyStandaloneBuildItem extends SimpleBuildItem {
 
         final String deploymentRootPath;
@@ -93,7 +118,8 @@ public class ResteasyStandaloneBuildStep {
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
             ExecutorBuildItem executorBuildItem,
             ResteasyVertxConfig resteasyVertxConfig,
-            HttpConfiguration httpConfiguration) throws Exception {
+            HttpConfiguration httpConfiguration,
+            CombinedIndexBuildItem combinedIndex) throws Exception {
 
         if (standalone == null) {
             return;
@@ -102,8 +128,11 @@ public class ResteasyStandaloneBuildStep {
 
         // Handler used for both the default and non-default deployment path (specified as application path or resteasyConfig.path)
         // Routes use the order VertxHttpRecorder.DEFAULT_ROUTE_ORDER + 1 to ensure the default route is called before the resteasy one
+        Set<String> nonBlockingMethods = resteasyVertxConfig.nonBlockingDispatch
+                ? collectNonBlockingMethods(combinedIndex.getIndex())
+                : Collections.emptySet();
         Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
-                executorBuildItem.getExecutorProxy(), httpConfiguration, resteasyVertxConfig);
+                executorBuildItem.getExecutorProxy(), httpConfiguration, resteasyVertxConfig, nonBlockingMethods);
         // Exact match for resources matched to the root path
         routes.produce(new RouteBuildItem(
                 new BasicRoute(standalone.deploymentRootPath, VertxHttpRecorder.DEFAULT_ROUTE_ORDER + 1), handler));
@@ -119,4 +148,68 @@ public class ResteasyStandaloneBuildStep {
         recorder.start(shutdown, requireVirtual.isPresent());
     }
 
+    /**
+     *
+     * @param index
+     * @return the keys of the resource methods that may be invoked on the event loop
+     * @see VertxRequestHandler#getMethodKey(java.lang.reflect.Method)
+     */
+    static Set<String> collectNonBlockingMethods(IndexView index) {
+        Set<String> methods = new HashSet<>();
+        for (DotName httpMethod : ResteasyDotNames.JAXRS_METHOD_ANNOTATIONS) {
+            for (AnnotationInstance annotation : index.getAnnotations(httpMethod)) {
+                if (annotation.target().kind() != Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = annotation.target().asMethod();
+                if (!isNonBlocking(method)) {
+                    continue;
+                }
+                ClassInfo declaringClass = method.declaringClass();
+                methods.add(getMethodKey(declaringClass, method));
+                if (Modifier.isInterface(declaringClass.flags())) {
+                    // The resource method is declared on an interface
+                    for (ClassInfo implementor : index.getAllKnownImplementors(declaringClass.name())) {
+                        methods.add(getMethodKey(implementor, method));
+                    }
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static boolean isNonBlocking(MethodInfo method) {
+        if (hasMethodAnnotation(method, BLOCKING)) {
+            return false;
+        }
+        if (hasMethodAnnotation(method, NON_BLOCKING)) {
+            return true;
+        }
+        if (method.declaringClass().classAnnotation(BLOCKING) != null) {
+            return false;
+        }
+        if (method.declaringClass().classAnnotation(NON_BLOCKING) != null) {
+            return true;
+        }
+        return ASYNC_RETURN_TYPES.contains(method.returnType().name());
+    }
+
+    private static boolean hasMethodAnnotation(MethodInfo method, DotName name) {
+        AnnotationInstance annotation = method.annotation(name);
+        return annotation != null && annotation.target().kind() == Kind.METHOD;
+    }
+
+    private static String getMethodKey(ClassInfo clazz, MethodInfo method) {
+        StringBuilder key = new StringBuilder();
+        key.append(clazz.name().toString()).append('#').append(method.name()).append('(');
+        List<Type> params = method.parameters();
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(params.get(i).name().toString());
+        }
+        return key.append(')').toString();
+    }
+
 }
@@ -0,0 +1,109 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class NonBlockingDispatchTest {
+
+    static final int LARGE_SIZE = 8 * 1024 * 1024;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class))
+            .overrideConfigKey("quarkus.resteasy.vertx.non-blocking-dispatch", "true");
+
+    @Test
+    public void testDispatch() {
+        // The response body is "true" if the resource method is invoked on a worker thread
+        when().get("/nonblocking/async").then().statusCode(200).body(is("false"));
+        when().get("/nonblocking/annotated").then().statusCode(200).body(is("false"));
+        when().get("/nonblocking/blocking-async").then().statusCode(200).body(is("true"));
+        when().get("/nonblocking/sync").then().statusCode(200).body(is("true"));
+        // The request body is not read yet
+        given().body("foo").post("/nonblocking/async-body").then().statusCode(200).body(is("true:foo"));
+        when().get("/nonblocking/missing").then().statusCode(404);
+        // The decision is cached per method and path
+        for (int i = 0; i < 3; i++) {
+            when().get("/nonblocking/async").then().statusCode(200).body(is("false"));
+            when().get("/nonblocking/sync").then().statusCode(200).body(is("true"));
+        }
+    }
+
+    @Test
+    public void testLargeResponse() {
+        // Written from a thread other than the event loop, which waits until the write queue is drained
+        String body = when().get("/nonblocking/large").then().statusCode(200).extract().asString();
+        assertEquals(LARGE_SIZE, body.length());
+        assertTrue(body.chars().allMatch(c -> c == 'a'));
+    }
+
+    @Path("nonblocking")
+    public static class NonBlockingResource {
+
+        @GET
+        @Path("large")
+        public CompletionStage<String> large() {
+            return CompletableFuture.supplyAsync(() -> {
+                char[] chars = new char[LARGE_SIZE];
+                Arrays.fill(chars, 'a');
+                return new String(chars);
+            });
+        }
+
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            return CompletableFuture.completedFuture("" + BlockingOperationControl.isBlockingAllowed());
+        }
+
+        @NonBlocking
+        @GET
+        @Path("annotated")
+        public String annotated() {
+            return "" + BlockingOperationControl.isBlockingAllowed();
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking-async")
+        public CompletionStage<String> blockingAsync() {
+            return CompletableFuture.completedFuture("" + BlockingOperationControl.isBlockingAllowed());
+        }
+
+        @GET
+        @Path("sync")
+        public String sync() {
+            return "" + BlockingOperationControl.isBlockingAllowed();
+        }
+
+        @POST
+        @Path("async-body")
+        public CompletionStage<String> asyncBody(String body) {
+            return CompletableFuture.completedFuture(BlockingOperationControl.isBlockingAllowed() + ":" + body);
+        }
+
+    }
+
+}
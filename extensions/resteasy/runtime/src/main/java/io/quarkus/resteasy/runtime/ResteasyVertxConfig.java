@@ -15,4 +15,17 @@ public class ResteasyVertxConfig {
     @ConfigItem(defaultValue = "8191")
     public int responseBufferSize;
 
+    /**
+     * If set to {@code true} then the resource methods that are detected as non-blocking at build time are invoked on the
+     * event loop instead of a worker thread. A resource method is non-blocking if it returns {@code CompletionStage},
+     * {@code CompletableFuture}, {@code Uni} or {@code Multi}, or if it is annotated with
+     * {@code @io.smallrye.common.annotation.NonBlocking}, unless it is annotated with
+     * {@code @io.smallrye.common.annotation.Blocking}.
+     * <p>
+     * Note that such resource methods, as well as the filters and interceptors applied to them, must never block the
+     * event loop. Requests with a body that is not fully read yet are always dispatched on a worker thread.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean nonBlockingDispatch;
+
 }
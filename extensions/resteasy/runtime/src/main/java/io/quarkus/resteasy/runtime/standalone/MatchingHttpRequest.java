@@ -0,0 +1,113 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+
+/**
+ * A request that is only used to find the resource method matching an inbound request before it's dispatched, i.e. the
+ * body, the asynchronous context and the remote address are not available.
+ */
+final class MatchingHttpRequest extends BaseHttpRequest {
+
+    private final ResteasyHttpHeaders httpHeaders;
+    private String httpMethod;
+    private Map<String, Object> attributes;
+
+    MatchingHttpRequest(ResteasyUriInfo uri, ResteasyHttpHeaders httpHeaders, String httpMethod) {
+        super(uri);
+        this.httpHeaders = httpHeaders;
+        this.httpMethod = httpMethod;
+    }
+
+    @Override
+    public HttpHeaders getHttpHeaders() {
+        return httpHeaders;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMutableHeaders() {
+        return httpHeaders.getMutableHeaders();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setInputStream(InputStream stream) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public void setHttpMethod(String method) {
+        this.httpMethod = method;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) {
+        return attributes != null ? attributes.get(attribute) : null;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>();
+        }
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        if (attributes != null) {
+            attributes.remove(name);
+        }
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return attributes != null ? Collections.enumeration(attributes.keySet()) : Collections.emptyEnumeration();
+    }
+
+    @Override
+    public ResteasyAsynchronousContext getAsyncContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forward(String path) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean wasForwarded() {
+        return false;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return null;
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.runtime.standalone;
 
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
@@ -51,11 +52,12 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(Supplier<Vertx> vertx,
-            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout, ResteasyVertxConfig config) {
+            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout, ResteasyVertxConfig config,
+            Set<String> nonBlockingMethods) {
         if (deployment != null) {
             return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath,
                     new ResteasyVertxAllocator(config.responseBufferSize), executor,
-                    readTimeout.readTimeout.toMillis());
+                    readTimeout.readTimeout.toMillis(), nonBlockingMethods);
         }
         return null;
     }
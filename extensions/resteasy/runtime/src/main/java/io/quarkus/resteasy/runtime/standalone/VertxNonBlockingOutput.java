@@ -0,0 +1,153 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.core.runtime.VertxBufferImpl;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * An output used for requests dispatched on the event loop.
+ * <p>
+ * The pooled buffers obtained from the {@link BufferAllocator} are passed to Vert.x as is and released once written.
+ * <p>
+ * The write queue of the response is honoured as far as the calling thread allows:
+ * <ul>
+ * <li>an asynchronous write completes once the data is written and the write queue is no longer full,</li>
+ * <li>a synchronous write from a thread other than the event loop, e.g. a worker thread that completed an async
+ * response, waits until the write queue is drained,</li>
+ * <li>a synchronous write from the event loop cannot wait and is always queued. The entity was already produced in
+ * memory at this point anyway.</li>
+ * </ul>
+ */
+public class VertxNonBlockingOutput implements VertxOutput {
+
+    protected final HttpServerResponse response;
+
+    private boolean handlersRegistered;
+    private boolean waitingForDrain;
+    private CompletableFuture<Void> pendingDrain;
+
+    public VertxNonBlockingOutput(HttpServerResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        try {
+            if (response.closed()) {
+                throw new IOException("Connection has been closed");
+            }
+            if (!Context.isOnEventLoopThread()) {
+                awaitWriteable();
+            }
+        } catch (IOException e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw e;
+        }
+        if (last) {
+            if (data == null) {
+                response.end();
+            } else {
+                response.end(new VertxBufferImpl(data));
+            }
+        } else {
+            response.write(new VertxBufferImpl(data));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> writeNonBlocking(ByteBuf data, boolean last) {
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        Handler<AsyncResult<Void>> handler = new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                if (result.failed()) {
+                    ret.completeExceptionally(result.cause());
+                } else if (!last && response.writeQueueFull()) {
+                    // Do not let the caller write more until there is room in the write queue
+                    synchronized (VertxNonBlockingOutput.this) {
+                        registerHandlers();
+                        pendingDrain = ret;
+                    }
+                } else {
+                    ret.complete(null);
+                }
+            }
+        };
+        if (last) {
+            if (data == null) {
+                response.end(handler);
+            } else {
+                response.end(new VertxBufferImpl(data), handler);
+            }
+        } else {
+            response.write(new VertxBufferImpl(data), handler);
+        }
+        return ret;
+    }
+
+    private synchronized void awaitWriteable() throws IOException {
+        while (response.writeQueueFull()) {
+            if (response.closed()) {
+                throw new IOException("Connection has been closed");
+            }
+            registerHandlers();
+            try {
+                waitingForDrain = true;
+                wait();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException(e.getMessage());
+            } finally {
+                waitingForDrain = false;
+            }
+        }
+    }
+
+    private void registerHandlers() {
+        assert Thread.holdsLock(this);
+        if (handlersRegistered) {
+            return;
+        }
+        handlersRegistered = true;
+        response.drainHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                resume(null);
+            }
+        });
+        response.closeHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                resume(new IOException("Connection has been closed"));
+            }
+        });
+    }
+
+    private void resume(Throwable failure) {
+        CompletableFuture<Void> drained;
+        synchronized (this) {
+            if (waitingForDrain) {
+                notifyAll();
+            }
+            drained = pendingDrain;
+            pendingDrain = null;
+        }
+        if (drained != null) {
+            if (failure == null) {
+                drained.complete(null);
+            } else {
+                drained.completeExceptionally(failure);
+            }
+        }
+    }
+
+}
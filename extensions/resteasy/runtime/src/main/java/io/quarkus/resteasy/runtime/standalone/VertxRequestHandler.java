@@ -3,20 +3,28 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
 import javax.ws.rs.core.SecurityContext;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.SynchronousDispatcher;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
 import io.quarkus.arc.ManagedContext;
@@ -31,6 +39,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -41,6 +50,9 @@ import io.vertx.ext.web.RoutingContext;
 public class VertxRequestHandler implements Handler<RoutingContext> {
     private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
 
+    // The maximum number of requests for which the non-blocking dispatch decision is cached, see isNonBlocking(RoutingContext)
+    static final int MAX_CACHED_REQUESTS = 1024;
+
     protected final Vertx vertx;
     protected final RequestDispatcher dispatcher;
     protected final String rootPath;
@@ -50,12 +62,25 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    // Keys of the resource methods that may be invoked on the event loop, see getMethodKey(Method)
+    protected final Set<String> nonBlockingMethods;
+    protected final ConcurrentMap<Method, Boolean> nonBlockingCache;
+    // HTTP method, path and media type headers -> non-blocking dispatch decision
+    protected final ConcurrentMap<String, Boolean> nonBlockingRequestCache;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, readTimeout, Collections.emptySet());
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, long readTimeout, Set<String> nonBlockingMethods) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -67,6 +92,9 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
+        this.nonBlockingMethods = nonBlockingMethods;
+        this.nonBlockingCache = new ConcurrentHashMap<>();
+        this.nonBlockingRequestCache = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -85,6 +113,13 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             } catch (Throwable e) {
                 request.fail(e);
             }
+        } else if (isNonBlocking(request)) {
+            // The resource method does not block - there is no need to occupy a worker thread
+            try {
+                dispatch(request, is, new VertxNonBlockingOutput(request.response()));
+            } catch (Throwable e) {
+                request.fail(e);
+            }
         } else {
             executor.execute(new Runnable() {
                 @Override
@@ -100,6 +135,79 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
     }
 
+    private boolean isNonBlocking(RoutingContext routingContext) {
+        if (nonBlockingMethods.isEmpty()) {
+            return false;
+        }
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() == null) {
+            String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+            if ((contentLength != null && !contentLength.equals("0"))
+                    || request.headers().contains(HttpHeaders.TRANSFER_ENCODING)) {
+                // The request body could only be read in a blocking manner
+                return false;
+            }
+        }
+        // The match only depends on the HTTP method, the path and the media types so the decision is cached
+        // The number of distinct paths is unbounded if path parameters are used, hence the cache is bounded
+        String requestKey = requestKey(request);
+        Boolean nonBlocking = nonBlockingRequestCache.get(requestKey);
+        if (nonBlocking == null) {
+            nonBlocking = matchNonBlocking(request);
+            if (nonBlockingRequestCache.size() < MAX_CACHED_REQUESTS) {
+                nonBlockingRequestCache.put(requestKey, nonBlocking);
+            }
+        }
+        return nonBlocking;
+    }
+
+    private boolean matchNonBlocking(HttpServerRequest request) {
+        ResourceInvoker invoker;
+        try {
+            invoker = dispatcher.getDispatcher().getRegistry()
+                    .getResourceInvoker(new MatchingHttpRequest(VertxUtil.extractUriInfo(request, rootPath),
+                            VertxUtil.extractHttpHeaders(request), request.rawMethod()));
+        } catch (RuntimeException e) {
+            // Not found, method not allowed, etc. - the regular dispatch takes care of the error response
+            return false;
+        }
+        if (!(invoker instanceof ResourceMethodInvoker)) {
+            // Sub-resource locators are not supported
+            return false;
+        }
+        return nonBlockingCache.computeIfAbsent(((ResourceMethodInvoker) invoker).getMethod(),
+                new Function<Method, Boolean>() {
+                    @Override
+                    public Boolean apply(Method method) {
+                        return nonBlockingMethods.contains(getMethodKey(method));
+                    }
+                });
+    }
+
+    private static String requestKey(HttpServerRequest request) {
+        // The headers are always present in the key so that an Accept header is never mistaken for a Content-Type
+        return request.rawMethod() + ' ' + request.path() + ' ' + request.getHeader(HttpHeaders.CONTENT_TYPE) + ' '
+                + request.getHeader(HttpHeaders.ACCEPT);
+    }
+
+    /**
+     *
+     * @param method
+     * @return the key used to identify a non-blocking resource method, e.g. {@code org.acme.Foo#hello(java.lang.String)}
+     */
+    public static String getMethodKey(Method method) {
+        StringBuilder key = new StringBuilder();
+        key.append(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+        Class<?>[] params = method.getParameterTypes();
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(params[i].getName());
+        }
+        return key.append(')').toString();
+    }
+
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
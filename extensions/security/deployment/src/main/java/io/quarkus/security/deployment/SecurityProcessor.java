@@ -18,6 +18,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
+import javax.inject.Singleton;
+
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
@@ -31,6 +33,7 @@ import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrarBuildItem;
 import io.quarkus.arc.deployment.InterceptorBindingRegistrarBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.processor.BeanConfigurator;
 import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.BuiltinScope;
@@ -52,9 +55,12 @@ import io.quarkus.security.runtime.IdentityProviderManagerCreator;
 import io.quarkus.security.runtime.SecurityBuildTimeConfig;
 import io.quarkus.security.runtime.SecurityCheckRecorder;
 import io.quarkus.security.runtime.SecurityIdentityAssociation;
+import io.quarkus.security.runtime.SecurityIdentityCache;
+import io.quarkus.security.runtime.SecurityIdentityCacheRecorder;
 import io.quarkus.security.runtime.SecurityIdentityProxy;
 import io.quarkus.security.runtime.SecurityProviderRecorder;
 import io.quarkus.security.runtime.SecurityProviderUtils;
+import io.quarkus.security.runtime.SecurityRuntimeConfig;
 import io.quarkus.security.runtime.X509IdentityProvider;
 import io.quarkus.security.runtime.interceptor.AuthenticatedInterceptor;
 import io.quarkus.security.runtime.interceptor.DenyAllInterceptor;
@@ -419,6 +425,19 @@ public class SecurityProcessor {
         beans.produce(AdditionalBeanBuildItem.unremovableOf(X509IdentityProvider.class));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    SyntheticBeanBuildItem registerIdentityCache(SecurityIdentityCacheRecorder recorder, SecurityRuntimeConfig config) {
+        // the application may provide its own cache
+        return SyntheticBeanBuildItem.configure(SecurityIdentityCache.class)
+                .scope(Singleton.class)
+                .setRuntimeInit()
+                .unremovable()
+                .defaultBean()
+                .supplier(recorder.createIdentityCache(config))
+                .done();
+    }
+
     @BuildStep
     AdditionalBeanBuildItem authorizationController() {
         return AdditionalBeanBuildItem.builder().addBeanClass(AuthorizationController.class).build();
@@ -0,0 +1,188 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TrustedAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * The default {@link SecurityIdentityCache}, which keeps the identities created for the username and password requests
+ * (HTTP Basic and form authentication) and for the trusted requests (form authentication cookie).
+ * <p>
+ * The identities are keyed by the identity provider that created them, the request type, the username and a keyed hash
+ * of the password, so that a password is never kept, and a different password is verified again. They are discarded
+ * once the configured time-to-live has elapsed. The least recently used identity is discarded when the cache is full.
+ */
+public class DefaultSecurityIdentityCache implements SecurityIdentityCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final long CLEAN_UP_INTERVAL = 1000;
+
+    // guarded by itself
+    private final Map<String, CachedIdentity> entries;
+    private final int maxSize;
+    private final long timeToLive;
+    private final SecretKeySpec hashKey;
+    private volatile long lastCleanUp;
+
+    public DefaultSecurityIdentityCache(int maxSize, long timeToLiveMillis) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLiveMillis;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hashKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.entries = new LinkedHashMap<String, CachedIdentity>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedIdentity> eldest) {
+                return size() > DefaultSecurityIdentityCache.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public SecurityIdentity get(IdentityProvider<?> provider, AuthenticationRequest request) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = getKey(provider, request);
+        if (key == null) {
+            return null;
+        }
+        synchronized (entries) {
+            CachedIdentity entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() >= entry.expiresAt) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.identity;
+        }
+    }
+
+    @Override
+    public void put(IdentityProvider<?> provider, AuthenticationRequest request, SecurityIdentity identity) {
+        if (maxSize <= 0 || identity == null || identity.isAnonymous()) {
+            return;
+        }
+        String key = getKey(provider, request);
+        if (key == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            if (entries.size() >= maxSize) {
+                // prefer discarding the expired identities to the least recently used one
+                removeExpired(now);
+            }
+            entries.put(key, new CachedIdentity(getPrincipalName(request), identity, now + timeToLive));
+        }
+    }
+
+    @Override
+    public void invalidate(String principalName) {
+        synchronized (entries) {
+            for (Iterator<CachedIdentity> it = entries.values().iterator(); it.hasNext();) {
+                if (it.next().principalName.equals(principalName)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void removeExpired(long now) {
+        assert Thread.holdsLock(entries);
+        // scanning the entries is only worth it from time to time
+        if (now - lastCleanUp < CLEAN_UP_INTERVAL) {
+            return;
+        }
+        lastCleanUp = now;
+        for (Iterator<CachedIdentity> it = entries.values().iterator(); it.hasNext();) {
+            if (now >= it.next().expiresAt) {
+                it.remove();
+            }
+        }
+    }
+
+    private String getKey(IdentityProvider<?> provider, AuthenticationRequest request) {
+        // the same credentials may be valid in several realms, each realm having its own roles
+        String realm = provider.getClass().getName();
+        if (request instanceof UsernamePasswordAuthenticationRequest) {
+            UsernamePasswordAuthenticationRequest usernamePassword = (UsernamePasswordAuthenticationRequest) request;
+            if (usernamePassword.getUsername() == null || usernamePassword.getPassword() == null) {
+                return null;
+            }
+            return realm + ":password:" + usernamePassword.getUsername() + ':'
+                    + hash(usernamePassword.getPassword().getPassword());
+        }
+        if (request instanceof TrustedAuthenticationRequest) {
+            String principal = ((TrustedAuthenticationRequest) request).getPrincipal();
+            return principal != null ? realm + ":trusted:" + principal : null;
+        }
+        return null;
+    }
+
+    private static String getPrincipalName(AuthenticationRequest request) {
+        if (request instanceof UsernamePasswordAuthenticationRequest) {
+            return ((UsernamePasswordAuthenticationRequest) request).getUsername();
+        }
+        return ((TrustedAuthenticationRequest) request).getPrincipal();
+    }
+
+    private String hash(char[] password) {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hashKey);
+            mac.update(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (bytes.hasArray()) {
+                Arrays.fill(bytes.array(), (byte) 0);
+            }
+        }
+    }
+
+    static final class CachedIdentity {
+        final String principalName;
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        CachedIdentity(String principalName, SecurityIdentity identity, long expiresAt) {
+            this.principalName = principalName;
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
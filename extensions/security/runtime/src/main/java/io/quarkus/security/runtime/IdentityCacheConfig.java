@@ -0,0 +1,26 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class IdentityCacheConfig {
+
+    /**
+     * Maximum number of identities which are kept, so that the credentials presented again by a user are not verified
+     * again by the identity providers.
+     * The cache is disabled by default, set it to a positive value to enable it.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int maxSize;
+
+    /**
+     * Maximum amount of time an identity is kept for. Changes to the credentials or the roles of a user are not visible
+     * until then, unless the identities of the user are invalidated with
+     * `io.quarkus.security.runtime.SecurityIdentityCache#invalidate`.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration timeToLive;
+}
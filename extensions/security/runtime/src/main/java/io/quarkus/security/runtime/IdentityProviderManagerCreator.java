@@ -25,6 +25,9 @@ public class IdentityProviderManagerCreator {
     @Inject
     Instance<SecurityIdentityAugmentor> augmentors;
 
+    @Inject
+    Instance<SecurityIdentityCache> identityCache;
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm() {
@@ -42,6 +45,9 @@ public class IdentityProviderManagerCreator {
         for (SecurityIdentityAugmentor i : augmentors) {
             builder.addSecurityIdentityAugmentor(i);
         }
+        if (identityCache.isResolvable()) {
+            builder.setIdentityCache(identityCache.get());
+        }
         builder.setBlockingExecutor(new Executor() {
             @Override
             public void execute(Runnable command) {
@@ -33,6 +33,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final List<SecurityIdentityAugmentor> augmenters;
     private final Executor blockingExecutor;
+    private final SecurityIdentityCache identityCache;
 
     private final AuthenticationRequestContext blockingRequestContext = new AuthenticationRequestContext() {
         @Override
@@ -74,6 +75,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         this.providers = builder.providers;
         this.augmenters = builder.augmentors;
         this.blockingExecutor = builder.blockingExecutor;
+        this.identityCache = builder.identityCache;
     }
 
     /**
@@ -92,6 +94,12 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
                 return Uni.createFrom().failure(new IllegalArgumentException(
                         "No IdentityProviders were registered to handle AuthenticationRequest " + request));
             }
+            if (identityCache != null) {
+                SecurityIdentity cached = getCachedIdentity(providers, request);
+                if (cached != null) {
+                    return handleCachedIdentity(cached);
+                }
+            }
             if (providers.size() == 1) {
                 return handleSingleProvider(providers.get(0), request);
             }
@@ -101,11 +109,36 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         }
     }
 
-    private Uni<SecurityIdentity> handleSingleProvider(IdentityProvider identityProvider, AuthenticationRequest request) {
+    private SecurityIdentity getCachedIdentity(List<IdentityProvider> providers, AuthenticationRequest request) {
+        for (int i = 0; i < providers.size(); i++) {
+            SecurityIdentity cached = identityCache.get(providers.get(i), request);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private Uni<SecurityIdentity> handleCachedIdentity(SecurityIdentity identity) {
         if (augmenters.isEmpty()) {
-            return identityProvider.authenticate(request, blockingRequestContext);
+            return Uni.createFrom().item(identity);
         }
+        return handleIdentityFromProvider(0, identity, blockingRequestContext);
+    }
+
+    private Uni<SecurityIdentity> handleSingleProvider(IdentityProvider identityProvider, AuthenticationRequest request) {
         Uni<SecurityIdentity> authenticated = identityProvider.authenticate(request, blockingRequestContext);
+        if (identityCache != null) {
+            authenticated = authenticated.onItem().invoke(new Consumer<SecurityIdentity>() {
+                @Override
+                public void accept(SecurityIdentity securityIdentity) {
+                    identityCache.put(identityProvider, request, securityIdentity);
+                }
+            });
+        }
+        if (augmenters.isEmpty()) {
+            return authenticated;
+        }
         return authenticated.flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
             @Override
             public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
@@ -129,6 +162,12 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
+        if (identityCache != null) {
+            SecurityIdentity cached = getCachedIdentity(providers, request);
+            if (cached != null) {
+                return handleCachedIdentity(cached).await().indefinitely();
+            }
+        }
         return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext).await().indefinitely();
     }
 
@@ -145,6 +184,9 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
                     @Override
                     public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
                         if (securityIdentity != null) {
+                            if (identityCache != null) {
+                                identityCache.put(current, request, securityIdentity);
+                            }
                             return Uni.createFrom().item(securityIdentity);
                         }
                         return handleProvider(pos + 1, providers, request, context);
@@ -192,6 +234,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private Executor blockingExecutor;
+        private SecurityIdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -228,6 +271,15 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return this;
         }
 
+        /**
+         * @param identityCache The cache of the identities created by the providers, or null to disable caching
+         * @return this builder
+         */
+        public Builder setIdentityCache(SecurityIdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
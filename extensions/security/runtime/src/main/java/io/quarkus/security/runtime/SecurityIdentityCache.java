@@ -0,0 +1,48 @@
+package io.quarkus.security.runtime;
+
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+
+/**
+ * A cache of the identities created by the {@link io.quarkus.security.identity.IdentityProvider}s, which is consulted by
+ * the {@link QuarkusIdentityProviderManagerImpl} before the request is sent to the providers. The identities are cached
+ * per identity provider, the providers being consulted in the order of their priority.
+ * <p>
+ * The identities are cached before they are augmented, the {@link io.quarkus.security.identity.SecurityIdentityAugmentor}s
+ * still run for every request.
+ * <p>
+ * A default implementation configured with {@code quarkus.security.identity-cache} is used unless the application
+ * provides a bean implementing this interface.
+ */
+public interface SecurityIdentityCache {
+
+    /**
+     * @param provider the identity provider that may authenticate the request
+     * @param request the authentication request
+     * @return the identity created by the provider for an equivalent request, or null if there is none or if this request
+     *         can not be cached
+     */
+    SecurityIdentity get(IdentityProvider<?> provider, AuthenticationRequest request);
+
+    /**
+     * Keeps the identity created for the request. This method does nothing if the request can not be cached.
+     *
+     * @param provider the identity provider that created the identity
+     * @param request the authentication request
+     * @param identity the identity created for the request
+     */
+    void put(IdentityProvider<?> provider, AuthenticationRequest request, SecurityIdentity identity);
+
+    /**
+     * Discards the identities of the principal, for example because its credentials or roles have changed.
+     *
+     * @param principalName the principal name
+     */
+    void invalidate(String principalName);
+
+    /**
+     * Discards all the identities.
+     */
+    void invalidateAll();
+}
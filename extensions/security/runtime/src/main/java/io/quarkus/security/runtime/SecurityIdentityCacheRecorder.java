@@ -0,0 +1,20 @@
+package io.quarkus.security.runtime;
+
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class SecurityIdentityCacheRecorder {
+
+    public Supplier<SecurityIdentityCache> createIdentityCache(SecurityRuntimeConfig config) {
+        final SecurityIdentityCache identityCache = new DefaultSecurityIdentityCache(config.identityCache.maxSize,
+                config.identityCache.timeToLive.toMillis());
+        return new Supplier<SecurityIdentityCache>() {
+            @Override
+            public SecurityIdentityCache get() {
+                return identityCache;
+            }
+        };
+    }
+}
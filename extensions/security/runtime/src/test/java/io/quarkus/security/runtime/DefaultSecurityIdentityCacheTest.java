@@ -0,0 +1,150 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TrustedAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+public class DefaultSecurityIdentityCacheTest {
+
+    static final IdentityProvider<?> PROVIDER = new TestIdentityProvider();
+
+    @Test
+    public void testIdentityIsKeyedByPassword() {
+        DefaultSecurityIdentityCache cache = new DefaultSecurityIdentityCache(10, TimeUnit.MINUTES.toMillis(5));
+        SecurityIdentity alice = identity("alice");
+        cache.put(PROVIDER, request("alice", "secret"), alice);
+
+        assertSame(alice, cache.get(PROVIDER, request("alice", "secret")));
+        assertNull(cache.get(PROVIDER, request("alice", "wrong")));
+        assertNull(cache.get(PROVIDER, request("bob", "secret")));
+        assertNull(cache.get(PROVIDER, new TrustedAuthenticationRequest("alice")));
+    }
+
+    @Test
+    public void testIdentityExpires() throws Exception {
+        DefaultSecurityIdentityCache cache = new DefaultSecurityIdentityCache(10, 50);
+        cache.put(PROVIDER, request("alice", "secret"), identity("alice"));
+
+        Thread.sleep(100);
+        assertNull(cache.get(PROVIDER, request("alice", "secret")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        DefaultSecurityIdentityCache cache = new DefaultSecurityIdentityCache(10, TimeUnit.MINUTES.toMillis(5));
+        cache.put(PROVIDER, request("alice", "secret"), identity("alice"));
+        cache.put(PROVIDER, new TrustedAuthenticationRequest("alice"), identity("alice"));
+        cache.put(PROVIDER, request("bob", "secret"), identity("bob"));
+
+        cache.invalidate("alice");
+        assertNull(cache.get(PROVIDER, request("alice", "secret")));
+        assertNull(cache.get(PROVIDER, new TrustedAuthenticationRequest("alice")));
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testIdentityIsKeyedByProvider() {
+        DefaultSecurityIdentityCache cache = new DefaultSecurityIdentityCache(10, TimeUnit.MINUTES.toMillis(5));
+        SecurityIdentity alice = identity("alice");
+        cache.put(PROVIDER, request("alice", "secret"), alice);
+
+        assertSame(alice, cache.get(PROVIDER, request("alice", "secret")));
+        assertNull(cache.get(new AnonymousIdentityProvider(), request("alice", "secret")));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIdentityIsEvicted() {
+        DefaultSecurityIdentityCache cache = new DefaultSecurityIdentityCache(2, TimeUnit.MINUTES.toMillis(5));
+        cache.put(PROVIDER, request("alice", "secret"), identity("alice"));
+        cache.put(PROVIDER, request("bob", "secret"), identity("bob"));
+        assertNotNull(cache.get(PROVIDER, request("alice", "secret")));
+        cache.put(PROVIDER, request("carol", "secret"), identity("carol"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(PROVIDER, request("alice", "secret")));
+        assertNull(cache.get(PROVIDER, request("bob", "secret")));
+        assertNotNull(cache.get(PROVIDER, request("carol", "secret")));
+    }
+
+    @Test
+    public void testManagerUsesCache() {
+        AtomicInteger authentications = new AtomicInteger();
+        QuarkusIdentityProviderManagerImpl manager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new AnonymousIdentityProvider())
+                .addProvider(new IdentityProvider<UsernamePasswordAuthenticationRequest>() {
+                    @Override
+                    public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+                        return UsernamePasswordAuthenticationRequest.class;
+                    }
+
+                    @Override
+                    public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                            AuthenticationRequestContext context) {
+                        authentications.incrementAndGet();
+                        if (!"secret".equals(new String(request.getPassword().getPassword()))) {
+                            return Uni.createFrom().failure(new AuthenticationFailedException());
+                        }
+                        return Uni.createFrom().item(identity(request.getUsername()));
+                    }
+                })
+                .setBlockingExecutor(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        command.run();
+                    }
+                })
+                .setIdentityCache(new DefaultSecurityIdentityCache(10, TimeUnit.MINUTES.toMillis(5)))
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            SecurityIdentity identity = manager.authenticate(request("alice", "secret")).await().indefinitely();
+            assertEquals("alice", identity.getPrincipal().getName());
+            assertThrows(AuthenticationFailedException.class,
+                    () -> manager.authenticate(request("alice", "wrong")).await().indefinitely());
+        }
+        assertEquals(3, authentications.get());
+    }
+
+    private static UsernamePasswordAuthenticationRequest request(String username, String password) {
+        return new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray()));
+    }
+
+    private static SecurityIdentity identity(String name) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(name)).addRole("user").build();
+    }
+
+    static class TestIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+        @Override
+        public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+            return UsernamePasswordAuthenticationRequest.class;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            return Uni.createFrom().nullItem();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.quarkus.smallrye.faulttolerance.deployment;
+
+import java.util.function.BiFunction;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import io.quarkus.gizmo.Gizmo;
+import io.quarkus.smallrye.faulttolerance.runtime.AtomicRollingWindow;
+
+/**
+ * Replaces the body of {@code RollingWindow.create(int, int)}, so that the circuit breakers use the
+ * {@link AtomicRollingWindow}.
+ */
+class RollingWindowTransformer implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+    static final String ROLLING_WINDOW = "io.smallrye.faulttolerance.core.circuit.breaker.RollingWindow";
+
+    private static final String CREATE = "create";
+    private static final String CREATE_DESCRIPTOR = "(II)L" + ROLLING_WINDOW.replace('.', '/') + ";";
+
+    @Override
+    public ClassVisitor apply(String className, ClassVisitor classVisitor) {
+        return new ClassVisitor(Gizmo.ASM_API_VERSION, classVisitor) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                    String[] exceptions) {
+                MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+                if (!CREATE.equals(name) || !CREATE_DESCRIPTOR.equals(descriptor)) {
+                    return visitor;
+                }
+                String window = Type.getInternalName(AtomicRollingWindow.class);
+                visitor.visitCode();
+                visitor.visitTypeInsn(Opcodes.NEW, window);
+                visitor.visitInsn(Opcodes.DUP);
+                visitor.visitVarInsn(Opcodes.ILOAD, 0);
+                visitor.visitVarInsn(Opcodes.ILOAD, 1);
+                visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, window, "<init>", "(II)V", false);
+                visitor.visitInsn(Opcodes.ARETURN);
+                visitor.visitMaxs(4, 2);
+                visitor.visitEnd();
+                // the original body is dropped
+                return null;
+            }
+        };
+    }
+}
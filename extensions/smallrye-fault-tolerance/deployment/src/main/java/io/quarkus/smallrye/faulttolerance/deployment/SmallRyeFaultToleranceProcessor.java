@@ -41,8 +41,10 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageSystemPropertyBuildItem;
@@ -50,9 +52,11 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.smallrye.faulttolerance.runtime.NoopMetricRegistry;
+import io.quarkus.smallrye.faulttolerance.runtime.QuarkusExecutorProvider;
 import io.quarkus.smallrye.faulttolerance.runtime.QuarkusFallbackHandlerProvider;
 import io.quarkus.smallrye.faulttolerance.runtime.QuarkusFaultToleranceOperationProvider;
 import io.quarkus.smallrye.faulttolerance.runtime.SmallRyeFaultToleranceRecorder;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.smallrye.faulttolerance.ExecutorFactory;
 import io.smallrye.faulttolerance.ExecutorProvider;
 import io.smallrye.faulttolerance.FaultToleranceBinding;
@@ -144,6 +148,7 @@ public class SmallRyeFaultToleranceProcessor {
         }
         builder.addBeanClasses(FaultToleranceInterceptor.class,
                 ExecutorProvider.class,
+                QuarkusExecutorProvider.class,
                 StrategyCache.class,
                 QuarkusFaultToleranceOperationProvider.class,
                 QuarkusFallbackHandlerProvider.class,
@@ -206,6 +211,20 @@ public class SmallRyeFaultToleranceProcessor {
         recorder.createFaultToleranceOperation(beanNames);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void scheduleTimeoutsOnEventLoops(SmallRyeFaultToleranceRecorder recorder, CoreVertxBuildItem vertx,
+            ExecutorBuildItem executor) {
+        // the timers are fired by the event loops, the timeout actions are executed by the main executor
+        recorder.scheduleTimeoutsOnEventLoops(vertx.getVertx(), executor.getExecutorProxy());
+    }
+
+    @BuildStep
+    BytecodeTransformerBuildItem replaceRollingWindow() {
+        // the circuit breakers are created by the interceptor, their rolling window can only be replaced in the bytecode
+        return new BytecodeTransformerBuildItem(RollingWindowTransformer.ROLLING_WINDOW, new RollingWindowTransformer());
+    }
+
     private boolean hasFTAnnotations(IndexView index, AnnotationStore annotationStore, ClassInfo info) {
         if (info == null) {
             //should not happen, but guard against it
@@ -1,6 +1,7 @@
 package io.quarkus.smallrye.faulttolerance.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -20,6 +21,7 @@ import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import io.quarkus.smallrye.faulttolerance.runtime.AtomicRollingWindow;
 import io.quarkus.smallrye.faulttolerance.test.asynchronous.AsynchronousBean;
 import io.quarkus.smallrye.faulttolerance.test.bukhead.BulkheadBean;
 import io.quarkus.smallrye.faulttolerance.test.circuitbreaker.CircuitBreakerBean;
@@ -27,6 +29,7 @@ import io.quarkus.smallrye.faulttolerance.test.fallback.FallbackBean;
 import io.quarkus.smallrye.faulttolerance.test.retry.RetryBean;
 import io.quarkus.smallrye.faulttolerance.test.timeout.TimeoutBean;
 import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.faulttolerance.core.circuit.breaker.RollingWindow;
 
 public class FaultToleranceTest {
     @RegisterExtension
@@ -100,6 +103,25 @@ public class FaultToleranceTest {
         assertTrue(circuitBreakerObserver.isOpen());
     }
 
+    @Test
+    public void testAsynchronousTimeoutIsHandledOnWorker() throws Exception {
+        assertEquals("worker", timeout.asynchronousTimeout().toCompletableFuture().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRollingWindow() {
+        RollingWindow window = RollingWindow.create(4, 2);
+        assertTrue(window instanceof AtomicRollingWindow);
+        assertFalse(window.recordFailure());
+        assertFalse(window.recordSuccess());
+        assertFalse(window.recordFailure());
+        // the window is full, with 2 failures
+        assertTrue(window.recordSuccess());
+        // the first failure leaves the window
+        assertFalse(window.recordSuccess());
+        assertTrue(window.recordFailure());
+    }
+
     @Test
     public void testAsynchronous() throws ExecutionException, InterruptedException {
         assertEquals("hello", asynchronous.asynchronous().toCompletableFuture().get());
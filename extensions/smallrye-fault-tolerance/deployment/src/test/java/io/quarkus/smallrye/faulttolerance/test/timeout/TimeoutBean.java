@@ -1,9 +1,16 @@
 package io.quarkus.smallrye.faulttolerance.test.timeout;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import javax.enterprise.context.ApplicationScoped;
 
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.Timeout;
 
+import io.vertx.core.Context;
+
 @ApplicationScoped
 public class TimeoutBean {
 
@@ -11,4 +18,16 @@ public class TimeoutBean {
     public void timeout() throws InterruptedException {
         Thread.sleep(100);
     }
+
+    @Asynchronous
+    @Timeout(50)
+    @Fallback(fallbackMethod = "fallbackThread")
+    public CompletionStage<String> asynchronousTimeout() {
+        // never completed, the timeout completes the result and runs the fallback
+        return new CompletableFuture<>();
+    }
+
+    public CompletionStage<String> fallbackThread() {
+        return CompletableFuture.completedFuture(Context.isOnEventLoopThread() ? "event loop" : "worker");
+    }
 }
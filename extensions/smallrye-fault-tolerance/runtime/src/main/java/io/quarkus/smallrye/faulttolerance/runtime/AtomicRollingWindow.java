@@ -0,0 +1,58 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.smallrye.faulttolerance.core.circuit.breaker.RollingWindow;
+
+/**
+ * Lock-free rolling window of the circuit breakers, used instead of the synchronized rolling window of SmallRye Fault
+ * Tolerance.
+ * <p>
+ * The outcomes of the last {@code size} invocations are kept as the bits of a ring buffer of longs, and the number of
+ * failures in the window is updated with each outcome instead of being counted for each invocation.
+ */
+public final class AtomicRollingWindow implements RollingWindow {
+
+    private final AtomicLongArray failures;
+    private final int size;
+    private final int failureThreshold;
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicInteger failureCount = new AtomicInteger();
+
+    public AtomicRollingWindow(int size, int failureThreshold) {
+        this.failures = new AtomicLongArray((size + 63) >>> 6);
+        this.size = size;
+        this.failureThreshold = failureThreshold;
+    }
+
+    @Override
+    public boolean recordSuccess() {
+        return record(false);
+    }
+
+    @Override
+    public boolean recordFailure() {
+        return record(true);
+    }
+
+    private boolean record(boolean failure) {
+        long count = counter.getAndIncrement();
+        int index = (int) (count % size);
+        int word = index >>> 6;
+        long mask = 1L << index;
+        for (;;) {
+            long current = failures.get(word);
+            if (((current & mask) != 0) == failure) {
+                // the outcome replaced in the window is the same
+                break;
+            }
+            if (failures.compareAndSet(word, current, failure ? current | mask : current & ~mask)) {
+                failureCount.addAndGet(failure ? 1 : -1);
+                break;
+            }
+        }
+        return count + 1 >= size && failureCount.get() >= failureThreshold;
+    }
+}
@@ -0,0 +1,197 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * A scheduled executor running its tasks with Vert.x timers, on the event loops.
+ * <p>
+ * No thread is owned by this executor. The scheduled tasks must be short and must not block: SmallRye Fault Tolerance only
+ * schedules the timeout actions, which interrupt the thread executing a synchronous method, or hand the completion of a
+ * {@code CompletionStage} over to the asynchronous executor. The timeouts therefore fire even if the worker pool is
+ * saturated. The tasks that are not scheduled are executed on the worker executor.
+ */
+final class EventLoopTimeoutExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private volatile Vertx vertx;
+    private volatile Executor worker;
+    private volatile boolean shutdown;
+
+    void start(Vertx vertx, Executor worker) {
+        this.vertx = vertx;
+        this.worker = worker;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(new TimerTask<Void>(command, null, unit.toMillis(delay), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return schedule(new TimerTask<>(callable, unit.toMillis(delay)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive");
+        }
+        return schedule(new TimerTask<Void>(command, null, unit.toMillis(initialDelay), unit.toMillis(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("The delay must be positive");
+        }
+        // a negative period stands for a fixed delay, as in ScheduledThreadPoolExecutor
+        return schedule(new TimerTask<Void>(command, null, unit.toMillis(initialDelay), -unit.toMillis(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Executor worker = this.worker;
+        if (worker == null) {
+            throw new RejectedExecutionException("The timeout executor is not running");
+        }
+        worker.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return shutdown;
+    }
+
+    private <V> TimerTask<V> schedule(TimerTask<V> task) {
+        Vertx vertx = this.vertx;
+        if (vertx == null || shutdown) {
+            throw new RejectedExecutionException("The timeout executor is not running");
+        }
+        task.start(vertx);
+        return task;
+    }
+
+    // Vert.x timers have a millisecond resolution, and must be delayed by 1ms at least
+    private static long timerDelay(long millis) {
+        return Math.max(1, millis);
+    }
+
+    private static final class TimerTask<V> extends FutureTask<V> implements ScheduledFuture<V>, Handler<Long> {
+
+        // positive for a fixed rate, negative for a fixed delay
+        private final long period;
+        private final long initialDelay;
+        private Vertx vertx;
+        // only accessed on the event loop
+        private boolean periodic;
+        private volatile long time;
+        private volatile long timerId;
+
+        TimerTask(Callable<V> callable, long delay) {
+            super(callable);
+            this.period = 0;
+            this.initialDelay = delay;
+        }
+
+        TimerTask(Runnable runnable, V result, long delay, long period) {
+            super(runnable, result);
+            this.period = period;
+            this.initialDelay = delay;
+        }
+
+        void start(Vertx vertx) {
+            this.vertx = vertx;
+            setTimer(initialDelay);
+        }
+
+        /**
+         * Called on the event loop when the timer fires.
+         */
+        @Override
+        public void handle(Long id) {
+            if (isDone()) {
+                // cancelled while the timer was being set
+                vertx.cancelTimer(id);
+                return;
+            }
+            if (period == 0) {
+                run();
+                return;
+            }
+            if (period > 0) {
+                if (!periodic) {
+                    // the initial delay elapsed, the next executions are fired by a periodic timer
+                    periodic = true;
+                    timerId = vertx.setPeriodic(timerDelay(period), this);
+                }
+                time = System.currentTimeMillis() + period;
+            }
+            if (!runAndReset()) {
+                // failed or cancelled
+                vertx.cancelTimer(timerId);
+            } else if (period < 0) {
+                // the delay starts once the execution completed
+                setTimer(-period);
+            }
+        }
+
+        private void setTimer(long delay) {
+            time = System.currentTimeMillis() + delay;
+            timerId = vertx.setTimer(timerDelay(delay), this);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                vertx.cancelTimer(timerId);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
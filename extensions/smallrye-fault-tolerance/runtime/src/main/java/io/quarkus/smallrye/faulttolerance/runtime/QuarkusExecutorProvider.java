@@ -0,0 +1,122 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+import javax.enterprise.inject.Alternative;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.smallrye.faulttolerance.DefaultExecutorFactory;
+import io.smallrye.faulttolerance.ExecutorFactory;
+import io.smallrye.faulttolerance.ExecutorProvider;
+import io.vertx.core.Vertx;
+
+/**
+ * Fires the timeouts of the fault tolerance strategies with Vert.x timers, instead of a dedicated timeout thread pool.
+ * <p>
+ * The timeout action runs on the event loop, so that a timeout fires even if the worker pool is saturated. It only
+ * interrupts the invocation thread of a synchronous method, or hands the completion of the result of a {@code CompletionStage}
+ * method, and its fallback, over to the asynchronous executor. The timeout thread pool of the default provider is not
+ * created.
+ */
+@Singleton
+@Alternative
+@Priority(1)
+public class QuarkusExecutorProvider extends ExecutorProvider {
+
+    @Inject
+    @ConfigProperty(name = "io.smallrye.faulttolerance.globalThreadPoolSize", defaultValue = "100")
+    Integer globalThreadPoolSize;
+
+    private final EventLoopTimeoutExecutor timeoutExecutor = new EventLoopTimeoutExecutor();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private ExecutorFactory executorFactory;
+    private ExecutorService globalExecutor;
+
+    /**
+     * Replaces the default set up, which also creates the timeout thread pool.
+     * <p>
+     * Not annotated, the {@code @PostConstruct} callback of the superclass is invoked, and dispatched to this method.
+     */
+    @Override
+    public void setUp() {
+        if (globalThreadPoolSize < 5) {
+            throw new IllegalArgumentException("Please set the global thread pool size for a value larger than 5.");
+        }
+        executorFactory = getExecutorFactory();
+        globalExecutor = executorFactory.createCoreExecutor(globalThreadPoolSize);
+        synchronized (executors) {
+            executors.add(globalExecutor);
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        timeoutExecutor.shutdown();
+        List<ExecutorService> toShutdown;
+        synchronized (executors) {
+            toShutdown = new ArrayList<>(executors);
+        }
+        for (ExecutorService executor : toShutdown) {
+            executor.shutdownNow();
+        }
+        for (ExecutorService executor : toShutdown) {
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Called by SmallRyeFaultToleranceRecorder once Vert.x is started.
+     *
+     * @param vertx fires the timers and runs the timeout actions
+     * @param worker executes the tasks that are not scheduled
+     */
+    void start(Vertx vertx, Executor worker) {
+        timeoutExecutor.start(vertx, worker);
+    }
+
+    @Override
+    public ExecutorService createAdHocExecutor(int size) {
+        ExecutorService executor = executorFactory.createExecutor(size, size);
+        synchronized (executors) {
+            executors.add(executor);
+        }
+        return executor;
+    }
+
+    @Override
+    public ExecutorService getGlobalExecutor() {
+        return globalExecutor;
+    }
+
+    @Override
+    public ScheduledExecutorService getTimeoutExecutor() {
+        return timeoutExecutor;
+    }
+
+    private static ExecutorFactory getExecutorFactory() {
+        // the factory with the highest priority, as the default provider does
+        ExecutorFactory factory = new DefaultExecutorFactory();
+        for (Iterator<ExecutorFactory> it = ServiceLoader.load(ExecutorFactory.class).iterator(); it.hasNext();) {
+            ExecutorFactory candidate = it.next();
+            if (candidate.priority() > factory.priority()) {
+                factory = candidate;
+            }
+        }
+        return factory;
+    }
+}
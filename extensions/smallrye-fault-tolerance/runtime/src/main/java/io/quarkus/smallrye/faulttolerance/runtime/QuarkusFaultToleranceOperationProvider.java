@@ -2,7 +2,6 @@ package io.quarkus.smallrye.faulttolerance.runtime;
 
 import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -21,60 +20,45 @@ import io.smallrye.faulttolerance.config.FaultToleranceOperation;
 public class QuarkusFaultToleranceOperationProvider implements FaultToleranceOperationProvider {
     private static final Logger LOG = Logger.getLogger(QuarkusFaultToleranceOperationProvider.class);
 
-    private final Map<CacheKey, FaultToleranceOperation> operationCache = new ConcurrentHashMap<>();
-    private final Function<CacheKey, FaultToleranceOperation> cacheFunction = new Function<CacheKey, FaultToleranceOperation>() {
+    // keyed by bean class first, so that the lookup of each invocation does not allocate a composite key
+    private final Map<Class<?>, Map<Method, FaultToleranceOperation>> operationCache = new ConcurrentHashMap<>();
+    private final Function<Class<?>, Map<Method, FaultToleranceOperation>> newClassCache = new Function<Class<?>, Map<Method, FaultToleranceOperation>>() {
         @Override
-        public FaultToleranceOperation apply(CacheKey key) {
-            return createAtRuntime(key);
+        public Map<Method, FaultToleranceOperation> apply(Class<?> beanClass) {
+            return new ConcurrentHashMap<>();
         }
     };
 
     /**
      * Called by SmallRyeFaultToleranceRecorder to init the operation cache.
      */
-    void init(Map<CacheKey, FaultToleranceOperation> operationCache) {
-        this.operationCache.putAll(operationCache);
+    void init(Map<Class<?>, Map<Method, FaultToleranceOperation>> operationCache) {
+        for (Map.Entry<Class<?>, Map<Method, FaultToleranceOperation>> entry : operationCache.entrySet()) {
+            this.operationCache.computeIfAbsent(entry.getKey(), newClassCache).putAll(entry.getValue());
+        }
     }
 
     @Override
     public FaultToleranceOperation get(Class<?> beanClass, Method method) {
-        CacheKey key = new CacheKey(beanClass, method);
-        FaultToleranceOperation existing = operationCache.get(key);
-        return existing != null ? existing : operationCache.computeIfAbsent(key, cacheFunction);
-    }
-
-    private FaultToleranceOperation createAtRuntime(CacheKey key) {
-        LOG.debugf("FaultToleranceOperation not found in the cache for %s creating it at runtime", key);
-        return FaultToleranceOperation.of(key.beanClass, key.method);
-    }
-
-    static class CacheKey {
-        private Class<?> beanClass;
-        private Method method;
-        private int hashCode;
-
-        public CacheKey(Class<?> beanClass, Method method) {
-            this.beanClass = beanClass;
-            this.method = method;
-            this.hashCode = Objects.hash(beanClass, method);
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
+        Map<Method, FaultToleranceOperation> operations = operationCache.get(beanClass);
+        if (operations != null) {
+            FaultToleranceOperation existing = operations.get(method);
+            if (existing != null) {
+                return existing;
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            CacheKey cacheKey = (CacheKey) o;
-            return Objects.equals(beanClass, cacheKey.beanClass) &&
-                    Objects.equals(method, cacheKey.method);
+        } else {
+            operations = operationCache.computeIfAbsent(beanClass, newClassCache);
         }
+        return operations.computeIfAbsent(method, new Function<Method, FaultToleranceOperation>() {
+            @Override
+            public FaultToleranceOperation apply(Method method) {
+                return createAtRuntime(beanClass, method);
+            }
+        });
+    }
 
-        @Override
-        public int hashCode() {
-            return this.hashCode;
-        }
+    private FaultToleranceOperation createAtRuntime(Class<?> beanClass, Method method) {
+        LOG.debugf("FaultToleranceOperation not found in the cache for %s#%s creating it at runtime", beanClass, method);
+        return FaultToleranceOperation.of(beanClass, method);
     }
 }
@@ -7,22 +7,26 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
 import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.runtime.annotations.Recorder;
 import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+import io.vertx.core.Vertx;
 
 @Recorder
 public class SmallRyeFaultToleranceRecorder {
 
     public void createFaultToleranceOperation(Set<String> beanNames) {
         List<Throwable> allExceptions = new ArrayList<>();
-        Map<QuarkusFaultToleranceOperationProvider.CacheKey, FaultToleranceOperation> operationCache = new HashMap<>(
-                beanNames.size());
+        Map<Class<?>, Map<Method, FaultToleranceOperation>> operationCache = new HashMap<>(beanNames.size());
         for (String beanName : beanNames) {
             try {
                 ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
@@ -38,9 +42,13 @@ public class SmallRyeFaultToleranceRecorder {
                             operation.validate();
 
                             // register the operation at validation time to avoid re-creating it at runtime
-                            QuarkusFaultToleranceOperationProvider.CacheKey cacheKey = new QuarkusFaultToleranceOperationProvider.CacheKey(
-                                    beanClass, method);
-                            operationCache.put(cacheKey, operation);
+                            operationCache
+                                    .computeIfAbsent(beanClass, new Function<Class<?>, Map<Method, FaultToleranceOperation>>() {
+                                        @Override
+                                        public Map<Method, FaultToleranceOperation> apply(Class<?> key) {
+                                            return new HashMap<>();
+                                        }
+                                    }).put(method, operation);
                         } catch (FaultToleranceDefinitionException e) {
                             allExceptions.add(e);
                         }
@@ -74,6 +82,13 @@ public class SmallRyeFaultToleranceRecorder {
         Arc.container().instance(QuarkusFaultToleranceOperationProvider.class).get().init(operationCache);
     }
 
+    public void scheduleTimeoutsOnEventLoops(Supplier<Vertx> vertx, ExecutorService worker) {
+        InstanceHandle<QuarkusExecutorProvider> executorProvider = Arc.container().instance(QuarkusExecutorProvider.class);
+        if (executorProvider.isAvailable()) {
+            executorProvider.get().start(vertx.get(), worker);
+        }
+    }
+
     private Set<Method> getAllMethods(Class<?> beanClass) {
         Set<Method> allMethods = new HashSet<>();
         Class<?> currentClass = beanClass;
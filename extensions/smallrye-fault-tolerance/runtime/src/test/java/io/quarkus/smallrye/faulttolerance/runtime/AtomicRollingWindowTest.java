@@ -0,0 +1,97 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AtomicRollingWindowTest {
+
+    @Test
+    public void testNotFullWindow() {
+        AtomicRollingWindow window = new AtomicRollingWindow(4, 2);
+        assertFalse(window.recordFailure());
+        assertFalse(window.recordFailure());
+        assertFalse(window.recordFailure());
+        // the window is full
+        assertTrue(window.recordSuccess());
+    }
+
+    @Test
+    public void testOldOutcomesLeaveTheWindow() {
+        AtomicRollingWindow window = new AtomicRollingWindow(3, 2);
+        assertFalse(window.recordFailure());
+        assertFalse(window.recordSuccess());
+        assertTrue(window.recordFailure());
+        // the first failure is replaced
+        assertFalse(window.recordSuccess());
+        assertFalse(window.recordSuccess());
+        assertFalse(window.recordFailure());
+        assertTrue(window.recordFailure());
+    }
+
+    @Test
+    public void testMultipleWords() {
+        // sizes that are not multiples of 64 use the high bits of the last word
+        for (int size : new int[] { 1, 63, 64, 65, 130 }) {
+            Random random = new Random(size);
+            int threshold = Math.max(1, size / 2);
+            AtomicRollingWindow window = new AtomicRollingWindow(size, threshold);
+            Deque<Boolean> outcomes = new ArrayDeque<>();
+            int failures = 0;
+            for (int i = 0; i < size * 10; i++) {
+                boolean failure = random.nextBoolean();
+                outcomes.addLast(failure);
+                if (failure) {
+                    failures++;
+                }
+                if (outcomes.size() > size && outcomes.removeFirst()) {
+                    failures--;
+                }
+                boolean expected = outcomes.size() == size && failures >= threshold;
+                assertEquals(expected, failure ? window.recordFailure() : window.recordSuccess(),
+                        "size " + size + ", invocation " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentRecords() throws InterruptedException {
+        int threads = 4;
+        int records = 10000;
+        AtomicRollingWindow window = new AtomicRollingWindow(100, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int i = 0; i < records; i++) {
+                            window.recordFailure();
+                        }
+                        done.countDown();
+                    }
+                });
+            }
+            assertTrue(done.await(20, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        // no update of the failure count is lost
+        assertTrue(window.recordFailure());
+        for (int i = 0; i < 99; i++) {
+            assertFalse(window.recordSuccess());
+        }
+        assertFalse(window.recordFailure());
+    }
+}
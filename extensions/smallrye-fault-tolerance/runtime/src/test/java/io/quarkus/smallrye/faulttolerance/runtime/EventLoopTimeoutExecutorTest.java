@@ -0,0 +1,107 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+
+public class EventLoopTimeoutExecutorTest {
+
+    private Vertx vertx;
+    private ExecutorService worker;
+    private EventLoopTimeoutExecutor executor;
+
+    @BeforeEach
+    public void start() {
+        vertx = Vertx.vertx();
+        worker = Executors.newSingleThreadExecutor();
+        executor = new EventLoopTimeoutExecutor();
+        executor.start(vertx, worker);
+    }
+
+    @AfterEach
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        worker.shutdownNow();
+        CountDownLatch closed = new CountDownLatch(1);
+        vertx.close(ar -> closed.countDown());
+        closed.await(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFiresWhileTheWorkerIsBusy() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        worker.execute(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        CountDownLatch fired = new CountDownLatch(1);
+        try {
+            executor.schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        ScheduledFuture<?> future = executor.schedule(fired::countDown, 100, TimeUnit.MILLISECONDS);
+        assertTrue(future.cancel(false));
+        assertFalse(fired.await(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFixedDelay() throws InterruptedException {
+        List<long[]> executions = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
+            long start = System.nanoTime();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executions.add(new long[] { start, System.nanoTime() });
+            done.countDown();
+        }, 0, 30, TimeUnit.MILLISECONDS);
+        try {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            future.cancel(false);
+        }
+        for (int i = 1; i < 3; i++) {
+            // the delay starts once the previous execution completed
+            long delay = TimeUnit.NANOSECONDS.toMillis(executions.get(i)[0] - executions.get(i - 1)[1]);
+            assertTrue(delay >= 25, "delay " + delay);
+        }
+    }
+
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(5);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(done::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        try {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            future.cancel(false);
+        }
+        assertTrue(future.isCancelled());
+    }
+}
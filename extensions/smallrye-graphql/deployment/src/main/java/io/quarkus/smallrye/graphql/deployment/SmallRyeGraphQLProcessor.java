@@ -40,6 +40,7 @@ import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.configuration.ConfigurationError;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
@@ -151,6 +152,12 @@ public class SmallRyeGraphQLProcessor {
         serviceProvider.produce(ServiceProviderBuildItem.allProvidersFromClassPath(EventingService.class.getName()));
     }
 
+    @BuildStep
+    RuntimeInitializedClassBuildItem runtimeInitializedQueryCache() {
+        // The maximum size of the query cache is read when the class is initialized
+        return new RuntimeInitializedClassBuildItem("io.smallrye.graphql.execution.QueryCache");
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep
     void buildExecutionService(
@@ -205,6 +212,7 @@ public class SmallRyeGraphQLProcessor {
             LaunchModeBuildItem launchMode,
             BodyHandlerBuildItem bodyHandlerBuildItem,
             SmallRyeGraphQLConfig graphQLConfig,
+            SmallRyeGraphQLRuntimeConfig runtimeConfig,
             BeanContainerBuildItem beanContainerBuildItem // don't remove this - makes sure beanContainer is initialized
     ) {
 
@@ -233,7 +241,7 @@ public class SmallRyeGraphQLProcessor {
         Boolean allowGet = ConfigProvider.getConfig().getOptionalValue(ConfigKey.ALLOW_GET, boolean.class).orElse(false);
 
         Handler<RoutingContext> executionHandler = recorder.executionHandler(graphQLInitializedBuildItem.getInitialized(),
-                allowGet);
+                allowGet, runtimeConfig);
         routeProducer.produce(new RouteBuildItem.Builder()
                 .routeFunction(recorder.routeFunction(graphQLConfig.rootPath, bodyHandlerBuildItem.getHandler()))
                 .handler(executionHandler)
@@ -0,0 +1,131 @@
+package io.quarkus.smallrye.graphql.deployment;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.hamcrest.CoreMatchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Automatic persisted queries
+ */
+public class PersistedQueriesTest extends AbstractGraphQLTest {
+
+    private static final String PING = "{ ping { message } }";
+    private static final String WRONG_HASH = "0000000000000000000000000000000000000000000000000000000000000000";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestResource.class, TestPojo.class, TestRandom.class, TestGenericsPojo.class)
+                    .addAsResource(new StringAsset(getPropertyAsString(configuration())), "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"));
+
+    @Test
+    public void testQueryCacheMaxSize() throws Exception {
+        Field maxSize = Class.forName("io.smallrye.graphql.execution.QueryCache").getDeclaredField("MAX_CACHE_SIZE");
+        maxSize.setAccessible(true);
+        Assertions.assertEquals(100, maxSize.getInt(null));
+        // the system property is only set while the cache is initialized
+        Assertions.assertNull(System.getProperty("io.smallrye.graphql.execution.queryCacheMaxSize"));
+    }
+
+    @Test
+    public void testPersistedQuery() {
+        String hash = sha256(PING);
+
+        // unknown hash
+        post(request(null, hash))
+                .body(CoreMatchers.containsString("PERSISTED_QUERY_NOT_FOUND"));
+
+        // the query is registered along with its hash
+        post(request(PING, hash))
+                .body(CoreMatchers.containsString("{\"data\":{\"ping\":{\"message\":\"pong\"}}}"));
+
+        // and then executed from its hash
+        post(request(null, hash))
+                .body(CoreMatchers.containsString("{\"data\":{\"ping\":{\"message\":\"pong\"}}}"));
+
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .queryParam("extensions", extensions(hash).toString())
+                .get("/graphql")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.containsString("{\"data\":{\"ping\":{\"message\":\"pong\"}}}"));
+    }
+
+    @Test
+    public void testHashMismatch() {
+        RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request(PING, WRONG_HASH).toString())
+                .post("/graphql")
+                .then()
+                .statusCode(400)
+                .body(CoreMatchers.containsString("provided sha does not match query"));
+    }
+
+    private static ValidatableResponse post(JsonObject request) {
+        return RestAssured.given().when()
+                .accept(MEDIATYPE_JSON)
+                .contentType(MEDIATYPE_JSON)
+                .body(request.toString())
+                .post("/graphql")
+                .then()
+                .statusCode(200);
+    }
+
+    private static JsonObject request(String query, String hash) {
+        return (query != null ? Json.createObjectBuilder().add(QUERY, query) : Json.createObjectBuilder())
+                .add("extensions", extensions(hash))
+                .build();
+    }
+
+    private static JsonObject extensions(String hash) {
+        return Json.createObjectBuilder()
+                .add("persistedQuery", Json.createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", hash))
+                .build();
+    }
+
+    private static String sha256(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(query.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> configuration() {
+        Map<String, String> m = new HashMap<>();
+        m.put("quarkus.smallrye-graphql.persisted-queries.enable", "true");
+        m.put("quarkus.smallrye-graphql.query-cache.max-size", "100");
+        return m;
+    }
+}
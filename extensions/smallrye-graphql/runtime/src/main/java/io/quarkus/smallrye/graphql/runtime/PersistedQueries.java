@@ -0,0 +1,107 @@
+package io.quarkus.smallrye.graphql.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * Automatic persisted queries: a client may send the SHA-256 hash of a query instead of the query itself.
+ * <p>
+ * When the hash is unknown, the client sends the query along with its hash, and the query is then kept (up to a maximum
+ * number of queries, the least recently used being discarded).
+ */
+final class PersistedQueries {
+    static final String NOT_FOUND = "PersistedQueryNotFound";
+    static final String NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+
+    private static final String QUERY = "query";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final JsonBuilderFactory jsonObjectFactory;
+    private final Map<String, String> queries;
+
+    PersistedQueries(JsonBuilderFactory jsonObjectFactory, int maxSize) {
+        this.jsonObjectFactory = jsonObjectFactory;
+        this.queries = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * @param input the GraphQL request
+     * @return the request, including the query of a known hash, or null if the hash is unknown
+     * @throws IllegalArgumentException if the hash of the query is not the given hash
+     */
+    JsonObject resolve(JsonObject input) {
+        String hash = getHash(input);
+        if (hash == null) {
+            return input;
+        }
+        String query = getString(input, QUERY);
+        if (query == null || query.isEmpty()) {
+            String persisted = queries.get(hash);
+            if (persisted == null) {
+                return null;
+            }
+            return jsonObjectFactory.createObjectBuilder(input).add(QUERY, persisted).build();
+        }
+        if (!hash.equalsIgnoreCase(sha256(query))) {
+            throw new IllegalArgumentException("provided sha does not match query");
+        }
+        queries.put(hash, query);
+        return input;
+    }
+
+    int size() {
+        return queries.size();
+    }
+
+    private static String getHash(JsonObject input) {
+        JsonValue extensions = input.get(EXTENSIONS);
+        if (extensions == null || extensions.getValueType() != JsonValue.ValueType.OBJECT) {
+            return null;
+        }
+        JsonValue persistedQuery = extensions.asJsonObject().get(PERSISTED_QUERY);
+        if (persistedQuery == null || persistedQuery.getValueType() != JsonValue.ValueType.OBJECT) {
+            return null;
+        }
+        String hash = getString(persistedQuery.asJsonObject(), SHA256_HASH);
+        return hash != null ? hash.toLowerCase() : null;
+    }
+
+    private static String getString(JsonObject object, String name) {
+        JsonValue value = object.get(name);
+        if (value != null && value.getValueType() == JsonValue.ValueType.STRING) {
+            return ((JsonString) value).getString();
+        }
+        return null;
+    }
+
+    static String sha256(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
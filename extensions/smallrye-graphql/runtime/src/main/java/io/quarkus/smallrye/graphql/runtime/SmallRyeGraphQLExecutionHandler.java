@@ -38,19 +38,32 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
     private static boolean allowGet = false;
     private static final String QUERY = "query";
     private static final String VARIABLES = "variables";
+    private static final String EXTENSIONS = "extensions";
     private static final String OK = "OK";
     private volatile ExecutionService executionService;
     private final CurrentIdentityAssociation currentIdentityAssociation;
     private final CurrentVertxRequest currentVertxRequest;
+    private final PersistedQueries persistedQueries;
     private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
     private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
     private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
 
     public SmallRyeGraphQLExecutionHandler(boolean allowGet, CurrentIdentityAssociation currentIdentityAssociation,
             CurrentVertxRequest currentVertxRequest) {
+        this(allowGet, currentIdentityAssociation, currentVertxRequest, 0);
+    }
+
+    /**
+     * @param persistedQueriesMaxSize the number of automatic persisted queries to keep, or 0 if they are not supported
+     */
+    public SmallRyeGraphQLExecutionHandler(boolean allowGet, CurrentIdentityAssociation currentIdentityAssociation,
+            CurrentVertxRequest currentVertxRequest, int persistedQueriesMaxSize) {
         SmallRyeGraphQLExecutionHandler.allowGet = allowGet;
         this.currentIdentityAssociation = currentIdentityAssociation;
         this.currentVertxRequest = currentVertxRequest;
+        this.persistedQueries = persistedQueriesMaxSize > 0
+                ? new PersistedQueries(jsonObjectFactory, persistedQueriesMaxSize)
+                : null;
     }
 
     @Override
@@ -109,8 +122,7 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
     private void handlePost(HttpServerResponse response, RoutingContext ctx) {
         if (ctx.getBody() != null) {
             byte[] bytes = ctx.getBody().getBytes();
-            String postResponse = doRequest(bytes);
-            response.setStatusCode(200).setStatusMessage(OK).end(Buffer.buffer(postResponse));
+            execute(response, toJsonObject(bytes));
         } else {
             response.setStatusCode(204).end();
         }
@@ -119,22 +131,25 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
     private void handleGet(HttpServerResponse response, RoutingContext ctx) {
         if (allowGet) {
             String query = getQueryParameter(ctx, QUERY);
-            if (query != null && !query.isEmpty()) {
+            // with automatic persisted queries, the query may be replaced by its hash
+            String extensions = persistedQueries != null ? getQueryParameter(ctx, EXTENSIONS) : null;
+            if ((query != null && !query.isEmpty()) || (extensions != null && !extensions.isEmpty())) {
                 try {
                     String variables = getQueryParameter(ctx, VARIABLES);
 
                     JsonObjectBuilder input = jsonObjectFactory.createObjectBuilder();
-                    input.add(QUERY, URLDecoder.decode(query, "UTF8"));
+                    if (query != null && !query.isEmpty()) {
+                        input.add(QUERY, URLDecoder.decode(query, "UTF8"));
+                    }
                     if (variables != null && !variables.isEmpty()) {
                         JsonObject jsonObject = toJsonObject(URLDecoder.decode(variables, "UTF8"));
                         input.add(VARIABLES, jsonObject);
                     }
+                    if (extensions != null && !extensions.isEmpty()) {
+                        input.add(EXTENSIONS, toJsonObject(URLDecoder.decode(extensions, "UTF8")));
+                    }
 
-                    String getResponse = doRequest(input.build());
-
-                    response.setStatusCode(200)
-                            .setStatusMessage(OK)
-                            .end(Buffer.buffer(getResponse));
+                    execute(response, input.build());
                 } catch (UnsupportedEncodingException ex) {
                     throw new RuntimeException(ex);
                 }
@@ -162,18 +177,44 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
         }
     }
 
-    private String doRequest(final byte[] body) {
-        try (ByteArrayInputStream input = new ByteArrayInputStream(body);
-                final JsonReader jsonReader = jsonReaderFactory.createReader(input)) {
-            JsonObject jsonInput = jsonReader.readObject();
-            return doRequest(jsonInput);
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
+    private void execute(HttpServerResponse response, JsonObject jsonInput) {
+        if (persistedQueries != null) {
+            try {
+                jsonInput = persistedQueries.resolve(jsonInput);
+            } catch (IllegalArgumentException ex) {
+                response.setStatusCode(400).end(Buffer.buffer(toString(error(ex.getMessage(), null))));
+                return;
+            }
+            if (jsonInput == null) {
+                // the client sends the query along with its hash when it is told the hash is unknown
+                response.setStatusCode(200)
+                        .setStatusMessage(OK)
+                        .end(Buffer.buffer(toString(
+                                error(PersistedQueries.NOT_FOUND, PersistedQueries.NOT_FOUND_CODE))));
+                return;
+            }
         }
+        String output = doRequest(jsonInput);
+        response.setStatusCode(200)
+                .setStatusMessage(OK)
+                .end(Buffer.buffer(output));
+    }
+
+    private static JsonObject error(String message, String code) {
+        JsonObjectBuilder error = jsonObjectFactory.createObjectBuilder().add("message", message);
+        if (code != null) {
+            error.add(EXTENSIONS, jsonObjectFactory.createObjectBuilder().add("code", code));
+        }
+        return jsonObjectFactory.createObjectBuilder()
+                .add("errors", jsonObjectFactory.createArrayBuilder().add(error))
+                .build();
     }
 
     private String doRequest(JsonObject jsonInput) {
-        JsonObject outputJson = getExecutionService().execute(jsonInput);
+        return toString(getExecutionService().execute(jsonInput));
+    }
+
+    private static String toString(JsonObject outputJson) {
         if (outputJson != null) {
             try (StringWriter output = new StringWriter();
                     final JsonWriter jsonWriter = jsonWriterFactory.createWriter(output)) {
@@ -187,6 +228,15 @@ public class SmallRyeGraphQLExecutionHandler implements Handler<RoutingContext>
         return null;
     }
 
+    private static JsonObject toJsonObject(byte[] body) {
+        try (ByteArrayInputStream input = new ByteArrayInputStream(body);
+                final JsonReader jsonReader = jsonReaderFactory.createReader(input)) {
+            return jsonReader.readObject();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     private static JsonObject toJsonObject(String jsonString) {
         if (jsonString == null || jsonString.isEmpty()) {
             return null;
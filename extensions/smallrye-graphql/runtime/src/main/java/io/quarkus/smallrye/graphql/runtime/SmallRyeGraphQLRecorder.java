@@ -24,6 +24,9 @@ import io.vertx.ext.web.RoutingContext;
 @Recorder
 public class SmallRyeGraphQLRecorder {
 
+    private static final String QUERY_CACHE_CLASS = "io.smallrye.graphql.execution.QueryCache";
+    private static final String QUERY_CACHE_MAX_SIZE = "io.smallrye.graphql.execution.queryCacheMaxSize";
+
     public RuntimeValue<Boolean> createExecutionService(BeanContainer beanContainer, Schema schema) {
         GraphQLProducer graphQLProducer = beanContainer.instance(GraphQLProducer.class);
         GraphQLConfig graphQLConfig = beanContainer.instance(GraphQLConfig.class);
@@ -31,8 +34,12 @@ public class SmallRyeGraphQLRecorder {
         return new RuntimeValue<>(graphQLSchema != null);
     }
 
-    public Handler<RoutingContext> executionHandler(RuntimeValue<Boolean> initialized, boolean allowGet) {
+    public Handler<RoutingContext> executionHandler(RuntimeValue<Boolean> initialized, boolean allowGet,
+            SmallRyeGraphQLRuntimeConfig runtimeConfig) {
         if (initialized.getValue()) {
+            if (runtimeConfig.queryCacheMaxSize.isPresent()) {
+                initQueryCache(runtimeConfig.queryCacheMaxSize.getAsInt());
+            }
             Instance<CurrentIdentityAssociation> identityAssociations = CDI.current()
                     .select(CurrentIdentityAssociation.class);
             CurrentIdentityAssociation association;
@@ -42,12 +49,33 @@ public class SmallRyeGraphQLRecorder {
                 association = null;
             }
             CurrentVertxRequest currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
-            return new SmallRyeGraphQLExecutionHandler(allowGet, association, currentVertxRequest);
+            return new SmallRyeGraphQLExecutionHandler(allowGet, association, currentVertxRequest,
+                    runtimeConfig.persistedQueriesEnable ? runtimeConfig.persistedQueriesMaxSize : 0);
         } else {
             return new SmallRyeGraphQLNoEndpointHandler();
         }
     }
 
+    /**
+     * SmallRye GraphQL only reads the maximum size of the query cache from a system property, when the cache class is
+     * initialized. The property is only set while the class is initialized, so that it does not leak to the rest of the JVM.
+     */
+    private static void initQueryCache(int maxSize) {
+        String previous = System.getProperty(QUERY_CACHE_MAX_SIZE);
+        System.setProperty(QUERY_CACHE_MAX_SIZE, String.valueOf(maxSize));
+        try {
+            Class.forName(QUERY_CACHE_CLASS, true, GraphQLProducer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(QUERY_CACHE_MAX_SIZE);
+            } else {
+                System.setProperty(QUERY_CACHE_MAX_SIZE, previous);
+            }
+        }
+    }
+
     public Handler<RoutingContext> schemaHandler(RuntimeValue<Boolean> initialized) {
         if (initialized.getValue()) {
             return new SmallRyeGraphQLSchemaHandler();
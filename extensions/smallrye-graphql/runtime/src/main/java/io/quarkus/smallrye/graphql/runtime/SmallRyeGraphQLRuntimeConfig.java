@@ -1,5 +1,7 @@
 package io.quarkus.smallrye.graphql.runtime;
 
+import java.util.OptionalInt;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -13,4 +15,22 @@ public class SmallRyeGraphQLRuntimeConfig {
     @ConfigItem(name = "ui.enable", defaultValue = "true")
     boolean enable;
 
+    /**
+     * The maximum number of parsed and validated queries kept in memory. By default, SmallRye GraphQL keeps 2048 queries.
+     */
+    @ConfigItem(name = "query-cache.max-size")
+    OptionalInt queryCacheMaxSize;
+
+    /**
+     * If Automatic Persisted Queries should be supported. Clients may then send the SHA-256 hash of a query instead of the
+     * query itself.
+     */
+    @ConfigItem(name = "persisted-queries.enable", defaultValue = "false")
+    boolean persistedQueriesEnable;
+
+    /**
+     * The maximum number of persisted queries kept in memory, the least recently used ones being discarded.
+     */
+    @ConfigItem(name = "persisted-queries.max-size", defaultValue = "1024")
+    int persistedQueriesMaxSize;
 }
@@ -37,6 +37,13 @@ public class SmallRyeHealthConfig {
     @ConfigItem(defaultValue = "/well")
     String wellnessPath;
 
+    /**
+     * Whether the health check results are cached. A cached result is returned until its time-to-live expires, the
+     * health check is then evaluated again in the background. See {@code quarkus.smallrye-health.cache.ttl}.
+     */
+    @ConfigItem(name = "cache.enabled", defaultValue = "false")
+    boolean cacheEnabled;
+
     /**
      * SmallRye Health UI configuration
      */
@@ -19,12 +19,14 @@ import java.util.stream.Stream;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.health.Health;
+import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.Liveness;
 import org.eclipse.microprofile.health.Readiness;
 import org.eclipse.microprofile.health.spi.HealthCheckResponseProvider;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.logging.Logger;
@@ -32,6 +34,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.arc.deployment.CustomScopeAnnotationsBuildItem;
 import io.quarkus.arc.processor.AnnotationsTransformer;
@@ -53,12 +56,16 @@ import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.ShutdownListenerBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.configuration.ConfigurationError;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.util.ServiceUtil;
 import io.quarkus.deployment.util.WebJarUtil;
 import io.quarkus.kubernetes.spi.KubernetesHealthLivenessPathBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesHealthReadinessPathBuildItem;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.smallrye.health.runtime.CachedHealthCheck;
+import io.quarkus.smallrye.health.runtime.CachedHealthCheckInterceptor;
+import io.quarkus.smallrye.health.runtime.HealthCheckCache;
 import io.quarkus.smallrye.health.runtime.ShutdownReadinessListener;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthGroupHandler;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthHandler;
@@ -90,6 +97,8 @@ class SmallRyeHealthProcessor {
     private static final DotName HEALTH_GROUP = DotName.createSimple(HealthGroup.class.getName());
     private static final DotName HEALTH_GROUPS = DotName.createSimple(HealthGroups.class.getName());
     private static final DotName WELLNESS = DotName.createSimple(Wellness.class.getName());
+    private static final DotName HEALTH_CHECK = DotName.createSimple(HealthCheck.class.getName());
+    private static final DotName CACHED_HEALTH_CHECK = DotName.createSimple(CachedHealthCheck.class.getName());
     private static final DotName JAX_RS_PATH = DotName.createSimple("javax.ws.rs.Path");
 
     // For the UI
@@ -344,6 +353,57 @@ class SmallRyeHealthProcessor {
                                 .adjustPath(frameworkRootPath.adjustPath(subcontextBasePath + healthConfig.readinessPath))));
     }
 
+    @BuildStep
+    void cacheBeans(SmallRyeHealthConfig healthConfig, BuildProducer<AdditionalBeanBuildItem> additionalBean) {
+        if (healthConfig.cacheEnabled) {
+            additionalBean.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClasses(CachedHealthCheck.class, CachedHealthCheckInterceptor.class, HealthCheckCache.class)
+                    .setUnremovable()
+                    .build());
+        }
+    }
+
+    @BuildStep
+    void cacheHealthChecks(SmallRyeHealthConfig healthConfig,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer) {
+        if (!healthConfig.cacheEnabled) {
+            return;
+        }
+        // Intercept the health checks implemented by beans, including the ones provided by the extensions
+        Set<DotName> healthChecks = beanArchiveIndex.getIndex().getAllKnownImplementors(HEALTH_CHECK).stream()
+                .map(ClassInfo::name).collect(Collectors.toSet());
+        annotationsTransformer.produce(new AnnotationsTransformerBuildItem(new AnnotationsTransformer() {
+
+            @Override
+            public boolean appliesTo(Kind kind) {
+                return kind == Kind.CLASS;
+            }
+
+            @Override
+            public void transform(TransformationContext ctx) {
+                if (healthChecks.contains(ctx.getTarget().asClass().name())) {
+                    ctx.transform().add(CACHED_HEALTH_CHECK).done();
+                }
+            }
+        }));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureCache(SmallRyeHealthRecorder recorder,
+            SmallRyeHealthConfig healthConfig,
+            SmallRyeHealthRuntimeConfig runtimeConfig,
+            BeanContainerBuildItem beanContainer,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!healthConfig.cacheEnabled) {
+            return;
+        }
+        recorder.configureCache(beanContainer.getValue(), runtimeConfig);
+        // Record the health check evaluation time, if a metrics extension is present
+        metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerCacheMetrics()));
+    }
+
     @BuildStep
     ShutdownListenerBuildItem shutdownListener() {
         return new ShutdownListenerBuildItem(new ShutdownReadinessListener());
@@ -0,0 +1,111 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class HealthCheckCacheLookupTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(DependentHealthCheck.class, FirstHealthCheck.class, SecondHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-health.cache.enabled", "true")
+            .overrideConfigKey("quarkus.smallrye-health.cache.ttl", "0.1S")
+            .overrideConfigKey("quarkus.smallrye-health.cache.timeout", "5S");
+
+    // both checks wait for each other, so they are only UP if evaluated concurrently
+    static final CountDownLatch BOTH_STARTED = new CountDownLatch(2);
+
+    @Test
+    public void testFirstEvaluationsAreConcurrent() {
+        RestAssured.when().get("/q/health/ready").then()
+                .statusCode(200)
+                .body("status", is("UP"),
+                        "checks.name", containsInAnyOrder("first", "second"));
+    }
+
+    @Test
+    public void testDependentCheckIsLookedUpForEachEvaluation() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (DependentHealthCheck.DESTROYED.get() < 2 && System.currentTimeMillis() < deadline) {
+            RestAssured.when().get("/q/health/live").then()
+                    .statusCode(200)
+                    .body("checks.name", contains("dependent"));
+            Thread.sleep(50);
+        }
+        Assertions.assertTrue(DependentHealthCheck.DESTROYED.get() >= 2);
+    }
+
+    @Dependent
+    @Liveness
+    public static class DependentHealthCheck implements HealthCheck {
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private volatile boolean destroyed;
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("dependent").state(!destroyed).build();
+        }
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true;
+            DESTROYED.incrementAndGet();
+        }
+    }
+
+    @ApplicationScoped
+    @Readiness
+    public static class FirstHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("first").state(awaitBoth()).build();
+        }
+    }
+
+    @ApplicationScoped
+    @Readiness
+    public static class SecondHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("second").state(awaitBoth()).build();
+        }
+    }
+
+    static boolean awaitBoth() {
+        BOTH_STARTED.countDown();
+        try {
+            return BOTH_STARTED.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
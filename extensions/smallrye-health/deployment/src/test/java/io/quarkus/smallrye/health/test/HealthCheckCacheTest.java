@@ -0,0 +1,104 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class HealthCheckCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CountingHealthCheck.class, SlowHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-health.cache.enabled", "true")
+            .overrideConfigKey("quarkus.smallrye-health.cache.checks.\"" + CountingHealthCheck.class.getName() + "\"", "3S")
+            .overrideConfigKey("quarkus.smallrye-health.cache.timeout", "0.2S");
+
+    @Test
+    public void testResultIsCached() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            RestAssured.when().get("/q/health/live").then()
+                    .statusCode(200)
+                    .body("status", is("UP"),
+                            "checks.name", contains("counting"),
+                            "checks.data.count", contains(1),
+                            "checks.data.request", contains(true));
+        }
+        Assertions.assertEquals(1, CountingHealthCheck.COUNT.get());
+
+        // the previous result is returned once expired, while the health check is evaluated again
+        long deadline = System.currentTimeMillis() + 10000;
+        while (CountingHealthCheck.COUNT.get() < 2 && System.currentTimeMillis() < deadline) {
+            RestAssured.when().get("/q/health/live").then().statusCode(200);
+            Thread.sleep(100);
+        }
+        RestAssured.when().get("/q/health/live").then()
+                .body("checks.data.count", contains(2));
+    }
+
+    @Test
+    public void testSlowCheckIsDown() {
+        try {
+            RestAssured.when().get("/q/health/ready").then()
+                    .statusCode(503)
+                    .body("status", is("DOWN"),
+                            "checks.data.rootCause", hasItem(containsString("did not complete within")));
+        } finally {
+            SlowHealthCheck.RELEASE.countDown();
+        }
+    }
+
+    @ApplicationScoped
+    @Liveness
+    public static class CountingHealthCheck implements HealthCheck {
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("counting").up()
+                    .withData("count", COUNT.incrementAndGet())
+                    .withData("request", Arc.container().requestContext().isActive())
+                    .build();
+        }
+    }
+
+    @ApplicationScoped
+    @Readiness
+    public static class SlowHealthCheck implements HealthCheck {
+        // the first evaluation may be started by any report, so it is blocked until the test is done
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        @Override
+        public HealthCheckResponse call() {
+            try {
+                RELEASE.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.up("slow");
+        }
+    }
+}
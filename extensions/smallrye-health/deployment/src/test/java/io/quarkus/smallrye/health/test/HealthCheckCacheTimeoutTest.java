@@ -0,0 +1,53 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class HealthCheckCacheTimeoutTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SlowHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-health.cache.enabled", "true")
+            .overrideConfigKey("quarkus.smallrye-health.cache.timeout", "0.1S")
+            .overrideConfigKey("quarkus.smallrye-health.cache.timeouts.\"" + SlowHealthCheck.class.getName() + "\"", "10S");
+
+    @Test
+    public void testTimeoutOverride() {
+        RestAssured.when().get("/q/health/ready").then()
+                .statusCode(200)
+                .body("status", is("UP"),
+                        "checks.name", contains("slow"));
+    }
+
+    @ApplicationScoped
+    @Readiness
+    public static class SlowHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.up("slow");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.smallrye.health.runtime;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Binds the {@link CachedHealthCheckInterceptor} to the health checks, when the results are cached.
+ */
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface CachedHealthCheck {
+}
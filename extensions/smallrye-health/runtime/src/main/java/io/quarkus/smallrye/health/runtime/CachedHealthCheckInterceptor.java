@@ -0,0 +1,24 @@
+package io.quarkus.smallrye.health.runtime;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@CachedHealthCheck
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class CachedHealthCheckInterceptor {
+
+    @Inject
+    HealthCheckCache cache;
+
+    @AroundInvoke
+    Object call(InvocationContext ctx) throws Exception {
+        if (ctx.getMethod().getParameterCount() == 0 && "call".equals(ctx.getMethod().getName())) {
+            return cache.call(ctx);
+        }
+        return ctx.proceed();
+    }
+}
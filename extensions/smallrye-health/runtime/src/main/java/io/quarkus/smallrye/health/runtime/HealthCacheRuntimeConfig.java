@@ -0,0 +1,35 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class HealthCacheRuntimeConfig {
+
+    /**
+     * How long the result of a health check is reused, before it is evaluated again in the background.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration ttl;
+
+    /**
+     * The time-to-live of the results of specific health checks, keyed by the health check class name.
+     */
+    @ConfigItem
+    public Map<String, Duration> checks;
+
+    /**
+     * How long a health check may run. A health check that takes longer is reported as `DOWN`.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration timeout;
+
+    /**
+     * How long specific health checks may run, keyed by the health check class name.
+     */
+    @ConfigItem
+    public Map<String, Duration> timeouts;
+}
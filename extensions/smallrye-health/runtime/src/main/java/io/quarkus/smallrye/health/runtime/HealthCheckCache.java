@@ -0,0 +1,385 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Singleton;
+import javax.interceptor.InvocationContext;
+import javax.json.JsonArray;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.Subclass;
+import io.quarkus.runtime.ExecutorRecorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.health.SmallRyeHealth;
+
+/**
+ * Caches the results of the health checks, and the serialized health reports.
+ * <p>
+ * A result is reused until its time-to-live expires. The next call then returns the previous result, and evaluates the
+ * health check again on a worker thread, so the health checks are refreshed concurrently and in the background. The
+ * bean is looked up for every evaluation, so that a {@code @Dependent} health check is not called once destroyed. Only
+ * the first evaluation of a health check is waited for, up to the timeout configured for this health check. The first
+ * evaluations of all the health checks are started together when the first report is computed.
+ * <p>
+ * A serialized report is reused as long as no health check result changed, provided every check of the report is cached.
+ */
+@Singleton
+public class HealthCheckCache {
+    private static final Logger LOG = Logger.getLogger(HealthCheckCache.class);
+
+    /** Set while a health check is evaluated by the cache, so the interceptor lets the call through */
+    private static final ThreadLocal<Boolean> EVALUATING = new ThreadLocal<>();
+    /** Counts the cached health checks called while a report is computed */
+    private static final ThreadLocal<int[]> REPORTED = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Report> reports = new ConcurrentHashMap<>();
+    /** Incremented whenever a health check result changes */
+    private final AtomicLong version = new AtomicLong();
+    /** The health check beans intercepted by the cache, looked up on first use */
+    private volatile List<InjectableBean<?>> beans;
+
+    private volatile long ttl = TimeUnit.SECONDS.toNanos(10);
+    private volatile long timeout = TimeUnit.SECONDS.toNanos(10);
+    private volatile Map<String, Duration> checks = Collections.emptyMap();
+    private volatile Map<String, Duration> timeouts = Collections.emptyMap();
+    private volatile MetricsFactory metricsFactory;
+
+    void configure(HealthCacheRuntimeConfig config) {
+        this.ttl = config.ttl.toNanos();
+        this.timeout = config.timeout.toNanos();
+        this.checks = config.checks;
+        this.timeouts = config.timeouts;
+        invalidate();
+    }
+
+    void setMetricsFactory(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+    }
+
+    /**
+     * Forget all the results, for instance when the application is shutting down.
+     */
+    public void invalidate() {
+        entries.clear();
+        reports.clear();
+        version.incrementAndGet();
+    }
+
+    Object call(InvocationContext ctx) throws Exception {
+        if (EVALUATING.get() != null) {
+            return ctx.proceed();
+        }
+        int[] reported = REPORTED.get();
+        if (reported != null) {
+            reported[0]++;
+        }
+
+        Entry entry = getEntry(beanClass(ctx.getTarget().getClass()));
+        if (entry.bean == null) {
+            // the target of the last call is used for the background refresh
+            entry.check = (HealthCheck) ctx.getTarget();
+        }
+
+        Result result = entry.result;
+        if (result == null) {
+            try {
+                return refresh(entry).get(entry.timeout, TimeUnit.NANOSECONDS).get();
+            } catch (TimeoutException e) {
+                throw timedOut(entry);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        if (System.nanoTime() - result.time >= entry.ttl) {
+            refresh(entry);
+            if (entry.isHung()) {
+                throw timedOut(entry);
+            }
+        }
+        return result.get();
+    }
+
+    /**
+     * @param key identifies the report, e.g. the readiness report
+     * @return the last serialized report, or null if it must be computed again
+     */
+    Report getReport(String key) {
+        Report report = reports.get(key);
+        if (report == null || report.version != version.get() || System.nanoTime() - report.time >= ttl) {
+            return null;
+        }
+        // the report stays valid until a refreshed result is available
+        for (Entry entry : entries.values()) {
+            Result result = entry.result;
+            if (result != null && System.nanoTime() - result.time >= entry.ttl) {
+                refresh(entry);
+                if (entry.isHung()) {
+                    return null;
+                }
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Starts counting the cached health checks evaluated by the current thread
+     *
+     * @return the current version, to be passed to {@link #putReport}
+     */
+    long startReport() {
+        REPORTED.set(new int[1]);
+        long version = this.version.get();
+        // the health checks evaluated for the first time are evaluated concurrently, rather than one after the other
+        for (InjectableBean<?> bean : getBeans()) {
+            Entry entry = getEntry(bean.getBeanClass());
+            if (entry.result == null) {
+                refresh(entry);
+            }
+        }
+        return version;
+    }
+
+    void putReport(String key, long version, SmallRyeHealth health, byte[] bytes) {
+        int[] reported = REPORTED.get();
+        REPORTED.remove();
+        JsonArray checks = health.getPayload().getJsonArray("checks");
+        // a check that is not cached (e.g. registered programmatically) requires the report to be computed again
+        if (reported != null && checks != null && checks.size() == reported[0]) {
+            reports.put(key, new Report(version, health.isDown(), bytes));
+        } else {
+            reports.remove(key);
+        }
+    }
+
+    void cancelReport() {
+        REPORTED.remove();
+    }
+
+    private Entry getEntry(Class<?> beanClass) {
+        Entry entry = entries.get(beanClass);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(beanClass, this::createEntry);
+        }
+        return entry;
+    }
+
+    private Entry createEntry(Class<?> beanClass) {
+        String name = beanClass.getName();
+        Duration ttl = checks.get(name);
+        Duration timeout = timeouts.get(name);
+        InjectableBean<?> checkBean = null;
+        for (InjectableBean<?> bean : getBeans()) {
+            if (bean.getBeanClass() == beanClass) {
+                checkBean = bean;
+                break;
+            }
+        }
+        return new Entry(name, checkBean, ttl != null ? ttl.toNanos() : this.ttl,
+                timeout != null ? timeout.toNanos() : this.timeout);
+    }
+
+    private List<InjectableBean<?>> getBeans() {
+        List<InjectableBean<?>> beans = this.beans;
+        if (beans == null) {
+            beans = new ArrayList<>();
+            // the cached health checks are the class beans implementing HealthCheck
+            for (Bean<?> bean : Arc.container().beanManager().getBeans(HealthCheck.class, Any.Literal.INSTANCE)) {
+                InjectableBean<?> injectableBean = (InjectableBean<?>) bean;
+                if (injectableBean.getKind() == InjectableBean.Kind.CLASS) {
+                    beans.add(injectableBean);
+                }
+            }
+            this.beans = beans;
+        }
+        return beans;
+    }
+
+    private static Class<?> beanClass(Class<?> checkClass) {
+        // intercepted subclass -> bean class
+        while (Subclass.class.isAssignableFrom(checkClass)) {
+            checkClass = checkClass.getSuperclass();
+        }
+        return checkClass;
+    }
+
+    private CompletableFuture<Result> refresh(Entry entry) {
+        CompletableFuture<Result> refresh;
+        synchronized (entry) {
+            if (entry.refresh != null) {
+                return entry.refresh;
+            }
+            refresh = new CompletableFuture<>();
+            entry.refresh = refresh;
+            entry.refreshStarted = System.nanoTime();
+        }
+        try {
+            ExecutorRecorder.getCurrent().execute(() -> evaluate(entry, refresh));
+        } catch (RuntimeException e) {
+            synchronized (entry) {
+                entry.refresh = null;
+            }
+            refresh.completeExceptionally(e);
+        }
+        return refresh;
+    }
+
+    private void evaluate(Entry entry, CompletableFuture<Result> refresh) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        EVALUATING.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        Result result;
+        try {
+            result = new Result(call(entry), null);
+        } catch (RuntimeException e) {
+            result = new Result(null, e);
+        } catch (Throwable t) {
+            LOG.errorf(t, "Unable to evaluate the health check %s", entry.name);
+            synchronized (entry) {
+                entry.refresh = null;
+            }
+            refresh.completeExceptionally(t);
+            return;
+        } finally {
+            EVALUATING.remove();
+            requestContext.terminate();
+        }
+        entry.recordTime(result.time - start);
+
+        Result previous = entry.result;
+        entry.result = result;
+        synchronized (entry) {
+            entry.refresh = null;
+        }
+        if (previous == null || !previous.isSameAs(result)) {
+            version.incrementAndGet();
+        }
+        refresh.complete(result);
+    }
+
+    private HealthCheckResponse call(Entry entry) {
+        if (entry.bean == null) {
+            return entry.check.call();
+        }
+        // a new instance is obtained for each evaluation, and destroyed afterwards if it is @Dependent
+        try (InstanceHandle<?> handle = Arc.container().instance(entry.bean)) {
+            return ((HealthCheck) handle.get()).call();
+        }
+    }
+
+    private IllegalStateException timedOut(Entry entry) {
+        return new IllegalStateException(
+                "Health check " + entry.name + " did not complete within " + Duration.ofNanos(entry.timeout));
+    }
+
+    static final class Report {
+        final long version;
+        final long time = System.nanoTime();
+        final boolean down;
+        final byte[] bytes;
+
+        Report(long version, boolean down, byte[] bytes) {
+            this.version = version;
+            this.down = down;
+            this.bytes = bytes;
+        }
+    }
+
+    static final class Result {
+        final HealthCheckResponse response;
+        final RuntimeException failure;
+        final long time = System.nanoTime();
+
+        Result(HealthCheckResponse response, RuntimeException failure) {
+            this.response = response;
+            this.failure = failure;
+        }
+
+        HealthCheckResponse get() {
+            if (failure != null) {
+                throw failure;
+            }
+            return response;
+        }
+
+        /**
+         * @return true if the other result would be reported the same way
+         */
+        boolean isSameAs(Result other) {
+            if (failure != null || other.failure != null) {
+                return failure != null && other.failure != null && failure.getClass() == other.failure.getClass()
+                        && Objects.equals(failure.getMessage(), other.failure.getMessage());
+            }
+            if (response == null || other.response == null) {
+                return response == other.response;
+            }
+            return Objects.equals(response.getName(), other.response.getName())
+                    && response.getState() == other.response.getState()
+                    && Objects.equals(response.getData(), other.response.getData());
+        }
+    }
+
+    final class Entry {
+        final String name;
+        final InjectableBean<?> bean;
+        final long ttl;
+        final long timeout;
+        // only used if the bean could not be found
+        volatile HealthCheck check;
+        volatile Result result;
+        // guarded by this
+        CompletableFuture<Result> refresh;
+        long refreshStarted;
+        volatile MetricsFactory.TimeRecorder timer;
+
+        Entry(String name, InjectableBean<?> bean, long ttl, long timeout) {
+            this.name = name;
+            this.bean = bean;
+            this.ttl = ttl;
+            this.timeout = timeout;
+        }
+
+        synchronized boolean isHung() {
+            return refresh != null && System.nanoTime() - refreshStarted >= timeout;
+        }
+
+        void recordTime(long nanos) {
+            MetricsFactory.TimeRecorder timer = this.timer;
+            if (timer == null) {
+                MetricsFactory metricsFactory = HealthCheckCache.this.metricsFactory;
+                if (metricsFactory == null) {
+                    return;
+                }
+                timer = this.timer = metricsFactory.builder("health.check")
+                        .description("Health check evaluation time")
+                        .tag("check", name)
+                        .buildTimer();
+            }
+            timer.update(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
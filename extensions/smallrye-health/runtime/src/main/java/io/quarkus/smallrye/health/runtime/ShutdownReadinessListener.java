@@ -25,6 +25,11 @@ public class ShutdownReadinessListener implements ShutdownListener {
         if (!instance.isUnsatisfied()) {
             instance.get().shutdown();
         }
+        // do not serve a cached readiness result
+        Instance<HealthCheckCache> cache = CDI.current().select(HealthCheckCache.class);
+        if (cache.isResolvable()) {
+            cache.get().invalidate();
+        }
         notification.done();
     }
 }
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.smallrye.health.SmallRyeHealth;
 import io.smallrye.health.SmallRyeHealthReporter;
@@ -16,36 +17,79 @@ import io.vertx.ext.web.RoutingContext;
 
 abstract class SmallRyeHealthHandlerBase implements Handler<RoutingContext> {
 
+    private volatile InstanceHandle<HealthCheckCache> cache;
+
     protected abstract SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, RoutingContext routingContext);
 
+    /**
+     * @return the key of the cached report served by this handler
+     */
+    protected String getReportKey(RoutingContext routingContext) {
+        return getClass().getName();
+    }
+
     @Override
     public void handle(RoutingContext ctx) {
+        HealthCheckCache cache = getCache();
+        if (cache != null) {
+            HealthCheckCache.Report report = cache.getReport(getReportKey(ctx));
+            if (report != null) {
+                end(ctx.response(), report.down, report.bytes);
+                return;
+            }
+        }
         ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
-            doHandle(ctx);
+            doHandle(ctx, cache);
         } else {
             requestContext.activate();
             try {
-                doHandle(ctx);
+                doHandle(ctx, cache);
             } finally {
                 requestContext.terminate();
             }
         }
     }
 
-    private void doHandle(RoutingContext ctx) {
+    private void doHandle(RoutingContext ctx, HealthCheckCache cache) {
         SmallRyeHealthReporter reporter = Arc.container().instance(SmallRyeHealthReporter.class).get();
-        SmallRyeHealth health = getHealth(reporter, ctx);
-        HttpServerResponse resp = ctx.response();
-        if (health.isDown()) {
-            resp.setStatusCode(503);
+        long version = cache != null ? cache.startReport() : 0;
+        SmallRyeHealth health;
+        try {
+            health = getHealth(reporter, ctx);
+        } catch (RuntimeException e) {
+            if (cache != null) {
+                cache.cancelReport();
+            }
+            throw e;
         }
-        resp.headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        byte[] bytes;
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             reporter.reportHealth(outputStream, health);
-            resp.end(Buffer.buffer(outputStream.toByteArray()));
+            bytes = outputStream.toByteArray();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+        if (cache != null) {
+            cache.putReport(getReportKey(ctx), version, health, bytes);
+        }
+        end(ctx.response(), health.isDown(), bytes);
+    }
+
+    private void end(HttpServerResponse resp, boolean down, byte[] bytes) {
+        if (down) {
+            resp.setStatusCode(503);
+        }
+        resp.headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        resp.end(Buffer.buffer(bytes));
+    }
+
+    private HealthCheckCache getCache() {
+        InstanceHandle<HealthCheckCache> cache = this.cache;
+        if (cache == null) {
+            // only available when the cache is enabled
+            this.cache = cache = Arc.container().instance(HealthCheckCache.class);
+        }
+        return cache.isAvailable() ? cache.get() : null;
     }
 }
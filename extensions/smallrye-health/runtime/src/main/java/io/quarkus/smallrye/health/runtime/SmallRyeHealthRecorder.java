@@ -1,9 +1,14 @@
 package io.quarkus.smallrye.health.runtime;
 
+import java.util.function.Consumer;
+
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.spi.HealthCheckResponseProvider;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
@@ -28,4 +33,17 @@ public class SmallRyeHealthRecorder {
             return new SmallRyeHealthNotFoundHandler();
         }
     }
+
+    public void configureCache(BeanContainer container, SmallRyeHealthRuntimeConfig runtimeConfig) {
+        container.instance(HealthCheckCache.class).configure(runtimeConfig.cache);
+    }
+
+    public Consumer<MetricsFactory> registerCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(HealthCheckCache.class).get().setMetricsFactory(metricsFactory);
+            }
+        };
+    }
 }
@@ -12,4 +12,10 @@ public class SmallRyeHealthRuntimeConfig {
      */
     @ConfigItem(name = "ui.enable", defaultValue = "true")
     boolean enable;
+
+    /**
+     * Health check results cache, used when {@code quarkus.smallrye-health.cache.enabled} is set at build time.
+     */
+    @ConfigItem
+    HealthCacheRuntimeConfig cache;
 }
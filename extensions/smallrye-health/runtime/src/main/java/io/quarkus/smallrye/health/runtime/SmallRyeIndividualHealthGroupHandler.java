@@ -11,4 +11,9 @@ public class SmallRyeIndividualHealthGroupHandler extends SmallRyeHealthHandlerB
         String group = ctx.normalisedPath().substring(ctx.normalisedPath().lastIndexOf("/") + 1);
         return reporter.getHealthGroup(group);
     }
+
+    @Override
+    protected String getReportKey(RoutingContext ctx) {
+        return super.getReportKey(ctx) + ctx.normalisedPath().substring(ctx.normalisedPath().lastIndexOf("/"));
+    }
 }
@@ -15,6 +15,7 @@ import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
 import io.quarkus.arc.processor.BeanConfigurator;
@@ -26,15 +27,23 @@ import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.security.deployment.JCAProviderBuildItem;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRecorder;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
+import io.quarkus.smallrye.jwt.runtime.auth.JwtKeyManager;
 import io.quarkus.smallrye.jwt.runtime.auth.JwtPrincipalProducer;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
 import io.quarkus.smallrye.jwt.runtime.auth.RawOptionalClaimCreator;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.smallrye.jwt.algorithm.KeyEncryptionAlgorithm;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.auth.cdi.ClaimValueProducer;
@@ -74,6 +83,7 @@ class SmallRyeJwtProcessor {
             AdditionalBeanBuildItem.Builder unremovable = AdditionalBeanBuildItem.builder().setUnremovable();
             unremovable.addBeanClass(MpJwtValidator.class);
             unremovable.addBeanClass(JWTAuthMechanism.class);
+            unremovable.addBeanClass(JwtKeyManager.class);
             unremovable.addBeanClass(ClaimValueProducer.class);
             additionalBeans.produce(unremovable.build());
         }
@@ -92,6 +102,21 @@ class SmallRyeJwtProcessor {
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, KeyEncryptionAlgorithm.class));
     }
 
+    /**
+     * Configure the token cache, and prefetch the verification keys if required
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureKeyManager(SmallRyeJwtRecorder recorder, BeanContainerBuildItem beanContainer,
+            SmallRyeJwtRuntimeConfig runtimeConfig, CoreVertxBuildItem vertx, ExecutorBuildItem executor,
+            ShutdownContextBuildItem shutdown) {
+        if (config.enabled) {
+            // the key set is loaded on the main executor
+            recorder.configureKeyManager(beanContainer.getValue(), runtimeConfig, vertx.getVertx(),
+                    executor.getExecutorProxy(), shutdown);
+        }
+    }
+
     /**
      * Register this extension as a MP-JWT feature
      *
@@ -0,0 +1,116 @@
+package io.quarkus.jwt.test;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class JwksPrefetchUnitTest {
+    private static Class<?>[] testClasses = {
+            DefaultGroupsEndpoint.class,
+            JwksEndpoint.class,
+            TokenUtils.class
+    };
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(testClasses)
+                    .addAsResource("publicKey.pem")
+                    .addAsResource("privateKey.pem")
+                    .addAsResource("TokenUserGroup.json")
+                    .addAsResource(new StringAsset("mp.jwt.verify.publickey.location=http://localhost:8081/jwks\n" +
+                            "mp.jwt.verify.issuer=https://server.example.com\n" +
+                            "smallrye.jwt.jwks.forced-refresh-interval=0\n" +
+                            "quarkus.smallrye-jwt.jwks.prefetch=true\n" +
+                            "quarkus.smallrye-jwt.token-cache.max-size=100\n"), "application.properties"));
+
+    @Test
+    public void testKeyRotation() throws Exception {
+        // the key set is prefetched when the application starts
+        long deadline = System.currentTimeMillis() + 10000;
+        while (JwksEndpoint.requests.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(1, JwksEndpoint.requests.get());
+
+        for (int i = 0; i < 3; i++) {
+            // a distinct token each time, so that the token is not taken from the token cache
+            String token = TokenUtils.generateTokenString("/TokenUserGroup.json",
+                    TokenUtils.readPrivateKey("/privateKey.pem"), "key1");
+            RestAssured.given().auth().oauth2(token)
+                    .get("/endp/echo")
+                    .then().assertThat().statusCode(200)
+                    .body(equalTo("User"));
+        }
+        // the prefetched key set is used to verify the tokens
+        int requests = JwksEndpoint.requests.get();
+        Assertions.assertEquals(1, requests);
+
+        // a token signed with a new key triggers a refresh of the key set
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        JwksEndpoint.addKey("key2", keyPair.getPublic());
+        String rotatedToken = TokenUtils.generateTokenString("/TokenUserGroup.json", keyPair.getPrivate(), "key2");
+        RestAssured.given().auth().oauth2(rotatedToken)
+                .get("/endp/echo")
+                .then().assertThat().statusCode(200)
+                .body(equalTo("User"));
+        Assertions.assertEquals(requests + 1, JwksEndpoint.requests.get());
+
+        String unknownToken = TokenUtils.generateTokenString("/TokenUserGroup.json",
+                TokenUtils.generateKeyPair(2048).getPrivate(), "key3");
+        RestAssured.given().auth().oauth2(unknownToken)
+                .get("/endp/echo")
+                .then().assertThat().statusCode(401);
+    }
+
+    @Path("/jwks")
+    public static class JwksEndpoint {
+
+        static final List<JsonWebKey> keys = new CopyOnWriteArrayList<>();
+        static final AtomicInteger requests = new AtomicInteger();
+
+        static {
+            try {
+                addKey("key1", TokenUtils.readPublicKey("/publicKey.pem"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static void addKey(String kid, PublicKey key) throws Exception {
+            RsaJsonWebKey jwk = (RsaJsonWebKey) JsonWebKey.Factory.newJwk(key);
+            jwk.setKeyId(kid);
+            jwk.setUse("sig");
+            keys.add(jwk);
+        }
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public String getKeys() {
+            requests.incrementAndGet();
+            return new JsonWebKeySet(keys).toJson();
+        }
+    }
+}
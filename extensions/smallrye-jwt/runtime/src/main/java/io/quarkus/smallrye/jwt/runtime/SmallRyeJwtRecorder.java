@@ -0,0 +1,29 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.smallrye.jwt.runtime.auth.JwtKeyManager;
+import io.vertx.core.Vertx;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    public void configureKeyManager(BeanContainer beanContainer, SmallRyeJwtRuntimeConfig runtimeConfig,
+            Supplier<Vertx> vertx, Executor executor, ShutdownContext shutdown) {
+        JwtKeyManager keyManager = beanContainer.instance(JwtKeyManager.class);
+        keyManager.setTokenCache(runtimeConfig.tokenCacheMaxSize, runtimeConfig.tokenCacheTimeToLive);
+        if (runtimeConfig.jwksPrefetch) {
+            keyManager.start(vertx.get(), executor);
+            shutdown.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    keyManager.stop();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * If the JSON Web Key set located at the HTTP(S) `mp.jwt.verify.publickey.location` URL should be fetched when the
+     * application starts, and refreshed in the background every `smallrye.jwt.jwks.refresh-interval`.
+     * A token signed with an unknown key triggers a refresh, at most once every
+     * `smallrye.jwt.jwks.forced-refresh-interval`.
+     */
+    @ConfigItem(name = "jwks.prefetch", defaultValue = "false")
+    public boolean jwksPrefetch;
+
+    /**
+     * Maximum number of verified tokens which are kept, so that a token presented again is not verified again.
+     * The cache is disabled by default, set it to a positive value to enable it.
+     */
+    @ConfigItem(name = "token-cache.max-size", defaultValue = "0")
+    public int tokenCacheMaxSize;
+
+    /**
+     * Maximum amount of time a verified token is kept for. A token is never kept once it has expired.
+     */
+    @ConfigItem(name = "token-cache.time-to-live", defaultValue = "30S")
+    public Duration tokenCacheTimeToLive;
+}
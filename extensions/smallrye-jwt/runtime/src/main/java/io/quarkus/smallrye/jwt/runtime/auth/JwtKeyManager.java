@@ -0,0 +1,332 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+import org.jose4j.jwk.HttpsJwks;
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwx.JsonWebStructure;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+/**
+ * Fetches the JSON Web Key set when the application starts and refreshes it in the background, so that the tokens are
+ * not verified on a request which waits for the key set to be loaded.
+ * <p>
+ * An authentication context is prepared for each key, so a token is verified with the key matching its {@code kid}
+ * without resolving the key again. A {@code kid} which does not match any key triggers a refresh, shared by the
+ * concurrent requests, and not more often than {@code smallrye.jwt.jwks.forced-refresh-interval}.
+ * <p>
+ * The verified tokens may also be kept for a short time, so that a token presented again is not verified again.
+ */
+@Singleton
+public class JwtKeyManager {
+
+    private static final Logger LOG = Logger.getLogger(JwtKeyManager.class);
+
+    private static final Uni<JWTAuthContextInfo> DEFAULT_CONTEXT_INFO = Uni.createFrom().nullItem();
+    private static final String SIGNATURE_USE = "sig";
+    private static final long CLEAN_UP_INTERVAL = 1000;
+
+    @Inject
+    JWTAuthContextInfo authContextInfo;
+
+    private volatile Keys keys;
+    private HttpsJwks httpsJwks;
+    private Executor executor;
+    private long forcedRefreshInterval;
+    private Vertx vertx;
+    private long refreshTimer = -1;
+    // guarded by this
+    private CompletableFuture<Keys> refresh;
+    private long lastForcedRefresh;
+
+    private final ConcurrentHashMap<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    private volatile int tokenCacheMaxSize;
+    private volatile long tokenCacheTimeToLive;
+    private volatile long lastCleanUp;
+
+    /**
+     * Prefetches the key set when it is located at an HTTP(S) URL, and refreshes it on the
+     * {@code smallrye.jwt.jwks.refresh-interval} schedule.
+     */
+    public void start(Vertx vertx, Executor executor) {
+        String location = authContextInfo.getPublicKeyLocation();
+        if (location == null || !(location.startsWith("http:") || location.startsWith("https:"))) {
+            LOG.debugf("The verification keys are not located at an HTTP(S) URL, they are not prefetched");
+            return;
+        }
+        long refreshInterval = TimeUnit.MINUTES.toMillis(
+                authContextInfo.getJwksRefreshInterval() != null ? authContextInfo.getJwksRefreshInterval() : 60);
+        this.forcedRefreshInterval = TimeUnit.MINUTES.toMillis(authContextInfo.getForcedJwksRefreshInterval());
+        this.httpsJwks = new HttpsJwks(location);
+        this.executor = executor;
+        this.keys = Keys.EMPTY;
+
+        refresh(false);
+        this.vertx = vertx;
+        this.refreshTimer = vertx.setPeriodic(refreshInterval, id -> refresh(false));
+    }
+
+    /**
+     * Stops refreshing the key set.
+     */
+    public void stop() {
+        if (refreshTimer != -1) {
+            vertx.cancelTimer(refreshTimer);
+            refreshTimer = -1;
+        }
+    }
+
+    public void setTokenCache(int maxSize, Duration timeToLive) {
+        this.tokenCacheMaxSize = maxSize;
+        this.tokenCacheTimeToLive = timeToLive.toMillis();
+        tokens.clear();
+    }
+
+    /**
+     * @return the authentication context to verify the token with, or null if the default context must be used
+     */
+    Uni<JWTAuthContextInfo> getContextInfo(String token) {
+        Keys current = keys;
+        if (current == null) {
+            return DEFAULT_CONTEXT_INFO;
+        }
+        String kid;
+        try {
+            JsonWebStructure jws = JsonWebStructure.fromCompactSerialization(token);
+            if (!(jws instanceof JsonWebSignature)) {
+                // encrypted tokens are decrypted by the default context
+                return DEFAULT_CONTEXT_INFO;
+            }
+            kid = jws.getKeyIdHeaderValue();
+        } catch (Exception e) {
+            // the default context reports the invalid token
+            return DEFAULT_CONTEXT_INFO;
+        }
+        JWTAuthContextInfo contextInfo = current.get(kid);
+        if (contextInfo != null || kid == null) {
+            return Uni.createFrom().item(contextInfo);
+        }
+        // the key set may have been rotated
+        CompletableFuture<Keys> refreshed = refresh(true);
+        if (refreshed == null) {
+            return unknownKey(current, kid);
+        }
+        return Uni.createFrom().completionStage(refreshed).onFailure().recoverWithItem(current)
+                .onItem().transformToUni(latest -> {
+                    JWTAuthContextInfo refreshedContextInfo = latest.get(kid);
+                    return refreshedContextInfo != null ? Uni.createFrom().item(refreshedContextInfo)
+                            : unknownKey(latest, kid);
+                });
+    }
+
+    private static Uni<JWTAuthContextInfo> unknownKey(Keys current, String kid) {
+        if (current.isEmpty()) {
+            // the key set could not be loaded yet, the default context loads it
+            return DEFAULT_CONTEXT_INFO;
+        }
+        return Uni.createFrom().failure(new AuthenticationFailedException("No verification key matches the key id " + kid));
+    }
+
+    /**
+     * @param forced whether the refresh is requested because of an unknown key id
+     * @return the refresh of the key set, or null if a forced refresh happened recently
+     */
+    private CompletableFuture<Keys> refresh(boolean forced) {
+        CompletableFuture<Keys> future;
+        synchronized (this) {
+            if (refresh != null) {
+                return refresh;
+            }
+            if (forced) {
+                long now = System.currentTimeMillis();
+                if (lastForcedRefresh != 0 && now - lastForcedRefresh < forcedRefreshInterval) {
+                    return null;
+                }
+                lastForcedRefresh = now;
+            }
+            future = refresh = new CompletableFuture<>();
+        }
+        try {
+            executor.execute(() -> load(future));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                refresh = null;
+            }
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void load(CompletableFuture<Keys> future) {
+        Keys loaded = null;
+        Throwable failure = null;
+        try {
+            httpsJwks.refresh();
+            loaded = new Keys(authContextInfo, httpsJwks.getJsonWebKeys());
+            keys = loaded;
+            LOG.debugf("Loaded %d verification keys from %s", loaded.size(), httpsJwks.getLocation());
+        } catch (Throwable t) {
+            LOG.warnf("Unable to load the verification keys from %s: %s", httpsJwks.getLocation(), t.toString());
+            failure = t;
+        }
+        synchronized (this) {
+            refresh = null;
+        }
+        if (failure == null) {
+            future.complete(loaded);
+        } else {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * @return the verified token, or null if it is not cached or has expired
+     */
+    JsonWebToken getVerifiedToken(String token) {
+        if (tokenCacheMaxSize <= 0) {
+            return null;
+        }
+        String hash = hash(token);
+        VerifiedToken verified = tokens.get(hash);
+        if (verified == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= verified.expiresAt) {
+            tokens.remove(hash, verified);
+            return null;
+        }
+        return verified.jwt;
+    }
+
+    void putVerifiedToken(String token, JsonWebToken jwt) {
+        if (tokenCacheMaxSize <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + tokenCacheTimeToLive;
+        if (jwt.getExpirationTime() > 0) {
+            // the token must not be used once it has expired
+            expiresAt = Math.min(expiresAt, TimeUnit.SECONDS.toMillis(jwt.getExpirationTime()));
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (tokens.size() >= tokenCacheMaxSize) {
+            removeExpiredTokens(now);
+            if (tokens.size() >= tokenCacheMaxSize) {
+                return;
+            }
+        }
+        tokens.put(hash(token), new VerifiedToken(jwt, expiresAt));
+    }
+
+    private void removeExpiredTokens(long now) {
+        // scanning the tokens is only worth it from time to time
+        if (now - lastCleanUp < CLEAN_UP_INTERVAL) {
+            return;
+        }
+        lastCleanUp = now;
+        for (Iterator<VerifiedToken> it = tokens.values().iterator(); it.hasNext();) {
+            if (now >= it.next().expiresAt) {
+                it.remove();
+            }
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class VerifiedToken {
+        final JsonWebToken jwt;
+        final long expiresAt;
+
+        VerifiedToken(JsonWebToken jwt, long expiresAt) {
+            this.jwt = jwt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The authentication contexts of the signature keys of a key set, by key id
+     */
+    static final class Keys {
+        static final Keys EMPTY = new Keys(null, Collections.emptyList());
+
+        private final Map<String, JWTAuthContextInfo> contextInfos;
+        /** The context to use when the token has no key id: the only key of the set, if any */
+        private final JWTAuthContextInfo single;
+        private final int size;
+
+        Keys(JWTAuthContextInfo authContextInfo, List<JsonWebKey> jsonWebKeys) {
+            Map<String, JWTAuthContextInfo> contextInfos = new HashMap<>();
+            JWTAuthContextInfo last = null;
+            int size = 0;
+            for (JsonWebKey jwk : jsonWebKeys) {
+                if (jwk.getUse() != null && !SIGNATURE_USE.equals(jwk.getUse())) {
+                    continue;
+                }
+                JWTAuthContextInfo contextInfo = new JWTAuthContextInfo(authContextInfo);
+                Key key = jwk.getKey();
+                if (key instanceof PublicKey) {
+                    contextInfo.setPublicVerificationKey((PublicKey) key);
+                } else if (key instanceof SecretKey) {
+                    contextInfo.setSecretVerificationKey((SecretKey) key);
+                } else {
+                    continue;
+                }
+                if (jwk.getKeyId() != null) {
+                    contextInfos.put(jwk.getKeyId(), contextInfo);
+                }
+                last = contextInfo;
+                size++;
+            }
+            this.contextInfos = contextInfos;
+            this.single = size == 1 ? last : null;
+            this.size = size;
+        }
+
+        JWTAuthContextInfo get(String kid) {
+            return kid != null ? contextInfos.get(kid) : single;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
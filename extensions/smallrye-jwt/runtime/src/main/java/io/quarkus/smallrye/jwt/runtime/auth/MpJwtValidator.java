@@ -1,6 +1,7 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -14,6 +15,7 @@ import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
@@ -28,14 +30,21 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     private static final Logger log = Logger.getLogger(MpJwtValidator.class);
 
     final JWTParser parser;
+    final JwtKeyManager keyManager;
 
     public MpJwtValidator() {
         this.parser = null;
+        this.keyManager = null;
     }
 
-    @Inject
     public MpJwtValidator(JWTParser parser) {
+        this(parser, null);
+    }
+
+    @Inject
+    public MpJwtValidator(JWTParser parser, JwtKeyManager keyManager) {
         this.parser = parser;
+        this.keyManager = keyManager;
     }
 
     @Override
@@ -46,14 +55,34 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String token = request.getToken().getToken();
+        if (keyManager == null) {
+            return authenticate(token, null);
+        }
+        JsonWebToken verified = keyManager.getVerifiedToken(token);
+        if (verified != null) {
+            return Uni.createFrom().item(createIdentity(verified));
+        }
+        return keyManager.getContextInfo(token).onItem()
+                .transformToUni(new Function<JWTAuthContextInfo, Uni<? extends SecurityIdentity>>() {
+                    @Override
+                    public Uni<SecurityIdentity> apply(JWTAuthContextInfo contextInfo) {
+                        return authenticate(token, contextInfo);
+                    }
+                });
+    }
+
+    private Uni<SecurityIdentity> authenticate(String token, JWTAuthContextInfo contextInfo) {
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                 try {
-                    JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-                    uniEmitter.complete(QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
-                            .addRoles(jwtPrincipal.getGroups())
-                            .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build());
+                    JsonWebToken jwtPrincipal = contextInfo != null ? parser.parse(token, contextInfo)
+                            : parser.parse(token);
+                    if (keyManager != null) {
+                        keyManager.putVerifiedToken(token, jwtPrincipal);
+                    }
+                    uniEmitter.complete(createIdentity(jwtPrincipal));
 
                 } catch (ParseException e) {
                     log.debug("Authentication failed", e);
@@ -63,4 +92,10 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
         });
 
     }
+
+    private static SecurityIdentity createIdentity(JsonWebToken jwtPrincipal) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                .addRoles(jwtPrincipal.getGroups())
+                .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build();
+    }
 }
@@ -1,10 +1,12 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaOrderingKeyExtractor;
 import io.vertx.kafka.client.consumer.impl.KafkaReadStreamImpl;
 
 public class SmallRyeReactiveMessagingKafkaProcessor {
@@ -14,6 +16,11 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
         return new FeatureBuildItem(Feature.SMALLRYE_REACTIVE_MESSAGING_KAFKA);
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem orderingKeyExtractor() {
+        return new AdditionalBeanBuildItem(KafkaOrderingKeyExtractor.class);
+    }
+
     @BuildStep
     public void build(BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
         // Required for the throttled commit strategy
@@ -0,0 +1,37 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.smallrye.reactivemessaging.runtime.OrderingKeyExtractor;
+import io.smallrye.reactive.messaging.kafka.IncomingKafkaRecordMetadata;
+
+/**
+ * Orders the Kafka records by record key, or by topic partition if the record has no key.
+ */
+@ApplicationScoped
+public class KafkaOrderingKeyExtractor implements OrderingKeyExtractor {
+
+    @Override
+    public Object extractKey(Message<?> message) {
+        @SuppressWarnings("rawtypes")
+        Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+        if (!metadata.isPresent()) {
+            return null;
+        }
+        Object key = metadata.get().getKey();
+        if (key instanceof byte[]) {
+            // Arrays do not implement hashCode() based on their content
+            return ByteBuffer.wrap((byte[]) key);
+        }
+        if (key != null) {
+            return key;
+        }
+        return metadata.get().getTopic() + "-" + metadata.get().getPartition();
+    }
+
+}
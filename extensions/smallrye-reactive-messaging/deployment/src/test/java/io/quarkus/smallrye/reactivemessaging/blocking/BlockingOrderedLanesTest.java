@@ -0,0 +1,203 @@
+package io.quarkus.smallrye.reactivemessaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.smallrye.reactivemessaging.blocking.beans.IncomingAckOrderBlockingBean;
+import io.quarkus.smallrye.reactivemessaging.blocking.beans.IncomingKeyedBlockingBean;
+import io.quarkus.smallrye.reactivemessaging.blocking.beans.IncomingOrderedLanesBlockingBean;
+import io.quarkus.smallrye.reactivemessaging.runtime.OrderingKeyExtractor;
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class BlockingOrderedLanesTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ProduceIn.class, IncomingOrderedLanesBlockingBean.class, ProduceKeyed.class,
+                            IncomingKeyedBlockingBean.class, PrefixKeyExtractor.class, ProduceAcked.class,
+                            IncomingAckOrderBlockingBean.class)
+                    .addAsResource(
+                            new File("src/test/resources/config/worker-lanes-config.properties"),
+                            "application.properties"));
+
+    @Inject
+    IncomingOrderedLanesBlockingBean incoming;
+
+    @Inject
+    IncomingKeyedBlockingBean keyed;
+
+    @Inject
+    IncomingAckOrderBlockingBean acked;
+
+    @Inject
+    ProduceAcked ackedProducer;
+
+    @Inject
+    QuarkusWorkerPoolRegistry registry;
+
+    @Test
+    public void testIncomingBlockingOrderedLanes() {
+        await().until(() -> incoming.list().size() == 6);
+        assertThat(incoming.list()).containsExactly("a", "b", "c", "d", "e", "f");
+
+        List<String> threadNames = incoming.threads().stream().distinct().collect(Collectors.toList());
+        assertThat(threadNames.contains(Thread.currentThread().getName())).isFalse();
+        for (String name : threadNames) {
+            assertThat(name.startsWith("lanes-pool-")).isTrue();
+        }
+    }
+
+    @Test
+    public void testIncomingBlockingKeyedLanes() {
+        await().until(() -> keyed.list().size() == 15);
+        Map<String, List<String>> perKey = keyed.list().stream()
+                .collect(Collectors.groupingBy(s -> s.substring(0, 1)));
+        assertThat(perKey).hasSize(3);
+        for (Map.Entry<String, List<String>> entry : perKey.entrySet()) {
+            String key = entry.getKey();
+            assertThat(entry.getValue()).containsExactly(key + "-0", key + "-1", key + "-2", key + "-3", key + "-4");
+        }
+        // The keys are interleaved on a single context, they are still processed in parallel
+        assertThat(keyed.maxRunning()).isGreaterThan(1);
+    }
+
+    @Test
+    public void testAcknowledgedInOrder() {
+        await().until(() -> ackedProducer.acknowledged().size() == ProduceAcked.ITEMS.size());
+        // The messages of the other keys are processed first, they are acknowledged after the slow ones
+        assertThat(acked.list().indexOf("b-0")).isLessThan(acked.list().indexOf("a-0"));
+        assertThat(ackedProducer.acknowledged()).containsExactlyElementsOf(ProduceAcked.ITEMS);
+        // The failure does not stop the processing of the next messages
+        assertThat(acked.list()).contains("b-2", "c-1").doesNotContain("b-fail");
+        assertThat(ackedProducer.nacked()).containsExactly("b-fail");
+    }
+
+    @Test
+    public void testWorkIsOrderedPerKey() {
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<Uni<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String key = "key-" + (i % 5);
+            int value = i;
+            results.add(registry.<Void> executeWork(promise -> {
+                if (value % 3 == 0) {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                threads.add(Thread.currentThread().getName());
+                processed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(value);
+                promise.complete(null);
+            }, "lanes-pool", key));
+        }
+        for (Uni<Void> result : results) {
+            result.await().indefinitely();
+        }
+
+        assertThat(processed).hasSize(5);
+        for (Map.Entry<String, List<Integer>> entry : processed.entrySet()) {
+            assertThat(entry.getValue()).hasSize(10).isSorted();
+        }
+        for (String name : threads) {
+            assertThat(name.startsWith("lanes-pool-")).isTrue();
+        }
+    }
+
+    @ApplicationScoped
+    public static class ProduceKeyed {
+        @Inject
+        Vertx vertx;
+
+        @Outgoing("keyed")
+        public Publisher<String> produce() {
+            List<String> items = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                items.add("a-" + i);
+                items.add("b-" + i);
+                items.add("c-" + i);
+            }
+            Context context = vertx.getOrCreateContext();
+            return Multi.createFrom().iterable(items)
+                    .emitOn(command -> context.runOnContext(ignored -> command.run()));
+        }
+    }
+
+    @ApplicationScoped
+    public static class ProduceAcked {
+        static final List<String> ITEMS = Arrays.asList("a-0", "b-0", "c-0", "b-fail", "a-1", "b-2", "c-1");
+
+        private final List<String> acknowledged = new CopyOnWriteArrayList<>();
+        private final List<String> nacked = new CopyOnWriteArrayList<>();
+
+        @Outgoing("acked")
+        public Publisher<Message<String>> produce() {
+            return Multi.createFrom().iterable(ITEMS)
+                    .map(item -> Message.of(item, () -> {
+                        acknowledged.add(item);
+                        return CompletableFuture.completedFuture(null);
+                    }, failure -> {
+                        acknowledged.add(item);
+                        nacked.add(item);
+                        return CompletableFuture.completedFuture(null);
+                    }));
+        }
+
+        public List<String> acknowledged() {
+            return acknowledged;
+        }
+
+        public List<String> nacked() {
+            return nacked;
+        }
+    }
+
+    @ApplicationScoped
+    public static class PrefixKeyExtractor implements OrderingKeyExtractor {
+        @Override
+        public Object extractKey(Message<?> message) {
+            Object payload = message.getPayload();
+            if (payload instanceof String && ((String) payload).indexOf('-') > 0) {
+                return ((String) payload).substring(0, ((String) payload).indexOf('-'));
+            }
+            return null;
+        }
+    }
+
+    @ApplicationScoped
+    public static class ProduceIn {
+        @Outgoing("in")
+        public Publisher<String> produce() {
+            return Multi.createFrom().items("a", "b", "c", "d", "e", "f");
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.quarkus.smallrye.reactivemessaging.blocking.beans;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+@ApplicationScoped
+public class IncomingAckOrderBlockingBean {
+    private List<String> list = new CopyOnWriteArrayList<>();
+
+    @Incoming("acked")
+    @Blocking("lanes-pool")
+    public void consume(String s) throws InterruptedException {
+        if (s.startsWith("a-")) {
+            // The other keys complete first
+            Thread.sleep(200);
+        }
+        if (s.endsWith("-fail")) {
+            throw new IllegalStateException(s);
+        }
+        list.add(s);
+    }
+
+    public List<String> list() {
+        return list;
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.smallrye.reactivemessaging.blocking.beans;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+@ApplicationScoped
+public class IncomingKeyedBlockingBean {
+    private List<String> list = new CopyOnWriteArrayList<>();
+    private AtomicInteger running = new AtomicInteger();
+    private AtomicInteger maxRunning = new AtomicInteger();
+
+    @Incoming("keyed")
+    @Blocking("lanes-pool")
+    public void consume(String s) throws InterruptedException {
+        int current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(20);
+            list.add(s);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    public List<String> list() {
+        return list;
+    }
+
+    public int maxRunning() {
+        return maxRunning.get();
+    }
+}
@@ -0,0 +1,188 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.SubscriberMediator;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.core.Promise;
+
+/**
+ * A subscriber mediator for ordered {@code @Blocking} methods consuming from a worker pool with ordered lanes.
+ * <p>
+ * The default mediator invokes the method for one message at a time. This one extracts the ordering key of each message
+ * and hands it over to {@link QuarkusWorkerPoolRegistry#executeWork(Handler, String, Object)}, so that messages sharing
+ * a key are processed in order while up to {@code ordered-lanes} messages with different keys are processed in parallel.
+ * The messages without a key are all processed in order.
+ * <p>
+ * With the {@code POST_PROCESSING} acknowledgment strategy, the messages are still acknowledged in the order of arrival,
+ * once all the previous messages are processed. A processing failure nacks the message, or is only logged with the other
+ * strategies; it does not stop the processing of the next messages.
+ */
+final class KeyedBlockingSubscriberMediator extends SubscriberMediator {
+
+    private static final Logger LOGGER = Logger.getLogger(KeyedBlockingSubscriberMediator.class);
+
+    private final QuarkusWorkerPoolRegistry registry;
+    private final int concurrency;
+    private PublisherBuilder<? extends Message<?>> source;
+
+    // The messages in the order of arrival, until they are acknowledged
+    private final Deque<PendingMessage> pending = new ArrayDeque<>();
+    // Guarded by pending
+    private boolean draining;
+
+    KeyedBlockingSubscriberMediator(MediatorConfiguration configuration, QuarkusWorkerPoolRegistry registry) {
+        super(configuration);
+        this.registry = registry;
+        this.concurrency = registry.getOrderedLanes(configuration.getWorkerPoolName());
+    }
+
+    @Override
+    public void connectToUpstream(PublisherBuilder<? extends Message<?>> upstream) {
+        this.source = convert(upstream);
+    }
+
+    @Override
+    public boolean isConnected() {
+        return source != null;
+    }
+
+    @Override
+    public void run() {
+        Multi.createFrom().publisher(source.buildRs())
+                .onItem().transformToUni(new Function<Message<?>, Uni<? extends Message<?>>>() {
+                    @Override
+                    public Uni<? extends Message<?>> apply(Message<?> message) {
+                        return process(message);
+                    }
+                }).merge(concurrency)
+                .subscribe().with(new Consumer<Message<?>>() {
+                    @Override
+                    public void accept(Message<?> message) {
+                        // Nothing to do, the message was acknowledged
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        LOGGER.errorf(failure, "The processing of the messages by %s failed",
+                                configuration.methodAsString());
+                        health.reportApplicationFailure(configuration.methodAsString(), failure);
+                    }
+                });
+    }
+
+    private Uni<? extends Message<?>> process(Message<?> message) {
+        Object key = registry.getOrderingKey(message);
+        if (key == null) {
+            // The messages without a key are processed in order, in a single lane
+            key = this;
+        }
+        PendingMessage pendingMessage = new PendingMessage(message);
+        synchronized (pending) {
+            pending.add(pendingMessage);
+        }
+        // The work is enqueued in its lane right away, so that the lane order is the order of arrival
+        return registry.executeWork(new Handler<Promise<Object>>() {
+            @Override
+            public void handle(Promise<Object> promise) {
+                try {
+                    if (configuration.consumption() == MediatorConfiguration.Consumption.PAYLOAD) {
+                        invoke(message.getPayload());
+                    } else {
+                        invoke(message);
+                    }
+                    promise.complete(null);
+                } catch (RuntimeException e) {
+                    // Already logged by invoke()
+                    promise.fail(e);
+                }
+            }
+        }, configuration.getWorkerPoolName(), key)
+                .onItemOrFailure().transformToUni(new BiFunction<Object, Throwable, Uni<? extends Message<?>>>() {
+                    @Override
+                    public Uni<? extends Message<?>> apply(Object ignored, Throwable failure) {
+                        processed(pendingMessage, failure);
+                        return Uni.createFrom().completionStage(pendingMessage.acknowledged);
+                    }
+                });
+    }
+
+    /**
+     * Acknowledges the processed messages in the order of arrival: a message is only acknowledged once all the messages
+     * received before it are processed, so that e.g. the committed offset never skips a record still in progress.
+     */
+    private void processed(PendingMessage processed, Throwable failure) {
+        synchronized (pending) {
+            processed.done = true;
+            processed.failure = failure;
+            if (draining) {
+                // The thread draining the queue acknowledges this message as well if needed
+                return;
+            }
+            draining = true;
+        }
+        for (;;) {
+            PendingMessage head;
+            synchronized (pending) {
+                head = pending.peek();
+                if (head == null || !head.done) {
+                    draining = false;
+                    return;
+                }
+                pending.poll();
+            }
+            acknowledge(head);
+        }
+    }
+
+    private void acknowledge(PendingMessage pendingMessage) {
+        Message<?> message = pendingMessage.message;
+        if (configuration.getAcknowledgment() != Acknowledgment.Strategy.POST_PROCESSING) {
+            // Acknowledged before the processing, manually or never - a failure was logged by invoke() and the
+            // processing continues with the next messages
+            pendingMessage.acknowledged.complete(message);
+            return;
+        }
+        CompletionStage<?> ack = pendingMessage.failure == null ? getAckOrCompletion(message)
+                : message.nack(pendingMessage.failure);
+        ack.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object ignored, Throwable failure) {
+                if (failure != null) {
+                    pendingMessage.acknowledged.completeExceptionally(failure);
+                } else {
+                    pendingMessage.acknowledged.complete(message);
+                }
+            }
+        });
+    }
+
+    private static final class PendingMessage {
+
+        final Message<?> message;
+        final CompletableFuture<Message<?>> acknowledged = new CompletableFuture<>();
+        // Guarded by the pending queue
+        boolean done;
+        Throwable failure;
+
+        PendingMessage(Message<?> message) {
+            this.message = message;
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of lanes used to keep blocking work ordered per key while distinct keys run in parallel.
+ * <p>
+ * A key is always mapped to the same lane, so all the work for a given key is executed sequentially, in submission order.
+ * Keys mapped to different lanes do not wait on each other.
+ */
+final class OrderedLanes {
+
+    private final Lane[] lanes;
+
+    OrderedLanes(int size) {
+        lanes = new Lane[size];
+        for (int i = 0; i < size; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    Lane lane(Object key) {
+        if (key == null) {
+            return lanes[0];
+        }
+        int hash = key.hashCode();
+        // spread the hash so that keys differing only in the high bits do not end up on the same lane
+        hash ^= (hash >>> 16);
+        return lanes[(hash & Integer.MAX_VALUE) % lanes.length];
+    }
+
+    int size() {
+        return lanes.length;
+    }
+
+    static final class Lane {
+
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        /**
+         * Enqueues the given task, it is started once all the previously enqueued tasks have completed, successfully or
+         * not.
+         */
+        synchronized <T> CompletionStage<T> enqueue(Supplier<CompletionStage<T>> task) {
+            CompletableFuture<T> result = tail.thenCompose(ignored -> task.get()).toCompletableFuture();
+            tail = result.handle((ignored, failure) -> null);
+            return result;
+        }
+    }
+}
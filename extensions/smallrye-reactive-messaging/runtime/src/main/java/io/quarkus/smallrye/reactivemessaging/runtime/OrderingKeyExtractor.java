@@ -0,0 +1,21 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * Extracts the ordering key of an incoming message, e.g. the Kafka record key or partition.
+ * <p>
+ * Messages consumed by an ordered {@code @Blocking} method of a worker pool configuring {@code ordered-lanes} are
+ * processed sequentially per key, while messages with different keys are processed in parallel. The beans implementing
+ * this interface are asked in turn, the first non-{@code null} key is used.
+ */
+public interface OrderingKeyExtractor {
+
+    /**
+     *
+     * @param message the incoming message
+     * @return the ordering key, or {@code null} if this extractor does not know the message
+     */
+    Object extractKey(Message<?> message);
+
+}
@@ -0,0 +1,42 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+
+import io.quarkus.arc.AlternativePriority;
+import io.smallrye.reactive.messaging.AbstractMediator;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.MediatorFactory;
+import io.smallrye.reactive.messaging.Shape;
+
+@AlternativePriority(1)
+@ApplicationScoped
+public class QuarkusMediatorFactory extends MediatorFactory {
+
+    @Inject
+    QuarkusWorkerPoolRegistry workerPoolRegistry;
+
+    @Override
+    public AbstractMediator create(MediatorConfiguration configuration) {
+        if (isKeyedBlockingSubscriber(configuration)) {
+            return new KeyedBlockingSubscriberMediator(configuration, workerPoolRegistry);
+        }
+        return super.create(configuration);
+    }
+
+    private boolean isKeyedBlockingSubscriber(MediatorConfiguration configuration) {
+        return configuration.shape() == Shape.SUBSCRIBER
+                && configuration.isBlocking()
+                && configuration.isBlockingExecutionOrdered()
+                && configuration.getWorkerPoolName() != null
+                && workerPoolRegistry.getOrderedLanes(configuration.getWorkerPoolName()) > 0
+                && (configuration.consumption() == MediatorConfiguration.Consumption.PAYLOAD
+                        || configuration.consumption() == MediatorConfiguration.Consumption.MESSAGE)
+                && configuration.getReturnType() == void.class
+                // A pre-processing acknowledgement could complete out of order
+                && configuration.getAcknowledgment() != Acknowledgment.Strategy.PRE_PROCESSING;
+    }
+
+}
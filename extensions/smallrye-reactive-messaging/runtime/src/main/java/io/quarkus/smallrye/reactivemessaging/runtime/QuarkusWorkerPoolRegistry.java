@@ -11,9 +11,12 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.event.Observes;
 import javax.enterprise.event.Reception;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.slf4j.LoggerFactory;
 
 import io.quarkus.arc.AlternativePriority;
@@ -22,7 +25,9 @@ import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.connectors.ExecutionHolder;
 import io.smallrye.reactive.messaging.connectors.WorkerPoolRegistry;
 import io.smallrye.reactive.messaging.helpers.Validation;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.mutiny.core.Promise;
 import io.vertx.mutiny.core.WorkerExecutor;
 
@@ -32,12 +37,19 @@ import io.vertx.mutiny.core.WorkerExecutor;
 public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
     private static final String WORKER_CONFIG_PREFIX = "smallrye.messaging.worker";
     private static final String WORKER_CONCURRENCY = "max-concurrency";
+    private static final String WORKER_ORDERED_LANES = "ordered-lanes";
 
     @Inject
     ExecutionHolder executionHolder;
 
+    @Inject
+    @Any
+    Instance<OrderingKeyExtractor> orderingKeyExtractors;
+
     private Map<String, Integer> workerConcurrency = new HashMap<>();
+    private Map<String, Integer> workerOrderedLanes = new HashMap<>();
     private Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+    private Map<String, OrderedLanes> orderedLanes = new ConcurrentHashMap<>();
 
     public void terminate(
             @Observes(notifyObserver = Reception.IF_EXISTS) @Priority(100) @BeforeDestroyed(ApplicationScoped.class) Object event) {
@@ -53,11 +65,76 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
 
         if (workerName == null) {
             return executionHolder.vertx().executeBlocking(blockingCodeHandler, ordered);
+        } else if (ordered && workerOrderedLanes.containsKey(workerName)) {
+            // Ordered @Blocking subscribers use the message key, see KeyedBlockingSubscriberMediator
+            // Other callers are ordered per calling context (i.e. per upstream consumer)
+            return executeWork(blockingCodeHandler, workerName, Vertx.currentContext());
         } else {
             return getWorker(workerName).executeBlocking(blockingCodeHandler, ordered);
         }
     }
 
+    /**
+     * Executes the given blocking code on the named worker pool, keeping the execution ordered for a given key.
+     * <p>
+     * Work submitted with the same key (e.g. the Kafka record key or partition) is executed in submission order, while
+     * work submitted with different keys may run in parallel on up to {@code ordered-lanes} threads. If the worker pool
+     * does not configure {@code ordered-lanes}, the work is executed in a single ordered queue.
+     *
+     * @param blockingCodeHandler the blocking code
+     * @param workerName the name of the worker pool, must not be {@code null}
+     * @param key the ordering key, may be {@code null}
+     * @return the result of the blocking code
+     */
+    public <T> Uni<T> executeWork(Handler<Promise<T>> blockingCodeHandler, String workerName, Object key) {
+        Objects.requireNonNull(blockingCodeHandler, "Action to execute not provided");
+        Objects.requireNonNull(workerName, "Worker Name not specified");
+
+        WorkerExecutor executor = getWorker(workerName);
+        Integer lanes = workerOrderedLanes.get(workerName);
+        if (lanes == null) {
+            return executor.executeBlocking(blockingCodeHandler, true);
+        }
+        OrderedLanes workerLanes = orderedLanes.computeIfAbsent(workerName, name -> new OrderedLanes(lanes));
+        Context context = Vertx.currentContext();
+        Uni<T> result = Uni.createFrom()
+                .completionStage(workerLanes.lane(key).enqueue(() -> executor.executeBlocking(blockingCodeHandler, false)
+                        .subscribeAsCompletionStage()));
+        if (context != null) {
+            // Emit the result on the caller context, as Vert.x executeBlocking does
+            return result.emitOn(command -> context.runOnContext(ignored -> command.run()));
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @param workerName the name of the worker pool
+     * @return the number of ordered lanes of the given worker pool, {@code 0} if it does not configure
+     *         {@code ordered-lanes}
+     */
+    public int getOrderedLanes(String workerName) {
+        Integer lanes = workerOrderedLanes.get(workerName);
+        return lanes != null ? lanes : 0;
+    }
+
+    /**
+     * Returns the ordering key of the given message, as extracted by the first {@link OrderingKeyExtractor} that knows the
+     * message.
+     *
+     * @param message the incoming message
+     * @return the ordering key, or {@code null} if no extractor knows the message
+     */
+    public Object getOrderingKey(Message<?> message) {
+        for (OrderingKeyExtractor extractor : orderingKeyExtractors) {
+            Object key = extractor.extractKey(message);
+            if (key != null) {
+                return key;
+            }
+        }
+        return null;
+    }
+
     private WorkerExecutor getWorker(String workerName) {
         Objects.requireNonNull(workerName, "Worker Name not specified");
 
@@ -108,6 +185,15 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
             }
 
             workerConcurrency.put(poolName, concurrency.get());
+
+            String lanesConfigKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_ORDERED_LANES;
+            Optional<Integer> lanes = ConfigProvider.getConfig().getOptionalValue(lanesConfigKey, Integer.class);
+            if (lanes.isPresent()) {
+                if (lanes.get() < 1) {
+                    throw getBlockingError(className, method, lanesConfigKey + " must be greater than zero");
+                }
+                workerOrderedLanes.put(poolName, lanes.get());
+            }
         }
     }
 
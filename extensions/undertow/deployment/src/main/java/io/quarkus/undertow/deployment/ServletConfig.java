@@ -25,4 +25,26 @@ public class ServletConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public String defaultCharset;
 
+    /**
+     * If set to true the static resources that are not matched by any servlet, filter or security constraint are served
+     * directly by the HTTP layer, i.e. without going through the Servlet container. JSP files are always served by the Servlet
+     * container.
+     *
+     * Note that this is only possible if no {@code javax.servlet.ServletRequestListener} and no
+     * {@code javax.servlet.ServletContainerInitializer} is registered. The fast path is never used in dev mode.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean staticResourcesFastPath;
+
+    /**
+     * If set to true the HTTP sessions are managed by a session manager that keeps the serializable session attributes
+     * off-heap. The attributes are deserialized lazily, i.e. when they're read, and serialized again when the request
+     * completes. The amount of off-heap memory is bounded, see {@code quarkus.servlet.sessions.max-memory}.
+     *
+     * If a CDI bean that implements {@code io.quarkus.undertow.runtime.SessionStore} exists, the sessions are also written to
+     * the store and the sessions evicted from memory are loaded from the store when needed again.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean offHeapSessions;
+
 }
@@ -0,0 +1,303 @@
+package io.quarkus.undertow.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.servlet.ServletRequestListener;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+import org.jboss.metadata.web.spec.DispatcherType;
+import org.jboss.metadata.web.spec.FilterMappingMetaData;
+import org.jboss.metadata.web.spec.ListenerMetaData;
+import org.jboss.metadata.web.spec.MimeMappingMetaData;
+import org.jboss.metadata.web.spec.SecurityConstraintMetaData;
+import org.jboss.metadata.web.spec.ServletMappingMetaData;
+import org.jboss.metadata.web.spec.WebMetaData;
+import org.jboss.metadata.web.spec.WebResourceCollectionMetaData;
+
+import io.quarkus.undertow.runtime.HttpSessionContext;
+import io.undertow.servlet.handlers.ServletPathMatches;
+import io.undertow.util.MimeMappings;
+
+/**
+ * Finds the static resources that can be served without the servlet container, i.e. the resources that would be served by
+ * the default servlet and are not matched by any other servlet, filter or security constraint.
+ */
+final class StaticResourcesFastPath {
+
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesFastPath.class);
+
+    private static final DotName SERVLET_REQUEST_LISTENER = DotName.createSimple(ServletRequestListener.class.getName());
+
+    private static final List<String> JSP_EXTENSIONS = Arrays.asList(".jsp", ".jspx");
+
+    private static final List<String> DEFAULT_WELCOME_FILES = Arrays.asList("index.html", "index.htm");
+
+    private final Map<String, String> resources;
+    private final Map<String, String> contentTypes;
+
+    private StaticResourcesFastPath(Map<String, String> resources, Map<String, String> contentTypes) {
+        this.resources = resources;
+        this.contentTypes = contentTypes;
+    }
+
+    /**
+     *
+     * @return the map of request paths to resource names relative to {@code META-INF/resources}
+     */
+    Map<String, String> getResources() {
+        return resources;
+    }
+
+    /**
+     *
+     * @return the map of resource names to content types
+     */
+    Map<String, String> getContentTypes() {
+        return contentTypes;
+    }
+
+    boolean isEmpty() {
+        return resources.isEmpty();
+    }
+
+    static StaticResourcesFastPath empty() {
+        return new StaticResourcesFastPath(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    static StaticResourcesFastPath collect(KnownPathsBuildItem knownPaths, String contextPath, WebMetaData webMetaData,
+            List<ServletBuildItem> servlets, List<FilterBuildItem> filters, List<ListenerBuildItem> listeners,
+            IndexView index) {
+        if (knownPaths.knownFiles.isEmpty() || hasRequestListener(webMetaData, listeners, index)) {
+            return empty();
+        }
+
+        UrlPatterns excluded = new UrlPatterns();
+        if (webMetaData.getServletMappings() != null) {
+            for (ServletMappingMetaData mapping : webMetaData.getServletMappings()) {
+                excluded.addAll(mapping.getUrlPatterns());
+            }
+        }
+        for (ServletBuildItem servlet : servlets) {
+            excluded.addAll(servlet.getMappings());
+        }
+        if (webMetaData.getFilterMappings() != null) {
+            for (FilterMappingMetaData mapping : webMetaData.getFilterMappings()) {
+                if (mapping.getDispatchers() != null && !mapping.getDispatchers().isEmpty()
+                        && !mapping.getDispatchers().contains(DispatcherType.REQUEST)) {
+                    continue;
+                }
+                excluded.addAll(mapping.getUrlPatterns());
+                if (mapping.getServletNames() != null) {
+                    for (String servletName : mapping.getServletNames()) {
+                        excluded.addServletName(servletName);
+                    }
+                }
+            }
+        }
+        for (FilterBuildItem filter : filters) {
+            for (FilterBuildItem.FilterMappingInfo mapping : filter.getMappings()) {
+                if (mapping.getDispatcher() != javax.servlet.DispatcherType.REQUEST) {
+                    continue;
+                }
+                if (mapping.getMappingType() == FilterBuildItem.FilterMappingInfo.MappingType.URL) {
+                    excluded.add(mapping.getMapping());
+                } else {
+                    excluded.addServletName(mapping.getMapping());
+                }
+            }
+        }
+        if (webMetaData.getSecurityConstraints() != null) {
+            for (SecurityConstraintMetaData constraint : webMetaData.getSecurityConstraints()) {
+                if (constraint.getResourceCollections() != null) {
+                    for (WebResourceCollectionMetaData collection : constraint.getResourceCollections()) {
+                        excluded.addAll(collection.getUrlPatterns());
+                    }
+                }
+            }
+        }
+        if (excluded.matchAll) {
+            return empty();
+        }
+
+        String prefix = contextPath.equals("/") ? "" : contextPath;
+        Map<String, String> mimeMappings = new HashMap<>(MimeMappings.DEFAULT_MIME_MAPPINGS);
+        if (webMetaData.getMimeMappings() != null) {
+            for (MimeMappingMetaData mimeMapping : webMetaData.getMimeMappings()) {
+                mimeMappings.put(mimeMapping.getExtension().toLowerCase(Locale.ENGLISH), mimeMapping.getMimeType());
+            }
+        }
+        Map<String, String> resources = new HashMap<>();
+        Map<String, String> contentTypes = new HashMap<>();
+        for (String file : knownPaths.knownFiles) {
+            String resource = file.replace('\\', '/');
+            String path = "/" + resource;
+            if (isHidden(path) || isJsp(path) || excluded.matches(path)) {
+                continue;
+            }
+            resources.put(prefix + path, resource);
+            String contentType = getContentType(resource, mimeMappings);
+            if (contentType != null) {
+                contentTypes.put(resource, contentType);
+            }
+        }
+
+        // Welcome files - the first existing welcome file is used for the directory path
+        List<String> welcomeFiles = webMetaData.getWelcomeFileList() != null
+                ? webMetaData.getWelcomeFileList().getWelcomeFiles()
+                : DEFAULT_WELCOME_FILES;
+        Set<String> directories = new HashSet<>();
+        directories.add("");
+        for (String directory : knownPaths.knownDirectories) {
+            directories.add(directory.replace('\\', '/'));
+        }
+        for (String directory : directories) {
+            String path = directory.isEmpty() ? "/" : "/" + directory + "/";
+            if (isHidden(path) || excluded.matches(path)) {
+                continue;
+            }
+            for (String welcomeFile : welcomeFiles) {
+                String resource = directory.isEmpty() ? welcomeFile : directory + "/" + welcomeFile;
+                if (knownPaths.knownFiles.contains(resource)) {
+                    if (resources.containsKey(prefix + "/" + resource)) {
+                        resources.put(prefix + path, resource);
+                    }
+                    break;
+                }
+            }
+        }
+        return new StaticResourcesFastPath(resources, contentTypes);
+    }
+
+    private static boolean hasRequestListener(WebMetaData webMetaData, List<ListenerBuildItem> listeners, IndexView index) {
+        List<String> listenerClasses = new ArrayList<>();
+        if (webMetaData.getListeners() != null) {
+            for (ListenerMetaData listener : webMetaData.getListeners()) {
+                listenerClasses.add(listener.getListenerClass());
+            }
+        }
+        for (ListenerBuildItem listener : listeners) {
+            listenerClasses.add(listener.getListenerClass());
+        }
+        Set<DotName> requestListeners = new HashSet<>();
+        for (ClassInfo requestListener : index.getAllKnownImplementors(SERVLET_REQUEST_LISTENER)) {
+            requestListeners.add(requestListener.name());
+        }
+        for (String listenerClass : listenerClasses) {
+            if (listenerClass.equals(HttpSessionContext.class.getName())) {
+                // The session context is only needed for servlets
+                continue;
+            }
+            DotName name = DotName.createSimple(listenerClass);
+            if (index.getClassByName(name) == null || requestListeners.contains(name)) {
+                LOGGER.debugf("Static resources are served by the servlet container because of the request listener %s",
+                        listenerClass);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHidden(String path) {
+        String upperCase = path.toUpperCase(Locale.ENGLISH);
+        return upperCase.startsWith("/META-INF/") || upperCase.startsWith("/WEB-INF/");
+    }
+
+    private static boolean isJsp(String path) {
+        String lowerCase = path.toLowerCase(Locale.ENGLISH);
+        for (String extension : JSP_EXTENSIONS) {
+            if (lowerCase.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getContentType(String resource, Map<String, String> mimeMappings) {
+        int lastSlash = resource.lastIndexOf('/');
+        int lastDot = resource.lastIndexOf('.');
+        if (lastDot == -1 || lastDot < lastSlash) {
+            return null;
+        }
+        return mimeMappings.get(resource.substring(lastDot + 1).toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * A set of servlet URL patterns, i.e. exact, path prefix and extension patterns.
+     */
+    static final class UrlPatterns {
+
+        boolean matchAll;
+        final Set<String> exact = new HashSet<>();
+        final List<String> prefixes = new ArrayList<>();
+        final List<String> extensions = new ArrayList<>();
+
+        void addAll(List<String> patterns) {
+            if (patterns != null) {
+                for (String pattern : patterns) {
+                    add(pattern);
+                }
+            }
+        }
+
+        void add(String pattern) {
+            if (pattern == null) {
+                return;
+            }
+            pattern = pattern.trim();
+            if (pattern.equals("*") || pattern.equals("/*") || pattern.equals("/")) {
+                // Note that a servlet mapped to "/" replaces the default servlet
+                matchAll = true;
+            } else if (pattern.isEmpty()) {
+                // The context root
+                exact.add("/");
+            } else if (pattern.startsWith("*.")) {
+                extensions.add(pattern.substring(1));
+            } else {
+                if (!pattern.startsWith("/")) {
+                    pattern = "/" + pattern;
+                }
+                if (pattern.endsWith("/*")) {
+                    prefixes.add(pattern.substring(0, pattern.length() - 2));
+                } else {
+                    exact.add(pattern);
+                }
+            }
+        }
+
+        void addServletName(String servletName) {
+            if (servletName.equals("*") || servletName.equals(ServletPathMatches.DEFAULT_SERVLET_NAME)) {
+                matchAll = true;
+            }
+        }
+
+        boolean matches(String path) {
+            if (matchAll || exact.contains(path)) {
+                return true;
+            }
+            for (String prefix : prefixes) {
+                if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                    return true;
+                }
+            }
+            for (String extension : extensions) {
+                if (path.endsWith(extension)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -84,6 +84,7 @@ import io.quarkus.arc.deployment.ContextRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.ContextRegistrationPhaseBuildItem.ContextConfiguratorBuildItem;
 import io.quarkus.arc.deployment.CustomScopeBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
@@ -104,6 +105,7 @@ import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.deployment.util.ServiceUtil;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.undertow.runtime.HttpSessionContext;
 import io.quarkus.undertow.runtime.ServletHttpSecurityPolicy;
@@ -111,12 +113,15 @@ import io.quarkus.undertow.runtime.ServletProducer;
 import io.quarkus.undertow.runtime.ServletRuntimeConfig;
 import io.quarkus.undertow.runtime.ServletSecurityInfoProxy;
 import io.quarkus.undertow.runtime.ServletSecurityInfoSubstitution;
+import io.quarkus.undertow.runtime.SessionStore;
 import io.quarkus.undertow.runtime.UndertowDeploymentRecorder;
 import io.quarkus.undertow.runtime.UndertowHandlersConfServletExtension;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
+import io.quarkus.vertx.http.runtime.BasicRoute;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
 import io.undertow.servlet.api.DeploymentInfo;
 import io.undertow.servlet.api.FilterInfo;
 import io.undertow.servlet.api.HttpMethodSecurityInfo;
@@ -166,16 +171,53 @@ public class UndertowBuildStep {
             ExecutorBuildItem executorBuildItem, HttpConfiguration httpConfiguration,
             ServletRuntimeConfig servletRuntimeConfig,
             ServletContextPathBuildItem servletContextPathBuildItem,
-            Capabilities capabilities) throws Exception {
+            Capabilities capabilities,
+            KnownPathsBuildItem knownPaths,
+            WebMetadataBuildItem webMetadataBuildItem,
+            List<ServletBuildItem> servlets,
+            List<FilterBuildItem> filters,
+            List<ListenerBuildItem> listeners,
+            List<ServletContainerInitializerBuildItem> servletContainerInitializers,
+            List<ServletExtensionBuildItem> extensions,
+            LaunchModeBuildItem launchMode,
+            ServletConfig servletConfig) throws Exception {
 
         if (capabilities.isPresent(Capability.SECURITY)) {
             recorder.setupSecurity(servletDeploymentManagerBuildItem.getDeploymentManager());
         }
+        if (servletConfig.offHeapSessions) {
+            recorder.configureOffHeapSessions(servletDeploymentManagerBuildItem.getDeploymentManager(), servletRuntimeConfig,
+                    executorBuildItem.getExecutorProxy());
+        }
         Handler<RoutingContext> ut = recorder.startUndertow(shutdown, executorBuildItem.getExecutorProxy(),
                 servletDeploymentManagerBuildItem.getDeploymentManager(),
                 wrappers.stream().map(HttpHandlerWrapperBuildItem::getValue).collect(Collectors.toList()), httpConfiguration,
                 servletRuntimeConfig);
 
+        // Handler wrappers, servlet extensions and initializers may alter the request processing in a way we cannot detect
+        // In dev mode the resources are indexed once, the changes made to them would not be served
+        StaticResourcesFastPath staticResources = StaticResourcesFastPath.empty();
+        if (servletConfig.staticResourcesFastPath && launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT
+                && wrappers.isEmpty() && extensions.isEmpty() && servletContainerInitializers.isEmpty()) {
+            staticResources = StaticResourcesFastPath.collect(knownPaths,
+                    servletContextPathBuildItem.getServletContextPath(), webMetadataBuildItem.getWebMetaData(), servlets,
+                    filters, listeners, combinedIndexBuildItem.getIndex());
+        }
+        if (!staticResources.isEmpty()) {
+            Handler<RoutingContext> staticHandler = recorder.staticResourceHandler(staticResources.getResources(),
+                    staticResources.getContentTypes(), shutdown);
+            if (servletContextPathBuildItem.getServletContextPath().equals("/")) {
+                // Must be registered before the default route
+                routeProducer.produce(RouteBuildItem.builder()
+                        .routeFunction(new BasicRoute("/*", VertxHttpRecorder.DEFAULT_ROUTE_ORDER - 1))
+                        .handler(staticHandler).build());
+            } else {
+                routeProducer.produce(RouteBuildItem.builder()
+                        .route(servletContextPathBuildItem.getServletContextPath() + "/*")
+                        .handler(staticHandler).build());
+            }
+        }
+
         if (servletContextPathBuildItem.getServletContextPath().equals("/")) {
             undertowProducer.accept(new DefaultRouteBuildItem(ut));
         } else {
@@ -196,6 +238,13 @@ public class UndertowBuildStep {
         listeners.produce(new ListenerBuildItem(HttpSessionContext.class.getName()));
     }
 
+    @BuildStep
+    void offHeapSessions(ServletConfig servletConfig, BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (servletConfig.offHeapSessions) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(SessionStore.class));
+        }
+    }
+
     @BuildStep
     ContextConfiguratorBuildItem registerContext(ContextRegistrationPhaseBuildItem phase) {
         return new ContextConfiguratorBuildItem(
@@ -345,7 +394,8 @@ public class UndertowBuildStep {
                 launchMode.getLaunchMode(), shutdownContext, contextPath, httpBuildTimeConfig.rootPath,
                 servletConfig.defaultCharset, webMetaData.getRequestCharacterEncoding(),
                 webMetaData.getResponseCharacterEncoding(), httpBuildTimeConfig.auth.proactive,
-                webMetaData.getWelcomeFileList() != null ? webMetaData.getWelcomeFileList().getWelcomeFiles() : null);
+                webMetaData.getWelcomeFileList() != null ? webMetaData.getWelcomeFileList().getWelcomeFiles() : null,
+                servletConfig.offHeapSessions);
 
         if (webMetaData.getContextParams() != null) {
             for (ParamValueMetaData i : webMetaData.getContextParams()) {
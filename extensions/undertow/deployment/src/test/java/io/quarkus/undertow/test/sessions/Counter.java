@@ -0,0 +1,25 @@
+package io.quarkus.undertow.test.sessions;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Counter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final AtomicInteger DESERIALIZATIONS = new AtomicInteger();
+
+    private int value;
+
+    int incrementAndGet() {
+        return ++value;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        DESERIALIZATIONS.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,30 @@
+package io.quarkus.undertow.test.sessions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.undertow.runtime.SessionStore;
+
+@ApplicationScoped
+public class InMemorySessionStore implements SessionStore {
+
+    private final Map<String, byte[]> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void store(String id, byte[] data, int maxInactiveInterval) {
+        sessions.put(id, data);
+    }
+
+    @Override
+    public byte[] load(String id) {
+        return sessions.get(id);
+    }
+
+    @Override
+    public void remove(String id) {
+        sessions.remove(id);
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.undertow.test.sessions;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OffHeapSessionMemoryLimitTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SessionServlet.class, Counter.class, SessionScopedCounter.class)
+                    .addAsResource(new StringAsset("quarkus.servlet.off-heap-sessions=true\n"
+                            + "quarkus.servlet.sessions.max-memory=1K\n"), "application.properties"));
+
+    @Test
+    public void testSessionsAreKept() {
+        String first = when().get("/session?op=blob&size=1500").sessionId();
+        given().sessionId(first).when().get("/session?op=count").then().body(is("count=1"));
+        String second = when().get("/session?op=blob&size=1500").sessionId();
+        given().sessionId(second).when().get("/session?op=blobSize").then().body(is("1500"));
+        // Without a session store the sessions are never evicted, the attributes are kept on-heap
+        for (int i = 2; i < 10; i++) {
+            given().sessionId(first).when().get("/session?op=count").then().body(is("count=" + i));
+        }
+        given().sessionId(first).when().get("/session?op=exists").then().body(is("true"));
+        given().sessionId(first).when().get("/session?op=blobSize").then().body(is("1500"));
+        given().sessionId(second).when().get("/session?op=blobSize").then().body(is("1500"));
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.quarkus.undertow.test.sessions;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OffHeapSessionStoreTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SessionServlet.class, Counter.class, SessionScopedCounter.class,
+                            InMemorySessionStore.class)
+                    .addAsResource(new StringAsset("quarkus.servlet.off-heap-sessions=true\n"
+                            + "quarkus.servlet.sessions.max-memory=1K\n"), "application.properties"));
+
+    @Inject
+    InMemorySessionStore store;
+
+    @Test
+    public void testWriteBehind() throws InterruptedException {
+        String sessionId = when().get("/session?op=count").sessionId();
+        awaitStored(sessionId);
+        given().sessionId(sessionId).when().get("/session?op=invalidate").then().statusCode(200);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (store.load(sessionId) != null && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertNull(store.load(sessionId));
+    }
+
+    @Test
+    public void testEvictedSessionLoadedFromStore() throws InterruptedException {
+        String first = when().get("/session?op=blob&size=600").sessionId();
+        given().sessionId(first).when().get("/session?op=count").then().body(is("count=1"));
+        // The first session is evicted and written to the store
+        String second = when().get("/session?op=blob&size=600").sessionId();
+        awaitStored(first);
+        given().sessionId(first).when().get("/session?op=blobSize").then().body(is("600"));
+        given().sessionId(first).when().get("/session?op=count").then().body(is("count=2"));
+        given().sessionId(second).when().get("/session?op=blobSize").then().body(is("600"));
+    }
+
+    private void awaitStored(String sessionId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (store.load(sessionId) == null && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertNotNull(store.load(sessionId));
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.quarkus.undertow.test.sessions;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.response.Response;
+
+public class OffHeapSessionTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SessionServlet.class, Counter.class, SessionScopedCounter.class)
+                    .addAsResource(new StringAsset("quarkus.servlet.off-heap-sessions=true\n"), "application.properties"));
+
+    @Test
+    public void testAttributesModifiedInPlace() {
+        Response response = when().get("/session?op=count");
+        String sessionId = response.sessionId();
+        response.then().statusCode(200).body(is("count=1"));
+        given().sessionId(sessionId).when().get("/session?op=count").then().body(is("count=2"));
+        given().sessionId(sessionId).when().get("/session?op=count").then().body(is("count=3"));
+        given().sessionId(sessionId).when().get("/session?op=add&item=foo").then().body(is("[foo]"));
+        given().sessionId(sessionId).when().get("/session?op=add&item=bar").then().body(is("[foo, bar]"));
+        given().sessionId(sessionId).when().get("/session?op=count").then().body(is("count=4"));
+    }
+
+    @Test
+    public void testLazyDeserialization() {
+        String sessionId = when().get("/session?op=count").sessionId();
+        int deserializations = Integer.parseInt(when().get("/session?op=deserializations").asString());
+        // The attribute is not read
+        given().sessionId(sessionId).when().get("/session?op=touch").then().body(is("ok"));
+        given().sessionId(sessionId).when().get("/session?op=touch").then().body(is("ok"));
+        when().get("/session?op=deserializations").then().body(is("" + deserializations));
+        given().sessionId(sessionId).when().get("/session?op=count").then().body(is("count=2"));
+        when().get("/session?op=deserializations").then().body(is("" + (deserializations + 1)));
+    }
+
+    @Test
+    public void testSessionScopedBean() {
+        String sessionId = when().get("/session?op=scoped").sessionId();
+        given().sessionId(sessionId).when().get("/session?op=scoped").then().body(is("scoped=2"));
+        given().sessionId(sessionId).when().get("/session?op=invalidate").then().statusCode(200);
+        Response response = given().sessionId(sessionId).when().get("/session?op=scoped");
+        assertNotEquals(sessionId, response.sessionId());
+        response.then().body(is("scoped=1"));
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.quarkus.undertow.test.sessions;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.SessionScoped;
+
+@SessionScoped
+class SessionScopedCounter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    long incrementAndGet() {
+        return counter.incrementAndGet();
+    }
+
+}
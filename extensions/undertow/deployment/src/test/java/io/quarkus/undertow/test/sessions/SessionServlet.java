@@ -0,0 +1,74 @@
+package io.quarkus.undertow.test.sessions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+@SuppressWarnings("serial")
+@WebServlet(urlPatterns = "/session")
+public class SessionServlet extends HttpServlet {
+
+    @Inject
+    SessionScopedCounter sessionScopedCounter;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (req.getParameter("op").equals("exists")) {
+            resp.getWriter().write("" + (req.getSession(false) != null));
+            return;
+        }
+        HttpSession session = req.getSession();
+        switch (req.getParameter("op")) {
+            case "count":
+                Counter counter = (Counter) session.getAttribute("counter");
+                if (counter == null) {
+                    counter = new Counter();
+                    session.setAttribute("counter", counter);
+                }
+                // Modified in place
+                resp.getWriter().write("count=" + counter.incrementAndGet());
+                break;
+            case "add":
+                List<String> items = (List<String>) session.getAttribute("items");
+                if (items == null) {
+                    items = new ArrayList<>();
+                    session.setAttribute("items", items);
+                }
+                items.add(req.getParameter("item"));
+                resp.getWriter().write(items.toString());
+                break;
+            case "blob":
+                session.setAttribute("blob", new byte[Integer.parseInt(req.getParameter("size"))]);
+                resp.getWriter().write("ok");
+                break;
+            case "blobSize":
+                byte[] blob = (byte[]) session.getAttribute("blob");
+                resp.getWriter().write(blob != null ? "" + blob.length : "none");
+                break;
+            case "scoped":
+                resp.getWriter().write("scoped=" + sessionScopedCounter.incrementAndGet());
+                break;
+            case "touch":
+                resp.getWriter().write("ok");
+                break;
+            case "deserializations":
+                resp.getWriter().write("" + Counter.DESERIALIZATIONS.get());
+                break;
+            case "invalidate":
+                session.invalidate();
+                break;
+            default:
+                resp.sendError(400);
+        }
+    }
+
+}
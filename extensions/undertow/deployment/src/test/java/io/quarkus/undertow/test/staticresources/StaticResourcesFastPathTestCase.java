@@ -0,0 +1,92 @@
+package io.quarkus.undertow.test.staticresources;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.Header;
+
+public class StaticResourcesFastPathTestCase {
+
+    static final String STYLE;
+
+    static final RestAssuredConfig IDENTITY = RestAssured.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    static {
+        StringBuilder style = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            style.append(".item-").append(i).append(" { color: red; }\n");
+        }
+        STYLE = style.toString();
+    }
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StaticResourceFilter.class)
+                    .addAsResource(new StringAsset("index"), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset(STYLE), "META-INF/resources/css/style.css")
+                    .addAsResource(new StringAsset("filtered"), "META-INF/resources/filtered/page.html"));
+
+    @Test
+    public void testStaticResource() {
+        when().get("/index.html").then()
+                .statusCode(200)
+                .header("X-Filtered", nullValue())
+                .header("Content-Type", startsWith("text/html"))
+                .body(is("index"));
+        // Welcome file
+        when().get("/").then()
+                .statusCode(200)
+                .body(is("index"));
+    }
+
+    @Test
+    public void testPrecompressedResource() {
+        given().header("Accept-Encoding", "gzip").when().get("/css/style.css").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "accept-encoding")
+                .header("Content-Type", startsWith("text/css"))
+                .body(is(STYLE));
+        given().config(IDENTITY).when().get("/css/style.css").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", "" + STYLE.length())
+                .body(is(STYLE));
+        given().config(IDENTITY).when().head("/css/style.css").then()
+                .statusCode(200)
+                .header("Content-Length", "" + STYLE.length());
+    }
+
+    @Test
+    public void testConditionalRequest() {
+        String etag = when().get("/index.html").then()
+                .statusCode(200)
+                .extract().header("ETag");
+        given().header(new Header("If-None-Match", etag)).when().get("/index.html").then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testFilteredResource() {
+        when().get("/filtered/page.html").then()
+                .statusCode(200)
+                .header("X-Filtered", "true")
+                .body(is("filtered"));
+    }
+
+}
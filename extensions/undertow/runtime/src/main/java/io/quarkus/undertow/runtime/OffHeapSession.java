@@ -0,0 +1,390 @@
+package io.quarkus.undertow.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.quarkus.undertow.runtime.OffHeapSessionManager.SerializedAttribute;
+import io.undertow.UndertowMessages;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.session.Session;
+import io.undertow.server.session.SessionConfig;
+import io.undertow.server.session.SessionListener.SessionDestroyedReason;
+import io.undertow.server.session.SessionManager;
+import io.undertow.util.AttachmentKey;
+
+/**
+ * A session managed by {@link OffHeapSessionManager}.
+ * <p>
+ * The value of an attribute is either a {@link SerializedAttribute} or the attribute itself. An attribute is deserialized
+ * when it's read for the first time and serialized again when the last request that accessed the session completes.
+ */
+final class OffHeapSession implements Session {
+
+    private static final byte VERSION = 1;
+
+    private final AttachmentKey<Boolean> requestStarted = AttachmentKey.create(Boolean.class);
+    private final OffHeapSessionManager manager;
+    private final long creationTime;
+    private final ConcurrentMap<String, Object> attributes;
+    private volatile String id;
+    private volatile SessionConfig config;
+    private volatile long lastAccessed;
+    private volatile int maxInactiveInterval;
+    private volatile boolean invalidationStarted;
+    private volatile boolean invalid;
+    // Guarded by this
+    private int activeRequests;
+    private boolean passivated;
+
+    volatile Object evictionToken;
+
+    OffHeapSession(OffHeapSessionManager manager, String id, SessionConfig config, long creationTime, long lastAccessed,
+            int maxInactiveInterval) {
+        this.manager = manager;
+        this.id = id;
+        this.config = config;
+        this.creationTime = creationTime;
+        this.lastAccessed = lastAccessed;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.attributes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    /**
+     *
+     * @param exchange
+     * @return {@code false} if the session was passivated in the meantime and must be loaded again, {@code true} otherwise
+     */
+    synchronized boolean requestStarted(HttpServerExchange exchange) {
+        if (passivated) {
+            return false;
+        }
+        if (exchange.getAttachment(requestStarted) == null) {
+            exchange.putAttachment(requestStarted, Boolean.TRUE);
+            activeRequests++;
+        }
+        lastAccessed = System.currentTimeMillis();
+        return true;
+    }
+
+    @Override
+    public void requestDone(HttpServerExchange exchange) {
+        lastAccessed = System.currentTimeMillis();
+        if (exchange == null || exchange.removeAttachment(requestStarted) == null) {
+            return;
+        }
+        synchronized (this) {
+            if (--activeRequests > 0 || invalid) {
+                return;
+            }
+            serializeAttributes();
+        }
+        manager.requestDone(this);
+    }
+
+    @Override
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        return lastAccessed;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        maxInactiveInterval = interval;
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        if (invalid) {
+            throw UndertowMessages.MESSAGES.sessionIsInvalid(id);
+        }
+        Object value = attributes.get(name);
+        if (value instanceof SerializedAttribute) {
+            synchronized (this) {
+                value = attributes.get(name);
+                if (value instanceof SerializedAttribute) {
+                    // Keep the attribute on-heap until the request completes so that in-place modifications are not lost
+                    SerializedAttribute serialized = (SerializedAttribute) value;
+                    value = manager.deserialize(serialized, name);
+                    attributes.put(name, value);
+                    manager.release(serialized);
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        if (invalid) {
+            throw UndertowMessages.MESSAGES.sessionIsInvalid(id);
+        }
+        return new HashSet<>(attributes.keySet());
+    }
+
+    @Override
+    public Object setAttribute(String name, Object value) {
+        if (value == null) {
+            return removeAttribute(name);
+        }
+        if (invalid) {
+            throw UndertowMessages.MESSAGES.sessionIsInvalid(id);
+        }
+        Object previous;
+        synchronized (this) {
+            previous = resolve(attributes.put(name, value), name);
+        }
+        if (previous == null) {
+            manager.getSessionListeners().attributeAdded(this, name, value);
+        } else {
+            manager.getSessionListeners().attributeUpdated(this, name, value, previous);
+        }
+        return previous;
+    }
+
+    @Override
+    public Object removeAttribute(String name) {
+        if (invalid) {
+            throw UndertowMessages.MESSAGES.sessionIsInvalid(id);
+        }
+        Object previous;
+        synchronized (this) {
+            previous = resolve(attributes.remove(name), name);
+        }
+        if (previous != null) {
+            manager.getSessionListeners().attributeRemoved(this, name, previous);
+        }
+        return previous;
+    }
+
+    @Override
+    public void invalidate(HttpServerExchange exchange) {
+        invalidate(exchange, SessionDestroyedReason.INVALIDATED);
+    }
+
+    void invalidate(HttpServerExchange exchange, SessionDestroyedReason reason) {
+        synchronized (this) {
+            if (invalidationStarted) {
+                return;
+            }
+            invalidationStarted = true;
+        }
+        manager.getSessionListeners().sessionDestroyed(this, exchange, reason);
+        synchronized (this) {
+            invalid = true;
+            releaseAttributes();
+        }
+        manager.sessionDestroyed(this, reason);
+        SessionConfig config = this.config;
+        if (exchange != null && config != null) {
+            config.clearSession(exchange, id);
+        }
+    }
+
+    @Override
+    public SessionManager getSessionManager() {
+        return manager;
+    }
+
+    @Override
+    public String changeSessionId(HttpServerExchange exchange, SessionConfig config) {
+        String oldId = id;
+        String newId = manager.createSessionId();
+        id = newId;
+        this.config = config;
+        manager.sessionIdChanged(this, oldId);
+        config.setSessionId(exchange, newId);
+        manager.getSessionListeners().sessionIdChanged(this, oldId);
+        return newId;
+    }
+
+    void setConfig(SessionConfig config) {
+        this.config = config;
+    }
+
+    boolean isInvalid() {
+        return invalid;
+    }
+
+    synchronized boolean isPassivated() {
+        return passivated;
+    }
+
+    synchronized boolean isExpired(long now) {
+        return !invalid && activeRequests == 0 && maxInactiveInterval > 0
+                && now - lastAccessed > maxInactiveInterval * 1000L;
+    }
+
+    /**
+     * Releases the off-heap memory, the session is not destroyed though. It must be loaded from the session store again.
+     *
+     * @return {@code true} if the session was passivated, {@code false} if it's in use
+     */
+    synchronized boolean passivate() {
+        if (activeRequests > 0 || invalid) {
+            return false;
+        }
+        passivated = true;
+        releaseAttributes();
+        return true;
+    }
+
+    /**
+     * Passivates the session unless it's in use. The check and the passivation are atomic so that no request can start in
+     * between.
+     *
+     * @return the session data to write to the session store, or {@code null} if the session is in use
+     * @throws IOException
+     */
+    synchronized byte[] evict() throws IOException {
+        if (activeRequests > 0 || invalid || passivated) {
+            return null;
+        }
+        byte[] data = toBytes();
+        passivated = true;
+        releaseAttributes();
+        return data;
+    }
+
+    private Object resolve(Object value, String name) {
+        if (value instanceof SerializedAttribute) {
+            SerializedAttribute serialized = (SerializedAttribute) value;
+            try {
+                return manager.deserialize(serialized, name);
+            } finally {
+                manager.release(serialized);
+            }
+        }
+        return value;
+    }
+
+    private void serializeAttributes() {
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof SerializedAttribute) {
+                continue;
+            }
+            SerializedAttribute serialized = manager.serialize(value, entry.getKey());
+            if (serialized != null && !attributes.replace(entry.getKey(), value, serialized)) {
+                manager.release(serialized);
+            }
+        }
+    }
+
+    private void releaseAttributes() {
+        for (Object value : attributes.values()) {
+            if (value instanceof SerializedAttribute) {
+                manager.release((SerializedAttribute) value);
+            }
+        }
+        attributes.clear();
+    }
+
+    /**
+     * The session is not written while it's in use, the attributes may be modified in-place; it's written again once the
+     * last request completes.
+     *
+     * @return the session data to write to the session store, or {@code null} if the session is in use
+     * @throws IOException
+     */
+    synchronized byte[] toBytesIfNotInUse() throws IOException {
+        if (activeRequests > 0 || invalid || passivated) {
+            return null;
+        }
+        return toBytes();
+    }
+
+    /**
+     * The attributes kept on-heap, e.g. because the memory limit was exceeded, are serialized as well.
+     *
+     * @return the session data written to the session store, the attributes that cannot be serialized are skipped
+     * @throws IOException
+     */
+    private byte[] toBytes() throws IOException {
+        Map<String, byte[]> onHeap = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof SerializedAttribute) {
+                count++;
+            } else {
+                byte[] serialized = manager.toBytes(value, entry.getKey());
+                if (serialized != null) {
+                    onHeap.put(entry.getKey(), serialized);
+                    count++;
+                }
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(creationTime);
+            out.writeLong(lastAccessed);
+            out.writeInt(maxInactiveInterval);
+            out.writeInt(count);
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                if (entry.getValue() instanceof SerializedAttribute) {
+                    SerializedAttribute serialized = (SerializedAttribute) entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(serialized.length());
+                    serialized.writeTo(out);
+                } else {
+                    byte[] serialized = onHeap.get(entry.getKey());
+                    if (serialized != null) {
+                        out.writeUTF(entry.getKey());
+                        out.writeInt(serialized.length);
+                        out.write(serialized);
+                    }
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static OffHeapSession fromBytes(OffHeapSessionManager manager, String id, SessionConfig config, byte[] data)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session data version: " + version);
+            }
+            OffHeapSession session = new OffHeapSession(manager, id, config, in.readLong(), in.readLong(), in.readInt());
+            try {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    String name = in.readUTF();
+                    byte[] value = new byte[in.readInt()];
+                    in.readFully(value);
+                    session.attributes.put(name, manager.allocate(value));
+                }
+            } catch (IOException e) {
+                session.releaseAttributes();
+                throw e;
+            }
+            return session;
+        }
+    }
+
+}
@@ -0,0 +1,701 @@
+package io.quarkus.undertow.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.undertow.UndertowMessages;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.session.Session;
+import io.undertow.server.session.SessionConfig;
+import io.undertow.server.session.SessionIdGenerator;
+import io.undertow.server.session.SessionListener;
+import io.undertow.server.session.SessionListener.SessionDestroyedReason;
+import io.undertow.server.session.SessionListeners;
+import io.undertow.server.session.SessionManager;
+import io.undertow.server.session.SessionManagerStatistics;
+import io.undertow.util.AttachmentKey;
+import io.undertow.util.ConcurrentDirectDeque;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * A session manager that keeps the session attributes off-heap.
+ * <p>
+ * When the last request that accessed a session completes, the serializable attributes are serialized into direct buffers
+ * allocated from a dedicated arena. An attribute is only deserialized when it's read; it's then kept on-heap until the
+ * request completes so that in-place modifications are not lost. The attributes that cannot be serialized, e.g. the
+ * contextual instances of {@code @SessionScoped} beans, are always kept on-heap.
+ * <p>
+ * The amount of off-heap memory reserved by the arena is bounded, the limit is checked asynchronously once a request
+ * completes. If a {@link SessionStore} is used, the modified sessions are written to the store asynchronously and the least
+ * recently used sessions that are not in use are evicted once the limit is exceeded, i.e. written to the store and dropped
+ * locally; they're loaded from the store when needed again. Note that the attributes that cannot be serialized are lost in
+ * that case. Without a session store the sessions are never evicted, the attributes are kept on-heap instead while the limit
+ * is exceeded.
+ * <p>
+ * A session that is present locally is never loaded from the store again, the local copy is authoritative. If the sessions
+ * are shared by several application instances, the load balancer must route the requests of a session to the same instance
+ * (sticky sessions); the other instances only load the session from the store on a failover.
+ */
+public class OffHeapSessionManager implements SessionManager, SessionManagerStatistics {
+
+    private static final Logger log = Logger.getLogger(OffHeapSessionManager.class);
+
+    // How often the expired sessions are removed
+    static final long EXPIRATION_CHECK_INTERVAL = 30_000;
+
+    private final AttachmentKey<OffHeapSession> NEW_SESSION = AttachmentKey.create(OffHeapSession.class);
+
+    private final SessionIdGenerator sessionIdGenerator;
+    private final String deploymentName;
+    private final ConcurrentMap<String, OffHeapSession> sessions;
+    private final ConcurrentDirectDeque<String> evictionQueue;
+    private final SessionListeners sessionListeners;
+    private final PooledByteBufAllocator allocator;
+    private final Set<Class<?>> notSerializable;
+    private final Set<String> pendingWrites;
+    // The data of the evicted sessions until they're written to the store
+    private final ConcurrentMap<String, byte[]> evicted;
+    private final AtomicBoolean memoryCheckScheduled;
+    // Guards the writes to the store, so that a stale session data cannot overwrite the data of an evicted session
+    private final Object storeLock = new Object();
+
+    private volatile int defaultSessionTimeout = 30 * 60;
+    private volatile long maxMemory = Long.MAX_VALUE;
+    private volatile SessionStore store;
+    private volatile Executor executor;
+    private volatile Vertx vertx;
+    private volatile boolean memoryExceeded;
+    private volatile long expirationTimer = -1;
+    private volatile long writeBehindTimer = -1;
+
+    private final AtomicLong createdSessionCount;
+    private final AtomicLong expiredSessionCount;
+    private final AtomicLong destroyedSessionCount;
+    private final AtomicLong totalSessionLifetime;
+    private final AtomicInteger highestSessionCount;
+    private volatile long longestSessionLifetime;
+    private volatile long startTime;
+
+    public OffHeapSessionManager(SessionIdGenerator sessionIdGenerator, String deploymentName) {
+        this.sessionIdGenerator = sessionIdGenerator;
+        this.deploymentName = deploymentName;
+        this.sessions = new ConcurrentHashMap<>();
+        this.evictionQueue = ConcurrentDirectDeque.newInstance();
+        this.sessionListeners = new SessionListeners();
+        // A dedicated arena so that the session data does not compete with the buffers used for I/O
+        // 1 MiB chunks, and no thread caches so that the released memory goes back to the chunks
+        this.allocator = new PooledByteBufAllocator(true, 0, Math.min(4, Runtime.getRuntime().availableProcessors()), 8192,
+                7, 0, 0, 0, false);
+        this.notSerializable = ConcurrentHashMap.newKeySet();
+        this.pendingWrites = ConcurrentHashMap.newKeySet();
+        this.evicted = new ConcurrentHashMap<>();
+        this.memoryCheckScheduled = new AtomicBoolean();
+        this.createdSessionCount = new AtomicLong();
+        this.expiredSessionCount = new AtomicLong();
+        this.destroyedSessionCount = new AtomicLong();
+        this.totalSessionLifetime = new AtomicLong();
+        this.highestSessionCount = new AtomicInteger();
+    }
+
+    /**
+     *
+     * @param maxMemory the max amount of off-heap memory used to store the session attributes
+     * @param writeBehindInterval how often the modified sessions are written to the store
+     * @param store the session store, may be {@code null}
+     * @param vertx
+     * @param executor the executor used for blocking operations
+     */
+    void configure(long maxMemory, Duration writeBehindInterval, SessionStore store, Vertx vertx, Executor executor) {
+        cancelTimers();
+        this.maxMemory = maxMemory;
+        this.store = store;
+        this.vertx = vertx;
+        this.executor = executor;
+        expirationTimer = vertx.setPeriodic(EXPIRATION_CHECK_INTERVAL, new Handler<Long>() {
+            @Override
+            public void handle(Long timerId) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        removeExpiredSessions();
+                        checkMemoryLimit();
+                    }
+                });
+            }
+        });
+        if (store != null) {
+            writeBehindTimer = vertx.setPeriodic(Math.max(1, writeBehindInterval.toMillis()), new Handler<Long>() {
+                @Override
+                public void handle(Long timerId) {
+                    if (!pendingWrites.isEmpty()) {
+                        executor.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                writePendingSessions();
+                            }
+                        });
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public String getDeploymentName() {
+        return deploymentName;
+    }
+
+    @Override
+    public void start() {
+        startTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void stop() {
+        cancelTimers();
+        writePendingSessions();
+        for (OffHeapSession session : new ArrayList<>(sessions.values())) {
+            session.invalidate(null, SessionDestroyedReason.UNDEPLOY);
+        }
+        sessions.clear();
+        evictionQueue.clear();
+    }
+
+    @Override
+    public Session createSession(HttpServerExchange exchange, SessionConfig config) {
+        if (config == null) {
+            throw UndertowMessages.MESSAGES.couldNotFindSessionCookieConfig();
+        }
+        String sessionId = createSessionId();
+        long now = System.currentTimeMillis();
+        OffHeapSession session = new OffHeapSession(this, sessionId, config, now, now, defaultSessionTimeout);
+        sessions.put(sessionId, session);
+        session.evictionToken = evictionQueue.offerLastAndReturnToken(sessionId);
+        config.setSessionId(exchange, sessionId);
+        session.requestStarted(exchange);
+        sessionListeners.sessionCreated(session, exchange);
+        exchange.putAttachment(NEW_SESSION, session);
+
+        createdSessionCount.incrementAndGet();
+        int highest;
+        int count;
+        do {
+            highest = highestSessionCount.get();
+            count = sessions.size();
+        } while (count > highest && !highestSessionCount.compareAndSet(highest, count));
+        return session;
+    }
+
+    @Override
+    public Session getSession(HttpServerExchange exchange, SessionConfig config) {
+        if (exchange != null) {
+            OffHeapSession newSession = exchange.getAttachment(NEW_SESSION);
+            if (newSession != null) {
+                return newSession;
+            }
+        }
+        if (config == null) {
+            return null;
+        }
+        String sessionId = config.findSessionId(exchange);
+        if (sessionId == null) {
+            return null;
+        }
+        // The session may be passivated concurrently, in which case we just try again
+        for (int i = 0; i < 3; i++) {
+            OffHeapSession session = getSession(sessionId, config);
+            if (session == null || exchange == null) {
+                return session;
+            }
+            if (session.requestStarted(exchange)) {
+                updateLastAccessed(session);
+                return session;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Session getSession(String sessionId) {
+        return getSession(sessionId, null);
+    }
+
+    private OffHeapSession getSession(String sessionId, SessionConfig config) {
+        if (sessionId == null) {
+            return null;
+        }
+        OffHeapSession session = sessions.get(sessionId);
+        if (session != null && session.isPassivated()) {
+            // Evicted concurrently, wait until the session data can be loaded again
+            synchronized (storeLock) {
+                sessions.remove(sessionId, session);
+            }
+            session = null;
+        }
+        if (session == null && store != null) {
+            session = load(sessionId, config);
+        }
+        if (session == null) {
+            return null;
+        }
+        if (session.isExpired(System.currentTimeMillis())) {
+            session.invalidate(null, SessionDestroyedReason.TIMEOUT);
+            return null;
+        }
+        if (config != null) {
+            session.setConfig(config);
+        }
+        return session;
+    }
+
+    @Override
+    public synchronized void registerSessionListener(SessionListener listener) {
+        sessionListeners.addSessionListener(listener);
+    }
+
+    @Override
+    public synchronized void removeSessionListener(SessionListener listener) {
+        sessionListeners.removeSessionListener(listener);
+    }
+
+    @Override
+    public void setDefaultSessionTimeout(int timeout) {
+        defaultSessionTimeout = timeout;
+    }
+
+    @Override
+    public Set<String> getTransientSessions() {
+        return getAllSessions();
+    }
+
+    @Override
+    public Set<String> getActiveSessions() {
+        return getAllSessions();
+    }
+
+    @Override
+    public Set<String> getAllSessions() {
+        return new HashSet<>(sessions.keySet());
+    }
+
+    @Override
+    public SessionManagerStatistics getStatistics() {
+        return this;
+    }
+
+    @Override
+    public long getCreatedSessionCount() {
+        return createdSessionCount.get();
+    }
+
+    @Override
+    public long getMaxActiveSessions() {
+        return -1;
+    }
+
+    @Override
+    public long getHighestSessionCount() {
+        return highestSessionCount.get();
+    }
+
+    @Override
+    public long getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public long getExpiredSessionCount() {
+        return expiredSessionCount.get();
+    }
+
+    @Override
+    public long getRejectedSessions() {
+        return 0;
+    }
+
+    @Override
+    public long getMaxSessionAliveTime() {
+        return longestSessionLifetime;
+    }
+
+    @Override
+    public long getAverageSessionAliveTime() {
+        long destroyed = destroyedSessionCount.get();
+        return destroyed == 0 ? 0 : totalSessionLifetime.get() / destroyed;
+    }
+
+    @Override
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     *
+     * @return the amount of off-heap memory reserved to store the session attributes
+     */
+    public long getUsedMemory() {
+        return allocator.metric().usedDirectMemory();
+    }
+
+    SessionListeners getSessionListeners() {
+        return sessionListeners;
+    }
+
+    String createSessionId() {
+        for (int i = 0; i < 100; i++) {
+            String sessionId = sessionIdGenerator.createSessionId();
+            if (!sessions.containsKey(sessionId)) {
+                return sessionId;
+            }
+        }
+        throw UndertowMessages.MESSAGES.couldNotGenerateUniqueSessionId();
+    }
+
+    void requestDone(OffHeapSession session) {
+        if (store != null) {
+            pendingWrites.add(session.getId());
+        }
+        scheduleMemoryCheck();
+    }
+
+    void sessionIdChanged(OffHeapSession session, String oldId) {
+        sessions.remove(oldId, session);
+        sessions.put(session.getId(), session);
+        updateLastAccessed(session);
+        if (store != null && pendingWrites.remove(oldId)) {
+            pendingWrites.add(session.getId());
+        }
+        removeFromStore(oldId);
+    }
+
+    void sessionDestroyed(OffHeapSession session, SessionDestroyedReason reason) {
+        String sessionId = session.getId();
+        sessions.remove(sessionId, session);
+        Object token = session.evictionToken;
+        if (token != null) {
+            evictionQueue.removeToken(token);
+        }
+        pendingWrites.remove(sessionId);
+        if (reason != SessionDestroyedReason.UNDEPLOY) {
+            removeFromStore(sessionId);
+        }
+        if (reason == SessionDestroyedReason.TIMEOUT) {
+            expiredSessionCount.incrementAndGet();
+        }
+        long lifetime = System.currentTimeMillis() - session.getCreationTime();
+        destroyedSessionCount.incrementAndGet();
+        totalSessionLifetime.addAndGet(lifetime);
+        if (lifetime > longestSessionLifetime) {
+            longestSessionLifetime = lifetime;
+        }
+    }
+
+    SerializedAttribute serialize(Object value, String name) {
+        if (memoryExceeded) {
+            return null;
+        }
+        byte[] bytes = toBytes(value, name);
+        return bytes != null ? allocate(bytes) : null;
+    }
+
+    /**
+     *
+     * @param value
+     * @param name
+     * @return the serialized value, or {@code null} if it cannot be serialized
+     */
+    byte[] toBytes(Object value, String name) {
+        if (!(value instanceof Serializable) || notSerializable.contains(value.getClass())) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            // E.g. a field that is not serializable - keep the values of this type on-heap
+            notSerializable.add(value.getClass());
+            log.debugf(e, "Unable to serialize the session attribute %s, values of %s are kept on-heap", name,
+                    value.getClass());
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    Object deserialize(SerializedAttribute serialized, String name) {
+        try (ObjectInputStream in = new SessionObjectInputStream(new ByteBufInputStream(serialized.buffer.duplicate()))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to deserialize the session attribute " + name, e);
+        }
+    }
+
+    SerializedAttribute allocate(byte[] value) {
+        ByteBuf buffer = allocator.directBuffer(value.length, value.length);
+        buffer.writeBytes(value);
+        return new SerializedAttribute(buffer);
+    }
+
+    void release(SerializedAttribute serialized) {
+        serialized.buffer.release();
+    }
+
+    private void updateLastAccessed(OffHeapSession session) {
+        Object token = session.evictionToken;
+        if (token != null) {
+            evictionQueue.removeToken(token);
+        }
+        session.evictionToken = evictionQueue.offerLastAndReturnToken(session.getId());
+    }
+
+    private OffHeapSession load(String sessionId, SessionConfig config) {
+        // The session may not be written to the store yet
+        byte[] data = evicted.get(sessionId);
+        if (data == null) {
+            try {
+                data = store.load(sessionId);
+            } catch (Exception e) {
+                log.warnf(e, "Unable to load session %s from the session store", sessionId);
+                return null;
+            }
+        }
+        if (data == null) {
+            return null;
+        }
+        OffHeapSession session;
+        try {
+            session = OffHeapSession.fromBytes(this, sessionId, config, data);
+        } catch (IOException e) {
+            log.warnf(e, "Unable to read session %s loaded from the session store", sessionId);
+            return null;
+        }
+        if (session.isExpired(System.currentTimeMillis())) {
+            session.passivate();
+            removeFromStore(sessionId);
+            return null;
+        }
+        OffHeapSession existing = sessions.putIfAbsent(sessionId, session);
+        if (existing != null) {
+            session.passivate();
+            return existing;
+        }
+        session.evictionToken = evictionQueue.offerLastAndReturnToken(sessionId);
+        scheduleMemoryCheck();
+        return session;
+    }
+
+    private void scheduleMemoryCheck() {
+        Executor executor = this.executor;
+        if (executor != null && memoryCheckScheduled.compareAndSet(false, true)) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    memoryCheckScheduled.set(false);
+                    checkMemoryLimit();
+                }
+            });
+        }
+    }
+
+    void checkMemoryLimit() {
+        long used = getUsedMemory();
+        SessionStore store = this.store;
+        if (store == null) {
+            // The sessions cannot be evicted without being lost, the attributes are kept on-heap instead
+            memoryExceeded = used > maxMemory;
+            return;
+        }
+        // Evict the least recently used sessions that are not in use
+        int attempts = sessions.size();
+        while (used > maxMemory && attempts-- > 0) {
+            String sessionId = evictionQueue.poll();
+            if (sessionId == null) {
+                return;
+            }
+            OffHeapSession session = sessions.get(sessionId);
+            if (session != null && evict(store, session)) {
+                used = getUsedMemory();
+            }
+        }
+    }
+
+    private boolean evict(SessionStore store, OffHeapSession session) {
+        String sessionId = session.getId();
+        session.evictionToken = null;
+        synchronized (storeLock) {
+            byte[] data;
+            try {
+                data = session.evict();
+            } catch (IOException e) {
+                log.warnf(e, "Unable to write session %s to the session store", sessionId);
+                data = null;
+            }
+            if (data == null) {
+                if (!session.isInvalid()) {
+                    // In use
+                    session.evictionToken = evictionQueue.offerLastAndReturnToken(sessionId);
+                }
+                return false;
+            }
+            log.debugf("Passivating session %s as the max memory has been exceeded", sessionId);
+            evicted.put(sessionId, data);
+            sessions.remove(sessionId, session);
+            pendingWrites.remove(sessionId);
+            write(store, sessionId, data, session.getMaxInactiveInterval());
+            evicted.remove(sessionId, data);
+            return true;
+        }
+    }
+
+    void removeExpiredSessions() {
+        long now = System.currentTimeMillis();
+        for (OffHeapSession session : sessions.values()) {
+            if (session.isExpired(now)) {
+                session.invalidate(null, SessionDestroyedReason.TIMEOUT);
+            }
+        }
+    }
+
+    void writePendingSessions() {
+        SessionStore store = this.store;
+        if (store == null) {
+            return;
+        }
+        for (Iterator<String> it = pendingWrites.iterator(); it.hasNext();) {
+            String sessionId = it.next();
+            it.remove();
+            OffHeapSession session = sessions.get(sessionId);
+            if (session == null) {
+                continue;
+            }
+            synchronized (storeLock) {
+                // The session may have been evicted in the meantime
+                if (sessions.get(sessionId) != session) {
+                    continue;
+                }
+                byte[] data;
+                try {
+                    data = session.toBytesIfNotInUse();
+                } catch (IOException e) {
+                    log.warnf(e, "Unable to write session %s to the session store", sessionId);
+                    continue;
+                }
+                if (data == null) {
+                    // Invalid, or in use - written again once the last request completes
+                    continue;
+                }
+                write(store, sessionId, data, session.getMaxInactiveInterval());
+            }
+        }
+    }
+
+    private void write(SessionStore store, String sessionId, byte[] data, int maxInactiveInterval) {
+        try {
+            store.store(sessionId, data, maxInactiveInterval);
+        } catch (Exception e) {
+            log.warnf(e, "Unable to write session %s to the session store", sessionId);
+        }
+    }
+
+    private void removeFromStore(String sessionId) {
+        SessionStore store = this.store;
+        if (store == null) {
+            return;
+        }
+        Runnable remove = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    store.remove(sessionId);
+                } catch (Exception e) {
+                    log.warnf(e, "Unable to remove session %s from the session store", sessionId);
+                }
+            }
+        };
+        Executor executor = this.executor;
+        if (executor != null) {
+            executor.execute(remove);
+        } else {
+            remove.run();
+        }
+    }
+
+    private void cancelTimers() {
+        Vertx vertx = this.vertx;
+        if (vertx != null) {
+            if (expirationTimer != -1) {
+                vertx.cancelTimer(expirationTimer);
+                expirationTimer = -1;
+            }
+            if (writeBehindTimer != -1) {
+                vertx.cancelTimer(writeBehindTimer);
+                writeBehindTimer = -1;
+            }
+        }
+    }
+
+    /**
+     * A serialized session attribute stored off-heap.
+     */
+    static final class SerializedAttribute {
+
+        final ByteBuf buffer;
+
+        SerializedAttribute(ByteBuf buffer) {
+            this.buffer = buffer;
+        }
+
+        int length() {
+            return buffer.readableBytes();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            buffer.getBytes(buffer.readerIndex(), out, buffer.readableBytes());
+        }
+
+    }
+
+    static final class SessionObjectInputStream extends ObjectInputStream {
+
+        SessionObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            if (cl != null) {
+                try {
+                    return Class.forName(desc.getName(), false, cl);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+
+    }
+
+}
@@ -26,4 +26,10 @@ public class ServletRuntimeConfig {
     @ConfigItem
     Optional<Boolean> directBuffers;
 
+    /**
+     * The off-heap session manager configuration
+     */
+    @ConfigItem
+    SessionsConfig sessions;
+
 }
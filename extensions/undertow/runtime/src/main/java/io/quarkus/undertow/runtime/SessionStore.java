@@ -0,0 +1,42 @@
+package io.quarkus.undertow.runtime;
+
+/**
+ * An external store that can be used to share the HTTP sessions between multiple application instances, e.g. a store backed
+ * by the Redis or Infinispan client.
+ * <p>
+ * The store is only used by the off-heap session manager, i.e. if {@code quarkus.servlet.off-heap-sessions} is set to
+ * {@code true}. If there is a CDI bean that implements this interface, the sessions modified during a request are written to
+ * the store asynchronously, the sessions that are not found locally are loaded from the store, and the invalidated sessions
+ * are removed from the store. Only the serializable session attributes are stored.
+ * <p>
+ * A session is only loaded from the store if it's not present locally, the changes made by another application instance are
+ * not seen while the session is kept in memory. The requests of a session must therefore be routed to the same instance, i.e.
+ * the load balancer must use sticky sessions. The other instances only load the session on a failover.
+ * <p>
+ * The methods are always invoked on a worker thread and may block.
+ */
+public interface SessionStore {
+
+    /**
+     *
+     * @param id the session id
+     * @param data the serialized session
+     * @param maxInactiveInterval the number of seconds after which the session expires unless it's accessed again, a negative
+     *        value means that the session never expires
+     */
+    void store(String id, byte[] data, int maxInactiveInterval);
+
+    /**
+     *
+     * @param id the session id
+     * @return the serialized session or {@code null} if no such session exists
+     */
+    byte[] load(String id);
+
+    /**
+     *
+     * @param id the session id
+     */
+    void remove(String id);
+
+}
@@ -0,0 +1,29 @@
+package io.quarkus.undertow.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * config for the off-heap session manager
+ */
+@ConfigGroup
+public class SessionsConfig {
+
+    /**
+     * The max amount of off-heap memory reserved to store the session attributes, the memory is reserved in chunks of 1 MiB.
+     * If exceeded and a session store is used, the least recently used sessions are written to the store and removed from
+     * memory. Without a session store, the attributes are kept on-heap while the limit is exceeded.
+     */
+    @ConfigItem(defaultValue = "64M")
+    public MemorySize maxMemory;
+
+    /**
+     * How often the modified sessions are written to the session store.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration writeBehindInterval;
+
+}
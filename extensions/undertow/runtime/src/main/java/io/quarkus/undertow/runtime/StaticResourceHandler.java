@@ -0,0 +1,318 @@
+package io.quarkus.undertow.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.AcceptEncoding;
+import io.undertow.util.DateUtils;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources that would otherwise end up in the Undertow {@code DefaultServlet} directly from the Vert.x
+ * route, i.e. the servlet pipeline, the session handling and the CDI request context are skipped entirely.
+ * <p>
+ * The set of eligible resources is computed at build time; only the resources that are not matched by any servlet, filter or
+ * security constraint are included. The resources are indexed when the handler is created. Small resources are kept in
+ * memory, larger ones are served with {@link HttpServerResponse#sendFile(String)}. Compressible resources are also gzipped
+ * upfront and the compressed variant is used if the client accepts it.
+ * <p>
+ * Range requests and any request for a path that is not indexed are passed to the next handler, i.e. Undertow.
+ */
+public class StaticResourceHandler implements Handler<RoutingContext> {
+
+    private static final Logger log = Logger.getLogger(StaticResourceHandler.class);
+
+    static final String META_INF_RESOURCES = "META-INF/resources/";
+
+    // Resources up to this size are kept in memory
+    static final int MAX_IN_MEMORY_SIZE = 64 * 1024;
+    // Smaller resources are never compressed
+    static final int MIN_COMPRESSED_SIZE = 512;
+
+    private final Map<String, Entry> entries;
+
+    StaticResourceHandler(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD) || request.headers().contains(HttpHeaderNames.RANGE)) {
+            ctx.next();
+            return;
+        }
+        String path = ctx.normalisedPath();
+        String mountPoint = ctx.mountPoint();
+        if (mountPoint != null && path.startsWith(mountPoint)) {
+            path = path.substring(mountPoint.length());
+        }
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            ctx.next();
+            return;
+        }
+        HttpServerResponse response = ctx.response();
+        if (entry.gzipped != null) {
+            response.putHeader(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+            if (AcceptEncoding.acceptsGzip(request.getHeader(HttpHeaderNames.ACCEPT_ENCODING))) {
+                entry = entry.gzipped;
+                response.putHeader(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+            }
+        }
+        // Range requests are handled by the servlet container
+        response.putHeader(HttpHeaderNames.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+        response.putHeader(HttpHeaderNames.ETAG, entry.etag);
+        response.putHeader(HttpHeaderNames.LAST_MODIFIED, entry.lastModifiedString);
+        if (isNotModified(request, entry)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        if (entry.contentType != null) {
+            response.putHeader(HttpHeaderNames.CONTENT_TYPE, entry.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaderNames.CONTENT_LENGTH, Long.toString(entry.length)).end();
+        } else if (entry.content != null) {
+            response.end(entry.content);
+        } else {
+            response.sendFile(entry.file);
+        }
+    }
+
+    private static boolean isNotModified(HttpServerRequest request, Entry entry) {
+        String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(entry.etag)) {
+                    return true;
+                }
+            }
+            // If-Modified-Since must be ignored if If-None-Match is present
+            return false;
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaderNames.IF_MODIFIED_SINCE);
+        return ifModifiedSince != null && !DateUtils.handleIfModifiedSince(ifModifiedSince, entry.lastModified);
+    }
+
+    /**
+     *
+     * @param resources the map of request paths to resource names relative to {@code META-INF/resources}
+     * @param contentTypes the map of resource names to content types
+     * @param classLoader
+     * @param tempDirectory the directory used to store the resources that are not available in the file system
+     * @return the handler
+     */
+    static StaticResourceHandler create(Map<String, String> resources, Map<String, String> contentTypes,
+            ClassLoader classLoader, TempDirectory tempDirectory) {
+        Map<String, Entry> byResource = new HashMap<>();
+        Map<String, Entry> entries = new HashMap<>();
+        for (Map.Entry<String, String> mapping : resources.entrySet()) {
+            String resource = mapping.getValue();
+            Entry entry = byResource.get(resource);
+            if (entry == null && !byResource.containsKey(resource)) {
+                try {
+                    entry = index(resource, contentTypes.get(resource), classLoader, tempDirectory);
+                } catch (IOException | URISyntaxException e) {
+                    log.debugf(e, "Unable to index static resource %s, it will be served by the servlet container",
+                            resource);
+                }
+                byResource.put(resource, entry);
+            }
+            if (entry != null) {
+                entries.put(mapping.getKey(), entry);
+            }
+        }
+        log.debugf("Static resources served without the servlet container: %s", entries.keySet());
+        return new StaticResourceHandler(entries);
+    }
+
+    private static Entry index(String resource, String contentType, ClassLoader classLoader, TempDirectory tempDirectory)
+            throws IOException, URISyntaxException {
+        URL url = classLoader.getResource(META_INF_RESOURCES + resource);
+        if (url == null) {
+            return null;
+        }
+        URLConnection connection = url.openConnection();
+        long lastModified = connection.getLastModified();
+        Date lastModifiedDate = new Date(lastModified > 0 ? lastModified : System.currentTimeMillis());
+
+        CRC32 crc = new CRC32();
+        ByteArrayOutputStream inMemory = new ByteArrayOutputStream();
+        Path file = null;
+        OutputStream out = inMemory;
+        long length = 0;
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buf = new byte[8192];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                crc.update(buf, 0, r);
+                length += r;
+                if (file == null && length > MAX_IN_MEMORY_SIZE) {
+                    // Too large to be kept in memory
+                    if ("file".equals(url.getProtocol())) {
+                        file = Paths.get(url.toURI());
+                        out = null;
+                    } else {
+                        file = tempDirectory.newFile(resource);
+                        out = Files.newOutputStream(file);
+                        inMemory.writeTo(out);
+                    }
+                    inMemory = null;
+                }
+                if (out != null) {
+                    out.write(buf, 0, r);
+                }
+            }
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+        }
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + length + "\"";
+        Entry entry = new Entry(contentType, lastModifiedDate, etag, length,
+                inMemory != null ? toBuffer(inMemory) : null,
+                file != null ? file.toAbsolutePath().toString() : null);
+
+        if (length >= MIN_COMPRESSED_SIZE && isCompressible(contentType)) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (InputStream in = file != null ? Files.newInputStream(file) : url.openStream();
+                    GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                byte[] buf = new byte[8192];
+                int r;
+                while ((r = in.read(buf)) > 0) {
+                    gzip.write(buf, 0, r);
+                }
+            }
+            if (compressed.size() < length) {
+                String gzippedEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+                if (compressed.size() <= MAX_IN_MEMORY_SIZE) {
+                    entry.gzipped = new Entry(contentType, lastModifiedDate, gzippedEtag, compressed.size(),
+                            toBuffer(compressed), null);
+                } else {
+                    Path gzipped = tempDirectory.newFile(resource + ".gz");
+                    try (OutputStream gzippedOut = Files.newOutputStream(gzipped)) {
+                        compressed.writeTo(gzippedOut);
+                    }
+                    entry.gzipped = new Entry(contentType, lastModifiedDate, gzippedEtag, compressed.size(), null,
+                            gzipped.toAbsolutePath().toString());
+                }
+            }
+        }
+        return entry;
+    }
+
+    private static Buffer toBuffer(ByteArrayOutputStream out) {
+        // The content is written many times and never released
+        return Buffer.buffer(Unpooled.directBuffer(out.size()).writeBytes(out.toByteArray()));
+    }
+
+    static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        return contentType.startsWith("text/") || contentType.startsWith("application/javascript")
+                || contentType.startsWith("application/json") || contentType.startsWith("application/xml")
+                || contentType.startsWith("image/svg+xml");
+    }
+
+    static final class Entry {
+
+        final String contentType;
+        final Date lastModified;
+        final String lastModifiedString;
+        final String etag;
+        final long length;
+        // Either the content or the file is set
+        final Buffer content;
+        final String file;
+        // The compressed variant if available
+        Entry gzipped;
+
+        Entry(String contentType, Date lastModified, String etag, long length, Buffer content, String file) {
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+            this.lastModifiedString = DateUtils.toDateString(lastModified);
+            this.etag = etag;
+            this.length = length;
+            this.content = content;
+            this.file = file;
+        }
+
+    }
+
+    /**
+     * Lazily creates the directory used to store the resources that must be served with {@code sendFile()} but are not
+     * available in the file system, e.g. the resources packaged in a jar.
+     */
+    static final class TempDirectory {
+
+        private Path directory;
+
+        Path newFile(String resource) throws IOException {
+            if (directory == null) {
+                directory = Files.createTempDirectory("quarkus-undertow-static");
+            }
+            Path file = directory.resolve(resource);
+            Files.createDirectories(file.getParent());
+            return file;
+        }
+
+        void delete() {
+            if (directory == null) {
+                return;
+            }
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        Files.delete(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                        Files.delete(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                log.debugf(e, "Unable to delete %s", directory);
+            }
+        }
+
+    }
+
+}
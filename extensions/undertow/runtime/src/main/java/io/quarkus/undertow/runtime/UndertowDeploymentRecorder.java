@@ -9,6 +9,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -34,6 +35,7 @@ import org.jboss.logging.Logger;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
@@ -48,6 +50,7 @@ import io.quarkus.security.ForbiddenException;
 import io.quarkus.security.UnauthorizedException;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
@@ -68,9 +71,11 @@ import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.PathResourceManager;
 import io.undertow.server.handlers.resource.ResourceManager;
 import io.undertow.server.session.SessionIdGenerator;
+import io.undertow.server.session.SessionManager;
 import io.undertow.servlet.ServletExtension;
 import io.undertow.servlet.Servlets;
 import io.undertow.servlet.api.ClassIntrospecter;
+import io.undertow.servlet.api.Deployment;
 import io.undertow.servlet.api.DeploymentInfo;
 import io.undertow.servlet.api.DeploymentManager;
 import io.undertow.servlet.api.ErrorPage;
@@ -88,6 +93,7 @@ import io.undertow.servlet.api.ServletContainerInitializerInfo;
 import io.undertow.servlet.api.ServletInfo;
 import io.undertow.servlet.api.ServletSecurityInfo;
 import io.undertow.servlet.api.ServletSessionConfig;
+import io.undertow.servlet.api.SessionManagerFactory;
 import io.undertow.servlet.api.ThreadSetupHandler;
 import io.undertow.servlet.api.TransportGuaranteeType;
 import io.undertow.servlet.api.WebResourceCollection;
@@ -156,7 +162,7 @@ public class UndertowDeploymentRecorder {
     public RuntimeValue<DeploymentInfo> createDeployment(String name, Set<String> knownFile, Set<String> knownDirectories,
             LaunchMode launchMode, ShutdownContext context, String contextPath, String httpRootPath, String defaultCharset,
             String requestCharacterEncoding, String responseCharacterEncoding, boolean proactiveAuth,
-            List<String> welcomeFiles) {
+            List<String> welcomeFiles, boolean offHeapSessions) {
         String realMountPoint;
         if (contextPath.equals("/")) {
             realMountPoint = httpRootPath;
@@ -171,6 +177,15 @@ public class UndertowDeploymentRecorder {
         d.setDefaultResponseEncoding(responseCharacterEncoding);
         d.setDefaultEncoding(defaultCharset);
         d.setSessionIdGenerator(new QuarkusSessionIdGenerator());
+        if (offHeapSessions) {
+            d.setSessionManagerFactory(new SessionManagerFactory() {
+                @Override
+                public SessionManager createSessionManager(Deployment deployment) {
+                    DeploymentInfo info = deployment.getDeploymentInfo();
+                    return new OffHeapSessionManager(info.getSessionIdGenerator(), info.getDeploymentName());
+                }
+            });
+        }
         d.setClassLoader(getClass().getClassLoader());
         d.setDeploymentName(name);
         d.setContextPath(realMountPoint);
@@ -335,6 +350,22 @@ public class UndertowDeploymentRecorder {
         info.getValue().addInitParameter(name, value);
     }
 
+    /**
+     * The session manager is created when the servlet container is booted, i.e. during static init, so the runtime config
+     * must be applied later.
+     */
+    public void configureOffHeapSessions(DeploymentManager manager, ServletRuntimeConfig servletRuntimeConfig,
+            ExecutorService executorService) {
+        SessionManager sessionManager = manager.getDeployment().getSessionManager();
+        if (!(sessionManager instanceof OffHeapSessionManager)) {
+            return;
+        }
+        io.quarkus.arc.InstanceHandle<SessionStore> store = Arc.container().instance(SessionStore.class);
+        ((OffHeapSessionManager) sessionManager).configure(servletRuntimeConfig.sessions.maxMemory.asLongValue(),
+                servletRuntimeConfig.sessions.writeBehindInterval, store.isAvailable() ? store.get() : null,
+                VertxCoreRecorder.getVertx().get(), executorService);
+    }
+
     public void setupSecurity(DeploymentManager manager) {
 
         CDI.current().select(ServletHttpSecurityPolicy.class).get().setDeployment(manager.getDeployment());
@@ -405,6 +436,22 @@ public class UndertowDeploymentRecorder {
         };
     }
 
+    public Handler<RoutingContext> staticResourceHandler(Map<String, String> resources, Map<String, String> contentTypes,
+            ShutdownContext shutdown) {
+        StaticResourceHandler.TempDirectory tempDirectory = new StaticResourceHandler.TempDirectory();
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                tempDirectory.delete();
+            }
+        });
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl == null) {
+            cl = getClass().getClassLoader();
+        }
+        return StaticResourceHandler.create(resources, contentTypes, cl, tempDirectory);
+    }
+
     public static void addHotDeploymentWrapper(HandlerWrapper handlerWrapper) {
         hotDeploymentWrappers.add(handlerWrapper);
     }
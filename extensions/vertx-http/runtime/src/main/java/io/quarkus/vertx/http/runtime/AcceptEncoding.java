@@ -0,0 +1,53 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * Content negotiation based on the {@code Accept-Encoding} request header.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * An explicit {@code gzip} coding takes precedence over the {@code *} wildcard, a coding with a {@code q} value of
+     * {@code 0} is not acceptable.
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @return whether the response may be compressed with gzip
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        float gzip = -1;
+        float any = -1;
+        for (String value : acceptEncoding.split(",")) {
+            int paramsIdx = value.indexOf(';');
+            String coding = (paramsIdx == -1 ? value : value.substring(0, paramsIdx)).trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality(value, paramsIdx));
+            } else if (coding.equals("*")) {
+                any = Math.max(any, quality(value, paramsIdx));
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    private static float quality(String value, int paramsIdx) {
+        if (paramsIdx == -1) {
+            return 1;
+        }
+        for (String param : value.substring(paramsIdx + 1).split(";")) {
+            int eqIdx = param.indexOf('=');
+            if (eqIdx != -1 && param.substring(0, eqIdx).trim().equalsIgnoreCase("q")) {
+                try {
+                    float q = Float.parseFloat(param.substring(eqIdx + 1).trim());
+                    return q >= 0 && q <= 1 ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
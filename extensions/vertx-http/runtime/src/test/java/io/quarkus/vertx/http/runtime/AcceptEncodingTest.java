@@ -0,0 +1,38 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class AcceptEncodingTest {
+
+    @Test
+    public void gzip_should_be_accepted() {
+        assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("deflate, GZIP"));
+        assertTrue(AcceptEncoding.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(AcceptEncoding.acceptsGzip("gzip; level=1; q=0.5"));
+        assertTrue(AcceptEncoding.acceptsGzip("*"));
+        assertTrue(AcceptEncoding.acceptsGzip("identity, *;q=0.1"));
+    }
+
+    @Test
+    public void gzip_should_not_be_accepted() {
+        assertFalse(AcceptEncoding.acceptsGzip(null));
+        assertFalse(AcceptEncoding.acceptsGzip(""));
+        assertFalse(AcceptEncoding.acceptsGzip("identity"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzipped, deflate"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0.000"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=invalid"));
+        assertFalse(AcceptEncoding.acceptsGzip("*;q=0"));
+    }
+
+    @Test
+    public void explicit_gzip_should_take_precedence_over_wildcard() {
+        assertFalse(AcceptEncoding.acceptsGzip("*, gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0, *;q=1"));
+        assertTrue(AcceptEncoding.acceptsGzip("*;q=0, gzip"));
+    }
+}
@@ -13,6 +13,8 @@ import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.jandex.DotName;
 
+import com.fasterxml.jackson.databind.ObjectReader;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
@@ -68,8 +70,6 @@ class Methods {
             .ofMethod(RoutingContext.class, "getBodyAsJson", JsonObject.class);
     static final MethodDescriptor GET_BODY_AS_JSON_ARRAY = MethodDescriptor
             .ofMethod(RoutingContext.class, "getBodyAsJsonArray", JsonArray.class);
-    static final MethodDescriptor JSON_OBJECT_MAP_TO = MethodDescriptor
-            .ofMethod(JsonObject.class, "mapTo", Object.class, Class.class);
     static final MethodDescriptor REQUEST_PARAMS = MethodDescriptor
             .ofMethod(HttpServerRequest.class, "params", MultiMap.class);
     static final MethodDescriptor REQUEST_HEADERS = MethodDescriptor
@@ -164,6 +164,10 @@ class Methods {
 
     static final MethodDescriptor ROUTE_HANDLERS_SET_CONTENT_TYPE = MethodDescriptor
             .ofMethod(RouteHandlers.class, "setContentType", void.class, RoutingContext.class, String.class);
+    static final MethodDescriptor ROUTE_HANDLERS_BODY_READER = MethodDescriptor
+            .ofMethod(RouteHandlers.class, "bodyReader", ObjectReader.class, Class.class);
+    static final MethodDescriptor ROUTE_HANDLERS_READ_BODY = MethodDescriptor
+            .ofMethod(RouteHandlers.class, "readBody", Object.class, RoutingContext.class, ObjectReader.class);
 
     static final MethodDescriptor OPTIONAL_OF_NULLABLE = MethodDescriptor
             .ofMethod(Optional.class, "ofNullable", Optional.class, Object.class);
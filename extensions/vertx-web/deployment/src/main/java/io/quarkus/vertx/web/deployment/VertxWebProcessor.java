@@ -8,6 +8,7 @@ import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,11 +40,14 @@ import org.jboss.jandex.Type;
 import org.jboss.jandex.Type.Kind;
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.databind.ObjectReader;
+
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.deployment.AutoAddScopeBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
+import io.quarkus.arc.deployment.SynthesisFinishedBuildItem;
 import io.quarkus.arc.deployment.TransformedAnnotationsBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
@@ -54,6 +58,7 @@ import io.quarkus.arc.processor.Annotations;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
@@ -77,6 +82,7 @@ import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.FunctionCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -86,6 +92,7 @@ import io.quarkus.gizmo.WhileLoop;
 import io.quarkus.hibernate.validator.spi.BeanValidationAnnotationsBuildItem;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.vertx.deployment.RequestContextAnalysis;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
@@ -95,8 +102,10 @@ import io.quarkus.vertx.http.deployment.devmode.NotFoundPageDisplayableEndpointB
 import io.quarkus.vertx.http.deployment.devmode.RouteDescriptionBuildItem;
 import io.quarkus.vertx.http.runtime.HandlerType;
 import io.quarkus.vertx.web.Param;
+import io.quarkus.vertx.web.ReactiveRoutes;
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.RouteFilter;
+import io.quarkus.vertx.web.RoutingExchange;
 import io.quarkus.vertx.web.runtime.RouteHandler;
 import io.quarkus.vertx.web.runtime.RouteMatcher;
 import io.quarkus.vertx.web.runtime.RoutingExchangeImpl;
@@ -128,6 +137,10 @@ class VertxWebProcessor {
 
     private static final List<ParameterInjector> PARAM_INJECTORS = initParamInjectors();
 
+    // Classes from these packages never use the request context
+    private static final List<String> REQUEST_CONTEXT_SAFE_PACKAGES = Arrays.asList("io.vertx.",
+            RoutingExchange.class.getName(), ReactiveRoutes.class.getName());
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.VERTX_WEB);
@@ -228,7 +241,8 @@ class VertxWebProcessor {
             BuildProducer<RouteDescriptionBuildItem> descriptions,
             Capabilities capabilities,
             Optional<BeanValidationAnnotationsBuildItem> beanValidationAnnotations,
-            ApplicationIndexBuildItem applicationIndex) {
+            ApplicationIndexBuildItem applicationIndex,
+            SynthesisFinishedBuildItem synthesisFinished) {
 
         Predicate<String> appClassPredicate = new Predicate<String>() {
             @Override
@@ -242,6 +256,9 @@ class VertxWebProcessor {
         IndexView index = beanArchive.getIndex();
         Map<RouteMatcher, MethodInfo> matchers = new HashMap<>();
         boolean validatorAvailable = capabilities.isPresent(Capability.HIBERNATE_VALIDATOR);
+        RequestContextAnalysis requestContextAnalysis = new RequestContextAnalysis(applicationIndex.getIndex(),
+                REQUEST_CONTEXT_SAFE_PACKAGES);
+        boolean securityIdentityObserved = isSecurityIdentityObserved(synthesisFinished.getObservers());
 
         for (AnnotatedRouteHandlerBuildItem businessMethod : routeHandlerBusinessMethods) {
             AnnotationInstance routeBaseAnnotation = businessMethod.getRouteBase();
@@ -368,7 +385,9 @@ class VertxWebProcessor {
                                     handlerType),
                             businessMethod.getBean(), businessMethod.getMethod(), classOutput, transformedAnnotations,
                             routeString, reflectiveHierarchy, produces.length > 0 ? produces[0] : null,
-                            validatorAvailable, index);
+                            validatorAvailable, index,
+                            securityIdentityObserved
+                                    || requestContextAnalysis.requiresRequestContext(businessMethod.getBean()));
                     reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
                     routeHandler = recorder.createHandler(handlerClass);
                     routeHandlers.put(routeString, routeHandler);
@@ -400,7 +419,8 @@ class VertxWebProcessor {
             String handlerClass = generateHandler(
                     new HandlerDescriptor(filterMethod.getMethod(), beanValidationAnnotations.orElse(null), HandlerType.NORMAL),
                     filterMethod.getBean(), filterMethod.getMethod(), classOutput, transformedAnnotations,
-                    filterMethod.getRouteFilter().toString(true), reflectiveHierarchy, null, validatorAvailable, index);
+                    filterMethod.getRouteFilter().toString(true), reflectiveHierarchy, null, validatorAvailable, index,
+                    securityIdentityObserved || requestContextAnalysis.requiresRequestContext(filterMethod.getBean()));
             reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
             Handler<RoutingContext> routingHandler = recorder.createHandler(handlerClass);
             AnnotationValue priorityValue = filterMethod.getRouteFilter().value();
@@ -516,7 +536,7 @@ class VertxWebProcessor {
     private String generateHandler(HandlerDescriptor desc, BeanInfo bean, MethodInfo method, ClassOutput classOutput,
             TransformedAnnotationsBuildItem transformedAnnotations, String hashSuffix,
             BuildProducer<ReflectiveHierarchyBuildItem> reflectiveHierarchy, String defaultProduces,
-            boolean validatorAvailable, IndexView index) {
+            boolean validatorAvailable, IndexView index, boolean requiresRequestContext) {
 
         if (desc.requireValidation() && !validatorAvailable) {
             throw new IllegalStateException(
@@ -565,17 +585,34 @@ class VertxWebProcessor {
                     .setModifiers(ACC_PUBLIC | ACC_FINAL);
         }
 
-        implementConstructor(bean, invokerCreator, beanField, contextField, containerField, validatorField);
+        // The body readers are created once and shared by all invocations
+        Map<Integer, FieldCreator> bodyReaderFields = new HashMap<>();
+        for (int i = 0; i < method.parameters().size(); i++) {
+            if (isBodyDecodedWithReader(method.parameters().get(i),
+                    Annotations.getParameterAnnotations(transformedAnnotations, method, i))) {
+                bodyReaderFields.put(i, invokerCreator.getFieldCreator(bodyReaderFieldName(i), ObjectReader.class)
+                        .setModifiers(ACC_PRIVATE | ACC_FINAL));
+            }
+        }
+
+        implementConstructor(bean, method, invokerCreator, beanField, contextField, containerField, validatorField,
+                bodyReaderFields);
         implementInvoke(desc, bean, method, invokerCreator, beanField, contextField, containerField, validatorField,
                 transformedAnnotations, reflectiveHierarchy, defaultProduces, index);
 
+        if (!requiresRequestContext && !desc.requireValidation() && !desc.isProducedResponseValidated()) {
+            MethodCreator requiresRequestContextMethod = invokerCreator.getMethodCreator("requiresRequestContext",
+                    boolean.class);
+            requiresRequestContextMethod.returnValue(requiresRequestContextMethod.load(false));
+        }
+
         invokerCreator.close();
         return generatedName.replace('/', '.');
     }
 
-    void implementConstructor(BeanInfo bean, ClassCreator invokerCreator, FieldCreator beanField,
-            FieldCreator contextField,
-            FieldCreator containerField, FieldCreator validatorField) {
+    void implementConstructor(BeanInfo bean, MethodInfo method, ClassCreator invokerCreator, FieldCreator beanField,
+            FieldCreator contextField, FieldCreator containerField, FieldCreator validatorField,
+            Map<Integer, FieldCreator> bodyReaderFields) {
         MethodCreator constructor = invokerCreator.getMethodCreator("<init>", void.class);
         // Invoke super()
         constructor.invokeSpecialMethod(Methods.ROUTE_HANDLER_CONSTRUCTOR, constructor.getThis());
@@ -603,6 +640,12 @@ class VertxWebProcessor {
                     constructor.invokeStaticMethod(Methods.VALIDATION_GET_VALIDATOR, containerHandle));
         }
 
+        for (Entry<Integer, FieldCreator> entry : bodyReaderFields.entrySet()) {
+            constructor.writeInstanceField(entry.getValue().getFieldDescriptor(), constructor.getThis(),
+                    constructor.invokeStaticMethod(Methods.ROUTE_HANDLERS_BODY_READER,
+                            constructor.loadClass(method.parameters().get(entry.getKey()).name().toString())));
+        }
+
         constructor.returnValue(null);
     }
 
@@ -1262,17 +1305,12 @@ class VertxWebProcessor {
                                     ResultHandle routingContext, MethodCreator invoke, int position,
                                     BuildProducer<ReflectiveHierarchyBuildItem> reflectiveHierarchy) {
                                 registerForReflection(paramType, reflectiveHierarchy);
-                                AssignableResultHandle ret = invoke.createVariable(Object.class);
-                                ResultHandle bodyAsJson = invoke.invokeInterfaceMethod(Methods.GET_BODY_AS_JSON,
-                                        routingContext);
-                                BranchResult bodyIfNotNull = invoke.ifNotNull(bodyAsJson);
-                                BytecodeCreator bodyNotNull = bodyIfNotNull.trueBranch();
-                                bodyNotNull.assign(ret, bodyNotNull.invokeVirtualMethod(Methods.JSON_OBJECT_MAP_TO,
-                                        bodyAsJson,
-                                        invoke.loadClass(paramType.name().toString())));
-                                BytecodeCreator bodyNull = bodyIfNotNull.falseBranch();
-                                bodyNull.assign(ret, bodyNull.loadNull());
-                                return ret;
+                                // Decode the body directly from the buffer with the reader created in the constructor
+                                ResultHandle reader = invoke.readInstanceField(
+                                        FieldDescriptor.of(invoke.getMethodDescriptor().getDeclaringClass(),
+                                                bodyReaderFieldName(position), ObjectReader.class),
+                                        invoke.getThis());
+                                return invoke.invokeStaticMethod(Methods.ROUTE_HANDLERS_READ_BODY, routingContext, reader);
                             }
                         }).build());
 
@@ -1296,6 +1334,48 @@ class VertxWebProcessor {
         return injectors;
     }
 
+    private static boolean isBodyDecodedWithReader(Type paramType, Set<AnnotationInstance> paramAnnotations) {
+        if (!Annotations.contains(paramAnnotations, DotNames.BODY)) {
+            return false;
+        }
+        DotName name = paramType.name();
+        return !name.equals(io.quarkus.arc.processor.DotNames.STRING) && !name.equals(DotNames.BUFFER)
+                && !name.equals(DotNames.JSON_OBJECT) && !name.equals(DotNames.JSON_ARRAY);
+    }
+
+    private static String bodyReaderFieldName(int position) {
+        return "bodyReader" + position;
+    }
+
+    private static boolean isSecurityIdentityObserved(Collection<ObserverInfo> observers) {
+        for (ObserverInfo observer : observers) {
+            if (!hasDefaultQualifiers(observer)) {
+                // The event is fired without qualifiers
+                continue;
+            }
+            Type observedType = observer.getObservedType();
+            if (observedType.kind() != Kind.CLASS && observedType.kind() != Kind.PARAMETERIZED_TYPE) {
+                // Type variables, wildcards, etc.
+                return true;
+            }
+            if (observedType.name().equals(DotNames.SECURITY_IDENTITY)
+                    || observedType.name().equals(io.quarkus.arc.processor.DotNames.OBJECT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasDefaultQualifiers(ObserverInfo observer) {
+        for (AnnotationInstance qualifier : observer.getQualifiers()) {
+            if (!qualifier.name().equals(io.quarkus.arc.processor.DotNames.DEFAULT)
+                    && !qualifier.name().equals(io.quarkus.arc.processor.DotNames.ANY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static IllegalStateException parameterNameNotAvailable(int position, MethodInfo method) {
         return new IllegalStateException(
                 "Unable to determine the name of the parameter at position " + position + " in method "
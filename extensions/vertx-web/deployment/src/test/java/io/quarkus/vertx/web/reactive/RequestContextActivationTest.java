@@ -0,0 +1,103 @@
+package io.quarkus.vertx.web.reactive;
+
+import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.Body;
+import io.quarkus.vertx.web.Param;
+import io.quarkus.vertx.web.Route;
+import io.vertx.core.http.HttpMethod;
+
+public class RequestContextActivationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(PlainRoutes.class, ScopedRoutes.class, Greeting.class, Ping.class,
+                            RequestObserver.class));
+
+    @Test
+    public void testActivation() {
+        RequestObserver.ACTIVATIONS.set(0);
+        get("/plain?name=foo").then().statusCode(200).body(is("Hello foo!"));
+        given().contentType("application/json").body("{\"name\":\"bar\"}").post("/plain-body").then().statusCode(200)
+                .body(is("Hello bar!"));
+        // The request context is not needed
+        assertEquals(0, RequestObserver.ACTIVATIONS.get());
+
+        get("/scoped").then().statusCode(200).body(is("pong"));
+        assertEquals(1, RequestObserver.ACTIVATIONS.get());
+    }
+
+    @Singleton
+    static class PlainRoutes {
+
+        @Route(path = "plain")
+        String plain(@Param String name) {
+            return "Hello " + name + "!";
+        }
+
+        @Route(path = "plain-body", methods = HttpMethod.POST)
+        String plainBody(@Body Greeting greeting) {
+            return "Hello " + greeting.name + "!";
+        }
+
+    }
+
+    @Singleton
+    static class ScopedRoutes {
+
+        @Inject
+        Ping ping;
+
+        @Route(path = "scoped")
+        String scoped() {
+            return ping.pong();
+        }
+
+    }
+
+    public static class Greeting {
+
+        public String name;
+
+    }
+
+    @RequestScoped
+    static class Ping {
+
+        String pong() {
+            return "pong";
+        }
+
+    }
+
+    @ApplicationScoped
+    static class RequestObserver {
+
+        static final AtomicInteger ACTIVATIONS = new AtomicInteger();
+
+        void onActivation(@Observes @Initialized(RequestScoped.class) Object event) {
+            ACTIVATIONS.incrementAndGet();
+        }
+
+    }
+
+}
@@ -17,7 +17,7 @@ import io.vertx.ext.web.RoutingContext;
  * <li>{@link RoutingContext#getBodyAsString()} for type {@link String}</li>
  * <li>{@link RoutingContext#getBodyAsJson()} for type {@link JsonObject}</li>
  * <li>{@link RoutingContext#getBodyAsJsonArray()} for type {@link JsonArray}</li>
- * <li>{@link RoutingContext#getBodyAsJson()} and {@link JsonObject#mapTo(Class)} for any other type</li>
+ * <li>{@link RoutingContext#getBody()} decoded with the Vert.x JSON mapper for any other type</li>
  * </ul>
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -42,8 +42,23 @@ public abstract class RouteHandler implements Handler<RoutingContext> {
      */
     public abstract void invoke(RoutingContext context);
 
+    /**
+     * The request context is not activated and the current identity is not associated with the request if the route method
+     * does not need them, i.e. it's proven at build time that the route bean and all its dependencies never use the request
+     * context and there are no observers of the {@link SecurityIdentity} event.
+     *
+     * @return {@code true} if the request context and the current identity are needed, {@code false} otherwise
+     */
+    public boolean requiresRequestContext() {
+        return true;
+    }
+
     @Override
     public void handle(RoutingContext context) {
+        if (!requiresRequestContext()) {
+            invoke(context);
+            return;
+        }
         QuarkusHttpUser user = (QuarkusHttpUser) context.user();
         //todo: how should we handle non-proactive authentication here?
         if (requestContext.isActive()) {
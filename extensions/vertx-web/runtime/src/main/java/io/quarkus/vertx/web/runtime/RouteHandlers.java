@@ -1,7 +1,16 @@
 package io.quarkus.vertx.web.runtime;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.ext.web.RoutingContext;
 
 public final class RouteHandlers {
@@ -29,4 +38,34 @@ public final class RouteHandlers {
         });
     }
 
+    /**
+     *
+     * @param type
+     * @return the reader used to decode a request body of the given type
+     */
+    public static ObjectReader bodyReader(Class<?> type) {
+        return DatabindCodec.mapper().readerFor(type);
+    }
+
+    /**
+     * Decodes the request body directly from the buffer, i.e. without the intermediate {@link io.vertx.core.json.JsonObject}.
+     *
+     * @param context
+     * @param reader
+     * @return the decoded body or {@code null} if there is no body
+     * @see RoutingContext#getBodyAsJson()
+     */
+    public static Object readBody(RoutingContext context, ObjectReader reader) {
+        Buffer body = context.getBody();
+        // Consistent with RoutingContext.getBodyAsJson()
+        if (body == null || body.length() <= 1) {
+            return null;
+        }
+        try (InputStream stream = new ByteBufInputStream(body.getByteBuf())) {
+            return reader.readValue(stream);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode the request body: " + e.getMessage(), e);
+        }
+    }
+
 }
@@ -53,7 +53,8 @@ public class EventBusCodecProcessor {
 
             MethodInfo method = typeTarget.asMethod();
             Type codecTargetFromReturnType = extractPayloadTypeFromReturn(method);
-            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method);
+            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method,
+                    EventBusConsumer.isBatch(consumeEventAnnotationInstance));
 
             // If the @ConsumeEvent set the codec, use this codec. It applies to the parameter
             AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
@@ -141,12 +142,19 @@ public class EventBusCodecProcessor {
         return null;
     }
 
-    private static Type extractPayloadTypeFromParameter(MethodInfo method) {
+    private static Type extractPayloadTypeFromParameter(MethodInfo method, boolean batch) {
         List<Type> parameters = method.parameters();
         if (parameters.isEmpty()) {
             return null;
         }
         Type param = method.parameters().get(0);
+        if (batch) {
+            // Batch consumers accept a list of payloads or messages
+            if (param.kind() != Type.Kind.PARAMETERIZED_TYPE || param.asParameterizedType().arguments().isEmpty()) {
+                return null;
+            }
+            param = param.asParameterizedType().arguments().get(0);
+        }
         if (param.kind() == Type.Kind.CLASS) {
             return param;
         } else if (param.kind() == Type.Kind.PARAMETERIZED_TYPE) {
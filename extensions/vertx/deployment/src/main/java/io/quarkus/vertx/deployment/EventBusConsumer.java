@@ -7,6 +7,7 @@ import static io.quarkus.vertx.deployment.VertxConstants.UNI;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
@@ -32,6 +33,7 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.vertx.runtime.EventConsumerBatchInvoker;
 import io.quarkus.vertx.runtime.EventConsumerInvoker;
 import io.smallrye.common.annotation.Blocking;
 import io.smallrye.mutiny.Uni;
@@ -43,6 +45,8 @@ class EventBusConsumer {
 
     private static final MethodDescriptor INVOKER_CONSTRUCTOR = MethodDescriptor
             .ofConstructor(EventConsumerInvoker.class);
+    private static final MethodDescriptor BATCH_INVOKER_CONSTRUCTOR = MethodDescriptor
+            .ofConstructor(EventConsumerBatchInvoker.class);
     private static final MethodDescriptor ARC_CONTAINER = MethodDescriptor
             .ofMethod(Arc.class, "container", ArcContainer.class);
     private static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get",
@@ -68,10 +72,14 @@ class EventBusConsumer {
             .ofMethod(Throwable.class, "getMessage", String.class);
     protected static final MethodDescriptor THROWABLE_TO_STRING = MethodDescriptor
             .ofMethod(Throwable.class, "toString", String.class);
+    private static final MethodDescriptor BATCH_INVOKER_BODIES = MethodDescriptor.ofMethod(EventConsumerBatchInvoker.class,
+            "bodies", List.class, List.class);
+    private static final MethodDescriptor BATCH_INVOKER_MUTINY_MESSAGES = MethodDescriptor.ofMethod(
+            EventConsumerBatchInvoker.class, "mutinyMessages", List.class, List.class);
     protected static final DotName BLOCKING = DotName.createSimple(Blocking.class.getName());
 
     static String generateInvoker(BeanInfo bean, MethodInfo method,
-            AnnotationInstance consumeEvent,
+            AnnotationInstance consumeEvent, boolean requiresRequestContext,
             ClassOutput classOutput) {
 
         String baseName;
@@ -95,8 +103,9 @@ class EventBusConsumer {
         AnnotationValue blockingValue = consumeEvent.value("blocking");
         blocking = method.hasAnnotation(BLOCKING) || (blockingValue != null && blockingValue.asBoolean());
 
+        boolean batch = isBatch(consumeEvent);
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .superClass(EventConsumerInvoker.class).build();
+                .superClass(batch ? EventConsumerBatchInvoker.class : EventConsumerInvoker.class).build();
 
         // Initialized state
         FieldCreator beanField = invokerCreator.getFieldCreator("bean", InjectableBean.class)
@@ -109,18 +118,29 @@ class EventBusConsumer {
             isBlocking.returnValue(isBlocking.load(true));
         }
 
-        implementConstructor(bean, invokerCreator, beanField, containerField);
-        implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(), containerField.getFieldDescriptor());
+        if (!requiresRequestContext) {
+            MethodCreator requires = invokerCreator.getMethodCreator("requiresRequestContext", boolean.class);
+            requires.returnValue(requires.load(false));
+        }
+
+        implementConstructor(bean, invokerCreator, beanField, containerField,
+                batch ? BATCH_INVOKER_CONSTRUCTOR : INVOKER_CONSTRUCTOR);
+        if (batch) {
+            implementInvokeBatch(bean, method, invokerCreator, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        } else {
+            implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(), containerField.getFieldDescriptor());
+        }
 
         invokerCreator.close();
         return generatedName.replace('/', '.');
     }
 
     static void implementConstructor(BeanInfo bean, ClassCreator invokerCreator, FieldCreator beanField,
-            FieldCreator containerField) {
+            FieldCreator containerField, MethodDescriptor superConstructor) {
         MethodCreator constructor = invokerCreator.getMethodCreator("<init>", void.class);
         // Invoke super()
-        constructor.invokeSpecialMethod(INVOKER_CONSTRUCTOR, constructor.getThis());
+        constructor.invokeSpecialMethod(superConstructor, constructor.getThis());
 
         ResultHandle containerHandle = constructor
                 .invokeStaticMethod(ARC_CONTAINER);
@@ -195,6 +215,59 @@ class EventBusConsumer {
         invoke.returnValue(result);
     }
 
+    private static void implementInvokeBatch(BeanInfo bean, MethodInfo method, ClassCreator invokerCreator,
+            FieldDescriptor beanField,
+            FieldDescriptor containerField) {
+
+        // The method descriptor is: void invokeBean(List messages)
+        MethodCreator invoke = invokerCreator.getMethodCreator("invokeBean", void.class, List.class)
+                .addException(Exception.class);
+
+        ResultHandle containerHandle = invoke.readInstanceField(containerField, invoke.getThis());
+        ResultHandle beanHandle = invoke.readInstanceField(beanField, invoke.getThis());
+        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
+                beanHandle);
+        ResultHandle beanInstanceHandle = invoke.invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        ResultHandle messagesHandle = invoke.getMethodParam(0);
+
+        DotName elementType = batchElementType(method);
+        if (elementType.equals(MUTINY_MESSAGE)) {
+            // List of io.vertx.mutiny.core.eventbus.Message
+            messagesHandle = invoke.invokeStaticMethod(BATCH_INVOKER_MUTINY_MESSAGES, messagesHandle);
+        } else if (!elementType.equals(MESSAGE)) {
+            // List of payloads
+            messagesHandle = invoke.invokeStaticMethod(BATCH_INVOKER_BODIES, messagesHandle);
+        }
+        invoke.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class, List.class),
+                beanInstanceHandle, messagesHandle);
+
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+        invoke.returnValue(null);
+    }
+
+    /**
+     *
+     * @param method
+     * @return the name of the type argument of the {@code List} parameter of a batch consumer, or {@link DotNames#OBJECT}
+     *         for a raw {@code List}
+     */
+    private static DotName batchElementType(MethodInfo method) {
+        Type paramType = method.parameters().get(0);
+        if (paramType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return DotNames.OBJECT;
+        }
+        return paramType.asParameterizedType().arguments().get(0).name();
+    }
+
+    static boolean isBatch(AnnotationInstance consumeEvent) {
+        AnnotationValue batchSize = consumeEvent.value("batchSize");
+        return batchSize != null && batchSize.asInt() > 0;
+    }
+
     private EventBusConsumer() {
         // Avoid direct instantiation.
     }
@@ -0,0 +1,322 @@
+package io.quarkus.vertx.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.gizmo.Gizmo;
+import io.quarkus.vertx.runtime.VertxProducer;
+
+/**
+ * Finds out whether an event consumer or any other bean invoked by the Vert.x extensions may need the CDI request context.
+ * <p>
+ * The analysis is conservative, i.e. the request context is not needed only if it can be proven at build time. All the beans
+ * reachable from the consumer bean must be non-intercepted application class beans with a built-in scope other than
+ * {@code @RequestScoped}. Furthermore, the application classes reachable from these beans may only reference classes from the
+ * JDK and from the packages that never use the request context. Therefore, programmatic lookups, e.g. via {@code Arc} or
+ * {@code CDI.current()}, and static helpers that use request-scoped beans behind the scenes, e.g. Panache entities, are
+ * detected.
+ */
+public class RequestContextAnalysis {
+
+    private static final Logger LOGGER = Logger.getLogger(RequestContextAnalysis.class.getName());
+
+    private static final DotName CONFIG_PROPERTY = DotName
+            .createSimple("org.eclipse.microprofile.config.inject.ConfigProperty");
+
+    private static final DotName VERTX_PRODUCER = DotName.createSimple(VertxProducer.class.getName());
+
+    // Classes from these packages never use the request context
+    private static final List<String> SAFE_PACKAGES = Arrays.asList("java.", "io.vertx.core.", "io.vertx.mutiny.core.",
+            "io.smallrye.mutiny.", "org.jboss.logging.");
+
+    private final IndexView applicationIndex;
+    private final List<String> safePackages;
+    private final Results<BeanInfo> beans;
+    private final Results<String> classes;
+
+    public RequestContextAnalysis(IndexView applicationIndex) {
+        this(applicationIndex, Collections.emptyList());
+    }
+
+    /**
+     *
+     * @param applicationIndex
+     * @param safePackages additional package or class name prefixes that never use the request context
+     */
+    public RequestContextAnalysis(IndexView applicationIndex, List<String> safePackages) {
+        this.applicationIndex = applicationIndex;
+        this.safePackages = new ArrayList<>(SAFE_PACKAGES);
+        this.safePackages.addAll(safePackages);
+        this.beans = new Results<>(this::analyzeBean);
+        this.classes = new Results<>(this::analyzeClass);
+    }
+
+    /**
+     *
+     * @param bean
+     * @return {@code true} if the business methods of the given bean may need the request context, {@code false} otherwise
+     */
+    public boolean requiresRequestContext(BeanInfo bean) {
+        boolean result = requiresRequestContextInternal(bean);
+        if (!result) {
+            LOGGER.debugf("Request context is not needed for business methods declared on %s", bean);
+        }
+        return result;
+    }
+
+    private boolean requiresRequestContextInternal(BeanInfo bean) {
+        return beans.requiresRequestContext(bean);
+    }
+
+    private boolean analyzeBean(BeanInfo bean) {
+        if (hasSafeTypes(bean) && (bean.isSynthetic()
+                || (bean.getDeclaringBean() != null && bean.getDeclaringBean().getBeanClass().equals(VERTX_PRODUCER)))) {
+            // The Vertx and EventBus beans
+            return false;
+        }
+        if (bean.isSynthetic() || bean.isInterceptor()) {
+            return true;
+        }
+        if (!BuiltinScope.SINGLETON.is(bean.getScope()) && !BuiltinScope.APPLICATION.is(bean.getScope())
+                && !BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            return true;
+        }
+        if (bean.hasAroundInvokeInterceptors() || bean.hasLifecycleInterceptors()) {
+            return true;
+        }
+        if (bean.isProducerMethod() || bean.isProducerField()) {
+            if (requiresRequestContextInternal(bean.getDeclaringBean())) {
+                return true;
+            }
+        } else if (requiresRequestContext(bean.getBeanClass().toString())) {
+            return true;
+        }
+        for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+            if (injectionPoint.getRequiredQualifier(CONFIG_PROPERTY) != null) {
+                continue;
+            }
+            BeanInfo resolved = injectionPoint.getResolvedBean();
+            if (resolved == null) {
+                // Built-in beans - InjectionPoint is fine, dynamic lookup is not and neither is Event because any observer
+                // may be notified
+                if (!DotNames.INJECTION_POINT.equals(injectionPoint.getRequiredType().name())) {
+                    return true;
+                }
+            } else if (requiresRequestContextInternal(resolved)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean requiresRequestContext(String className) {
+        if (isSafe(className)) {
+            return false;
+        }
+        return classes.requiresRequestContext(className);
+    }
+
+    private boolean analyzeClass(String className) {
+        if (applicationIndex.getClassByName(DotName.createSimple(className)) == null) {
+            // Not an application class
+            return true;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ReferencedClasses referenced = new ReferencedClasses();
+        try (InputStream stream = IoUtil.readClass(classLoader, className)) {
+            if (stream == null) {
+                return true;
+            }
+            new ClassReader(IoUtil.readBytes(stream)).accept(referenced, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to analyze %s", className);
+            return true;
+        }
+        for (String reference : referenced.names) {
+            if (requiresRequestContext(reference)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasSafeTypes(BeanInfo bean) {
+        for (org.jboss.jandex.Type type : bean.getTypes()) {
+            if (!isSafe(type.name().toString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSafe(String className) {
+        for (String safePackage : safePackages) {
+            if (className.startsWith(safePackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The results of the analysis of a dependency graph that may contain cycles.
+     * <p>
+     * A node that is being analyzed is assumed not to need the request context when it's reached again. A negative result that
+     * relies on this assumption is provisional. It's only cached once the analysis of the first node of the cycle is
+     * complete, i.e. once it's known that no node of the cycle needs the request context. A positive result is always final.
+     */
+    static class Results<T> {
+
+        private final Predicate<T> analysis;
+        private final Map<T, Boolean> results = new HashMap<>();
+        // The nodes being analyzed and their depth
+        private final Map<T, Integer> inProgress = new HashMap<>();
+        // Provisional negative results, in the order of completion
+        private final List<T> provisional = new ArrayList<>();
+        // The lowest depth of a node in progress reached from the current node
+        private int lowest = Integer.MAX_VALUE;
+
+        Results(Predicate<T> analysis) {
+            this.analysis = analysis;
+        }
+
+        boolean requiresRequestContext(T node) {
+            Boolean result = results.get(node);
+            if (result != null) {
+                return result;
+            }
+            Integer depth = inProgress.get(node);
+            if (depth != null) {
+                lowest = Math.min(lowest, depth);
+                return false;
+            }
+            depth = inProgress.size();
+            inProgress.put(node, depth);
+            int provisionalSize = provisional.size();
+            int lowestBefore = lowest;
+            lowest = Integer.MAX_VALUE;
+            try {
+                result = analysis.test(node);
+            } finally {
+                inProgress.remove(node);
+            }
+            if (result) {
+                results.put(node, true);
+                // The provisional results of the cycle relied on this node
+                provisional.subList(provisionalSize, provisional.size()).clear();
+            } else if (lowest < depth) {
+                // Relies on a node in progress
+                provisional.add(node);
+            } else {
+                results.put(node, false);
+                List<T> cycle = provisional.subList(provisionalSize, provisional.size());
+                for (T member : cycle) {
+                    results.put(member, false);
+                }
+                cycle.clear();
+            }
+            lowest = Math.min(lowestBefore, lowest < depth ? lowest : Integer.MAX_VALUE);
+            return result;
+        }
+
+    }
+
+    /**
+     * Collects the classes referenced from the supertypes and the method bodies.
+     */
+    static class ReferencedClasses extends ClassVisitor {
+
+        final Set<String> names = new HashSet<>();
+
+        ReferencedClasses() {
+            super(Gizmo.ASM_API_VERSION);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            if (superName != null) {
+                add(superName);
+            }
+            if (interfaces != null) {
+                for (String i : interfaces) {
+                    add(i);
+                }
+            }
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            return new MethodVisitor(Gizmo.ASM_API_VERSION) {
+
+                @Override
+                public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                    add(owner);
+                }
+
+                @Override
+                public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+                    add(owner);
+                }
+
+                @Override
+                public void visitTypeInsn(int opcode, String type) {
+                    add(type);
+                }
+
+                @Override
+                public void visitLdcInsn(Object value) {
+                    if (value instanceof Type && ((Type) value).getSort() == Type.OBJECT) {
+                        add(((Type) value).getInternalName());
+                    }
+                }
+
+                @Override
+                public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                        Object... bootstrapMethodArguments) {
+                    // Method references and lambdas
+                    for (Object argument : bootstrapMethodArguments) {
+                        if (argument instanceof Handle) {
+                            add(((Handle) argument).getOwner());
+                        }
+                    }
+                }
+            };
+        }
+
+        private void add(String internalName) {
+            Type type = Type.getObjectType(internalName);
+            while (type.getSort() == Type.ARRAY) {
+                type = type.getElementType();
+            }
+            if (type.getSort() == Type.OBJECT) {
+                names.add(type.getClassName());
+            }
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.deployment;
 
 import static io.quarkus.vertx.deployment.VertxConstants.CONSUME_EVENT;
+import static io.quarkus.vertx.deployment.VertxConstants.LIST;
 
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +18,7 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AutoAddScopeBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
+import io.quarkus.arc.deployment.SynthesisFinishedBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanClassAnnotationExclusion;
 import io.quarkus.arc.processor.AnnotationStore;
@@ -31,6 +33,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AnnotationProxyBuildItem;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
@@ -68,12 +71,16 @@ class VertxProcessor {
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             AnnotationProxyBuildItem annotationProxy, LaunchModeBuildItem launchMode, ShutdownContextBuildItem shutdown,
             BuildProducer<ServiceStartBuildItem> serviceStart, BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
-            List<MessageCodecBuildItem> codecs, RecorderContext recorderContext) {
+            List<MessageCodecBuildItem> codecs, RecorderContext recorderContext,
+            SynthesisFinishedBuildItem synthesisFinished, ApplicationIndexBuildItem applicationIndex) {
         Map<String, ConsumeEvent> messageConsumerConfigurations = new HashMap<>();
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+        // The injection points are resolved when the synthesis is finished
+        RequestContextAnalysis requestContextAnalysis = new RequestContextAnalysis(applicationIndex.getIndex());
         for (EventConsumerBusinessMethodItem businessMethod : messageConsumerBusinessMethods) {
             String invokerClass = EventBusConsumer.generateInvoker(businessMethod.getBean(), businessMethod.getMethod(),
-                    businessMethod.getConsumeEvent(), classOutput);
+                    businessMethod.getConsumeEvent(),
+                    requestContextAnalysis.requiresRequestContext(businessMethod.getBean()), classOutput);
             messageConsumerConfigurations.put(invokerClass,
                     annotationProxy.builder(businessMethod.getConsumeEvent(), ConsumeEvent.class)
                             .withDefaultValue("value", businessMethod.getBean().getBeanClass().toString())
@@ -117,6 +124,12 @@ class VertxProcessor {
                                 "Event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s",
                                 params, method, bean));
                     }
+                    if (EventBusConsumer.isBatch(consumeEvent) && (!params.get(0).name().equals(LIST)
+                            || method.returnType().kind() != Type.Kind.VOID)) {
+                        throw new IllegalStateException(String.format(
+                                "Batch event consumer method must accept a List and return void: %s [method: %s, bean:%s",
+                                params, method, bean));
+                    }
                     messageConsumerBusinessMethods
                             .produce(new EventConsumerBusinessMethodItem(bean, method, consumeEvent));
                     LOGGER.debugf("Found event consumer business method %s declared on %s", method, bean);
@@ -0,0 +1,105 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.Message;
+import io.vertx.mutiny.core.eventbus.EventBus;
+
+public class MessageConsumerBatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(SimpleBean.class));
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testBatch() throws InterruptedException {
+        SimpleBean.LATCH = new CountDownLatch(20);
+        // The consumer sends the messages to itself, so that they are all delivered before the next batch is processed
+        eventBus.sendAndForget("batch", SimpleBean.START);
+        assertTrue(SimpleBean.LATCH.await(2, TimeUnit.SECONDS));
+        assertEquals(20, SimpleBean.MESSAGES.size());
+        assertTrue(SimpleBean.BATCHES.stream().anyMatch(size -> size > 1), "No batch: " + SimpleBean.BATCHES);
+        for (Integer size : SimpleBean.BATCHES) {
+            assertTrue(size <= 5, "Batch too big: " + size);
+        }
+    }
+
+    @Test
+    public void testBatchOfMessages() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("FOO", eventBus.request("batch-messages", "foo").onItem()
+                    .transform(m -> m.body()).await().atMost(Duration.ofSeconds(2)));
+        }
+    }
+
+    @Test
+    public void testBatchOfMutinyMessages() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("BAR", eventBus.request("batch-mutiny-messages", "bar").onItem()
+                    .transform(m -> m.body()).await().atMost(Duration.ofSeconds(2)));
+        }
+    }
+
+    static class SimpleBean {
+
+        static final String START = "start";
+
+        static volatile CountDownLatch LATCH;
+        static final List<String> MESSAGES = new CopyOnWriteArrayList<>();
+        static final List<Integer> BATCHES = new CopyOnWriteArrayList<>();
+
+        @Inject
+        EventBus eventBus;
+
+        @ConsumeEvent(value = "batch", batchSize = 5)
+        void batch(List<String> messages) {
+            if (messages.equals(Collections.singletonList(START))) {
+                for (int i = 0; i < 20; i++) {
+                    eventBus.sendAndForget("batch", "message" + i);
+                }
+                return;
+            }
+            BATCHES.add(messages.size());
+            for (String message : messages) {
+                MESSAGES.add(message);
+                LATCH.countDown();
+            }
+        }
+
+        @ConsumeEvent(value = "batch-messages", batchSize = 5, blocking = true)
+        void batchMessages(List<Message<String>> messages) {
+            for (Message<String> message : messages) {
+                message.reply(message.body().toUpperCase());
+            }
+        }
+
+        @ConsumeEvent(value = "batch-mutiny-messages", batchSize = 5)
+        void batchMutinyMessages(List<io.vertx.mutiny.core.eventbus.Message<String>> messages) {
+            for (io.vertx.mutiny.core.eventbus.Message<String> message : messages) {
+                message.replyAndForget(message.body().toUpperCase());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,183 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+
+public class RequestContextAnalysisTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(PlainBean.class, AppScopedBean.class, RequestScopedBean.class,
+                            ProgrammaticBean.class, Converter.class, Upper.class, RequestObserver.class, CycleA.class,
+                            CycleB.class));
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testActivation() throws InterruptedException {
+        RequestObserver.ACTIVATIONS.set(0);
+        assertEquals("BONGO", request("plain"));
+        assertEquals("BONGO", request("app-scoped"));
+        // The request context is not needed
+        assertEquals(0, RequestObserver.ACTIVATIONS.get());
+
+        assertEquals("BONGO", request("request-scoped"));
+        assertEquals(1, RequestObserver.ACTIVATIONS.get());
+        assertEquals("BONGO", request("programmatic"));
+        assertEquals(2, RequestObserver.ACTIVATIONS.get());
+    }
+
+    @Test
+    public void testCycle() throws InterruptedException {
+        RequestObserver.ACTIVATIONS.set(0);
+        // Both beans of the cycle need the request context, whichever is analyzed first
+        assertEquals("BONGO", request("cycle-a"));
+        assertEquals(1, RequestObserver.ACTIVATIONS.get());
+        assertEquals("BONGO", request("cycle-b"));
+        assertEquals(2, RequestObserver.ACTIVATIONS.get());
+    }
+
+    Object request(String address) throws InterruptedException {
+        BlockingQueue<Object> synchronizer = new LinkedBlockingQueue<>();
+        eventBus.request(address, "bongo", ar -> {
+            if (ar.succeeded()) {
+                try {
+                    synchronizer.put(ar.result().body());
+                } catch (InterruptedException e) {
+                    fail(e);
+                }
+            } else {
+                fail(ar.cause());
+            }
+        });
+        return synchronizer.poll(2, TimeUnit.SECONDS);
+    }
+
+    static class PlainBean {
+
+        @ConsumeEvent("plain")
+        String plain(String message) {
+            return message.toUpperCase();
+        }
+
+    }
+
+    static class AppScopedBean {
+
+        @Inject
+        Upper upper;
+
+        @ConsumeEvent("app-scoped")
+        String appScoped(String message) {
+            return upper.convert(message);
+        }
+
+    }
+
+    static class RequestScopedBean {
+
+        @Inject
+        Converter converter;
+
+        @ConsumeEvent("request-scoped")
+        String requestScoped(String message) {
+            return converter.convert(message);
+        }
+
+    }
+
+    static class ProgrammaticBean {
+
+        @ConsumeEvent("programmatic")
+        String programmatic(String message) {
+            return Arc.container().instance(Converter.class).get().convert(message);
+        }
+
+    }
+
+    @ApplicationScoped
+    static class CycleA {
+
+        @Inject
+        CycleB b;
+
+        @Inject
+        Converter converter;
+
+        @ConsumeEvent("cycle-a")
+        String consume(String message) {
+            return convert(message);
+        }
+
+        String convert(String message) {
+            return converter.convert(message);
+        }
+
+    }
+
+    @ApplicationScoped
+    static class CycleB {
+
+        @Inject
+        CycleA a;
+
+        @ConsumeEvent("cycle-b")
+        String consume(String message) {
+            return a.convert(message);
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Upper {
+
+        String convert(String val) {
+            return val.toUpperCase();
+        }
+
+    }
+
+    @RequestScoped
+    static class Converter {
+
+        String convert(String val) {
+            return val.toUpperCase();
+        }
+
+    }
+
+    @ApplicationScoped
+    static class RequestObserver {
+
+        static final AtomicInteger ACTIVATIONS = new AtomicInteger();
+
+        void onActivation(@Observes @Initialized(RequestScoped.class) Object event) {
+            ACTIVATIONS.incrementAndGet();
+        }
+
+    }
+
+}
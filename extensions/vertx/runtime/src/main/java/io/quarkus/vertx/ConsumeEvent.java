@@ -40,7 +40,9 @@ import io.vertx.core.eventbus.MessageCodec;
  * </pre>
  * 
  * <p>
- * The CDI request context is active during notification of the registered message consumer.
+ * The CDI request context is active during notification of the registered message consumer, unless it can be proven at build
+ * time that the consumer does not need it. Annotate the method with
+ * {@link javax.enterprise.context.control.ActivateRequestContext} to activate the context explicitly.
  * 
  * @see io.vertx.core.eventbus.EventBus
  */
@@ -91,4 +93,17 @@ public @interface ConsumeEvent {
     @SuppressWarnings("rawtypes")
     Class<? extends MessageCodec> codec() default LocalEventBusCodec.class;
 
+    /**
+     * If greater than zero, the received messages are queued and the method is invoked with a {@link java.util.List} of at
+     * most this number of messages. The queue is bounded by the batch size, i.e. the consumer is paused until the queue is
+     * drained.
+     * <p>
+     * The method must accept a {@code List} of payloads or a {@code List} of {@link io.vertx.core.eventbus.Message} and must
+     * return {@code void}.
+     *
+     * @return the maximum number of messages passed to a single invocation
+     * @see io.vertx.core.eventbus.MessageConsumer#pause()
+     */
+    int batchSize() default 0;
+
 }
@@ -0,0 +1,113 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+
+/**
+ * Queues the received messages and invokes a batch consumer with all the queued messages, i.e. at most
+ * {@link ConsumeEvent#batchSize()} messages.
+ * <p>
+ * The queue is drained in a separate task executed on the context of the consumer, or on a worker thread if the consumer is
+ * blocking. The consumer is paused when the queue is full.
+ */
+class BatchingMessageHandler implements Handler<Message<Object>> {
+
+    private final Vertx vertx;
+    private final EventConsumerBatchInvoker invoker;
+    private final MessageConsumer<Object> consumer;
+    private final int batchSize;
+    private final Queue<Message<Object>> queue;
+    private final AtomicInteger size;
+    private final AtomicBoolean scheduled;
+    private final AtomicBoolean paused;
+
+    BatchingMessageHandler(Vertx vertx, EventConsumerBatchInvoker invoker, MessageConsumer<Object> consumer, int batchSize) {
+        this.vertx = vertx;
+        this.invoker = invoker;
+        this.consumer = consumer;
+        this.batchSize = batchSize;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+        this.scheduled = new AtomicBoolean();
+        this.paused = new AtomicBoolean();
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        queue.offer(message);
+        if (size.incrementAndGet() >= batchSize && paused.compareAndSet(false, true)) {
+            consumer.pause();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            schedule(vertx.getOrCreateContext());
+        }
+    }
+
+    private void schedule(Context context) {
+        if (invoker.isBlocking()) {
+            context.executeBlocking(new Handler<Promise<Object>>() {
+                @Override
+                public void handle(Promise<Object> event) {
+                    drain(context);
+                    event.complete();
+                }
+            }, null);
+        } else {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    drain(context);
+                }
+            });
+        }
+    }
+
+    private void drain(Context context) {
+        // Messages received from now on are processed by the next task
+        scheduled.set(false);
+        List<Message<Object>> messages = new ArrayList<>(Math.min(Math.max(size.get(), 1), batchSize));
+        Message<Object> message;
+        while (messages.size() < batchSize && (message = queue.poll()) != null) {
+            messages.add(message);
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        int remaining = size.addAndGet(-messages.size());
+        try {
+            invoker.invoke(messages);
+        } catch (Exception e) {
+            boolean noReplyHandler = false;
+            for (Message<Object> m : messages) {
+                if (m.replyAddress() == null) {
+                    noReplyHandler = true;
+                } else {
+                    m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                }
+            }
+            if (noReplyHandler) {
+                throw VertxRecorder.wrapIfNecessary(e);
+            }
+        } finally {
+            if (remaining < batchSize && paused.compareAndSet(true, false)) {
+                consumer.resume();
+            }
+            if (remaining > 0 && scheduled.compareAndSet(false, true)) {
+                schedule(context);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Invokes a business method annotated with {@link ConsumeEvent} whose {@link ConsumeEvent#batchSize()} is greater than zero.
+ */
+public abstract class EventConsumerBatchInvoker {
+
+    public boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * The result is computed at build time.
+     *
+     * @return {@code true} if the request context should be activated for the invocation
+     */
+    public boolean requiresRequestContext() {
+        return true;
+    }
+
+    public void invoke(List<Message<Object>> messages) throws Exception {
+        ManagedContext requestContext = requiresRequestContext() ? Arc.container().requestContext() : null;
+        if (requestContext == null || requestContext.isActive()) {
+            invokeBean(messages);
+        } else {
+            requestContext.activate();
+            try {
+                invokeBean(messages);
+            } finally {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    protected abstract void invokeBean(List<Message<Object>> messages) throws Exception;
+
+    protected static List<Object> bodies(List<Message<Object>> messages) {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        return bodies;
+    }
+
+    protected static List<io.vertx.mutiny.core.eventbus.Message<Object>> mutinyMessages(List<Message<Object>> messages) {
+        List<io.vertx.mutiny.core.eventbus.Message<Object>> mutinyMessages = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            mutinyMessages.add(io.vertx.mutiny.core.eventbus.Message.newInstance(message));
+        }
+        return mutinyMessages;
+    }
+
+}
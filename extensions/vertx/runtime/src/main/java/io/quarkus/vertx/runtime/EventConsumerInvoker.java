@@ -18,9 +18,18 @@ public abstract class EventConsumerInvoker {
         return false;
     }
 
+    /**
+     * The result is computed at build time.
+     *
+     * @return {@code true} if the request context should be activated for the invocation
+     */
+    public boolean requiresRequestContext() {
+        return true;
+    }
+
     public void invoke(Message<Object> message) throws Exception {
-        ManagedContext requestContext = Arc.container().requestContext();
-        if (requestContext.isActive()) {
+        ManagedContext requestContext = requiresRequestContext() ? Arc.container().requestContext() : null;
+        if (requestContext == null || requestContext.isActive()) {
             Object ret = invokeBean(message);
             if (ret != null) {
                 if (ret instanceof CompletionStage) {
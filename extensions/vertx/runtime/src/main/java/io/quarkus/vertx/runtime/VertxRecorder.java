@@ -71,7 +71,6 @@ public class VertxRecorder {
             EventBus eventBus = vertx.eventBus();
             CountDownLatch latch = new CountDownLatch(messageConsumerConfigurations.size());
             for (Entry<String, ConsumeEvent> entry : messageConsumerConfigurations.entrySet()) {
-                EventConsumerInvoker invoker = createInvoker(entry.getKey());
                 String address = entry.getValue().value();
                 MessageConsumer<Object> consumer;
                 if (entry.getValue().local()) {
@@ -79,40 +78,46 @@ public class VertxRecorder {
                 } else {
                     consumer = eventBus.consumer(address);
                 }
-                consumer.handler(new Handler<Message<Object>>() {
-                    @Override
-                    public void handle(Message<Object> m) {
-                        if (invoker.isBlocking()) {
-                            vertx.executeBlocking(new Handler<Promise<Object>>() {
-                                @Override
-                                public void handle(Promise<Object> event) {
-                                    try {
-                                        invoker.invoke(m);
-                                    } catch (Exception e) {
-                                        if (m.replyAddress() == null) {
-                                            // No reply handler
-                                            throw wrapIfNecessary(e);
-                                        } else {
-                                            m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                if (entry.getValue().batchSize() > 0) {
+                    EventConsumerBatchInvoker invoker = createInvoker(entry.getKey());
+                    consumer.handler(new BatchingMessageHandler(vertx, invoker, consumer, entry.getValue().batchSize()));
+                } else {
+                    EventConsumerInvoker invoker = createInvoker(entry.getKey());
+                    consumer.handler(new Handler<Message<Object>>() {
+                        @Override
+                        public void handle(Message<Object> m) {
+                            if (invoker.isBlocking()) {
+                                vertx.executeBlocking(new Handler<Promise<Object>>() {
+                                    @Override
+                                    public void handle(Promise<Object> event) {
+                                        try {
+                                            invoker.invoke(m);
+                                        } catch (Exception e) {
+                                            if (m.replyAddress() == null) {
+                                                // No reply handler
+                                                throw wrapIfNecessary(e);
+                                            } else {
+                                                m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                                            }
                                         }
+                                        event.complete();
+                                    }
+                                }, null);
+                            } else {
+                                try {
+                                    invoker.invoke(m);
+                                } catch (Exception e) {
+                                    if (m.replyAddress() == null) {
+                                        // No reply handler
+                                        throw wrapIfNecessary(e);
+                                    } else {
+                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
                                     }
-                                    event.complete();
-                                }
-                            }, null);
-                        } else {
-                            try {
-                                invoker.invoke(m);
-                            } catch (Exception e) {
-                                if (m.replyAddress() == null) {
-                                    // No reply handler
-                                    throw wrapIfNecessary(e);
-                                } else {
-                                    m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
                                 }
                             }
                         }
-                    }
-                });
+                    });
+                }
                 consumer.completionHandler(new Handler<AsyncResult<Void>>() {
 
                     @Override
@@ -162,14 +167,13 @@ public class VertxRecorder {
     }
 
     @SuppressWarnings("unchecked")
-    private EventConsumerInvoker createInvoker(String invokerClassName) {
+    private <T> T createInvoker(String invokerClassName) {
         try {
             ClassLoader cl = Thread.currentThread().getContextClassLoader();
             if (cl == null) {
                 cl = VertxProducer.class.getClassLoader();
             }
-            Class<? extends EventConsumerInvoker> invokerClazz = (Class<? extends EventConsumerInvoker>) cl
-                    .loadClass(invokerClassName);
+            Class<? extends T> invokerClazz = (Class<? extends T>) cl.loadClass(invokerClassName);
             return invokerClazz.getDeclaredConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | NoSuchMethodException
                 | InvocationTargetException e) {
@@ -22,6 +22,7 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.deployment.Feature;
@@ -38,6 +39,7 @@ import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.netty.deployment.EventLoopSupplierBuildItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.undertow.websockets.runtime.UndertowWebsocketRecorder;
+import io.quarkus.undertow.websockets.runtime.WebSocketBroadcaster;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.undertow.websockets.DefaultContainerConfigurator;
 import io.undertow.websockets.UndertowContainerProvider;
@@ -170,6 +172,13 @@ public class UndertowWebsocketProcessor {
         return new ServiceStartBuildItem("Websockets");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    AdditionalBeanBuildItem setupBroadcaster(UndertowWebsocketRecorder recorder, WebsocketConfig websocketConfig) {
+        recorder.configureBroadcaster(websocketConfig.broadcastMaxQueuedFrames, websocketConfig.broadcastOverflowPolicy);
+        return new AdditionalBeanBuildItem(WebSocketBroadcaster.class);
+    }
+
     @BuildStep
     ServiceProviderBuildItem registerContainerProviderService() {
         return new ServiceProviderBuildItem(ContainerProvider.class.getName(),
@@ -3,6 +3,7 @@ package io.quarkus.undertow.websockets.deployment;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.undertow.websockets.runtime.WebSocketBroadcaster;
 
 @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
 public class WebsocketConfig {
@@ -21,4 +22,17 @@ public class WebsocketConfig {
      */
     @ConfigItem(defaultValue = "false")
     public boolean dispatchToWorker;
+
+    /**
+     * The maximum number of frames sent by {@code WebSocketBroadcaster} that may be waiting to be written to a single
+     * connection. If exceeded the overflow policy is applied.
+     */
+    @ConfigItem(defaultValue = "1024")
+    public int broadcastMaxQueuedFrames;
+
+    /**
+     * What happens if the broadcast queue of a connection is full, i.e. the client does not read fast enough.
+     */
+    @ConfigItem(defaultValue = "drop")
+    public WebSocketBroadcaster.OverflowPolicy broadcastOverflowPolicy;
 }
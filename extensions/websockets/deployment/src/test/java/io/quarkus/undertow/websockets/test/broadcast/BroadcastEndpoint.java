@@ -0,0 +1,26 @@
+package io.quarkus.undertow.websockets.test.broadcast;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.websocket.OnClose;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+@ServerEndpoint("/broadcast")
+public class BroadcastEndpoint {
+
+    static final Set<Session> SESSIONS = ConcurrentHashMap.newKeySet();
+
+    @OnOpen
+    void open(Session session) {
+        SESSIONS.add(session);
+    }
+
+    @OnClose
+    void close(Session session) {
+        SESSIONS.remove(session);
+    }
+
+}
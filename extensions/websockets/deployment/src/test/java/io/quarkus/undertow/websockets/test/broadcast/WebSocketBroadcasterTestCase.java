@@ -0,0 +1,202 @@
+package io.quarkus.undertow.websockets.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.ContainerProvider;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.channel.Channel;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.undertow.websockets.runtime.WebSocketBroadcaster;
+import io.undertow.websockets.UndertowSession;
+
+public class WebSocketBroadcasterTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BroadcastEndpoint.class)
+                    .addAsResource(new StringAsset("quarkus.websocket.broadcast-max-queued-frames=4\n"),
+                            "application.properties"));
+
+    @TestHTTPResource("broadcast")
+    URI broadcastUri;
+
+    @Inject
+    WebSocketBroadcaster broadcaster;
+
+    @Test
+    public void testBroadcast() throws Exception {
+        List<Session> clients = new ArrayList<>();
+        List<LinkedBlockingDeque<Object>> messages = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                LinkedBlockingDeque<Object> received = new LinkedBlockingDeque<>();
+                messages.add(received);
+                clients.add(connect(received));
+            }
+            awaitSessions(3);
+
+            // Small, medium and large frames use different length encodings
+            for (int length : new int[] { 5, 1000, 70000 }) {
+                String text = repeat('a', length);
+                assertEquals(3, broadcaster.broadcast(text, BroadcastEndpoint.SESSIONS));
+                for (LinkedBlockingDeque<Object> received : messages) {
+                    assertEquals(text, received.poll(20, TimeUnit.SECONDS));
+                }
+            }
+            assertEquals(3, broadcaster.broadcast(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), BroadcastEndpoint.SESSIONS));
+            for (LinkedBlockingDeque<Object> received : messages) {
+                assertEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), received.poll(20, TimeUnit.SECONDS));
+            }
+            // Regular messages are still delivered in order
+            BroadcastEndpoint.SESSIONS.iterator().next().getBasicRemote().sendText("direct");
+            broadcaster.broadcast("after", BroadcastEndpoint.SESSIONS);
+            int direct = 0;
+            for (LinkedBlockingDeque<Object> received : messages) {
+                Object message = received.poll(20, TimeUnit.SECONDS);
+                if ("direct".equals(message)) {
+                    direct++;
+                    message = received.poll(20, TimeUnit.SECONDS);
+                }
+                assertEquals("after", message);
+            }
+            assertEquals(1, direct);
+        } finally {
+            for (Session client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    public void testPartialMessage() throws Exception {
+        LinkedBlockingDeque<Object> received = new LinkedBlockingDeque<>();
+        Session client = connect(received);
+        try {
+            awaitSessions(1);
+            Session session = BroadcastEndpoint.SESSIONS.iterator().next();
+            session.getBasicRemote().sendText("first ", false);
+            // The first broadcast to the session - held back until the last fragment is sent
+            assertEquals(1, broadcaster.broadcast("broadcast", BroadcastEndpoint.SESSIONS));
+            session.getBasicRemote().sendText("second", true);
+            assertEquals("first second", received.poll(20, TimeUnit.SECONDS));
+            assertEquals("broadcast", received.poll(20, TimeUnit.SECONDS));
+
+            // The fragments of the next message are seen by the queue
+            session.getBasicRemote().sendText("third ", false);
+            assertEquals(1, broadcaster.broadcast("again", BroadcastEndpoint.SESSIONS));
+            session.getBasicRemote().sendText("fourth", true);
+            assertEquals("third fourth", received.poll(20, TimeUnit.SECONDS));
+            assertEquals("again", received.poll(20, TimeUnit.SECONDS));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        LinkedBlockingDeque<Object> received = new LinkedBlockingDeque<>();
+        Session client = connect(received);
+        try {
+            awaitSessions(1);
+            long dropped = broadcaster.getDroppedFrames();
+            // Block the event loop of the connection so that no queued frame can be written
+            Channel channel = ((UndertowSession) BroadcastEndpoint.SESSIONS.iterator().next()).getChannel();
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            channel.eventLoop().execute(new Runnable() {
+                @Override
+                public void run() {
+                    blocked.countDown();
+                    try {
+                        release.await(20, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            int queued = 0;
+            try {
+                for (int i = 0; i < 10; i++) {
+                    queued += broadcaster.broadcast("message" + i, BroadcastEndpoint.SESSIONS);
+                }
+                assertEquals(4, queued);
+                assertEquals(4, broadcaster.getQueueDepth(BroadcastEndpoint.SESSIONS.iterator().next()));
+                assertEquals(6, broadcaster.getDroppedFrames() - dropped);
+            } finally {
+                release.countDown();
+            }
+            for (int i = 0; i < queued; i++) {
+                assertEquals("message" + i, received.poll(20, TimeUnit.SECONDS));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (broadcaster.getQueuedFrames() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, broadcaster.getQueuedFrames());
+        } finally {
+            client.close();
+        }
+    }
+
+    private Session connect(LinkedBlockingDeque<Object> received) throws Exception {
+        return ContainerProvider.getWebSocketContainer().connectToServer(new Endpoint() {
+            @Override
+            public void onOpen(Session session, EndpointConfig endpointConfig) {
+                session.setMaxTextMessageBufferSize(100000);
+                session.addMessageHandler(new MessageHandler.Whole<String>() {
+                    @Override
+                    public void onMessage(String s) {
+                        received.add(s);
+                    }
+                });
+                session.addMessageHandler(new MessageHandler.Whole<ByteBuffer>() {
+                    @Override
+                    public void onMessage(ByteBuffer b) {
+                        received.add(b);
+                    }
+                });
+            }
+        }, ClientEndpointConfig.Builder.create().build(), broadcastUri);
+    }
+
+    private static void awaitSessions(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (BroadcastEndpoint.SESSIONS.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, BroadcastEndpoint.SESSIONS.size());
+    }
+
+    private static String repeat(char c, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+}
@@ -38,6 +38,11 @@ public class UndertowWebsocketRecorder {
         ExecutorSupplier.executor = executor;
     }
 
+    public void configureBroadcaster(int maxQueuedFrames, WebSocketBroadcaster.OverflowPolicy overflowPolicy) {
+        WebSocketBroadcaster.maxQueuedFrames = maxQueuedFrames;
+        WebSocketBroadcaster.overflowPolicy = overflowPolicy;
+    }
+
     @SuppressWarnings("unchecked")
     public WebSocketDeploymentInfo createDeploymentInfo(Set<String> annotatedEndpoints, Set<String> endpoints,
             Set<String> serverApplicationConfigClasses, int maxFrameSize, boolean dispatchToWorker) {
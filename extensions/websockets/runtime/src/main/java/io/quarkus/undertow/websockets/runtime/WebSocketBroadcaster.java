@@ -0,0 +1,395 @@
+package io.quarkus.undertow.websockets.runtime;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Singleton;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.Session;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.PendingWriteQueue;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.undertow.websockets.UndertowSession;
+
+/**
+ * Sends the same message to many websocket sessions.
+ * <p>
+ * The message is encoded into a single websocket frame once, and the frame buffer is shared by all the recipients. Each
+ * connection has a bounded queue of broadcast frames that were not written yet. If the queue of a slow client is full, the
+ * frame is either dropped for this client or the client is disconnected, see
+ * {@code quarkus.websocket.broadcast-overflow-policy}.
+ * <p>
+ * Note that the frames are sent uncompressed even if a compression extension was negotiated.
+ * <p>
+ * The frames are written directly to the connection. RFC 6455 does not allow a data frame between the fragments of a message,
+ * so the broadcast frames are held back while the session is sending a partial message, e.g. with
+ * {@code RemoteEndpoint.Basic#sendText(String, boolean)}, and written right after its last fragment.
+ */
+@Singleton
+public class WebSocketBroadcaster {
+
+    private static final Logger log = Logger.getLogger(WebSocketBroadcaster.class);
+
+    private static final AttributeKey<OutboundQueue> QUEUE = AttributeKey.valueOf(WebSocketBroadcaster.class, "queue");
+
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_BINARY = 0x2;
+
+    static volatile int maxQueuedFrames = 1024;
+    static volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    private final AtomicLong queuedFrames = new AtomicLong();
+    private final LongAdder broadcasts = new LongAdder();
+    private final LongAdder sentFrames = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder disconnectedSessions = new LongAdder();
+
+    /**
+     *
+     * @param text
+     * @param sessions
+     * @return the number of sessions the message was queued for
+     */
+    public int broadcast(String text, Collection<Session> sessions) {
+        int length = ByteBufUtil.utf8Bytes(text);
+        ByteBuf frame = allocateFrame(OPCODE_TEXT, length);
+        ByteBufUtil.reserveAndWriteUtf8(frame, text, length);
+        return broadcast(frame, sessions);
+    }
+
+    /**
+     *
+     * @param data
+     * @param sessions
+     * @return the number of sessions the message was queued for
+     */
+    public int broadcast(ByteBuffer data, Collection<Session> sessions) {
+        ByteBuf frame = allocateFrame(OPCODE_BINARY, data.remaining());
+        frame.writeBytes(data.duplicate());
+        return broadcast(frame, sessions);
+    }
+
+    /**
+     *
+     * @param session
+     * @return the number of broadcast frames that were not written to the given session yet
+     */
+    public int getQueueDepth(Session session) {
+        if (session instanceof UndertowSession) {
+            OutboundQueue queue = ((UndertowSession) session).getChannel().attr(QUEUE).get();
+            if (queue != null) {
+                return queue.depth.get();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     *
+     * @return the number of broadcast frames that were not written yet, for all sessions
+     */
+    public long getQueuedFrames() {
+        return queuedFrames.get();
+    }
+
+    /**
+     *
+     * @return the number of messages broadcast
+     */
+    public long getBroadcasts() {
+        return broadcasts.sum();
+    }
+
+    /**
+     *
+     * @return the number of broadcast frames written to the sessions
+     */
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    /**
+     *
+     * @return the number of broadcast frames dropped because the queue of a session was full
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    /**
+     *
+     * @return the number of sessions closed because their queue was full
+     */
+    public long getDisconnectedSessions() {
+        return disconnectedSessions.sum();
+    }
+
+    private int broadcast(ByteBuf frame, Collection<Session> sessions) {
+        broadcasts.increment();
+        int queued = 0;
+        try {
+            for (Session session : sessions) {
+                if (!session.isOpen()) {
+                    continue;
+                }
+                if (session instanceof UndertowSession) {
+                    if (write((UndertowSession) session, frame)) {
+                        queued++;
+                    }
+                } else {
+                    // Not backed by a netty channel - the frame must be encoded again
+                    ByteBuf payload = payload(frame);
+                    if (frame.getByte(0) == (byte) (0x80 | OPCODE_TEXT)) {
+                        session.getAsyncRemote().sendText(payload.toString(StandardCharsets.UTF_8));
+                    } else {
+                        // The frame is released once the loop completes, the payload must not be shared
+                        session.getAsyncRemote().sendBinary(ByteBuffer.wrap(ByteBufUtil.getBytes(payload)));
+                    }
+                    queued++;
+                }
+            }
+        } finally {
+            frame.release();
+        }
+        return queued;
+    }
+
+    private boolean write(UndertowSession session, ByteBuf frame) {
+        Channel channel = session.getChannel();
+        OutboundQueue queue = channel.attr(QUEUE).get();
+        if (queue == null) {
+            synchronized (channel) {
+                queue = channel.attr(QUEUE).get();
+                if (queue == null) {
+                    queue = new OutboundQueue(session);
+                    // The queue must see the frames written by the session before they're encoded
+                    channel.pipeline().addLast(queue);
+                    channel.attr(QUEUE).set(queue);
+                }
+            }
+        }
+        if (!queue.tryAcquire(maxQueuedFrames)) {
+            if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                if (queue.disconnected.compareAndSet(false, true)) {
+                    log.debugf("Closing websocket connection %s, the outbound queue is full", channel);
+                    disconnectedSessions.increment();
+                    // The close frame would be queued behind the pending frames
+                    channel.close();
+                }
+            } else {
+                droppedFrames.increment();
+            }
+            return false;
+        }
+        queuedFrames.incrementAndGet();
+        channel.writeAndFlush(frame.retainedDuplicate()).addListener(queue);
+        return true;
+    }
+
+    private static ByteBuf allocateFrame(int opcode, int length) {
+        int headerLength = length < 126 ? 2 : (length <= 0xFFFF ? 4 : 10);
+        ByteBuf frame = PooledByteBufAllocator.DEFAULT.directBuffer(headerLength + length);
+        // FIN, no RSV bits, server frames are not masked
+        frame.writeByte(0x80 | opcode);
+        if (length < 126) {
+            frame.writeByte(length);
+        } else if (length <= 0xFFFF) {
+            frame.writeByte(126);
+            frame.writeShort(length);
+        } else {
+            frame.writeByte(127);
+            frame.writeLong(length);
+        }
+        return frame;
+    }
+
+    private static ByteBuf payload(ByteBuf frame) {
+        int lengthByte = frame.getByte(1) & 0x7F;
+        int headerLength = lengthByte < 126 ? 2 : (lengthByte == 126 ? 4 : 10);
+        return frame.slice(headerLength, frame.readableBytes() - headerLength);
+    }
+
+    /**
+     * The number of broadcast frames that were not written to a connection yet.
+     * <p>
+     * The broadcast frames are the only {@link ByteBuf} messages written to the channel, the session writes
+     * {@link WebSocketFrame}s. The frames written while the session is sending a fragmented message are held back until its
+     * last fragment is written.
+     * <p>
+     * The queue is added to the pipeline by the first broadcast, possibly in the middle of a fragmented message. Until the
+     * queue sees a data frame, the partial-send state of the session is checked instead.
+     */
+    private final class OutboundQueue extends ChannelOutboundHandlerAdapter implements ChannelFutureListener {
+
+        final AtomicInteger depth = new AtomicInteger();
+        final AtomicBoolean disconnected = new AtomicBoolean();
+        private final UndertowSession session;
+
+        // Only accessed on the event loop
+        private ChannelHandlerContext ctx;
+        private PendingWriteQueue held;
+        private boolean inFragmentedMessage;
+        private boolean dataFrameSeen;
+        private boolean removed;
+
+        OutboundQueue(UndertowSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            this.ctx = ctx;
+            this.held = new PendingWriteQueue(ctx);
+            // The frames are held back until the partial-send state is known
+            inFragmentedMessage = true;
+            // The basic remote cannot be used on the event loop
+            GlobalEventExecutor.INSTANCE.execute(new CheckPartialMessage());
+        }
+
+        @Override
+        public void handlerRemoved(ChannelHandlerContext ctx) {
+            removed = true;
+            held.removeAndFailAll(new ClosedChannelException());
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (msg instanceof ByteBuf) {
+                if (inFragmentedMessage) {
+                    held.add(msg, promise);
+                } else {
+                    ctx.write(msg, promise);
+                }
+            } else if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame) {
+                // A new message, the previous one is complete
+                dataFrameSeen = true;
+                held.removeAndWriteAll();
+                ctx.write(msg, promise);
+                inFragmentedMessage = !((WebSocketFrame) msg).isFinalFragment();
+            } else if (msg instanceof ContinuationWebSocketFrame) {
+                dataFrameSeen = true;
+                ctx.write(msg, promise);
+                if (((WebSocketFrame) msg).isFinalFragment()) {
+                    inFragmentedMessage = false;
+                    // Flushed together with the last fragment
+                    held.removeAndWriteAll();
+                }
+            } else {
+                ctx.write(msg, promise);
+            }
+        }
+
+        private void release() {
+            if (removed || dataFrameSeen) {
+                return;
+            }
+            inFragmentedMessage = false;
+            held.removeAndWriteAll();
+            ctx.flush();
+        }
+
+        /**
+         * Checks the partial-send state of the session until it's known that no fragmented message is in progress.
+         * <p>
+         * The session clears its flag right before the last fragment is passed to the channel, the last fragment then goes
+         * through this queue. The flag must be found cleared twice in a row, so that such a fragment is seen before the held
+         * frames are released.
+         */
+        private final class CheckPartialMessage implements Runnable {
+
+            private RemoteEndpoint.Basic basicRemote;
+            private boolean cleared;
+
+            @Override
+            public void run() {
+                if (!session.isOpen()) {
+                    return;
+                }
+                if (basicRemote == null) {
+                    basicRemote = session.getBasicRemote();
+                }
+                if (isSendingPartialMessage()) {
+                    cleared = false;
+                } else if (cleared) {
+                    ctx.executor().execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            release();
+                        }
+                    });
+                    return;
+                } else {
+                    cleared = true;
+                }
+                GlobalEventExecutor.INSTANCE.schedule(this, 1, TimeUnit.MILLISECONDS);
+            }
+
+            private boolean isSendingPartialMessage() {
+                try {
+                    // Fails if a partial message is being sent, the stream is not used
+                    basicRemote.getSendStream();
+                    return false;
+                } catch (IllegalStateException e) {
+                    return true;
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+
+        }
+
+        boolean tryAcquire(int max) {
+            if (depth.incrementAndGet() > max) {
+                depth.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void operationComplete(ChannelFuture future) {
+            depth.decrementAndGet();
+            queuedFrames.decrementAndGet();
+            if (future.isSuccess()) {
+                sentFrames.increment();
+            }
+        }
+
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * The frame is not sent to the session whose queue is full.
+         */
+        DROP,
+        /**
+         * The session whose queue is full is closed.
+         */
+        DISCONNECT
+    }
+
+}
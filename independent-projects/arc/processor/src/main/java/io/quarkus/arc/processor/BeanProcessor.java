@@ -66,6 +66,7 @@ public class BeanProcessor {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
+    private final Predicate<InterceptorInfo> synchronousInterceptors;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
     // Note that we do create annotation literals for all annotations for an injection point that resolves to a @Dependent bean that injects the InjectionPoint metadata
@@ -82,6 +83,17 @@ public class BeanProcessor {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
+        this.synchronousInterceptors = new Predicate<InterceptorInfo>() {
+            @Override
+            public boolean test(InterceptorInfo interceptor) {
+                for (Predicate<InterceptorInfo> predicate : builder.synchronousInterceptors) {
+                    if (predicate.test(interceptor)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
 
         // Initialize all build processors
         buildContext = new BuildContextImpl();
@@ -161,7 +173,7 @@ public class BeanProcessor {
                 privateMembers, generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate);
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, reflectionRegistration, existingClasses);
+                generateSources, reflectionRegistration, existingClasses, synchronousInterceptors);
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, reflectionRegistration, existingClasses, observerToGeneratedName,
                 injectionPointAnnotationsPredicate, allowMocking);
@@ -280,6 +292,7 @@ public class BeanProcessor {
         boolean jtaCapabilities;
         boolean transformUnproxyableClasses;
         boolean allowMocking;
+        final List<Predicate<InterceptorInfo>> synchronousInterceptors;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -310,6 +323,7 @@ public class BeanProcessor {
             jtaCapabilities = false;
             transformUnproxyableClasses = false;
             allowMocking = false;
+            synchronousInterceptors = new ArrayList<>();
 
             excludeTypes = new ArrayList<>();
 
@@ -483,6 +497,20 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * Interceptors that match the given predicate never continue the interceptor chain asynchronously, i.e. they only call
+         * {@link javax.interceptor.InvocationContext#proceed()} before the around invoke method returns, and on the same
+         * thread. The chain of a method intercepted only by such interceptors shares a single invocation context per
+         * invocation. A new invocation context is created for each interceptor in the chains of other methods.
+         *
+         * @param predicate
+         * @return self
+         */
+        public Builder addSynchronousInterceptor(Predicate<InterceptorInfo> predicate) {
+            this.synchronousInterceptors.add(predicate);
+            return this;
+        }
+
         /**
          * If set to true the will generate source files of all generated classes for debug purposes. The generated source is
          * not actually a source file but a textual representation of generated code.
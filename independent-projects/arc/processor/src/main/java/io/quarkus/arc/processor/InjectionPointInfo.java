@@ -114,7 +114,11 @@ public class InjectionPointInfo {
         resolvedBean.set(bean);
     }
 
-    BeanInfo getResolvedBean() {
+    /**
+     *
+     * @return the resolved bean or {@code null} if not resolved yet or if the injection point is resolved to a built-in bean
+     */
+    public BeanInfo getResolvedBean() {
         return resolvedBean.get();
     }
 
@@ -19,6 +19,7 @@ import io.quarkus.arc.impl.MapValueSupplier;
 import io.quarkus.arc.impl.Objects;
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
+import io.quarkus.arc.impl.SharedAroundInvokeInvocationContext;
 import io.quarkus.gizmo.MethodDescriptor;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -226,6 +227,12 @@ public final class MethodDescriptors {
             InterceptedMethodMetadata.class,
             List.class, Method.class, Set.class);
 
+    public static final MethodDescriptor SHARED_AROUND_INVOKE_INVOCATION_CONTEXT_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            SharedAroundInvokeInvocationContext.class, Object.class, InterceptedMethodMetadata.class);
+
+    public static final MethodDescriptor SHARED_AROUND_INVOKE_INVOCATION_CONTEXT_PERFORM = MethodDescriptor.ofMethod(
+            SharedAroundInvokeInvocationContext.class, "perform", Object.class);
+
     public static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
             "hasDependentInstances", boolean.class);
@@ -3,11 +3,14 @@ package io.quarkus.arc.processor;
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
 
 import io.quarkus.arc.ArcUndeclaredThrowableException;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.Subclass;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.SharedAroundInvokeInvocationContext;
 import io.quarkus.arc.processor.BeanInfo.InterceptionInfo;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -60,6 +63,8 @@ public class SubclassGenerator extends AbstractGenerator {
 
     static final String SUBCLASS_SUFFIX = "_Subclass";
     static final String DESTROY_METHOD_NAME = "arc$destroy";
+    static final String FORWARD_METHOD_PREFIX = "arc$forward$";
+    static final String INVOCATION_CONTEXT_SUFFIX = "_InvocationContext";
 
     protected static final String FIELD_NAME_PREDESTROYS = "preDestroys";
     protected static final String FIELD_NAME_METADATA = "metadata";
@@ -73,6 +78,7 @@ public class SubclassGenerator extends AbstractGenerator {
     private final Predicate<DotName> applicationClassPredicate;
     private final ReflectionRegistration reflectionRegistration;
     private final Set<String> existingClasses;
+    private final Predicate<InterceptorInfo> synchronousInterceptors;
 
     static String generatedName(DotName providerTypeName, String baseName) {
         String packageName = DotNames.internalPackageNameWithTrailingSlash(providerTypeName);
@@ -83,12 +89,13 @@ public class SubclassGenerator extends AbstractGenerator {
 
     public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
-            Set<String> existingClasses) {
+            Set<String> existingClasses, Predicate<InterceptorInfo> synchronousInterceptors) {
         super(generateSources);
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.reflectionRegistration = reflectionRegistration;
         this.existingClasses = existingClasses;
+        this.synchronousInterceptors = synchronousInterceptors;
     }
 
     /**
@@ -320,9 +327,12 @@ public class SubclassGenerator extends AbstractGenerator {
             reflectionRegistration.registerMethod(method);
 
             // Finally create the forwarding method
+            // A single invocation context is only used for the chain if all interceptors are known to proceed synchronously
+            boolean sharedInvocationContext = interceptedMethod.interceptors.stream()
+                    .allMatch(synchronousInterceptors);
             createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
                     metadataField.getFieldDescriptor(),
-                    interceptedMethod);
+                    interceptedMethod, sharedInvocationContext);
         }
 
         constructor.returnValue(null);
@@ -332,18 +342,11 @@ public class SubclassGenerator extends AbstractGenerator {
     private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
             ClassCreator subclass,
             String providerTypeName, FieldDescriptor metadataField,
-            InterceptionInfo interceptedMethod) {
+            InterceptionInfo interceptedMethod, boolean sharedInvocationContext) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator forwardMethod = subclass.getMethodCreator(originalMethodDescriptor);
 
-        // Params
-        // Object[] params = new Object[] {p1}
-        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
-        for (int i = 0; i < method.parameters().size(); i++) {
-            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
-        }
-
         // if(!this.bean == null) return super.foo()
         BytecodeCreator notConstructed = forwardMethod
                 .ifNull(forwardMethod.readInstanceField(metadataField, forwardMethod.getThis())).trueBranch();
@@ -361,25 +364,42 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        ResultHandle paramsHandle = null;
+        FunctionCreator func = null;
+        MethodDescriptor invocationContextConstructor = null;
+        if (sharedInvocationContext) {
+            // public String arc$forward$foo(String p1) { return super.foo(p1); }
+            MethodDescriptor superForwardMethod = createSuperForwardingMethod(subclass, method, providerTypeName);
+            // Foo_Subclass_foo_2a61f6b4d2ec0fe2d1da4ebf2b68e7a41f9b9d07_InvocationContext
+            invocationContextConstructor = createInvocationContext(classOutput, subclass, method, superForwardMethod);
+        } else {
+            // Params
+            // Object[] params = new Object[] {p1}
+            paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
+            for (int i = 0; i < method.parameters().size(); i++) {
+                forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
+            }
+
+            // Forwarding function
+            // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+            func = forwardMethod.createFunction(Function.class);
+            BytecodeCreator funcBytecode = func.getBytecode();
+            ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+            ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+            ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                    MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                    ctxHandle);
+            // autoboxing is handled inside Gizmo
+            for (int i = 0; i < superParamHandles.length; i++) {
+                superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+            }
+            ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                    MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                            method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                    .toArray(new String[0])),
+                    forwardMethod.getThis(), superParamHandles);
+            funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -413,16 +433,125 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
         ResultHandle methodIdHandle = tryCatch.load(methodId);
         ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
                 tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+        ResultHandle ret;
+        if (sharedInvocationContext) {
+            // new Foo_Subclass_foo_2a61..._InvocationContext(this, metadata, p1).perform()
+            ResultHandle[] contextParams = new ResultHandle[method.parameters().size() + 2];
+            contextParams[0] = tryCatch.getThis();
+            contextParams[1] = methodMetadataHandle;
+            for (int i = 0; i < method.parameters().size(); i++) {
+                contextParams[i + 2] = tryCatch.getMethodParam(i);
+            }
+            ret = tryCatch.invokeVirtualMethod(MethodDescriptors.SHARED_AROUND_INVOKE_INVOCATION_CONTEXT_PERFORM,
+                    tryCatch.newInstance(invocationContextConstructor, contextParams));
+        } else {
+            // InvocationContexts.performAroundInvoke(...)
+            ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+                    tryCatch.getThis(),
+                    tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                    tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
+                    tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
+        }
+        tryCatch.returnValue(method.returnType().kind() != Type.Kind.VOID ? ret : null);
+    }
+
+    private MethodDescriptor createSuperForwardingMethod(ClassCreator subclass, MethodInfo method,
+            String providerTypeName) {
+        MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
+        MethodDescriptor forwardDescriptor = MethodDescriptor.ofMethod(subclass.getClassName(),
+                FORWARD_METHOD_PREFIX + method.name(), originalMethodDescriptor.getReturnType(),
+                originalMethodDescriptor.getParameterTypes());
+        MethodCreator forward = subclass.getMethodCreator(forwardDescriptor).setModifiers(ACC_PUBLIC | ACC_SYNTHETIC);
+        ResultHandle[] params = new ResultHandle[method.parameters().size()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = forward.getMethodParam(i);
+        }
+        ResultHandle superResult = forward.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), originalMethodDescriptor.getReturnType(),
+                        originalMethodDescriptor.getParameterTypes()),
+                forward.getThis(), params);
+        forward.returnValue(superResult);
+        return forwardDescriptor;
+    }
+
+    /**
+     * The generated invocation context holds the method parameters and invokes the
+     * {@link #createSuperForwardingMethod(ClassCreator, MethodInfo, String) forwarding method} directly.
+     *
+     * @return the constructor of the generated invocation context
+     */
+    private MethodDescriptor createInvocationContext(ClassOutput classOutput, ClassCreator subclass, MethodInfo method,
+            MethodDescriptor superForwardMethod) {
+        // The name does not depend on the order of intercepted methods
+        String contextName = subclass.getClassName() + "_" + method.name() + "_"
+                + Hashes.sha1(superForwardMethod.getDescriptor()) + INVOCATION_CONTEXT_SUFFIX;
+        String[] parameterTypes = superForwardMethod.getParameterTypes();
+
+        // Foo_Subclass_foo_2a61..._InvocationContext extends SharedAroundInvokeInvocationContext
+        ClassCreator context = ClassCreator.builder().classOutput(classOutput).className(contextName)
+                .superClass(SharedAroundInvokeInvocationContext.class).setFinal(true)
+                .build();
+
+        FieldDescriptor subclassField = context.getFieldCreator("subclass", subclass.getClassName())
+                .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+        FieldDescriptor[] paramFields = new FieldDescriptor[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            paramFields[i] = context.getFieldCreator("p" + i, parameterTypes[i]).setModifiers(ACC_PRIVATE | ACC_FINAL)
+                    .getFieldDescriptor();
+        }
+
+        // Foo_Subclass_foo_2a61..._InvocationContext(Foo_Subclass subclass, InterceptedMethodMetadata metadata, String p1)
+        String[] constructorParameterTypes = new String[parameterTypes.length + 2];
+        constructorParameterTypes[0] = subclass.getClassName();
+        constructorParameterTypes[1] = InterceptedMethodMetadata.class.getName();
+        System.arraycopy(parameterTypes, 0, constructorParameterTypes, 2, parameterTypes.length);
+        MethodCreator constructor = context.getMethodCreator(Methods.INIT, "V", (Object[]) constructorParameterTypes);
+        constructor.invokeSpecialMethod(MethodDescriptors.SHARED_AROUND_INVOKE_INVOCATION_CONTEXT_CONSTRUCTOR,
+                constructor.getThis(), constructor.getMethodParam(0), constructor.getMethodParam(1));
+        constructor.writeInstanceField(subclassField, constructor.getThis(), constructor.getMethodParam(0));
+        for (int i = 0; i < paramFields.length; i++) {
+            constructor.writeInstanceField(paramFields[i], constructor.getThis(), constructor.getMethodParam(i + 2));
+        }
+        constructor.returnValue(null);
+
+        // Object[] createParameters() { return new Object[] {p1}; }
+        MethodCreator createParameters = context.getMethodCreator("createParameters", Object[].class)
+                .setModifiers(Modifier.PROTECTED);
+        ResultHandle paramsHandle = createParameters.newArray(Object.class, createParameters.load(paramFields.length));
+        for (int i = 0; i < paramFields.length; i++) {
+            createParameters.writeArrayValue(paramsHandle, i,
+                    createParameters.readInstanceField(paramFields[i], createParameters.getThis()));
+        }
+        createParameters.returnValue(paramsHandle);
+
+        // Object invokeTarget() { return subclass.arc$forward$foo(p1); }
+        MethodCreator invokeTarget = context.getMethodCreator("invokeTarget", Object.class)
+                .setModifiers(Modifier.PROTECTED);
+        ResultHandle[] params = new ResultHandle[paramFields.length];
+        for (int i = 0; i < paramFields.length; i++) {
+            params[i] = invokeTarget.readInstanceField(paramFields[i], invokeTarget.getThis());
+        }
+        ResultHandle result = invokeTarget.invokeVirtualMethod(superForwardMethod,
+                invokeTarget.readInstanceField(subclassField, invokeTarget.getThis()), params);
+        invokeTarget.returnValue(result != null ? result : invokeTarget.loadNull());
+
+        // Object invokeTarget(Object[] params) { return subclass.arc$forward$foo((String) params[0]); }
+        MethodCreator invokeTargetWithParams = context.getMethodCreator("invokeTarget", Object.class, Object[].class)
+                .setModifiers(Modifier.PROTECTED);
+        ResultHandle paramsArray = invokeTargetWithParams.getMethodParam(0);
+        for (int i = 0; i < paramFields.length; i++) {
+            // autoboxing is handled inside Gizmo
+            params[i] = invokeTargetWithParams.readArrayValue(paramsArray, i);
+        }
+        result = invokeTargetWithParams.invokeVirtualMethod(superForwardMethod,
+                invokeTargetWithParams.readInstanceField(subclassField, invokeTargetWithParams.getThis()), params);
+        invokeTargetWithParams.returnValue(result != null ? result : invokeTargetWithParams.loadNull());
+
+        context.close();
+        return MethodDescriptor.ofConstructor(contextName, (Object[]) constructorParameterTypes);
     }
 
     /**
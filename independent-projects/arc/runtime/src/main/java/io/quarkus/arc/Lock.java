@@ -17,6 +17,8 @@ import javax.interceptor.InterceptorBinding;
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
  * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * <p>
+ * The contention statistics of the locks of each bean class are available via {@link io.quarkus.arc.impl.LockStatistics}.
  */
 @InterceptorBinding
 @Inherited
@@ -47,6 +49,20 @@ public @interface Lock {
     @Nonbinding
     TimeUnit unit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * If set to {@code true} and the type of the lock is {@link Type#READ}, the business method is first invoked without
+     * acquiring the read lock. If the bean instance was locked by {@link Type#WRITE} in the meantime, the result is discarded
+     * and the method is invoked again with the read lock acquired.
+     * <p>
+     * Only methods that do not modify the state of the bean, do not invoke any {@link Type#WRITE} method and tolerate
+     * inconsistent state (the result of such an invocation is never returned) may use an optimistic read.
+     * 
+     * @return {@code true} if the read lock is optimistic
+     * @see java.util.concurrent.locks.StampedLock#tryOptimisticRead()
+     */
+    @Nonbinding
+    boolean optimistic() default false;
+
     public enum Type {
         /**
          * Acquires the read lock before the business method is invoked.
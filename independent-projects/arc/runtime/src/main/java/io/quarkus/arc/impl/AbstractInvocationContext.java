@@ -37,6 +37,16 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
         this.chain = chain;
     }
 
+    // The subclass is responsible for the context data, the holder is not needed if a single instance is used for the chain
+    protected AbstractInvocationContext(Object target, Method method, Set<Annotation> interceptorBindings,
+            List<InterceptorInvocation> chain) {
+        this.target = target;
+        this.method = method;
+        this.constructor = null;
+        this.interceptorBindings = interceptorBindings;
+        this.chain = chain;
+    }
+
     @Override
     public Map<String, Object> getContextData() {
         return contextData.get();
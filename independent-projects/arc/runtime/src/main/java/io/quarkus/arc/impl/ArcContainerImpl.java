@@ -83,6 +83,7 @@ public class ArcContainerImpl implements ArcContainer {
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ComputingCache<EventResolvable, EventImpl.Notifier<?>> notifiers;
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
@@ -138,10 +139,13 @@ public class ArcContainerImpl implements ArcContainer {
         addBuiltInBeans();
 
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
+        // Observers with smaller priority values are called first; the resolved observers keep this order
+        Collections.sort(observers, InjectableObserverMethod::compare);
 
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        notifiers = new ComputingCache<>(this::createNotifier);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -375,6 +379,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            notifiers.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -685,11 +690,27 @@ public class ArcContainerImpl implements ArcContainer {
                 }
             }
         }
-        // Observers with smaller priority values are called first
-        Collections.sort(resolvedObservers, InjectableObserverMethod::compare);
         return resolvedObservers;
     }
 
+    /**
+     * The notifiers are shared by all {@link EventImpl} instances so that the observers are only resolved once for a given
+     * event type and set of qualifiers.
+     *
+     * @param runtimeType
+     * @param eventType
+     * @param qualifiers
+     * @return the notifier
+     */
+    @SuppressWarnings("unchecked")
+    <T> EventImpl.Notifier<T> getNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers) {
+        return (EventImpl.Notifier<T>) notifiers.getValue(new EventResolvable(runtimeType, eventType, qualifiers));
+    }
+
+    private EventImpl.Notifier<?> createNotifier(EventResolvable resolvable) {
+        return EventImpl.createNotifier(resolvable.runtimeType, resolvable.eventType, resolvable.qualifiers, this);
+    }
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -842,4 +863,43 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    private static final class EventResolvable {
+
+        final Class<?> runtimeType;
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        EventResolvable(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers) {
+            this.runtimeType = runtimeType;
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + runtimeType.hashCode();
+            result = prime * result + eventType.hashCode();
+            result = prime * result + qualifiers.hashCode();
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return runtimeType.equals(other.runtimeType) && eventType.equals(other.eventType)
+                    && qualifiers.equals(other.qualifiers);
+        }
+
+    }
 }
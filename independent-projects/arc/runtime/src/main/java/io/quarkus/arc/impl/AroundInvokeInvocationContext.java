@@ -17,6 +17,9 @@ import javax.interceptor.InvocationContext;
  * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
  * asynchronously, possibly on a different thread.
  * <p>
+ * This context is used unless all interceptors in the chain are known to proceed synchronously, in which case
+ * {@link SharedAroundInvokeInvocationContext} is used.
+ * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
@@ -21,6 +21,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.enterprise.event.Event;
@@ -49,23 +50,24 @@ class EventImpl<T> implements Event<T> {
     private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
     private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    private final Function<Class<?>, Notifier<? super T>> notifierFunction;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
     EventImpl(Type eventType, Set<Annotation> qualifiers) {
         this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.notifierFunction = this::createNotifier;
     }
 
     @Override
     public void fire(T event) {
+        // This is a no-op if there are no synchronous observers for the given event
         getNotifier(event.getClass()).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
     }
 
@@ -86,7 +88,7 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -109,7 +111,7 @@ class EventImpl<T> implements Event<T> {
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, notifierFunction);
     }
 
     @Override
@@ -135,7 +137,7 @@ class EventImpl<T> implements Event<T> {
 
     private Notifier<? super T> createNotifier(Class<?> runtimeType) {
         Type eventType = getEventType(runtimeType);
-        return createNotifier(runtimeType, eventType, qualifiers, ArcContainerImpl.unwrap(Arc.container()));
+        return ArcContainerImpl.unwrap(Arc.container()).getNotifier(runtimeType, eventType, qualifiers);
     }
 
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
@@ -160,14 +162,16 @@ class EventImpl<T> implements Event<T> {
 
     private Type getEventType(Class<?> runtimeType) {
         Type resolvedType = runtimeType;
-        if (Types.containsTypeVariable(resolvedType)) {
-            /*
-             * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
-             * infer the parameterized type of
-             * the event types.
-             */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+        if (!Types.containsTypeVariable(resolvedType)) {
+            return resolvedType;
         }
+        /*
+         * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
+         * infer the parameterized type of
+         * the event types. The hierarchy of the specified type is only discovered if needed.
+         */
+        HierarchyDiscovery injectionPointTypeHierarchy = new HierarchyDiscovery(eventType);
+        resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
         if (Types.containsTypeVariable(resolvedType)) {
             /*
              * Examining the hierarchy of the specified type did not help. This may still be one of the cases when combining the
@@ -203,6 +207,9 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // Observers are partitioned when the notifier is created so that nothing needs to be filtered during notification
+        private final List<ObserverMethod<? super T>> syncObserverMethods;
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
 
@@ -210,7 +217,18 @@ class EventImpl<T> implements Event<T> {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
-            this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
+            List<ObserverMethod<? super T>> sync = new ArrayList<>();
+            List<ObserverMethod<? super T>> async = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    async.add(observerMethod);
+                } else {
+                    sync.add(observerMethod);
+                }
+            }
+            this.syncObserverMethods = sync.isEmpty() ? Collections.emptyList() : sync;
+            this.asyncObserverMethods = async.isEmpty() ? Collections.emptyList() : async;
+            this.hasTxObservers = observerMethods.stream().anyMatch(Notifier::isTxObserver);
         }
 
         void notify(T event) {
@@ -219,65 +237,67 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
-
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync : this::isSyncObserver;
-
-                if (!async && hasTxObservers) {
-                    // Note that tx observers are never async
-                    InstanceHandle<TransactionSynchronizationRegistry> registryInstance = Arc.container()
-                            .instance(TransactionSynchronizationRegistry.class);
-
-                    if (registryInstance.isAvailable() &&
-                            registryInstance.get().getTransactionStatus() == javax.transaction.Status.STATUS_ACTIVE) {
-                        // we have one or more transactional OM, and TransactionSynchronizationRegistry is available
-                        // we attempt to register a JTA synchronization
-                        List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
-                        EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-
-                        for (ObserverMethod<? super T> om : observerMethods) {
-                            if (isTxObserver(om)) {
-                                deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
-                                        Status.valueOf(om.getTransactionPhase())));
-                            }
-                        }
+            List<ObserverMethod<? super T>> notifiedObserverMethods = async ? asyncObserverMethods : syncObserverMethods;
+            if (notifiedObserverMethods.isEmpty()) {
+                return;
+            }
+
+            Predicate<ObserverMethod<?>> predicate = null;
+
+            if (!async && hasTxObservers) {
+                // Note that tx observers are never async
+                InstanceHandle<TransactionSynchronizationRegistry> registryInstance = Arc.container()
+                        .instance(TransactionSynchronizationRegistry.class);
+
+                if (registryInstance.isAvailable() &&
+                        registryInstance.get().getTransactionStatus() == javax.transaction.Status.STATUS_ACTIVE) {
+                    // we have one or more transactional OM, and TransactionSynchronizationRegistry is available
+                    // we attempt to register a JTA synchronization
+                    List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
+                    EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
 
-                        Synchronization sync = new ArcSynchronization(deferredEvents);
-                        TransactionSynchronizationRegistry registry = registryInstance.get();
-                        try {
-                            registry.registerInterposedSynchronization(sync);
-                            // registration succeeded, notify all non-tx observers synchronously
-                            predicate = predicate.and(this::isNotTxObserver);
-                        } catch (Exception e) {
-                            if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
-                                // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                predicate = predicate.and(this::isNotAfterSuccess);
-                            }
+                    for (ObserverMethod<? super T> om : notifiedObserverMethods) {
+                        if (isTxObserver(om)) {
+                            deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
+                                    Status.valueOf(om.getTransactionPhase())));
                         }
                     }
-                }
 
-                // Sync notifications
-                ManagedContext requestContext = Arc.container().requestContext();
-                if (requestContext.isActive()) {
-                    notifyObservers(event, exceptionHandler, predicate);
-                } else {
+                    Synchronization sync = new ArcSynchronization(deferredEvents);
+                    TransactionSynchronizationRegistry registry = registryInstance.get();
                     try {
-                        requestContext.activate();
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } finally {
-                        requestContext.terminate();
+                        registry.registerInterposedSynchronization(sync);
+                        // registration succeeded, notify all non-tx observers synchronously
+                        predicate = Notifier::isNotTxObserver;
+                    } catch (Exception e) {
+                        if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
+                            // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
+                            predicate = Notifier::isNotAfterSuccess;
+                        }
                     }
                 }
             }
+
+            // Sync notifications
+            ManagedContext requestContext = Arc.container().requestContext();
+            if (requestContext.isActive()) {
+                notifyObservers(event, exceptionHandler, notifiedObserverMethods, predicate);
+            } else {
+                try {
+                    requestContext.activate();
+                    notifyObservers(event, exceptionHandler, notifiedObserverMethods, predicate);
+                } finally {
+                    requestContext.terminate();
+                }
+            }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+                List<ObserverMethod<? super T>> notifiedObserverMethods, Predicate<ObserverMethod<?>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            for (ObserverMethod<? super T> observerMethod : notifiedObserverMethods) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable e) {
@@ -291,22 +311,22 @@ class EventImpl<T> implements Event<T> {
             return observerMethods.isEmpty();
         }
 
-        private boolean isTxObserver(ObserverMethod<?> observer) {
+        boolean hasAsyncObservers() {
+            return !asyncObserverMethods.isEmpty();
+        }
+
+        private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
 
-        private boolean isNotAfterSuccess(ObserverMethod<?> observer) {
+        private static boolean isNotAfterSuccess(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.AFTER_SUCCESS);
         }
 
-        private boolean isNotTxObserver(ObserverMethod<?> observer) {
+        private static boolean isNotTxObserver(ObserverMethod<?> observer) {
             return !isTxObserver(observer);
         }
 
-        private boolean isSyncObserver(ObserverMethod<?> observer) {
-            return !observer.isAsync();
-        }
-
     }
 
     static class EventContextImpl<T> implements EventContext<T> {
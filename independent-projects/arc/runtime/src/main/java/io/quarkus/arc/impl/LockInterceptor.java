@@ -5,10 +5,11 @@ import static javax.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
+import io.quarkus.arc.Subclass;
 import java.lang.annotation.Annotation;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -19,67 +20,125 @@ import javax.interceptor.InvocationContext;
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    // An interceptor instance is created for each contextual instance of an intercepted bean
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    // The read-write lock is reentrant but the stamped lock is not - it's only write-locked by the outermost writer
+    // and is used to validate optimistic reads
+    private final StampedLock stampedLock = new StampedLock();
+    private volatile LockStatistics statistics;
 
     @AroundInvoke
     Object lock(InvocationContext ctx) throws Exception {
         Lock lock = getLock(ctx);
+        LockStatistics statistics = getStatistics(ctx);
         switch (lock.value()) {
             case WRITE:
-                return writeLock(lock, ctx);
+                return writeLock(lock, ctx, statistics);
             case READ:
-                return readLock(lock, ctx);
+                return lock.optimistic() ? optimisticRead(lock, ctx, statistics) : readLock(lock, ctx, statistics);
             case NONE:
                 return ctx.proceed();
         }
         throw new LockException("Unsupported @Lock type found on business method " + ctx.getMethod());
     }
 
-    private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+    private Object writeLock(Lock lock, InvocationContext ctx, LockStatistics statistics) throws Exception {
+        ReentrantReadWriteLock.WriteLock writeLock = readWriteLock.writeLock();
+        if (!writeLock.tryLock()) {
+            acquire(writeLock, lock, "Write", statistics);
+        }
+        statistics.acquired();
+        long stamp = 0;
         try {
-            if (time > 0) {
-                locked = readWriteLock.writeLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
-                }
-            } else {
-                readWriteLock.writeLock().lock();
-                locked = true;
+            if (writeLock.getHoldCount() == 1) {
+                // Invalidate the optimistic reads - there is no contention because the write lock is held
+                stamp = stampedLock.writeLock();
             }
             return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.writeLock().unlock();
+            if (stamp != 0) {
+                stampedLock.unlockWrite(stamp);
             }
+            writeLock.unlock();
+            statistics.released();
+        }
+    }
+
+    private Object readLock(Lock lock, InvocationContext ctx, LockStatistics statistics) throws Exception {
+        ReentrantReadWriteLock.ReadLock readLock = readWriteLock.readLock();
+        // Do not barge in if there are waiting writers
+        if (readWriteLock.hasQueuedThreads() || !readLock.tryLock()) {
+            acquire(readLock, lock, "Read", statistics);
+        }
+        statistics.acquired();
+        try {
+            return ctx.proceed();
+        } finally {
+            readLock.unlock();
+            statistics.released();
         }
     }
 
-    private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
+    private Object optimisticRead(Lock lock, InvocationContext ctx, LockStatistics statistics) throws Exception {
+        // Zero is returned if exclusively locked
+        long stamp = stampedLock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object result;
+            try {
+                result = ctx.proceed();
+            } catch (Throwable e) {
+                if (stampedLock.validate(stamp)) {
+                    throw e;
+                }
+                // The exception or error, e.g. a StackOverflowError, may be caused by inconsistent state
+                return readLock(lock, ctx, statistics);
+            }
+            if (stampedLock.validate(stamp)) {
+                return result;
+            }
+        }
+        return readLock(lock, ctx, statistics);
+    }
+
+    private void acquire(java.util.concurrent.locks.Lock javaLock, Lock lock, String type, LockStatistics statistics)
+            throws InterruptedException {
+        long start = System.nanoTime();
         long time = lock.time();
         try {
             if (time > 0) {
-                locked = readWriteLock.readLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                if (!javaLock.tryLock(time, lock.unit())) {
+                    throw new LockException(type + " lock not acquired in " + lock.unit().toMillis(time) + " ms");
                 }
             } else {
-                readWriteLock.readLock().lock();
-                locked = true;
+                javaLock.lock();
             }
-            return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.readLock().unlock();
+            statistics.waited(System.nanoTime() - start);
+        }
+    }
+
+    private LockStatistics getStatistics(InvocationContext ctx) {
+        LockStatistics current = statistics;
+        if (current == null) {
+            Class<?> beanClass = ctx.getTarget().getClass();
+            if (ctx.getTarget() instanceof Subclass) {
+                beanClass = beanClass.getSuperclass();
             }
+            current = LockStatistics.forBean(beanClass);
+            statistics = current;
         }
+        return current;
     }
 
     @SuppressWarnings("unchecked")
     Lock getLock(InvocationContext ctx) {
-        Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
+        Set<Annotation> bindings;
+        if (ctx instanceof ArcInvocationContext) {
+            // Avoid the creation of the context data map
+            bindings = ((ArcInvocationContext) ctx).getInterceptorBindings();
+        } else {
+            bindings = (Set<Annotation>) ctx.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
+        }
         for (Annotation annotation : bindings) {
             if (annotation.annotationType().equals(Lock.class)) {
                 return (Lock) annotation;
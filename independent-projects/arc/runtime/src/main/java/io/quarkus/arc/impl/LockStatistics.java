@@ -0,0 +1,106 @@
+package io.quarkus.arc.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Contention statistics of the locks held by the {@link LockInterceptor} instances of a bean class.
+ * <p>
+ * The wait time is only measured if a lock could not be acquired immediately, so that uncontended invocations do not pay for
+ * it.
+ */
+public final class LockStatistics {
+
+    private static final ConcurrentMap<String, LockStatistics> STATISTICS = new ConcurrentHashMap<>();
+    private static volatile Consumer<LockStatistics> listener;
+
+    private final String beanClass;
+    private final LongAdder holders = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+
+    private LockStatistics(String beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    /**
+     * The listener is notified of the statistics of each bean class that uses a lock, including the existing ones. It may be
+     * notified more than once for the same bean class.
+     *
+     * @param listener
+     */
+    public static void setListener(Consumer<LockStatistics> listener) {
+        LockStatistics.listener = listener;
+        if (listener != null) {
+            for (LockStatistics statistics : STATISTICS.values()) {
+                listener.accept(statistics);
+            }
+        }
+    }
+
+    static LockStatistics forBean(Class<?> beanClass) {
+        LockStatistics statistics = STATISTICS.get(beanClass.getName());
+        if (statistics == null) {
+            LockStatistics created = new LockStatistics(beanClass.getName());
+            statistics = STATISTICS.putIfAbsent(beanClass.getName(), created);
+            if (statistics == null) {
+                statistics = created;
+                Consumer<LockStatistics> current = listener;
+                if (current != null) {
+                    current.accept(statistics);
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     *
+     * @return the name of the bean class
+     */
+    public String getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     *
+     * @return the number of business method invocations currently holding a lock
+     */
+    public long getHolders() {
+        return holders.sum();
+    }
+
+    /**
+     *
+     * @return the number of lock acquisitions that had to wait
+     */
+    public long getContendedAcquisitions() {
+        return contended.sum();
+    }
+
+    /**
+     *
+     * @param unit
+     * @return the total time spent waiting for a lock
+     */
+    public double getWaitTime(TimeUnit unit) {
+        return (double) waitTime.sum() / unit.toNanos(1);
+    }
+
+    void acquired() {
+        holders.increment();
+    }
+
+    void released() {
+        holders.decrement();
+    }
+
+    void waited(long nanos) {
+        contended.increment();
+        waitTime.add(nanos);
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.quarkus.arc.impl;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+
+/**
+ * Special type of InvocationContext for AroundInvoke interceptors that never continue the interceptor chain asynchronously.
+ * <p>
+ * A single instance is shared by all interceptors in the chain. The position of the next interceptor is restored when
+ * {@link #proceed()} returns, so that an interceptor may proceed multiple times, e.g. to retry an invocation. A subclass is
+ * generated for each intercepted method. It holds the method parameters and invokes the intercepted method directly, so that
+ * the array of parameters is only created if an interceptor calls {@link #getParameters()}.
+ * <p>
+ * Unlike {@link AroundInvokeInvocationContext}, this context must not be used after the interceptor method returns.
+ */
+public abstract class SharedAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private int position;
+    private Map<String, Object> data;
+
+    protected SharedAroundInvokeInvocationContext(Object target, InterceptedMethodMetadata metadata) {
+        super(target, metadata.method, metadata.bindings, metadata.chain);
+    }
+
+    /**
+     *
+     * @return the return value
+     * @throws Exception
+     */
+    public Object perform() throws Exception {
+        return proceed();
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        int current = position;
+        try {
+            if (current < chain.size()) {
+                // Invoke the next interceptor in the chain
+                position = current + 1;
+                try {
+                    return chain.get(current).invoke(this);
+                } finally {
+                    position = current;
+                }
+            } else {
+                // Invoke the target method
+                return parameters != null ? invokeTarget(parameters) : invokeTarget();
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        if (data == null) {
+            data = get();
+        }
+        return data;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        if (parameters == null) {
+            parameters = createParameters();
+        }
+        return parameters;
+    }
+
+    /**
+     *
+     * @return a new array of the original method parameters
+     */
+    protected abstract Object[] createParameters();
+
+    /**
+     * Invokes the intercepted method with the original parameters.
+     *
+     * @return the return value
+     * @throws Exception
+     */
+    protected abstract Object invokeTarget() throws Exception;
+
+    /**
+     * Invokes the intercepted method with the parameters returned by {@link #getParameters()} or set by
+     * {@link #setParameters(Object[])}.
+     *
+     * @param parameters
+     * @return the return value
+     * @throws Exception
+     */
+    protected abstract Object invokeTarget(Object[] parameters) throws Exception;
+
+}
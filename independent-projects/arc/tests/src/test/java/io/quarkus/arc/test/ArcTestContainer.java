@@ -13,6 +13,7 @@ import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.ContextRegistrar;
 import io.quarkus.arc.processor.InjectionPointsTransformer;
 import io.quarkus.arc.processor.InterceptorBindingRegistrar;
+import io.quarkus.arc.processor.InterceptorInfo;
 import io.quarkus.arc.processor.ObserverRegistrar;
 import io.quarkus.arc.processor.ObserverTransformer;
 import io.quarkus.arc.processor.QualifierRegistrar;
@@ -81,6 +82,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private boolean shouldFail = false;
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> exclusions;
+        private final List<Predicate<InterceptorInfo>> synchronousInterceptors;
         private AlternativePriorities alternativePriorities;
 
         public Builder() {
@@ -98,6 +100,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             observerTransformers = new ArrayList<>();
             beanDeploymentValidators = new ArrayList<>();
             exclusions = new ArrayList<>();
+            synchronousInterceptors = new ArrayList<>();
         }
 
         public Builder resourceReferenceProviders(Class<?>... resourceReferenceProviders) {
@@ -176,6 +179,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder addSynchronousInterceptor(Predicate<InterceptorInfo> predicate) {
+            this.synchronousInterceptors.add(predicate);
+            return this;
+        }
+
         public Builder shouldFail() {
             this.shouldFail = true;
             return this;
@@ -214,6 +222,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
 
     private final boolean removeUnusedBeans;
     private final List<Predicate<BeanInfo>> exclusions;
+    private final List<Predicate<InterceptorInfo>> synchronousInterceptors;
 
     private final AlternativePriorities alternativePriorities;
 
@@ -235,6 +244,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.shouldFail = false;
         this.removeUnusedBeans = false;
         this.exclusions = Collections.emptyList();
+        this.synchronousInterceptors = Collections.emptyList();
         this.alternativePriorities = null;
     }
 
@@ -256,6 +266,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.shouldFail = builder.shouldFail;
         this.removeUnusedBeans = builder.removeUnusedBeans;
         this.exclusions = builder.exclusions;
+        this.synchronousInterceptors = builder.synchronousInterceptors;
         this.alternativePriorities = builder.alternativePriorities;
     }
 
@@ -401,6 +412,9 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             for (Predicate<BeanInfo> exclusion : exclusions) {
                 builder.addRemovalExclusion(exclusion);
             }
+            for (Predicate<InterceptorInfo> predicate : synchronousInterceptors) {
+                builder.addSynchronousInterceptor(predicate);
+            }
             builder.setAlternativePriorities(alternativePriorities);
 
             BeanProcessor beanProcessor = builder.build();
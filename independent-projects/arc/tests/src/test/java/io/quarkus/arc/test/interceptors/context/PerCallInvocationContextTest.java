@@ -0,0 +1,68 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class PerCallInvocationContextTest {
+
+    // Only Alpha is known to proceed synchronously
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Simple.class, SimpleBean.class, AlphaInterceptor.class, BravoInterceptor.class)
+            .addSynchronousInterceptor(
+                    interceptor -> interceptor.getBeanClass().toString().equals(AlphaInterceptor.class.getName()))
+            .build();
+
+    @Test
+    public void testContextIsNotShared() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("alpha:bravo:foo", bean.ping("foo"));
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String ping(String value) {
+            return value;
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("alpha", ctx);
+            return "alpha:" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            // Bravo is not registered, the chain falls back to a context per interceptor
+            assertNotSame(ctx, ctx.getContextData().get("alpha"));
+            return "bravo:" + ctx.proceed();
+        }
+    }
+
+}
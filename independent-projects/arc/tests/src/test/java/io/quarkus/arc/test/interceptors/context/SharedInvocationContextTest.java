@@ -0,0 +1,137 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedInvocationContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Simple.class, SimpleBean.class, AlphaInterceptor.class, BravoInterceptor.class)
+            .addSynchronousInterceptor(interceptor -> true)
+            .build();
+
+    @Test
+    public void testRetry() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        bean.attempts.set(0);
+        AlphaInterceptor.contexts.set(0);
+        // Alpha proceeds until the method does not fail
+        assertEquals("alpha:bravo:3", bean.retry());
+        // Bravo is invoked for each attempt
+        assertEquals(3, BravoInterceptor.invocations.getAndSet(0));
+        assertEquals(0, AlphaInterceptor.contexts.get());
+    }
+
+    @Test
+    public void testParameters() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // Bravo doubles the first parameter
+        assertEquals(41, bean.add(20, 1));
+        assertEquals(42L, bean.multiply(6, 7L));
+        assertEquals(0, AlphaInterceptor.contexts.get());
+        BravoInterceptor.invocations.set(0);
+    }
+
+    @Test
+    public void testVoid() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        bean.reset("foo");
+        assertEquals("foo", bean.value);
+        assertEquals(0, AlphaInterceptor.contexts.get());
+        BravoInterceptor.invocations.set(0);
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        final AtomicInteger attempts = new AtomicInteger();
+        String value;
+
+        String retry() {
+            int attempt = attempts.incrementAndGet();
+            if (attempt < 3) {
+                throw new IllegalStateException();
+            }
+            return "" + attempt;
+        }
+
+        Integer add(Integer a, Integer b) {
+            return a + b;
+        }
+
+        long multiply(int a, long b) {
+            return a * b;
+        }
+
+        void reset(String value) {
+            this.value = value;
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        // The number of invocations that received a context different from the one passed to Bravo
+        static final AtomicInteger contexts = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("alpha", ctx);
+            for (;;) {
+                try {
+                    Object ret = ctx.proceed();
+                    return ret instanceof String ? "alpha:" + ret : ret;
+                } catch (IllegalStateException e) {
+                    // retry
+                } finally {
+                    if (ctx.getContextData().get("bravo") != ctx) {
+                        contexts.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static final AtomicInteger invocations = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            invocations.incrementAndGet();
+            assertSame(ctx, ctx.getContextData().get("alpha"));
+            ctx.getContextData().put("bravo", ctx);
+            if (ctx.getMethod().getName().equals("add")) {
+                Object[] params = ctx.getParameters();
+                params[0] = (Integer) params[0] * 2;
+                ctx.setParameters(params);
+            } else if (ctx.getMethod().getName().equals("multiply")) {
+                assertEquals(6, ctx.getParameters()[0]);
+                assertEquals(7L, ctx.getParameters()[1]);
+            }
+            Object ret = ctx.proceed();
+            return ret instanceof String ? "bravo:" + ret : ret;
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class LockOptimisticReadTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(SimpleApplicationScopedBean.class, Lock.class,
+            LockInterceptor.class);
+
+    @Test
+    public void testInvalidatedRead() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SimpleApplicationScopedBean bean = Arc.container().instance(SimpleApplicationScopedBean.class).get();
+            // The first invocation waits until the value is changed
+            Future<Integer> result = executor.submit(bean::get);
+            assertTrue(SimpleApplicationScopedBean.READ_INSIDE_LATCH.await(5, TimeUnit.SECONDS));
+            // Optimistic reads do not block writers
+            bean.set(1);
+            SimpleApplicationScopedBean.MAY_COMPLETE_LATCH.countDown();
+            // The result of the first invocation is discarded
+            assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            assertEquals(2, SimpleApplicationScopedBean.INVOCATIONS.get());
+            // A read within a write is not blocked
+            assertEquals(2, bean.increment());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidatedReadFailedWithError() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SimpleApplicationScopedBean bean = Arc.container().instance(SimpleApplicationScopedBean.class).get();
+            // The first invocation sees inconsistent state, and fails with an error
+            Future<Integer> result = executor.submit(bean::checked);
+            assertTrue(SimpleApplicationScopedBean.CHECKED_INSIDE_LATCH.await(5, TimeUnit.SECONDS));
+            bean.set(1);
+            SimpleApplicationScopedBean.CHECKED_MAY_COMPLETE_LATCH.countDown();
+            // The error is discarded and the method is invoked again with the read lock
+            assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            assertEquals(2, SimpleApplicationScopedBean.CHECKED_INVOCATIONS.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class SimpleApplicationScopedBean {
+
+        static final CountDownLatch READ_INSIDE_LATCH = new CountDownLatch(1);
+        static final CountDownLatch MAY_COMPLETE_LATCH = new CountDownLatch(1);
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+        static final CountDownLatch CHECKED_INSIDE_LATCH = new CountDownLatch(1);
+        static final CountDownLatch CHECKED_MAY_COMPLETE_LATCH = new CountDownLatch(1);
+        static final AtomicInteger CHECKED_INVOCATIONS = new AtomicInteger();
+
+        private volatile int value;
+
+        @Lock(value = Type.READ, optimistic = true)
+        int get() throws InterruptedException {
+            int result = value;
+            if (INVOCATIONS.incrementAndGet() == 1) {
+                READ_INSIDE_LATCH.countDown();
+                assertTrue(MAY_COMPLETE_LATCH.await(5, TimeUnit.SECONDS));
+            }
+            return result;
+        }
+
+        @Lock(value = Type.READ, optimistic = true)
+        int checked() throws InterruptedException {
+            int result = value;
+            if (CHECKED_INVOCATIONS.incrementAndGet() == 1) {
+                CHECKED_INSIDE_LATCH.countDown();
+                assertTrue(CHECKED_MAY_COMPLETE_LATCH.await(5, TimeUnit.SECONDS));
+                if (result != value) {
+                    // E.g. an invariant checked by an assert statement
+                    throw new AssertionError("Inconsistent state");
+                }
+            }
+            return result;
+        }
+
+        void set(int value) {
+            this.value = value;
+        }
+
+        int increment() throws InterruptedException {
+            value = get() + 1;
+            return get();
+        }
+
+    }
+
+}
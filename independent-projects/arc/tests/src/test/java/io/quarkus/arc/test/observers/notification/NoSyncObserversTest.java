@@ -0,0 +1,59 @@
+package io.quarkus.arc.test.observers.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class NoSyncObserversTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyObserver.class);
+
+    @Test
+    public void testSyncFireIsNoop() throws InterruptedException, ExecutionException, TimeoutException {
+        MyObserver.REQUESTS.set(0);
+        MyObserver.ASYNC.set(0);
+        Event<Payload> event = Arc.container().beanManager().getEvent().select(Payload.class);
+        event.fire(new Payload());
+        Arc.container().beanManager().fireEvent(new Payload());
+        // No observer was notified and the request context was not activated
+        assertEquals(0, MyObserver.REQUESTS.get());
+        assertEquals(0, MyObserver.ASYNC.get());
+
+        event.fireAsync(new Payload()).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertEquals(1, MyObserver.ASYNC.get());
+    }
+
+    static class Payload {
+    }
+
+    @Singleton
+    static class MyObserver {
+
+        static final AtomicInteger REQUESTS = new AtomicInteger();
+        static final AtomicInteger ASYNC = new AtomicInteger();
+
+        void onRequest(@Observes @Initialized(RequestScoped.class) Object event) {
+            REQUESTS.incrementAndGet();
+        }
+
+        void onPayload(@ObservesAsync Payload payload) {
+            ASYNC.incrementAndGet();
+        }
+
+    }
+
+}
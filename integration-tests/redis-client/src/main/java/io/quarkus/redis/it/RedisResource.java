@@ -1,6 +1,8 @@
 package io.quarkus.redis.it;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.CompletionStage;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -9,8 +11,13 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.RedisLock;
+import io.quarkus.redis.client.RedisLocks;
+import io.quarkus.redis.client.reactive.ReactiveRedisBatch;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisRateLimiter;
 import io.smallrye.mutiny.Uni;
 import io.vertx.redis.client.Response;
 
@@ -23,6 +30,12 @@ public class RedisResource {
     @Inject
     ReactiveRedisClient reactiveRedisClient;
 
+    @Inject
+    RedisLocks redisLocks;
+
+    @Inject
+    ReactiveRedisRateLimiter reactiveRedisRateLimiter;
+
     // synchronous
     @GET
     @Path("/sync/{key}")
@@ -37,6 +50,35 @@ public class RedisResource {
         this.redisClient.set(Arrays.asList(key, value));
     }
 
+    @POST
+    @Path("/sync/batch/{key}")
+    public String batchSync(@PathParam("key") String key, String value) {
+        RedisBatch batch = redisClient.batch();
+        batch.set(Arrays.asList(key, value));
+        CompletionStage<Response> counter = batch.incr(key + "-counter");
+        CompletionStage<Response> stored = batch.get(key);
+        batch.execute();
+        return stored.toCompletableFuture().join().toString() + "-" + counter.toCompletableFuture().join().toString();
+    }
+
+    @POST
+    @Path("/sync/lock/{name}")
+    public String lockSync(@PathParam("name") String name) {
+        RedisLock lock = redisLocks.tryLock(name, Duration.ofSeconds(10));
+        RedisLock contended = redisLocks.tryLock(name, Duration.ofSeconds(10));
+        boolean extended = redisLocks.extend(lock, Duration.ofSeconds(20));
+        boolean unlocked = redisLocks.unlock(lock);
+        RedisLock relocked = redisLocks.tryLock(name, Duration.ofSeconds(10));
+        redisLocks.unlock(relocked);
+        return (contended == null) + "-" + extended + "-" + unlocked + "-" + (relocked.getToken() > lock.getToken());
+    }
+
+    @GET
+    @Path("/limited")
+    public String limited() {
+        return "ok";
+    }
+
     // reactive
     @GET
     @Path("/reactive/{key}")
@@ -54,4 +96,24 @@ public class RedisResource {
                 .map(response -> null);
     }
 
+    @POST
+    @Path("/reactive/batch/{key}")
+    public Uni<String> batchReactive(@PathParam("key") String key, String value) {
+        ReactiveRedisBatch batch = reactiveRedisClient.batch();
+        batch.set(Arrays.asList(key, value));
+        batch.incr(key + "-counter");
+        batch.get(key);
+        return batch.execute()
+                .map(responses -> responses.get(2).toString() + "-" + responses.get(1).toString());
+    }
+
+    @POST
+    @Path("/reactive/rate-limit/{key}")
+    public Uni<String> rateLimitReactive(@PathParam("key") String key) {
+        return reactiveRedisRateLimiter.tryAcquire(key, 2, Duration.ofMinutes(1))
+                .flatMap(first -> reactiveRedisRateLimiter.tryAcquire(key, 2, Duration.ofMinutes(1))
+                        .flatMap(second -> reactiveRedisRateLimiter.tryAcquire(key, 2, Duration.ofMinutes(1))
+                                .map(third -> first + "-" + second + "-" + third)));
+    }
+
 }
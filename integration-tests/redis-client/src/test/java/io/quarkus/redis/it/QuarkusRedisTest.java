@@ -1,5 +1,7 @@
 package io.quarkus.redis.it;
 
+import java.util.UUID;
+
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +14,8 @@ class QuarkusRedisTest {
     static final String SYNC_VALUE = "sync-value";
     static final String REACTIVE_KEY = "reactive-key";
     static final String REACTIVE_VALUE = "reactive-value";
+    static final String SYNC_BATCH_KEY = "sync-batch-key";
+    static final String REACTIVE_BATCH_KEY = "reactive-batch-key";
 
     @Test
     public void sync() {
@@ -58,4 +62,63 @@ class QuarkusRedisTest {
                 .statusCode(200)
                 .body(CoreMatchers.is(REACTIVE_VALUE));
     }
+
+    @Test
+    public void syncBatch() {
+        RestAssured.given()
+                .body(SYNC_VALUE)
+                .when()
+                .post("/quarkus-redis/sync/batch/" + SYNC_BATCH_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(SYNC_VALUE + "-1"));
+    }
+
+    @Test
+    public void reactiveBatch() {
+        RestAssured.given()
+                .body(REACTIVE_VALUE)
+                .when()
+                .post("/quarkus-redis/reactive/batch/" + REACTIVE_BATCH_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(REACTIVE_VALUE + "-1"));
+    }
+
+    @Test
+    public void syncLock() {
+        RestAssured.given()
+                .when()
+                .post("/quarkus-redis/sync/lock/" + UUID.randomUUID())
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("true-true-true-true"));
+    }
+
+    @Test
+    public void reactiveRateLimit() {
+        RestAssured.given()
+                .when()
+                .post("/quarkus-redis/reactive/rate-limit/" + UUID.randomUUID())
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("true-true-false"));
+    }
+
+    @Test
+    public void httpRateLimit() {
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given()
+                    .when()
+                    .get("/quarkus-redis/limited")
+                    .then()
+                    .statusCode(200);
+        }
+
+        RestAssured.given()
+                .when()
+                .get("/quarkus-redis/limited")
+                .then()
+                .statusCode(429);
+    }
 }